@@ -60,18 +60,69 @@ public interface StatisticsReportingSolver extends Solver {
 	 */
 	int getNumberOfConflictsAfterClosing();
 
+	/**
+	 * Returns the number of learned nogoods in the core tier of the learned-nogood database, i.e., learned nogoods
+	 * with a very low LBD that are never deleted.
+	 */
+	default int getNumberOfLearnedNoGoodsInCoreTier() {
+		return 0;
+	}
+
+	/**
+	 * Returns the number of learned nogoods in the mid tier of the learned-nogood database, i.e., learned nogoods
+	 * that are kept as long as they keep taking part in conflicts.
+	 */
+	default int getNumberOfLearnedNoGoodsInMidTier() {
+		return 0;
+	}
+
+	/**
+	 * Returns the number of learned nogoods in the local tier of the learned-nogood database, i.e., learned nogoods
+	 * that are candidates for learned-nogood deletion.
+	 */
+	default int getNumberOfLearnedNoGoodsInLocalTier() {
+		return 0;
+	}
+
+	/**
+	 * Returns the number of times a learned nogood was moved to a better tier of the learned-nogood database because
+	 * conflict analysis found it to have a lower LBD than when it was learned.
+	 */
+	default int getNumberOfLearnedNoGoodPromotions() {
+		return 0;
+	}
+
+	/**
+	 * Returns the number of bytes used by the grounder to recognize nogoods it produced before, such that each
+	 * ground nogood is passed to the solver only once.
+	 */
+	default long getNoGoodRegistryMemoryUsage() {
+		return 0;
+	}
+
 	default String getStatisticsString() {
 		return "g=" + getNumberOfChoices() + ", bt=" + getNumberOfBacktracks() + ", bj=" + getNumberOfBackjumps() + ", bt_within_bj="
 				+ getNumberOfBacktracksWithinBackjumps() + ", mbt=" + getNumberOfBacktracksDueToRemnantMBTs() + ", cac=" + getNumberOfConflictsAfterClosing()
 				+ ", del_ng=" + getNumberOfDeletedNoGoods();
 	}
 	
+	default String getLearnedNoGoodStatisticsString() {
+		return "ng_core=" + getNumberOfLearnedNoGoodsInCoreTier() + ", ng_mid=" + getNumberOfLearnedNoGoodsInMidTier() + ", ng_local="
+				+ getNumberOfLearnedNoGoodsInLocalTier() + ", ng_promoted=" + getNumberOfLearnedNoGoodPromotions();
+	}
+
+	default String getMemoryStatisticsString() {
+		return "ng_registry_bytes=" + getNoGoodRegistryMemoryUsage();
+	}
+
 	default String getStatisticsCSV() {
 		return String.format("%d,%d,%d,%d,%d,%d,%d", getNumberOfChoices(), getNumberOfBacktracks(), getNumberOfBackjumps(), getNumberOfBacktracksWithinBackjumps(), getNumberOfBacktracksDueToRemnantMBTs(), getNumberOfConflictsAfterClosing(), getNumberOfDeletedNoGoods());
 	}
 
 	default void printStatistics(PrintStream out) {
 		out.println(getStatisticsString());
+		out.println(getLearnedNoGoodStatisticsString());
+		out.println(getMemoryStatisticsString());
 	}
 
 	default void printStatistics() {
@@ -47,6 +47,12 @@
  *
  * The additional parameter {@link #accumulatorEnabled} is a switch for the accumulator grounding strategy
  * which disables the removal of instances from the grounder memory in certain cases.
+ *
+ * The parameter {@link #columnarFactStorage} makes the grounder keep the instances of predicates defined only by facts
+ * in a columnar storage of term ids instead of one object per instance.
+ *
+ * The parameter {@link #parallelInstantiation} makes the grounder instantiate a rule from the instances newly added to
+ * the working memory of its starting literal in parallel.
  */
 public class GrounderHeuristicsConfiguration {
 
@@ -58,6 +64,8 @@ public class GrounderHeuristicsConfiguration {
 	private int toleranceConstraints;
 	private int toleranceRules;
 	private boolean accumulatorEnabled;
+	private boolean columnarFactStorage;
+	private boolean parallelInstantiation;
 
 	public GrounderHeuristicsConfiguration() {
 		super();
@@ -113,6 +121,22 @@ public void setAccumulatorEnabled(boolean accumulatorEnabled) {
 		this.accumulatorEnabled = accumulatorEnabled;
 	}
 
+	public boolean isColumnarFactStorage() {
+		return columnarFactStorage;
+	}
+
+	public void setColumnarFactStorage(boolean columnarFactStorage) {
+		this.columnarFactStorage = columnarFactStorage;
+	}
+
+	public boolean isParallelInstantiation() {
+		return parallelInstantiation;
+	}
+
+	public void setParallelInstantiation(boolean parallelInstantiation) {
+		this.parallelInstantiation = parallelInstantiation;
+	}
+
 	public static GrounderHeuristicsConfiguration strict() {
 		return new GrounderHeuristicsConfiguration(STRICT_INT, STRICT_INT);
 	}
@@ -141,7 +165,7 @@ private static int parseTolerance(String tolerance) {
 
 	@Override
 	public String toString() {
-		return this.getClass().getSimpleName() + "(toleranceConstraints=" + toleranceConstraints + ",toleranceRules=" + toleranceRules + ",disableInstanceRemoval=" + accumulatorEnabled + ")";
+		return this.getClass().getSimpleName() + "(toleranceConstraints=" + toleranceConstraints + ",toleranceRules=" + toleranceRules + ",disableInstanceRemoval=" + accumulatorEnabled + ",columnarFactStorage=" + columnarFactStorage + ",parallelInstantiation=" + parallelInstantiation + ")";
 	}
 
 }
@@ -0,0 +1,35 @@
+package at.ac.tuwien.kr.alpha.api.config;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * The available strategies for choosing the sign (truth value) of an atom chosen by an activity-based branching
+ * heuristic.
+ */
+public enum PhaseStrategy {
+	/**
+	 * Choose the sign according to how often the atom occurs positively or negatively in learned nogoods.
+	 */
+	NONE,
+
+	/**
+	 * Phase saving: choose the truth value the atom had before it was last unassigned by backtracking, falling back to
+	 * {@link #NONE} for atoms that have never been unassigned.
+	 */
+	SAVED,
+
+	/**
+	 * Target phases: choose the truth value the atom had in the largest conflict-free partial assignment seen so far,
+	 * falling back to {@link #SAVED}. The target assignment is forgotten (rephased) on every restart and after every
+	 * answer set.
+	 */
+	TARGET;
+
+	/**
+	 * @return a comma-separated list of names of known phase strategies
+	 */
+	public static String listAllowedValues() {
+		return Arrays.stream(values()).map(PhaseStrategy::toString).collect(Collectors.joining(", "));
+	}
+}
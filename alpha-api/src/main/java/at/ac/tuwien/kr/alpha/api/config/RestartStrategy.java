@@ -0,0 +1,40 @@
+package at.ac.tuwien.kr.alpha.api.config;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * The available strategies for restarting the search of the solver. A restart backjumps to decision level 0 but keeps
+ * all learned nogoods and the activities of the branching heuristic, which allows search to recover from bad early
+ * decisions.
+ */
+public enum RestartStrategy {
+	/**
+	 * Never restart.
+	 */
+	NONE,
+
+	/**
+	 * Restart after a number of conflicts following the Luby sequence (1, 1, 2, 1, 1, 2, 4, 1, ...) multiplied by the
+	 * restart interval.
+	 */
+	LUBY,
+
+	/**
+	 * Restart after a geometrically growing number of conflicts, starting with the restart interval.
+	 */
+	GEOMETRIC,
+
+	/**
+	 * Restart dynamically whenever the LBD values of the most recently learned nogoods are considerably worse than the
+	 * average LBD of all learned nogoods (as done by the Glucose SAT solver).
+	 */
+	LBD;
+
+	/**
+	 * @return a comma-separated list of names of known restart strategies
+	 */
+	public static String listAllowedValues() {
+		return Arrays.stream(values()).map(RestartStrategy::toString).collect(Collectors.joining(", "));
+	}
+}
@@ -47,6 +47,7 @@ public class SystemConfig {
 	public static final String DEFAULT_GROUNDER_NAME = "naive";
 	public static final String DEFAULT_SOLVER_NAME = "default";
 	public static final String DEFAULT_NOGOOD_STORE_NAME = "alphaRoaming";
+	public static final String DEFAULT_ATOM_STORE_NAME = "hashMap";
 	public static final Heuristic DEFAULT_BRANCHING_HEURISTIC = Heuristic.VSIDS;
 	public static final BinaryNoGoodPropagationEstimationStrategy DEFAULT_MOMS_STRATEGY = BinaryNoGoodPropagationEstimationStrategy.CountBinaryWatches;
 	public static final long DEFAULT_SEED = System.nanoTime();
@@ -59,15 +60,26 @@ public class SystemConfig {
 	public static final List<Integer> DEFAULT_REPLAY_CHOICES = Collections.emptyList();
 	public static final boolean DEFAULT_STRATIFIED_EVALUATION = true;
 	public static final boolean DEFAULT_DISABLE_NOGOOD_DELETION = false;
+	public static final RestartStrategy DEFAULT_RESTART_STRATEGY = RestartStrategy.NONE;
+	public static final int DEFAULT_RESTART_INTERVAL = 100;
+	public static final PhaseStrategy DEFAULT_PHASE_STRATEGY = PhaseStrategy.NONE;
+	public static final int DEFAULT_PORTFOLIO_SIZE = 1;
+	public static final int DEFAULT_PORTFOLIO_SHARE_MAX_SIZE = 8;
+	public static final int DEFAULT_PORTFOLIO_SHARE_MAX_LBD = 3;
 	public static final String DEFAULT_GROUNDER_TOLERANCE_CONSTRAINTS = GrounderHeuristicsConfiguration.STRICT_STRING;
 	public static final String DEFAULT_GROUNDER_TOLERANCE_RULES = GrounderHeuristicsConfiguration.STRICT_STRING;
 	public static final boolean DEFAULT_GROUNDER_ACCUMULATOR_ENABLED = false;
+	public static final boolean DEFAULT_GROUNDER_COLUMNAR_FACT_STORAGE = false;
+	public static final boolean DEFAULT_GROUNDER_PARALLEL_INSTANTIATION = false;
+	public static final boolean DEFAULT_STRATIFIED_EVALUATION_TRIEJOIN = false;
+	public static final boolean DEFAULT_STRATIFIED_EVALUATION_PARALLEL = false;
 	public static final String DEFAULT_ATOM_SEPARATOR = ", ";
 	public static final AggregateRewritingConfig DEFAULT_AGGREGATE_REWRITING_CONFIG = new AggregateRewritingConfig();
 
 	private String grounderName = DEFAULT_GROUNDER_NAME;
 	private String solverName = DEFAULT_SOLVER_NAME;
 	private String nogoodStoreName = DEFAULT_NOGOOD_STORE_NAME;
+	private String atomStoreName = DEFAULT_ATOM_STORE_NAME;
 	private boolean deterministic = DEFAULT_DETERMINISTIC;
 	private long seed = DEFAULT_SEED;
 	private boolean debugInternalChecks = DEFAULT_DEBUG_INTERNAL_CHECKS;
@@ -80,12 +92,62 @@ public class SystemConfig {
 	private List<Integer> replayChoices = DEFAULT_REPLAY_CHOICES;
 	private boolean evaluateStratifiedPart = DEFAULT_STRATIFIED_EVALUATION;
 	private boolean disableNoGoodDeletion = DEFAULT_DISABLE_NOGOOD_DELETION;
+	private RestartStrategy restartStrategy = DEFAULT_RESTART_STRATEGY;
+	private int restartInterval = DEFAULT_RESTART_INTERVAL;
+	private PhaseStrategy phaseStrategy = DEFAULT_PHASE_STRATEGY;
+	private int portfolioSize = DEFAULT_PORTFOLIO_SIZE;
+	private int portfolioShareMaxSize = DEFAULT_PORTFOLIO_SHARE_MAX_SIZE;
+	private int portfolioShareMaxLbd = DEFAULT_PORTFOLIO_SHARE_MAX_LBD;
 	private String grounderToleranceConstraints = DEFAULT_GROUNDER_TOLERANCE_CONSTRAINTS;
 	private String grounderToleranceRules = DEFAULT_GROUNDER_TOLERANCE_RULES;
 	private boolean grounderAccumulatorEnabled = DEFAULT_GROUNDER_ACCUMULATOR_ENABLED;
+	private boolean grounderColumnarFactStorage = DEFAULT_GROUNDER_COLUMNAR_FACT_STORAGE;
+	private boolean grounderParallelInstantiation = DEFAULT_GROUNDER_PARALLEL_INSTANTIATION;
+	private boolean stratifiedEvaluationTriejoin = DEFAULT_STRATIFIED_EVALUATION_TRIEJOIN;
+	private boolean stratifiedEvaluationParallel = DEFAULT_STRATIFIED_EVALUATION_PARALLEL;
 	private String atomSeparator = DEFAULT_ATOM_SEPARATOR;
 	private AggregateRewritingConfig aggregateRewritingConfig = DEFAULT_AGGREGATE_REWRITING_CONFIG;
 
+	public SystemConfig() {
+	}
+
+	/**
+	 * Creates a copy of the given config, e.g., to derive the configurations of the workers of a solver portfolio.
+	 */
+	public SystemConfig(SystemConfig other) {
+		this.grounderName = other.grounderName;
+		this.solverName = other.solverName;
+		this.nogoodStoreName = other.nogoodStoreName;
+		this.atomStoreName = other.atomStoreName;
+		this.deterministic = other.deterministic;
+		this.seed = other.seed;
+		this.debugInternalChecks = other.debugInternalChecks;
+		this.branchingHeuristic = other.branchingHeuristic;
+		this.momsStrategy = other.momsStrategy;
+		this.quiet = other.quiet;
+		this.printStats = other.printStats;
+		this.disableJustificationSearch = other.disableJustificationSearch;
+		this.sortAnswerSets = other.sortAnswerSets;
+		this.replayChoices = other.replayChoices;
+		this.evaluateStratifiedPart = other.evaluateStratifiedPart;
+		this.disableNoGoodDeletion = other.disableNoGoodDeletion;
+		this.restartStrategy = other.restartStrategy;
+		this.restartInterval = other.restartInterval;
+		this.phaseStrategy = other.phaseStrategy;
+		this.portfolioSize = other.portfolioSize;
+		this.portfolioShareMaxSize = other.portfolioShareMaxSize;
+		this.portfolioShareMaxLbd = other.portfolioShareMaxLbd;
+		this.grounderToleranceConstraints = other.grounderToleranceConstraints;
+		this.grounderToleranceRules = other.grounderToleranceRules;
+		this.grounderAccumulatorEnabled = other.grounderAccumulatorEnabled;
+		this.grounderColumnarFactStorage = other.grounderColumnarFactStorage;
+		this.grounderParallelInstantiation = other.grounderParallelInstantiation;
+		this.stratifiedEvaluationTriejoin = other.stratifiedEvaluationTriejoin;
+		this.stratifiedEvaluationParallel = other.stratifiedEvaluationParallel;
+		this.atomSeparator = other.atomSeparator;
+		this.aggregateRewritingConfig = other.aggregateRewritingConfig;
+	}
+
 	public String getGrounderName() {
 		return this.grounderName;
 	}
@@ -119,6 +181,18 @@ public void setNogoodStoreName(String nogoodStoreName) {
 		this.nogoodStoreName = nogoodStoreName;
 	}
 
+	public String getAtomStoreName() {
+		return this.atomStoreName;
+	}
+
+	/**
+	 * Sets the name of the atom store implementation to use, one of "hashMap" or "openAddressing". Only the latter
+	 * allows the solver to release the ids of atoms that are not referenced any more.
+	 */
+	public void setAtomStoreName(String atomStoreName) {
+		this.atomStoreName = atomStoreName;
+	}
+
 	public boolean isDeterministic() {
 		return this.deterministic;
 	}
@@ -240,6 +314,84 @@ public void setDisableNoGoodDeletion(boolean disableNoGoodDeletion) {
 		this.disableNoGoodDeletion = disableNoGoodDeletion;
 	}
 
+	public RestartStrategy getRestartStrategy() {
+		return this.restartStrategy;
+	}
+
+	/**
+	 * Use the given strategy to decide when the solver restarts its search.
+	 */
+	public void setRestartStrategy(RestartStrategy restartStrategy) {
+		this.restartStrategy = restartStrategy;
+	}
+
+	public void setRestartStrategyName(String restartStrategyName) {
+		this.restartStrategy = RestartStrategy.valueOf(restartStrategyName.replace("-", "_").toUpperCase());
+	}
+
+	public int getRestartInterval() {
+		return this.restartInterval;
+	}
+
+	/**
+	 * Sets the base number of conflicts between restarts (scaled by the Luby sequence or the geometric growth factor,
+	 * depending on the restart strategy).
+	 */
+	public void setRestartInterval(int restartInterval) {
+		this.restartInterval = restartInterval;
+	}
+
+	public PhaseStrategy getPhaseStrategy() {
+		return this.phaseStrategy;
+	}
+
+	/**
+	 * Use the given strategy to choose the truth value of atoms chosen by the branching heuristic.
+	 */
+	public void setPhaseStrategy(PhaseStrategy phaseStrategy) {
+		this.phaseStrategy = phaseStrategy;
+	}
+
+	public void setPhaseStrategyName(String phaseStrategyName) {
+		this.phaseStrategy = PhaseStrategy.valueOf(phaseStrategyName.replace("-", "_").toUpperCase());
+	}
+
+	public int getPortfolioSize() {
+		return this.portfolioSize;
+	}
+
+	/**
+	 * Sets the number of solver instances that run in parallel, each on its own thread with a different configuration.
+	 * The first instance to find an answer set or to prove unsatisfiability wins, the others are cancelled.
+	 * A size of 1 disables the portfolio.
+	 */
+	public void setPortfolioSize(int portfolioSize) {
+		this.portfolioSize = portfolioSize;
+	}
+
+	public int getPortfolioShareMaxSize() {
+		return this.portfolioShareMaxSize;
+	}
+
+	/**
+	 * Solvers of a portfolio share learned nogoods with at most this many literals with each other.
+	 * A size of 0 disables sharing.
+	 */
+	public void setPortfolioShareMaxSize(int portfolioShareMaxSize) {
+		this.portfolioShareMaxSize = portfolioShareMaxSize;
+	}
+
+	public int getPortfolioShareMaxLbd() {
+		return this.portfolioShareMaxLbd;
+	}
+
+	/**
+	 * Solvers of a portfolio share learned nogoods with at most this LBD (literal blocks distance) with each other.
+	 */
+	public void setPortfolioShareMaxLbd(int portfolioShareMaxLbd) {
+		this.portfolioShareMaxLbd = portfolioShareMaxLbd;
+	}
+
 	public String getGrounderToleranceConstraints() {
 		return grounderToleranceConstraints;
 	}
@@ -264,6 +416,55 @@ public void setGrounderAccumulatorEnabled(boolean grounderAccumulatorEnabled) {
 		this.grounderAccumulatorEnabled = grounderAccumulatorEnabled;
 	}
 
+	public boolean isGrounderColumnarFactStorage() {
+		return grounderColumnarFactStorage;
+	}
+
+	/**
+	 * Sets whether the grounder keeps instances of predicates that are only defined by facts in a columnar storage of
+	 * term ids, which takes considerably less memory for large sets of facts.
+	 */
+	public void setGrounderColumnarFactStorage(boolean grounderColumnarFactStorage) {
+		this.grounderColumnarFactStorage = grounderColumnarFactStorage;
+	}
+
+	public boolean isGrounderParallelInstantiation() {
+		return grounderParallelInstantiation;
+	}
+
+	/**
+	 * Sets whether the grounder instantiates a rule from many newly added starting instances in parallel. The ground
+	 * rules are registered in the same order as in sequential grounding, hence atom and nogood ids do not change.
+	 */
+	public void setGrounderParallelInstantiation(boolean grounderParallelInstantiation) {
+		this.grounderParallelInstantiation = grounderParallelInstantiation;
+	}
+
+	public boolean isStratifiedEvaluationTriejoin() {
+		return stratifiedEvaluationTriejoin;
+	}
+
+	/**
+	 * Sets whether the evaluation of the stratified part of a program joins the bodies of purely relational rules by a
+	 * worst-case optimal leapfrog triejoin instead of binding one literal after the other. This pays off for rules with
+	 * cyclic bodies, e.g., triangle or clique queries.
+	 */
+	public void setStratifiedEvaluationTriejoin(boolean stratifiedEvaluationTriejoin) {
+		this.stratifiedEvaluationTriejoin = stratifiedEvaluationTriejoin;
+	}
+
+	public boolean isStratifiedEvaluationParallel() {
+		return stratifiedEvaluationParallel;
+	}
+
+	/**
+	 * Sets whether independent components of the stratified part of a program are evaluated in parallel. Each component
+	 * is evaluated as soon as all components it depends on are done; the result is the same as in sequential evaluation.
+	 */
+	public void setStratifiedEvaluationParallel(boolean stratifiedEvaluationParallel) {
+		this.stratifiedEvaluationParallel = stratifiedEvaluationParallel;
+	}
+
 	public String getAtomSeparator() {
 		return this.atomSeparator;
 	}
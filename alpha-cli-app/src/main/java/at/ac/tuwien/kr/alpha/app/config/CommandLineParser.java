@@ -50,6 +50,8 @@
 import at.ac.tuwien.kr.alpha.api.config.BinaryNoGoodPropagationEstimationStrategy;
 import at.ac.tuwien.kr.alpha.api.config.Heuristic;
 import at.ac.tuwien.kr.alpha.api.config.InputConfig;
+import at.ac.tuwien.kr.alpha.api.config.PhaseStrategy;
+import at.ac.tuwien.kr.alpha.api.config.RestartStrategy;
 import at.ac.tuwien.kr.alpha.api.config.SystemConfig;
 
 /**
@@ -97,7 +99,9 @@ public class CommandLineParser {
 	private static final Option OPT_SOLVER = Option.builder("s").longOpt("solver").hasArg(true).argName("solver")
 			.desc("the solver implementation to use (default: " + SystemConfig.DEFAULT_SOLVER_NAME + ")").build();
 	private static final Option OPT_NOGOOD_STORE = Option.builder("r").longOpt("store").hasArg(true).argName("store")
-			.desc("the nogood store to use (default: " + SystemConfig.DEFAULT_NOGOOD_STORE_NAME + ")").build();
+			.desc("the nogood store to use, one of alphaRoaming, alphaRoamingArena, naive (default: " + SystemConfig.DEFAULT_NOGOOD_STORE_NAME + ")").build();
+	private static final Option OPT_ATOM_STORE = Option.builder("as").longOpt("atomStore").hasArg(true).argName("store")
+			.desc("the atom store to use, one of hashMap, openAddressing (default: " + SystemConfig.DEFAULT_ATOM_STORE_NAME + ")").build();
 	private static final Option OPT_SORT = Option.builder("sort").longOpt("sort").hasArg(false)
 			.desc("sort answer sets (default: " + SystemConfig.DEFAULT_SORT_ANSWER_SETS + ")").build();
 	private static final Option OPT_DETERMINISTIC = Option.builder("d").longOpt("deterministic").hasArg(false)
@@ -135,6 +139,30 @@ public class CommandLineParser {
 			.desc("disable the deletion of (learned, little active) nogoods (default: " 
 					+ SystemConfig.DEFAULT_DISABLE_NOGOOD_DELETION + ")")
 			.build();
+	private static final Option OPT_RESTART_STRATEGY = Option.builder("rs").longOpt("restarts").hasArg(true).argName("strategy")
+			.desc("the strategy to decide when to restart search, one of " + RestartStrategy.listAllowedValues() + " (default: "
+					+ SystemConfig.DEFAULT_RESTART_STRATEGY.name() + ")")
+			.build();
+	private static final Option OPT_RESTART_INTERVAL = Option.builder("ri").longOpt("restartInterval").hasArg(true).argName("conflicts")
+			.desc("the base number of conflicts between two restarts for the LUBY and GEOMETRIC restart strategies (default: "
+					+ SystemConfig.DEFAULT_RESTART_INTERVAL + ")")
+			.build();
+	private static final Option OPT_PHASE_STRATEGY = Option.builder("ps").longOpt("phaseStrategy").hasArg(true).argName("strategy")
+			.desc("the strategy to choose the truth value of atoms chosen by VSIDS-based heuristics, one of " + PhaseStrategy.listAllowedValues()
+					+ " (default: " + SystemConfig.DEFAULT_PHASE_STRATEGY.name() + ")")
+			.build();
+	private static final Option OPT_PORTFOLIO_SIZE = Option.builder("pf").longOpt("portfolio").hasArg(true).argName("solvers")
+			.desc("the number of differently configured solvers to run in parallel, the first one to find an answer set or to prove "
+					+ "unsatisfiability wins (default: " + SystemConfig.DEFAULT_PORTFOLIO_SIZE + ", i.e., no portfolio)")
+			.build();
+	private static final Option OPT_PORTFOLIO_SHARE_MAX_SIZE = Option.builder("pfs").longOpt("portfolioShareSize").hasArg(true).argName("literals")
+			.desc("the maximum number of literals of learned nogoods the solvers of a portfolio share with each other, 0 disables sharing (default: "
+					+ SystemConfig.DEFAULT_PORTFOLIO_SHARE_MAX_SIZE + ")")
+			.build();
+	private static final Option OPT_PORTFOLIO_SHARE_MAX_LBD = Option.builder("pfl").longOpt("portfolioShareLbd").hasArg(true).argName("lbd")
+			.desc("the maximum LBD of learned nogoods the solvers of a portfolio share with each other (default: "
+					+ SystemConfig.DEFAULT_PORTFOLIO_SHARE_MAX_LBD + ")")
+			.build();
 	private static final Option OPT_GROUNDER_TOLERANCE_CONSTRAINTS = Option.builder("gtc").longOpt("grounderToleranceConstraints")
 			.desc("grounder tolerance for constraints (default: " + SystemConfig.DEFAULT_GROUNDER_TOLERANCE_CONSTRAINTS + ")")
 			.hasArg().argName("tolerance")
@@ -147,6 +175,22 @@ public class CommandLineParser {
 			.desc("activates the accumulator grounding strategy by disabling removal of instances from grounder memory in certain cases (default: " 
 					+ SystemConfig.DEFAULT_GROUNDER_ACCUMULATOR_ENABLED + ")")
 			.build();
+	private static final Option OPT_GROUNDER_COLUMNAR_FACT_STORAGE = Option.builder("gcf").longOpt("grounderColumnarFactStorage")
+			.desc("keeps instances of predicates defined only by facts in a compact columnar grounder memory (default: "
+					+ SystemConfig.DEFAULT_GROUNDER_COLUMNAR_FACT_STORAGE + ")")
+			.build();
+	private static final Option OPT_GROUNDER_PARALLEL_INSTANTIATION = Option.builder("gpi").longOpt("grounderParallelInstantiation")
+			.desc("instantiates rules from many newly added starting instances in parallel (default: "
+					+ SystemConfig.DEFAULT_GROUNDER_PARALLEL_INSTANTIATION + ")")
+			.build();
+	private static final Option OPT_STRATIFIED_EVALUATION_TRIEJOIN = Option.builder("stj").longOpt("stratifiedEvaluationTriejoin")
+			.desc("joins purely relational rule bodies by a worst-case optimal leapfrog triejoin when evaluating the stratified part "
+					+ "of a program (default: " + SystemConfig.DEFAULT_STRATIFIED_EVALUATION_TRIEJOIN + ")")
+			.build();
+	private static final Option OPT_STRATIFIED_EVALUATION_PARALLEL = Option.builder("stp").longOpt("stratifiedEvaluationParallel")
+			.desc("evaluates independent components of the stratified part of a program in parallel (default: "
+					+ SystemConfig.DEFAULT_STRATIFIED_EVALUATION_PARALLEL + ")")
+			.build();
 	private static final Option OPT_OUTPUT_ATOM_SEPARATOR = Option.builder("sep").longOpt("atomSeparator").hasArg(true).argName("separator")
 			.desc("a character (sequence) to use as separator for atoms in printed answer sets (default: "
 					+ SystemConfig.DEFAULT_ATOM_SEPARATOR + ")")
@@ -174,6 +218,7 @@ public class CommandLineParser {
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_GROUNDER);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_SOLVER);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_NOGOOD_STORE);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_ATOM_STORE);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_SORT);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_DETERMINISTIC);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_SEED);
@@ -189,9 +234,19 @@ public class CommandLineParser {
 
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_NO_EVAL_STRATIFIED);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_NO_NOGOOD_DELETION);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_RESTART_STRATEGY);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_RESTART_INTERVAL);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_PHASE_STRATEGY);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_PORTFOLIO_SIZE);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_PORTFOLIO_SHARE_MAX_SIZE);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_PORTFOLIO_SHARE_MAX_LBD);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_GROUNDER_TOLERANCE_CONSTRAINTS);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_GROUNDER_TOLERANCE_RULES);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_GROUNDER_ACCUMULATOR_ENABLED);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_GROUNDER_COLUMNAR_FACT_STORAGE);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_GROUNDER_PARALLEL_INSTANTIATION);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_STRATIFIED_EVALUATION_TRIEJOIN);
+		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_STRATIFIED_EVALUATION_PARALLEL);
 		CommandLineParser.CLI_OPTS.addOption(CommandLineParser.OPT_OUTPUT_ATOM_SEPARATOR);
 	}
 
@@ -232,6 +287,7 @@ private void initializeGlobalOptionHandlers() {
 		this.globalOptionHandlers.put(CommandLineParser.OPT_GROUNDER.getOpt(), this::handleGrounder);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_SOLVER.getOpt(), this::handleSolver);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_NOGOOD_STORE.getOpt(), this::handleNogoodStore);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_ATOM_STORE.getOpt(), this::handleAtomStore);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_SORT.getOpt(), this::handleSort);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_DETERMINISTIC.getOpt(), this::handleDeterministic);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_SEED.getOpt(), this::handleSeed);
@@ -246,9 +302,19 @@ private void initializeGlobalOptionHandlers() {
 		this.globalOptionHandlers.put(CommandLineParser.OPT_AGGREGATES_NO_NEGATIVE_INTEGERS.getOpt(), this::handleDisableNegativeSumElements);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_NO_EVAL_STRATIFIED.getOpt(), this::handleDisableStratifedEval);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_NO_NOGOOD_DELETION.getOpt(), this::handleNoNoGoodDeletion);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_RESTART_STRATEGY.getOpt(), this::handleRestartStrategy);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_RESTART_INTERVAL.getOpt(), this::handleRestartInterval);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_PHASE_STRATEGY.getOpt(), this::handlePhaseStrategy);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_PORTFOLIO_SIZE.getOpt(), this::handlePortfolioSize);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_PORTFOLIO_SHARE_MAX_SIZE.getOpt(), this::handlePortfolioShareMaxSize);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_PORTFOLIO_SHARE_MAX_LBD.getOpt(), this::handlePortfolioShareMaxLbd);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_GROUNDER_TOLERANCE_CONSTRAINTS.getOpt(), this::handleGrounderToleranceConstraints);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_GROUNDER_TOLERANCE_RULES.getOpt(), this::handleGrounderToleranceRules);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_GROUNDER_ACCUMULATOR_ENABLED.getOpt(), this::handleGrounderNoInstanceRemoval);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_GROUNDER_COLUMNAR_FACT_STORAGE.getOpt(), this::handleGrounderColumnarFactStorage);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_GROUNDER_PARALLEL_INSTANTIATION.getOpt(), this::handleGrounderParallelInstantiation);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_STRATIFIED_EVALUATION_TRIEJOIN.getOpt(), this::handleStratifiedEvaluationTriejoin);
+		this.globalOptionHandlers.put(CommandLineParser.OPT_STRATIFIED_EVALUATION_PARALLEL.getOpt(), this::handleStratifiedEvaluationParallel);
 		this.globalOptionHandlers.put(CommandLineParser.OPT_OUTPUT_ATOM_SEPARATOR.getOpt(), this::handleAtomSeparator);
 	}
 
@@ -353,6 +419,10 @@ private void handleNogoodStore(Option opt, SystemConfig cfg) {
 		cfg.setNogoodStoreName(opt.getValue(SystemConfig.DEFAULT_NOGOOD_STORE_NAME));
 	}
 
+	private void handleAtomStore(Option opt, SystemConfig cfg) {
+		cfg.setAtomStoreName(opt.getValue(SystemConfig.DEFAULT_ATOM_STORE_NAME));
+	}
+
 	private void handleFilters(Option opt, InputConfig cfg) {
 		String pred = opt.getValue().trim();
 		cfg.getDesiredPredicates().add(pred);
@@ -467,6 +537,78 @@ private void handleNoNoGoodDeletion(Option opt, SystemConfig cfg) {
 		cfg.setDisableNoGoodDeletion(true);
 	}
 
+	private void handleRestartStrategy(Option opt, SystemConfig cfg) throws ParseException {
+		String restartStrategyName = opt.getValue(SystemConfig.DEFAULT_RESTART_STRATEGY.name());
+		try {
+			cfg.setRestartStrategyName(restartStrategyName);
+		} catch (IllegalArgumentException e) {
+			throw new ParseException("Unknown restart strategy: " + restartStrategyName + ". Please try one of the following: "
+					+ RestartStrategy.listAllowedValues());
+		}
+	}
+
+	private void handleRestartInterval(Option opt, SystemConfig cfg) throws ParseException {
+		String restartInterval = opt.getValue(Integer.toString(SystemConfig.DEFAULT_RESTART_INTERVAL));
+		try {
+			int interval = Integer.parseInt(restartInterval);
+			if (interval <= 0) {
+				throw new NumberFormatException();
+			}
+			cfg.setRestartInterval(interval);
+		} catch (NumberFormatException e) {
+			throw new ParseException("Restart interval must be a positive integer: " + restartInterval);
+		}
+	}
+
+	private void handlePhaseStrategy(Option opt, SystemConfig cfg) throws ParseException {
+		String phaseStrategyName = opt.getValue(SystemConfig.DEFAULT_PHASE_STRATEGY.name());
+		try {
+			cfg.setPhaseStrategyName(phaseStrategyName);
+		} catch (IllegalArgumentException e) {
+			throw new ParseException("Unknown phase strategy: " + phaseStrategyName + ". Please try one of the following: "
+					+ PhaseStrategy.listAllowedValues());
+		}
+	}
+
+	private void handlePortfolioSize(Option opt, SystemConfig cfg) throws ParseException {
+		String portfolioSize = opt.getValue(Integer.toString(SystemConfig.DEFAULT_PORTFOLIO_SIZE));
+		try {
+			int size = Integer.parseInt(portfolioSize);
+			if (size <= 0) {
+				throw new NumberFormatException();
+			}
+			cfg.setPortfolioSize(size);
+		} catch (NumberFormatException e) {
+			throw new ParseException("Portfolio size must be a positive integer: " + portfolioSize);
+		}
+	}
+
+	private void handlePortfolioShareMaxSize(Option opt, SystemConfig cfg) throws ParseException {
+		String maxSize = opt.getValue(Integer.toString(SystemConfig.DEFAULT_PORTFOLIO_SHARE_MAX_SIZE));
+		try {
+			int size = Integer.parseInt(maxSize);
+			if (size < 0) {
+				throw new NumberFormatException();
+			}
+			cfg.setPortfolioShareMaxSize(size);
+		} catch (NumberFormatException e) {
+			throw new ParseException("Maximum size of shared nogoods must be a non-negative integer: " + maxSize);
+		}
+	}
+
+	private void handlePortfolioShareMaxLbd(Option opt, SystemConfig cfg) throws ParseException {
+		String maxLbd = opt.getValue(Integer.toString(SystemConfig.DEFAULT_PORTFOLIO_SHARE_MAX_LBD));
+		try {
+			int lbd = Integer.parseInt(maxLbd);
+			if (lbd <= 0) {
+				throw new NumberFormatException();
+			}
+			cfg.setPortfolioShareMaxLbd(lbd);
+		} catch (NumberFormatException e) {
+			throw new ParseException("Maximum LBD of shared nogoods must be a positive integer: " + maxLbd);
+		}
+	}
+
 	private void handleGrounderToleranceConstraints(Option opt, SystemConfig cfg) {
 		String grounderToleranceConstraints = opt.getValue(SystemConfig.DEFAULT_GROUNDER_TOLERANCE_CONSTRAINTS);
 		cfg.setGrounderToleranceConstraints(grounderToleranceConstraints);
@@ -481,6 +623,22 @@ private void handleGrounderNoInstanceRemoval(Option opt, SystemConfig cfg) {
 		cfg.setGrounderAccumulatorEnabled(true);
 	}
 
+	private void handleGrounderColumnarFactStorage(Option opt, SystemConfig cfg) {
+		cfg.setGrounderColumnarFactStorage(true);
+	}
+
+	private void handleGrounderParallelInstantiation(Option opt, SystemConfig cfg) {
+		cfg.setGrounderParallelInstantiation(true);
+	}
+
+	private void handleStratifiedEvaluationTriejoin(Option opt, SystemConfig cfg) {
+		cfg.setStratifiedEvaluationTriejoin(true);
+	}
+
+	private void handleStratifiedEvaluationParallel(Option opt, SystemConfig cfg) {
+		cfg.setStratifiedEvaluationParallel(true);
+	}
+
 	private void handleAtomSeparator(Option opt, SystemConfig cfg) {
 		cfg.setAtomSeparator(StringEscapeUtils.unescapeJava(opt.getValue(SystemConfig.DEFAULT_ATOM_SEPARATOR)));
 	}
@@ -39,6 +39,8 @@
 import org.junit.jupiter.api.Test;
 
 import at.ac.tuwien.kr.alpha.api.config.AlphaConfig;
+import at.ac.tuwien.kr.alpha.api.config.PhaseStrategy;
+import at.ac.tuwien.kr.alpha.api.config.RestartStrategy;
 
 public class CommandLineParserTest {
 
@@ -181,4 +183,53 @@ public void atomSeparator() throws ParseException {
 		assertEquals("some-string", cfg.getSystemConfig().getAtomSeparator());
 	}
 
+	@Test
+	public void restartStrategy() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-rs", "luby", "-ri", "50"});
+		assertEquals(RestartStrategy.LUBY, cfg.getSystemConfig().getRestartStrategy());
+		assertEquals(50, cfg.getSystemConfig().getRestartInterval());
+	}
+
+	@Test
+	public void restartStrategyUnknown() {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		assertThrows(ParseException.class, () -> parser.parseCommandLine(new String[]{"-str", "aString.", "-rs", "sometimes"}));
+	}
+
+	@Test
+	public void phaseStrategy() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-ps", "target"});
+		assertEquals(PhaseStrategy.TARGET, cfg.getSystemConfig().getPhaseStrategy());
+	}
+
+	@Test
+	public void portfolioSize() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-pf", "4"});
+		assertEquals(4, cfg.getSystemConfig().getPortfolioSize());
+	}
+
+	@Test
+	public void portfolioSizeNotPositive() {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		assertThrows(ParseException.class, () -> parser.parseCommandLine(new String[]{"-str", "aString.", "-pf", "0"}));
+	}
+
+	@Test
+	public void portfolioSharingFilter() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-pf", "4", "-pfs", "12", "-pfl", "2"});
+		assertEquals(12, cfg.getSystemConfig().getPortfolioShareMaxSize());
+		assertEquals(2, cfg.getSystemConfig().getPortfolioShareMaxLbd());
+	}
+
+	@Test
+	public void atomStore() throws ParseException {
+		CommandLineParser parser = new CommandLineParser(DEFAULT_COMMAND_LINE, DEFAULT_ABORT_ACTION);
+		AlphaConfig cfg = parser.parseCommandLine(new String[]{"-str", "aString.", "-as", "openAddressing"});
+		assertEquals("openAddressing", cfg.getSystemConfig().getAtomStoreName());
+	}
+
 }
@@ -45,6 +45,7 @@
 import at.ac.tuwien.kr.alpha.commons.programs.atoms.AbstractAtom;
 import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
 import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
+import at.ac.tuwien.kr.alpha.commons.substitutions.Substitutions;
 
 /**
  * Contains a potentially negated {@link ComparisonAtomImpl}.
@@ -176,7 +177,7 @@ public List<Substitution> getSatisfyingSubstitutions(Substitution partialSubstit
 			// Ground term is another term (constant, or function term).
 			resultTerm = groundTerm;
 		}
-		BasicSubstitution extendedSubstitution = new BasicSubstitution(partialSubstitution);
+		Substitution extendedSubstitution = Substitutions.copyOf(partialSubstitution);
 		extendedSubstitution.put(variable, resultTerm);
 		return Collections.singletonList(extendedSubstitution);
 	}
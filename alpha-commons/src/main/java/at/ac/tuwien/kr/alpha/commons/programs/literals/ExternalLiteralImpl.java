@@ -42,6 +42,7 @@
 import at.ac.tuwien.kr.alpha.api.programs.terms.VariableTerm;
 import at.ac.tuwien.kr.alpha.commons.programs.atoms.AbstractAtom;
 import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
+import at.ac.tuwien.kr.alpha.commons.substitutions.Substitutions;
 
 /**
  * Contains a potentially negated {@link ExternalAtomImpl}.
@@ -196,7 +197,7 @@ private List<Substitution> buildSubstitutionsForOutputs(Substitution partialSubs
 						"Predicate " + getPredicate().getName() + " returned " + bindings.size() + " terms when at least " + externalAtomOutputTerms.size()
 								+ " were expected.");
 			}
-			BasicSubstitution ith = new BasicSubstitution(partialSubstitution);
+			Substitution ith = Substitutions.copyOf(partialSubstitution);
 			boolean skip = false;
 			for (int i = 0; i < externalAtomOutputTerms.size(); i++) {
 				Term out = externalAtomOutputTerms.get(i);
@@ -68,6 +68,14 @@ public int compareTo(Term o) {
 	@Override
 	public abstract boolean isGround();
 
+	/**
+	 * Returns the id of this term in the {@link TermDictionary}, or {@link TermDictionary#NO_ID} if the term is not
+	 * encoded.
+	 */
+	int getDictionaryId() {
+		return TermDictionary.NO_ID;
+	}
+
 	/**
 	 * Rename all variables occurring in this Term by prefixing their name.
 	 * 
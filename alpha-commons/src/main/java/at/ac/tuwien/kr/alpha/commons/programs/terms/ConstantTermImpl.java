@@ -17,20 +17,32 @@
 
 	private final T object;
 	private final boolean symbolic;
+	private final int id;
 
-	private ConstantTermImpl(T object, boolean symbolic) {
+	private ConstantTermImpl(T object, boolean symbolic, int id) {
 		this.object = object;
 		this.symbolic = symbolic;
+		this.id = id;
 	}
 
 	@SuppressWarnings("unchecked")
 	public static <T extends Comparable<T>> ConstantTermImpl<T> getInstance(T symbol) {
-		return (ConstantTermImpl<T>) INTERNER.intern(new ConstantTermImpl<>(symbol, false));
+		if (symbol instanceof Integer) {
+			return TermDictionary.encodeConstant(symbol, false, id -> new ConstantTermImpl<>(symbol, false, id));
+		}
+		// Strings and arbitrary Java objects are not encoded in the dictionary, since the dictionary would keep them
+		// alive forever. They are interned weakly instead.
+		return (ConstantTermImpl<T>) INTERNER.intern(new ConstantTermImpl<>(symbol, false, TermDictionary.NO_ID));
 	}
 
 	@SuppressWarnings("unchecked")
 	public static <T extends Comparable<T>> ConstantTermImpl<T> getSymbolicInstance(String symbol) {
-		return (ConstantTermImpl<T>) INTERNER.intern(new ConstantTermImpl<>(symbol, true));
+		return (ConstantTermImpl<T>) TermDictionary.encodeConstant(symbol, true, id -> new ConstantTermImpl<>(symbol, true, id));
+	}
+
+	@Override
+	int getDictionaryId() {
+		return id;
 	}
 
 	@Override
@@ -71,6 +83,10 @@ public boolean equals(Object o) {
 		}
 
 		ConstantTermImpl<?> that = (ConstantTermImpl<?>) o;
+		if (this.id != TermDictionary.NO_ID || that.id != TermDictionary.NO_ID) {
+			// Encoded constants are unique per dictionary id.
+			return this.id == that.id;
+		}
 		if (this.symbolic != that.symbolic) {
 			return false;
 		}
@@ -80,6 +96,9 @@ public boolean equals(Object o) {
 
 	@Override
 	public int hashCode() {
+		if (id != TermDictionary.NO_ID) {
+			return id;
+		}
 		int result = object.hashCode();
 		result = 31 * result + (symbolic ? 1 : 0);
 		return result;
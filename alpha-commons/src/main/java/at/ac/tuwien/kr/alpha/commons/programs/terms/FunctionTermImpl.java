@@ -21,16 +21,16 @@ class FunctionTermImpl extends AbstractTerm implements FunctionTerm {
 	private static final Interner<FunctionTermImpl> INTERNER = new Interner<>();
 
 	private final String symbol;
+	private final int symbolId;
 	private final List<Term> terms;
 	private final boolean ground;
+	private final int id;
 
-	private FunctionTermImpl(String symbol, List<Term> terms) {
-		if (symbol == null) {
-			throw new IllegalArgumentException();
-		}
-
+	private FunctionTermImpl(String symbol, int symbolId, List<Term> terms, int id) {
 		this.symbol = symbol;
+		this.symbolId = symbolId;
 		this.terms = Collections.unmodifiableList(terms);
+		this.id = id;
 
 		boolean ground = true;
 		for (Term term : terms) {
@@ -43,13 +43,37 @@ private FunctionTermImpl(String symbol, List<Term> terms) {
 	}
 
 	public static FunctionTermImpl getInstance(String functionSymbol, List<Term> termList) {
-		return INTERNER.intern(new FunctionTermImpl(functionSymbol, termList));
+		if (functionSymbol == null) {
+			throw new IllegalArgumentException();
+		}
+		int symbolId = TermDictionary.getSymbolId(functionSymbol);
+		// Function terms over encoded arguments are encoded themselves, all others are interned structurally.
+		int[] argumentIds = new int[termList.size()];
+		for (int i = 0; i < argumentIds.length; i++) {
+			argumentIds[i] = TermDictionary.getIdOrNoId(termList.get(i));
+			if (argumentIds[i] == TermDictionary.NO_ID) {
+				return INTERNER.intern(new FunctionTermImpl(functionSymbol, symbolId, termList, TermDictionary.NO_ID));
+			}
+		}
+		return TermDictionary.encodeFunction(symbolId, argumentIds, id -> new FunctionTermImpl(functionSymbol, symbolId, termList, id));
 	}
 
 	public static FunctionTermImpl getInstance(String functionSymbol, Term... terms) {
 		return getInstance(functionSymbol, Arrays.asList(terms));
 	}
 
+	@Override
+	int getDictionaryId() {
+		return id;
+	}
+
+	/**
+	 * Returns the id of the function symbol of this term in the {@link TermDictionary}.
+	 */
+	int getSymbolId() {
+		return symbolId;
+	}
+
 	@Override
 	public List<Term> getTerms() {
 		return terms;
@@ -103,7 +127,11 @@ public boolean equals(Object o) {
 
 		FunctionTermImpl that = (FunctionTermImpl) o;
 
-		if (!symbol.equals(that.symbol)) {
+		if (id != TermDictionary.NO_ID || that.id != TermDictionary.NO_ID) {
+			// Encoded terms are unique per dictionary id and never equal to terms that are not encoded.
+			return id == that.id;
+		}
+		if (symbolId != that.symbolId) {
 			return false;
 		}
 		return terms.equals(that.terms);
@@ -111,7 +139,10 @@ public boolean equals(Object o) {
 
 	@Override
 	public int hashCode() {
-		return 31 * symbol.hashCode() + terms.hashCode();
+		if (id != TermDictionary.NO_ID) {
+			return id;
+		}
+		return 31 * symbolId + terms.hashCode();
 	}
 
 	@Override
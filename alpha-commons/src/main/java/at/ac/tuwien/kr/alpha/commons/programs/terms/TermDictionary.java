@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.commons.programs.terms;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+import at.ac.tuwien.kr.alpha.api.programs.terms.FunctionTerm;
+import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
+
+/**
+ * A global dictionary assigning dense integer ids to ground terms.
+ *
+ * Every symbolic constant, every integer constant and every function term whose arguments are all encoded receives a
+ * unique id when it is first created. Other constants, i.e., quoted strings and constants wrapping arbitrary Java
+ * objects, are not encoded and are only interned weakly, such that they can be garbage collected once unused. Function
+ * terms are keyed by the id of their function symbol and the ids of their arguments, hence looking up a function term
+ * never hashes the nested term structure. Two encoded terms are equal if and only if their ids are equal, which allows
+ * hashing and equality checks on ground terms to work on ints. The {@link Term} objects themselves are the canonical
+ * instances registered here and can be obtained back from an id via {@link #getTerm(int)}.
+ *
+ * Ids are never reclaimed: the dictionary holds all encoded terms strongly, hence every symbolic constant, integer
+ * constant and function term ever created is kept for the lifetime of the JVM, even after all programs using it are
+ * gone. Long-running applications creating unboundedly many distinct integers or function terms therefore grow the
+ * dictionary without bound.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public final class TermDictionary {
+
+	/**
+	 * Id reported for terms that are not encoded in the dictionary, e.g., variables, unevaluated arithmetic terms or
+	 * constants wrapping Java objects.
+	 */
+	public static final int NO_ID = -1;
+
+	private static final ConcurrentHashMap<Object, AbstractTerm> TERMS_BY_KEY = new ConcurrentHashMap<>();
+	private static final DenseTable<AbstractTerm> TERMS = new DenseTable<>();
+	private static final ConcurrentHashMap<String, Integer> SYMBOL_IDS = new ConcurrentHashMap<>();
+	private static final DenseTable<String> SYMBOLS = new DenseTable<>();
+
+	private TermDictionary() {
+		throw new AssertionError(TermDictionary.class.getSimpleName() + " is a non-instantiable utility class!");
+	}
+
+	/**
+	 * Returns the id of the given term.
+	 *
+	 * @throws IllegalArgumentException if the term is not encoded in the dictionary.
+	 */
+	public static int getId(Term term) {
+		int id = getIdOrNoId(term);
+		if (id == NO_ID) {
+			throw new IllegalArgumentException("Term " + term + " is not encoded in the term dictionary.");
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the id of the given term or {@link #NO_ID} if the term is not encoded in the dictionary.
+	 */
+	public static int getIdOrNoId(Term term) {
+		return term instanceof AbstractTerm ? ((AbstractTerm) term).getDictionaryId() : NO_ID;
+	}
+
+	/**
+	 * Returns true iff the given term is encoded in the dictionary.
+	 */
+	public static boolean isEncoded(Term term) {
+		return getIdOrNoId(term) != NO_ID;
+	}
+
+	/**
+	 * Returns the term with the given id.
+	 */
+	public static Term getTerm(int id) {
+		return TERMS.get(id);
+	}
+
+	/**
+	 * Returns the id of the given function symbol.
+	 */
+	public static int getSymbolId(String symbol) {
+		Integer id = SYMBOL_IDS.get(symbol);
+		if (id != null) {
+			return id;
+		}
+		return SYMBOL_IDS.computeIfAbsent(symbol, s -> SYMBOLS.add(i -> s));
+	}
+
+	/**
+	 * Returns the id of the function symbol of the given function term.
+	 */
+	public static int getSymbolId(FunctionTerm term) {
+		if (term instanceof FunctionTermImpl) {
+			return ((FunctionTermImpl) term).getSymbolId();
+		}
+		return getSymbolId(term.getSymbol());
+	}
+
+	/**
+	 * Returns the function symbol with the given id.
+	 */
+	public static String getSymbol(int symbolId) {
+		return SYMBOLS.get(symbolId);
+	}
+
+	/**
+	 * Returns the number of terms encoded in the dictionary, i.e., all ids are smaller than this value.
+	 */
+	public static int size() {
+		return TERMS.size();
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T extends Comparable<T>> ConstantTermImpl<T> encodeConstant(T object, boolean symbolic, IntFunction<ConstantTermImpl<T>> factory) {
+		return (ConstantTermImpl<T>) encode(new ConstantKey(object, symbolic), factory);
+	}
+
+	static FunctionTermImpl encodeFunction(int symbolId, int[] argumentIds, IntFunction<FunctionTermImpl> factory) {
+		return (FunctionTermImpl) encode(new FunctionKey(symbolId, argumentIds), factory);
+	}
+
+	private static AbstractTerm encode(Object key, IntFunction<? extends AbstractTerm> factory) {
+		AbstractTerm term = TERMS_BY_KEY.get(key);
+		if (term != null) {
+			return term;
+		}
+		return TERMS_BY_KEY.computeIfAbsent(key, k -> TERMS.get(TERMS.add(factory)));
+	}
+
+	/**
+	 * An append-only table mapping dense ids to values. Values are stored in fixed-size chunks such that growing the
+	 * table never copies stored values and readers need no locking.
+	 */
+	private static final class DenseTable<V> {
+		private static final int CHUNK_BITS = 12;
+		private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+		private volatile Object[][] chunks = new Object[16][];
+		private volatile int size;
+
+		synchronized int add(IntFunction<? extends V> factory) {
+			int id = size;
+			int chunk = id >>> CHUNK_BITS;
+			Object[][] current = chunks;
+			if (chunk >= current.length) {
+				current = Arrays.copyOf(current, current.length * 2);
+			}
+			if (current[chunk] == null) {
+				current[chunk] = new Object[CHUNK_SIZE];
+			}
+			current[chunk][id & (CHUNK_SIZE - 1)] = factory.apply(id);
+			chunks = current;
+			size = id + 1;
+			return id;
+		}
+
+		@SuppressWarnings("unchecked")
+		V get(int id) {
+			if (id < 0 || id >= size) {
+				throw new IllegalArgumentException("Unknown id " + id + ".");
+			}
+			return (V) chunks[id >>> CHUNK_BITS][id & (CHUNK_SIZE - 1)];
+		}
+
+		int size() {
+			return size;
+		}
+	}
+
+	private static final class ConstantKey {
+		private final Object object;
+		private final boolean symbolic;
+
+		ConstantKey(Object object, boolean symbolic) {
+			this.object = object;
+			this.symbolic = symbolic;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof ConstantKey)) {
+				return false;
+			}
+			ConstantKey that = (ConstantKey) o;
+			return symbolic == that.symbolic && object.equals(that.object);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * object.hashCode() + (symbolic ? 1 : 0);
+		}
+	}
+
+	private static final class FunctionKey {
+		private final int symbolId;
+		private final int[] argumentIds;
+
+		FunctionKey(int symbolId, int[] argumentIds) {
+			this.symbolId = symbolId;
+			this.argumentIds = argumentIds;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof FunctionKey)) {
+				return false;
+			}
+			FunctionKey that = (FunctionKey) o;
+			return symbolId == that.symbolId && Arrays.equals(argumentIds, that.argumentIds);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * symbolId + Arrays.hashCode(argumentIds);
+		}
+	}
+}
@@ -34,6 +34,7 @@
 import at.ac.tuwien.kr.alpha.api.programs.terms.FunctionTerm;
 import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
 import at.ac.tuwien.kr.alpha.api.programs.terms.VariableTerm;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.TermDictionary;
 import at.ac.tuwien.kr.alpha.commons.util.Util;
 
 import java.util.List;
@@ -115,16 +116,20 @@ boolean unifyTerms(Term termNonGround, Term termGround, Substitution partialSubs
 				// Record new variable binding.
 				if (updatedSubstitution == null) {
 					// Clone substitution if it was not yet updated.
-					updatedSubstitution = new BasicSubstitution(partialSubstitution);
+					updatedSubstitution = Substitutions.copyOf(partialSubstitution);
 				}
 				updatedSubstitution.put(variableTerm, termGround);
 				return true;
 			} else if (termNonGround instanceof FunctionTerm && termGround instanceof FunctionTerm) {
 				// Both terms are function terms
+				if (TermDictionary.isEncoded(termNonGround)) {
+					// Distinct encoded terms are never equal.
+					return false;
+				}
 				FunctionTerm ftNonGround = (FunctionTerm) termNonGround;
 				FunctionTerm ftGround = (FunctionTerm) termGround;
 
-				if (!(ftNonGround.getSymbol().equals(ftGround.getSymbol()))) {
+				if (TermDictionary.getSymbolId(ftNonGround) != TermDictionary.getSymbolId(ftGround)) {
 					return false;
 				}
 				if (ftNonGround.getTerms().size() != ftGround.getTerms().size()) {
@@ -226,6 +231,9 @@ public boolean equals(Object o) {
 		if (this == o) {
 			return true;
 		}
+		if (o instanceof SlotSubstitution && getClass() == BasicSubstitution.class) {
+			return o.equals(this);
+		}
 		if (o == null || getClass() != o.getClass()) {
 			return false;
 		}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.commons.substitutions;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+import at.ac.tuwien.kr.alpha.api.grounder.Substitution;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.api.programs.terms.ConstantTerm;
+import at.ac.tuwien.kr.alpha.api.programs.terms.FunctionTerm;
+import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
+import at.ac.tuwien.kr.alpha.api.programs.terms.VariableTerm;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.TermDictionary;
+import at.ac.tuwien.kr.alpha.commons.util.Util;
+
+/**
+ * A substitution for the variables of a single rule, storing the ground term of each variable in a fixed slot given by
+ * the {@link VariableNumbering} of the rule.
+ *
+ * Every binding is recorded on a trail, hence a substitution can be extended in place and later be reset to an earlier
+ * state using {@link #mark()} and {@link #undo(int)}. This allows joins to try candidate instances without allocating a
+ * new substitution for each attempt. Substitutions that need to outlive such a backtracking step must be copied using
+ * {@link #copy()}.
+ *
+ * Equality and hash codes are compatible with {@link BasicSubstitution}, i.e., a {@link SlotSubstitution} equals a
+ * {@link BasicSubstitution} mapping the same variables to the same terms.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class SlotSubstitution implements Substitution, Comparable<SlotSubstitution> {
+
+	private final VariableNumbering numbering;
+	private final Term[] slots;
+	private final int[] trail;
+	private int trailSize;
+
+	public SlotSubstitution(VariableNumbering numbering) {
+		this.numbering = numbering;
+		this.slots = new Term[numbering.size()];
+		this.trail = new int[numbering.size()];
+	}
+
+	private SlotSubstitution(SlotSubstitution original) {
+		this.numbering = original.numbering;
+		this.slots = original.slots.clone();
+		this.trail = original.trail.clone();
+		this.trailSize = original.trailSize;
+	}
+
+	/**
+	 * Returns an independent copy of this substitution.
+	 */
+	public SlotSubstitution copy() {
+		return new SlotSubstitution(this);
+	}
+
+	public VariableNumbering getNumbering() {
+		return numbering;
+	}
+
+	/**
+	 * Returns a marker for the current state of this substitution, to be passed to {@link #undo(int)}.
+	 */
+	public int mark() {
+		return trailSize;
+	}
+
+	/**
+	 * Removes all bindings made since the given marker was obtained.
+	 */
+	public void undo(int mark) {
+		while (trailSize > mark) {
+			slots[trail[--trailSize]] = null;
+		}
+	}
+
+	@Override
+	public Term eval(VariableTerm variableTerm) {
+		int index = numbering.indexOf(variableTerm);
+		return index < 0 ? null : slots[index];
+	}
+
+	@Override
+	public <T extends Comparable<T>> Term put(VariableTerm variableTerm, Term groundTerm) {
+		if (!groundTerm.isGround()) {
+			throw Util.oops("Right-hand term is not ground.");
+		}
+		int index = numbering.indexOf(variableTerm);
+		if (index < 0) {
+			throw Util.oops("Variable " + variableTerm + " does not occur in variable numbering " + numbering);
+		}
+		Term alreadyAssigned = slots[index];
+		if (alreadyAssigned != null) {
+			if (alreadyAssigned != groundTerm) {
+				throw Util.oops("Variable is already assigned to another term.");
+			}
+			return alreadyAssigned;
+		}
+		bind(index, groundTerm);
+		return null;
+	}
+
+	private void bind(int index, Term groundTerm) {
+		slots[index] = groundTerm;
+		trail[trailSize++] = index;
+	}
+
+	@Override
+	public boolean isVariableSet(VariableTerm variable) {
+		return eval(variable) != null;
+	}
+
+	/**
+	 * Extends this substitution in place such that applying it to the given atom yields the given instance. If no
+	 * such extension exists, this substitution is left unchanged.
+	 *
+	 * @return true iff the atom could be unified with the instance.
+	 */
+	public boolean specialize(Atom atom, Instance instance) {
+		int mark = mark();
+		List<Term> terms = atom.getTerms();
+		for (int i = 0; i < terms.size(); i++) {
+			if (!unifyTerms(terms.get(i), instance.terms.get(i))) {
+				undo(mark);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean unifyTerms(Term termNonGround, Term termGround) {
+		if (termNonGround == termGround) {
+			return true;
+		} else if (termNonGround instanceof ConstantTerm) {
+			return false;
+		} else if (termNonGround instanceof VariableTerm) {
+			int index = numbering.indexOf((VariableTerm) termNonGround);
+			if (index < 0) {
+				throw Util.oops("Variable " + termNonGround + " does not occur in variable numbering " + numbering);
+			}
+			Term bound = slots[index];
+			if (bound != null) {
+				return bound == termGround;
+			}
+			bind(index, termGround);
+			return true;
+		} else if (termNonGround instanceof FunctionTerm && termGround instanceof FunctionTerm) {
+			if (TermDictionary.isEncoded(termNonGround)) {
+				// Distinct encoded terms are never equal.
+				return false;
+			}
+			FunctionTerm ftNonGround = (FunctionTerm) termNonGround;
+			FunctionTerm ftGround = (FunctionTerm) termGround;
+			if (TermDictionary.getSymbolId(ftNonGround) != TermDictionary.getSymbolId(ftGround)
+					|| ftNonGround.getTerms().size() != ftGround.getTerms().size()) {
+				return false;
+			}
+			for (int i = 0; i < ftNonGround.getTerms().size(); i++) {
+				if (!unifyTerms(ftNonGround.getTerms().get(i), ftGround.getTerms().get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public TreeMap<VariableTerm, Term> getSubstitution() {
+		TreeMap<VariableTerm, Term> substitution = new TreeMap<>();
+		for (int i = 0; i < slots.length; i++) {
+			if (slots[i] != null) {
+				substitution.put(numbering.getVariable(i), slots[i]);
+			}
+		}
+		return substitution;
+	}
+
+	/**
+	 * Compares substitutions over the same variable numbering slot by slot, unbound slots ordered first.
+	 */
+	@Override
+	public int compareTo(SlotSubstitution other) {
+		if (numbering != other.numbering) {
+			throw Util.oops("Comparing substitutions over different variable numberings: " + numbering + " != " + other.numbering);
+		}
+		for (int i = 0; i < slots.length; i++) {
+			Term thisTerm = slots[i];
+			Term otherTerm = other.slots[i];
+			if (thisTerm == otherTerm) {
+				continue;
+			}
+			if (thisTerm == null || otherTerm == null) {
+				return thisTerm == null ? -1 : 1;
+			}
+			int compare = thisTerm.compareTo(otherTerm);
+			if (compare != 0) {
+				return compare;
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder ret = new StringBuilder("{");
+		boolean isFirst = true;
+		for (int i = 0; i < slots.length; i++) {
+			if (slots[i] == null) {
+				continue;
+			}
+			if (isFirst) {
+				isFirst = false;
+			} else {
+				ret.append(",");
+			}
+			ret.append(numbering.getVariable(i)).append("->").append(slots[i]);
+		}
+		ret.append("}");
+		return ret.toString();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o instanceof SlotSubstitution && ((SlotSubstitution) o).numbering == numbering) {
+			return Arrays.equals(slots, ((SlotSubstitution) o).slots);
+		}
+		if (o instanceof BasicSubstitution && !(o instanceof Unifier) || o instanceof SlotSubstitution) {
+			return getSubstitution().equals(((Substitution) o).getSubstitution());
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		// Same as the hash code of the equivalent TreeMap used by BasicSubstitution.
+		int hash = 0;
+		for (int i = 0; i < slots.length; i++) {
+			if (slots[i] != null) {
+				hash += numbering.getVariable(i).hashCode() ^ slots[i].hashCode();
+			}
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.commons.substitutions;
+
+import at.ac.tuwien.kr.alpha.api.grounder.Substitution;
+
+/**
+ * Convenience methods for {@link Substitution}s.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public final class Substitutions {
+
+	/**
+	 * Since this is purely a utility class, it may not be instantiated.
+	 *
+	 * @throws AssertionError if called
+	 */
+	private Substitutions() {
+		throw new AssertionError(Substitutions.class.getSimpleName() + " is a non-instantiable utility class!");
+	}
+
+	/**
+	 * Returns a copy of the given substitution that can be extended without affecting the original. The copy keeps the
+	 * representation of the original, i.e., copies of {@link SlotSubstitution}s are again {@link SlotSubstitution}s.
+	 */
+	public static Substitution copyOf(Substitution substitution) {
+		if (substitution instanceof SlotSubstitution) {
+			return ((SlotSubstitution) substitution).copy();
+		}
+		return new BasicSubstitution(substitution);
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.commons.substitutions;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import at.ac.tuwien.kr.alpha.api.programs.terms.VariableTerm;
+
+/**
+ * Assigns each variable of a rule a fixed slot index, such that substitutions for the rule can be stored in an array
+ * (see {@link SlotSubstitution}). Slots are numbered in the natural order of the variables, i.e., iterating slots in
+ * ascending order yields variables in the same order as iterating a {@link BasicSubstitution}.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public final class VariableNumbering {
+
+	// For few variables a linear scan by reference is faster than hashing (variable terms are interned).
+	private static final int MAX_VARIABLES_FOR_LINEAR_SCAN = 8;
+
+	private final VariableTerm[] variables;
+	private final Map<VariableTerm, Integer> indices;
+
+	public VariableNumbering(Collection<VariableTerm> variables) {
+		this.variables = new TreeSet<>(variables).toArray(new VariableTerm[0]);
+		if (this.variables.length > MAX_VARIABLES_FOR_LINEAR_SCAN) {
+			indices = new HashMap<>();
+			for (int i = 0; i < this.variables.length; i++) {
+				indices.put(this.variables[i], i);
+			}
+		} else {
+			indices = null;
+		}
+	}
+
+	/**
+	 * Returns the slot index of the given variable, or -1 if the variable is not numbered.
+	 */
+	public int indexOf(VariableTerm variable) {
+		if (indices != null) {
+			Integer index = indices.get(variable);
+			return index == null ? -1 : index;
+		}
+		for (int i = 0; i < variables.length; i++) {
+			if (variables[i] == variable) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public VariableTerm getVariable(int index) {
+		return variables[index];
+	}
+
+	public int size() {
+		return variables.length;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(variables);
+	}
+}
@@ -2,32 +2,39 @@
 
 import static at.ac.tuwien.kr.alpha.commons.util.Util.oops;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Generates unique, sequential integers starting at 0, i.e., it maintains a counter that is incremented for each getNextId().
+ * Generators may be shared between threads, e.g., by the workers of a solver portfolio.
  * Copyright (c) 2016, the Alpha Team.
  */
 public class IntIdGenerator implements IdGenerator<Integer> {
-	private int highestId;
+	private final AtomicInteger highestId;
 
 	public IntIdGenerator() {
 		this(0);
 	}
 
 	public IntIdGenerator(int initial) {
-		this.highestId = initial;
+		this.highestId = new AtomicInteger(initial);
 	}
 
 	public Integer getNextId() {
-		if (highestId == Integer.MAX_VALUE) {
-			throw oops("Ran out of IDs (integer overflow)");
-		}
-		return highestId++;
+		int id;
+		do {
+			id = highestId.get();
+			if (id == Integer.MAX_VALUE) {
+				throw oops("Ran out of IDs (integer overflow)");
+			}
+		} while (!highestId.compareAndSet(id, id + 1));
+		return id;
 	}
 
 	/**
 	 * Resets the internal counter. Useful for resetting before each test.
 	 */
 	public void resetGenerator() {
-		highestId = 0;
+		highestId.set(0);
 	}
 }
@@ -1,26 +1,44 @@
 package at.ac.tuwien.kr.alpha.commons.util;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.WeakHashMap;
 
+/**
+ * Interns objects such that equal objects are represented by the same instance. The pool is split into independently
+ * locked segments (selected by hash code), hence threads interning different objects rarely contend for the same lock.
+ */
 public class Interner<T> {
-	private WeakHashMap<T, WeakReference<T>> pool = new WeakHashMap<>();
+	private static final int NUM_SEGMENTS = 64;
 
-	public synchronized T intern(T object) {
-		T res;
-		// (The loop is needed to deal with race
-		// conditions where the GC runs while we are
-		// accessing the 'pool' map or the 'ref' object.)
-		do {
-			WeakReference<T> ref = pool.get(object);
-			if (ref == null) {
-				ref = new WeakReference<>(object);
-				pool.put(object, ref);
-				res = object;
-			} else {
-				res = ref.get();
-			}
-		} while (res == null);
-		return res;
+	private final List<WeakHashMap<T, WeakReference<T>>> segments = new ArrayList<>(NUM_SEGMENTS);
+
+	public Interner() {
+		for (int i = 0; i < NUM_SEGMENTS; i++) {
+			segments.add(new WeakHashMap<>());
+		}
+	}
+
+	public T intern(T object) {
+		int hash = object.hashCode();
+		WeakHashMap<T, WeakReference<T>> pool = segments.get((hash ^ (hash >>> 16)) & (NUM_SEGMENTS - 1));
+		synchronized (pool) {
+			T res;
+			// (The loop is needed to deal with race
+			// conditions where the GC runs while we are
+			// accessing the 'pool' map or the 'ref' object.)
+			do {
+				WeakReference<T> ref = pool.get(object);
+				if (ref == null) {
+					ref = new WeakReference<>(object);
+					pool.put(object, ref);
+					res = object;
+				} else {
+					res = ref.get();
+				}
+			} while (res == null);
+			return res;
+		}
 	}
-}
\ No newline at end of file
+}
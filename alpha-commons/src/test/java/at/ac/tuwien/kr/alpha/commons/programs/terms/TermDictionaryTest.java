@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.commons.programs.terms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import at.ac.tuwien.kr.alpha.api.programs.terms.FunctionTerm;
+import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
+
+/**
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class TermDictionaryTest {
+
+	@Test
+	public void groundTermsReceiveDistinctIdsMappingBackToTerms() {
+		Term one = Terms.newConstant(1);
+		Term oneString = Terms.newConstant("1");
+		Term oneSymbol = Terms.newSymbolicConstant("one");
+		Term function = Terms.newFunctionTerm("f", one, Terms.newFunctionTerm("g", oneSymbol));
+
+		int oneId = TermDictionary.getId(one);
+		assertEquals(oneId, TermDictionary.getId(Terms.newConstant(1)));
+		assertNotEquals(oneId, TermDictionary.getId(Terms.newSymbolicConstant("1")));
+		assertNotEquals(TermDictionary.getId(oneSymbol), TermDictionary.getId(Terms.newSymbolicConstant("two")));
+		assertFalse(TermDictionary.isEncoded(oneString));
+		assertNotEquals(oneSymbol, Terms.newConstant("one"));
+
+		for (Term term : new Term[] {one, oneSymbol, function}) {
+			int id = TermDictionary.getId(term);
+			assertTrue(id < TermDictionary.size());
+			assertSame(term, TermDictionary.getTerm(id));
+		}
+		assertSame(function, Terms.newFunctionTerm("f", Terms.newConstant(1), Terms.newFunctionTerm("g", Terms.newSymbolicConstant("one"))));
+		assertEquals("f", TermDictionary.getSymbol(TermDictionary.getSymbolId((FunctionTerm) function)));
+	}
+
+	@Test
+	public void nonGroundAndUnevaluatedTermsAreNotEncoded() {
+		Term variable = Terms.newVariable("X");
+		Term nonGroundFunction = Terms.newFunctionTerm("f", variable);
+		Term unevaluatedFunction = Terms.newFunctionTerm("f", Terms.newIntervalTerm(Terms.newConstant(1), Terms.newConstant(3)));
+
+		assertFalse(TermDictionary.isEncoded(variable));
+		assertFalse(TermDictionary.isEncoded(nonGroundFunction));
+		assertFalse(TermDictionary.isEncoded(unevaluatedFunction));
+		assertThrows(IllegalArgumentException.class, () -> TermDictionary.getId(nonGroundFunction));
+		assertSame(nonGroundFunction, Terms.newFunctionTerm("f", Terms.newVariable("X")));
+		assertTrue(unevaluatedFunction.isGround());
+		assertSame(unevaluatedFunction, Terms.newFunctionTerm("f", Terms.newIntervalTerm(Terms.newConstant(1), Terms.newConstant(3))));
+		assertNotEquals(unevaluatedFunction, Terms.newFunctionTerm("f", Terms.newConstant(1)));
+	}
+
+	@Test
+	public void objectConstantsAreInternedWithoutGrowingDictionary() {
+		int size = TermDictionary.size();
+		Term string = Terms.newConstant("quoted");
+		Term object = Terms.newConstant(new ObjectConstant(42));
+		Term function = Terms.newFunctionTerm("f", object);
+
+		assertFalse(TermDictionary.isEncoded(string));
+		assertFalse(TermDictionary.isEncoded(object));
+		assertFalse(TermDictionary.isEncoded(function));
+		assertSame(string, Terms.newConstant("quoted"));
+		assertSame(object, Terms.newConstant(new ObjectConstant(42)));
+		assertSame(function, Terms.newFunctionTerm("f", Terms.newConstant(new ObjectConstant(42))));
+		assertNotEquals(object, Terms.newConstant(new ObjectConstant(43)));
+		assertEquals(size, TermDictionary.size());
+	}
+
+	private static final class ObjectConstant implements Comparable<ObjectConstant> {
+		private final int value;
+
+		ObjectConstant(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public int compareTo(ObjectConstant other) {
+			return Integer.compare(value, other.value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof ObjectConstant && ((ObjectConstant) o).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return value;
+		}
+	}
+
+}
@@ -1,6 +1,8 @@
 plugins {
 	id("antlr")
 	id("alpha.java-library-conventions")
+	// 0.6.x is the line of the plugin supporting Gradle 7.
+	id("me.champeau.jmh") version "0.6.8"
 }
 
 val antlrVersion = "4.7"
@@ -20,6 +22,14 @@ dependencies {
 	implementation("org.antlr:ST4:${stringtemplateVersion}")
 }
 
+// Microbenchmarks in src/jmh/java, run with `./gradlew :alpha-core:jmh`.
+jmh {
+	jmhVersion.set("1.37")
+	fork.set(1)
+	warmupIterations.set(3)
+	iterations.set(5)
+}
+
 //tasks.withType(AntlrTask) {
 tasks.generateGrammarSource {
 	// See https://github.com/antlr/antlr4/blob/master/doc/tool-options.md
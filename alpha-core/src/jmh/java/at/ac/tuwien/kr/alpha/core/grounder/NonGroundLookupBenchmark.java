@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.grounder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import at.ac.tuwien.kr.alpha.api.programs.Predicate;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.commons.Predicates;
+import at.ac.tuwien.kr.alpha.commons.programs.atoms.Atoms;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
+import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
+
+/**
+ * Compares looking up all candidate instances of a large unary predicate (as done for every partial substitution
+ * joining with an atom that has no ground term) by copying the whole extension of the predicate, as earlier versions
+ * of the storages did, with iterating the view returned by
+ * {@link InstanceStorage#getInstancesFromPartiallyGroundAtom(Atom)}.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NonGroundLookupBenchmark {
+
+	private static final Predicate PREDICATE = Predicates.getPredicate("dom", 1);
+
+	@Param({"10000", "100000", "1000000"})
+	private int numInstances;
+
+	@Param({"indexed", "columnar"})
+	private String storageType;
+
+	private InstanceStorage storage;
+	private Atom query;
+
+	@Setup
+	public void setUp() {
+		storage = "columnar".equals(storageType) ? new ColumnarInstanceStorage(PREDICATE, true) : new IndexedInstanceStorage(PREDICATE, true);
+		for (int i = 0; i < numInstances; i++) {
+			storage.addInstance(new Instance(Terms.newConstant(i)));
+		}
+		storage.markRecentlyAddedInstancesDone();
+		query = Atoms.newBasicAtom(PREDICATE, Terms.newVariable("X"));
+	}
+
+	@Benchmark
+	public void copyAllInstances(Blackhole blackhole) {
+		List<Instance> candidates = new ArrayList<>(storage.getAllInstances());
+		for (Instance candidate : candidates) {
+			blackhole.consume(candidate);
+		}
+	}
+
+	@Benchmark
+	public void iterateBoundedView(Blackhole blackhole) {
+		for (Instance candidate : storage.getInstancesFromPartiallyGroundAtom(query)) {
+			blackhole.consume(candidate);
+		}
+	}
+
+}
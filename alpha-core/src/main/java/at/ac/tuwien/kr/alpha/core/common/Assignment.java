@@ -106,6 +106,21 @@ default boolean isUndefined(NoGood noGood) {
 	 */
 	int getRealWeakDecisionLevel(int atom);
 
+	/**
+	 * Returns the truth value the given atom had when it was last unassigned by backtracking (phase saving).
+	 * @param atom the atom.
+	 * @return the saved truth value of the atom, or null if the atom has never been unassigned.
+	 */
+	ThriceTruth getSavedPhase(int atom);
+
+	/**
+	 * Returns the truth value the given atom had in the largest conflict-free assignment recorded so far.
+	 * @param atom the atom.
+	 * @return the target truth value of the atom, or null if it is not part of the recorded assignment or target
+	 * phases are not tracked.
+	 */
+	ThriceTruth getTargetPhase(int atom);
+
 	interface Pollable {
 		int peek();
 		int remove();
@@ -83,6 +83,24 @@ public interface AtomStore {
 	 */
 	boolean contains(Atom groundAtom);
 
+	/**
+	 * Returns whether this store supports releasing atom IDs via {@link #releaseAtomId(int)}.
+	 * @return true if atom IDs can be released.
+	 */
+	default boolean canReleaseAtomIds() {
+		return false;
+	}
+
+	/**
+	 * Removes the atom with the given ID from the store. The caller must ensure that the atom is not referenced
+	 * anywhere any more, the ID may be assigned to another atom afterwards. Until then, {@link #get(int)} returns
+	 * null for the released ID.
+	 * @param atom the ID of the atom to release.
+	 */
+	default void releaseAtomId(int atom) {
+		throw new UnsupportedOperationException("Releasing atom IDs is not supported by " + getClass().getSimpleName() + ".");
+	}
+
 	String atomToString(int atom);
 
 	default String literalToString(int literal) {
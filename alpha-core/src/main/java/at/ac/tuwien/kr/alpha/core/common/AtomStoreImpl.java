@@ -49,8 +49,6 @@ public class AtomStoreImpl implements AtomStore {
 	private final IntIdGenerator atomIdGenerator = new IntIdGenerator(1);
 	private final AtomCounter atomCounter = new AtomCounter();
 
-	private final List<Integer> releasedAtomIds = new ArrayList<>();	// contains atomIds ready to be garbage collected if necessary.
-
 	public AtomStoreImpl() {
 		// Create atomId for falsum (currently not needed, but it gets atomId 0, which cannot represent a negated literal).
 		atomIdsToInternalBasicAtoms.add(null);
@@ -79,15 +77,6 @@ public boolean contains(Atom groundAtom) {
 		return predicateInstancesToAtomIds.containsKey(groundAtom);
 	}
 
-	/**
-	 * Removes the given atom from the AtomStoreImpl.
-	 * @param atomId
-	 */
-	public void releaseAtomId(int atomId) {
-		releasedAtomIds.add(atomId);
-		// HINT: Additionally removing the terms used in the instance might be beneficial in some cases.
-	}
-
 	public String printAtomIdTermMapping() {
 		StringBuilder ret = new StringBuilder();
 		for (Map.Entry<Atom, Integer> entry : predicateInstancesToAtomIds.entrySet()) {
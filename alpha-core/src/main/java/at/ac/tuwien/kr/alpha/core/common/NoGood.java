@@ -32,7 +32,6 @@
 
 import java.util.Arrays;
 import java.util.Iterator;
-import java.util.List;
 import java.util.stream.IntStream;
 
 import static at.ac.tuwien.kr.alpha.core.common.NoGoodInterface.Type.INTERNAL;
@@ -113,33 +112,22 @@ public static NoGood support(int headLiteral, int bodyRepresentingLiteral) {
 		return new NoGood(SUPPORT, headLiteral, negateLiteral(bodyRepresentingLiteral));
 	}
 
-	public static NoGood fromConstraint(List<Integer> posLiterals, List<Integer> negLiterals) {
-		return new NoGood(addPosNeg(new int[posLiterals.size() + negLiterals.size()], posLiterals, negLiterals, 0));
+	public static NoGood fromConstraint(NoGoodBuilder body) {
+		return new NoGood(body.toLiterals(0));
 	}
-	
-	public static NoGood fromBody(List<Integer> posLiterals, List<Integer> negLiterals, int bodyRepresentingLiteral) {
-		return fromBody(STATIC, posLiterals, negLiterals, bodyRepresentingLiteral);
-	}
-	
-	public static NoGood fromBodyInternal(List<Integer> posLiterals, List<Integer> negLiterals, int bodyRepresentingLiteral) {
-		return fromBody(INTERNAL, posLiterals, negLiterals, bodyRepresentingLiteral);
+
+	public static NoGood fromBody(NoGoodBuilder body, int bodyRepresentingLiteral) {
+		return fromBody(STATIC, body, bodyRepresentingLiteral);
 	}
 
-	public static NoGood fromBody(Type type, List<Integer> posLiterals, List<Integer> negLiterals, int bodyRepresentingLiteral) {
-		int[] bodyLiterals = new int[posLiterals.size() + negLiterals.size() + 1];
-		bodyLiterals[0] = negateLiteral(bodyRepresentingLiteral);
-		return NoGood.headFirst(type, addPosNeg(bodyLiterals, posLiterals, negLiterals, 1));
+	public static NoGood fromBodyInternal(NoGoodBuilder body, int bodyRepresentingLiteral) {
+		return fromBody(INTERNAL, body, bodyRepresentingLiteral);
 	}
 
-	private static int[] addPosNeg(int[] literals, List<Integer> posLiterals, List<Integer> negLiterals, int offset) {
-		int i = offset;
-		for (Integer literal : posLiterals) {
-			literals[i++] = literal;
-		}
-		for (Integer literal : negLiterals) {
-			literals[i++] = negateLiteral(literal);
-		}
-		return literals;
+	public static NoGood fromBody(Type type, NoGoodBuilder body, int bodyRepresentingLiteral) {
+		int[] bodyLiterals = body.toLiterals(1);
+		bodyLiterals[0] = negateLiteral(bodyRepresentingLiteral);
+		return NoGood.headFirst(type, bodyLiterals);
 	}
 
 	@Override
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.common;
+
+import static at.ac.tuwien.kr.alpha.commons.util.Util.arrayGrowthSize;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.negateLiteral;
+
+import java.util.Arrays;
+
+/**
+ * Collects the positive and negative body literals of a ground rule in primitive int arrays, from which the
+ * {@link NoGood}s of the rule are built via {@link NoGood#fromBody(NoGoodBuilder, int)} and
+ * {@link NoGood#fromConstraint(NoGoodBuilder)}.
+ *
+ * A builder is meant to be reused for many ground rules, calling {@link #reset()} before collecting the literals of
+ * the next one, hence no boxed lists are allocated per ground rule.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class NoGoodBuilder {
+	private static final int INITIAL_CAPACITY = 8;
+
+	private int[] positiveLiterals = new int[INITIAL_CAPACITY];
+	private int numPositiveLiterals;
+	private int[] negativeLiterals = new int[INITIAL_CAPACITY];
+	private int numNegativeLiterals;
+
+	/**
+	 * Removes all collected literals.
+	 */
+	public NoGoodBuilder reset() {
+		numPositiveLiterals = 0;
+		numNegativeLiterals = 0;
+		return this;
+	}
+
+	/**
+	 * Adds the literal of an atom occurring positively in the body.
+	 */
+	public void addPositive(int literal) {
+		if (numPositiveLiterals == positiveLiterals.length) {
+			positiveLiterals = Arrays.copyOf(positiveLiterals, arrayGrowthSize(positiveLiterals.length));
+		}
+		positiveLiterals[numPositiveLiterals++] = literal;
+	}
+
+	/**
+	 * Adds the (positive) literal of an atom occurring negatively in the body.
+	 */
+	public void addNegative(int literal) {
+		if (numNegativeLiterals == negativeLiterals.length) {
+			negativeLiterals = Arrays.copyOf(negativeLiterals, arrayGrowthSize(negativeLiterals.length));
+		}
+		negativeLiterals[numNegativeLiterals++] = literal;
+	}
+
+	public int getNumberOfPositiveLiterals() {
+		return numPositiveLiterals;
+	}
+
+	public int getPositiveLiteral(int index) {
+		return positiveLiterals[index];
+	}
+
+	public int getNumberOfNegativeLiterals() {
+		return numNegativeLiterals;
+	}
+
+	public int getNegativeLiteral(int index) {
+		return negativeLiterals[index];
+	}
+
+	/**
+	 * Returns a new array holding the positive literals followed by the negated negative literals, preceded by the
+	 * given number of free positions.
+	 */
+	public int[] toLiterals(int offset) {
+		int[] literals = new int[offset + numPositiveLiterals + numNegativeLiterals];
+		System.arraycopy(positiveLiterals, 0, literals, offset, numPositiveLiterals);
+		int i = offset + numPositiveLiterals;
+		for (int j = 0; j < numNegativeLiterals; j++) {
+			literals[i++] = negateLiteral(negativeLiterals[j]);
+		}
+		return literals;
+	}
+
+	/**
+	 * Returns a new array holding the positive literals only, preceded by the given number of free positions.
+	 */
+	public int[] toPositiveLiterals(int offset) {
+		int[] literals = new int[offset + numPositiveLiterals];
+		System.arraycopy(positiveLiterals, 0, literals, offset, numPositiveLiterals);
+		return literals;
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.common;
+
+import static at.ac.tuwien.kr.alpha.commons.util.Util.arrayGrowthSize;
+import static at.ac.tuwien.kr.alpha.commons.util.Util.oops;
+
+import java.util.Arrays;
+import java.util.List;
+
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.TermDictionary;
+import at.ac.tuwien.kr.alpha.core.programs.atoms.RuleAtom;
+import at.ac.tuwien.kr.alpha.core.solver.AtomCounter;
+
+/**
+ * An {@link AtomStore} that looks up atoms in an open-addressing hash table of primitive atom ids.
+ *
+ * Atoms are keyed by their predicate and the {@link TermDictionary} ids of their terms, hence looking up an atom
+ * neither hashes nor compares nested term structures, and no boxed ids or map entries are kept per atom. The table
+ * uses linear probing and holds atom ids only, the atoms themselves and the hashes of their keys are kept in arrays
+ * indexed by atom id.
+ *
+ * Atom ids can be released once an atom is not referenced anywhere any more (see {@link #releaseAtomId(int)}),
+ * released ids are assigned again to atoms stored later on.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class OpenAddressingAtomStore implements AtomStore {
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * The atoms by their id, null for id 0 (which represents no atom) and for released ids.
+	 */
+	private Atom[] atoms = new Atom[INITIAL_CAPACITY];
+
+	/**
+	 * The hashes of the keys of the atoms by their id.
+	 */
+	private int[] keyHashes = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Hash table with linear probing holding the ids of all stored atoms; zero marks an empty slot.
+	 */
+	private int[] table = new int[2 * INITIAL_CAPACITY];
+
+	private int maxAtomId;
+	private int numberOfAtoms;
+	private int[] releasedAtomIds = new int[0];
+	private int numberOfReleasedAtomIds;
+
+	private final AtomCounter atomCounter = new AtomCounter();
+
+	private static int mix(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		hash ^= hash >>> 16;
+		return hash;
+	}
+
+	/**
+	 * Hashes the predicate of an atom and the dictionary ids of its terms. Terms not encoded in the dictionary
+	 * contribute their ordinary hash code. {@link RuleAtom}s carry a precomputed hash of their encoded substitution.
+	 */
+	private static int keyHash(Atom atom) {
+		if (atom instanceof RuleAtom) {
+			return mix(atom.hashCode());
+		}
+		int hash = atom.getPredicate().hashCode();
+		for (Term term : atom.getTerms()) {
+			int termId = TermDictionary.getIdOrNoId(term);
+			hash = 31 * hash + (termId != TermDictionary.NO_ID ? termId : term.hashCode());
+		}
+		return mix(hash);
+	}
+
+	/**
+	 * Compares two atoms by their type, predicate and terms, where terms encoded in the dictionary are compared by
+	 * their ids.
+	 */
+	private static boolean keyEquals(Atom stored, Atom atom) {
+		if (stored == atom) {
+			return true;
+		}
+		if (stored.getClass() != atom.getClass() || !stored.getPredicate().equals(atom.getPredicate())) {
+			return false;
+		}
+		if (atom instanceof RuleAtom) {
+			return stored.equals(atom);
+		}
+		List<Term> storedTerms = stored.getTerms();
+		List<Term> terms = atom.getTerms();
+		if (storedTerms.size() != terms.size()) {
+			return false;
+		}
+		for (int i = 0; i < terms.size(); i++) {
+			int storedTermId = TermDictionary.getIdOrNoId(storedTerms.get(i));
+			int termId = TermDictionary.getIdOrNoId(terms.get(i));
+			if (storedTermId != TermDictionary.NO_ID && termId != TermDictionary.NO_ID) {
+				if (storedTermId != termId) {
+					return false;
+				}
+			} else if (!storedTerms.get(i).equals(terms.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the id of the given atom, or 0 if it is not stored.
+	 */
+	private int findId(Atom atom, int hash) {
+		int mask = table.length - 1;
+		int slot = hash & mask;
+		int id;
+		while ((id = table[slot]) != 0) {
+			if (keyHashes[id] == hash && keyEquals(atoms[id], atom)) {
+				return id;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return 0;
+	}
+
+	private void insertIntoTable(int id) {
+		int mask = table.length - 1;
+		int slot = keyHashes[id] & mask;
+		while (table[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		table[slot] = id;
+	}
+
+	/**
+	 * Removes the given id from the table, shifting back entries of the same probe sequence.
+	 */
+	private void deleteFromTable(int id) {
+		int mask = table.length - 1;
+		int hole = keyHashes[id] & mask;
+		while (table[hole] != id) {
+			hole = (hole + 1) & mask;
+		}
+		int next = (hole + 1) & mask;
+		while (table[next] != 0) {
+			int home = keyHashes[table[next]] & mask;
+			if (((next - home) & mask) >= ((next - hole) & mask)) {
+				table[hole] = table[next];
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		table[hole] = 0;
+	}
+
+	private void rebuildTable(int capacity) {
+		table = new int[capacity];
+		for (int id = 1; id <= maxAtomId; id++) {
+			if (atoms[id] != null) {
+				insertIntoTable(id);
+			}
+		}
+	}
+
+	@Override
+	public int putIfAbsent(Atom groundAtom) {
+		if (!groundAtom.isGround()) {
+			throw new IllegalArgumentException("Atom must be ground: " + groundAtom);
+		}
+		int hash = keyHash(groundAtom);
+		int id = findId(groundAtom, hash);
+		if (id != 0) {
+			return id;
+		}
+
+		id = numberOfReleasedAtomIds > 0 ? releasedAtomIds[--numberOfReleasedAtomIds] : ++maxAtomId;
+		if (id >= atoms.length) {
+			int newCapacity = Math.max(arrayGrowthSize(atoms.length), id + 1);
+			atoms = Arrays.copyOf(atoms, newCapacity);
+			keyHashes = Arrays.copyOf(keyHashes, newCapacity);
+		}
+		atoms[id] = groundAtom;
+		keyHashes[id] = hash;
+		numberOfAtoms++;
+		if (2 * numberOfAtoms > table.length) {
+			rebuildTable(2 * table.length);
+		} else {
+			insertIntoTable(id);
+		}
+		atomCounter.add(groundAtom);
+		return id;
+	}
+
+	@Override
+	public boolean contains(Atom groundAtom) {
+		return findId(groundAtom, keyHash(groundAtom)) != 0;
+	}
+
+	@Override
+	public boolean canReleaseAtomIds() {
+		return true;
+	}
+
+	@Override
+	public void releaseAtomId(int atom) {
+		Atom releasedAtom = get(atom);
+		if (releasedAtom == null) {
+			throw oops("Releasing unknown atom ID: " + atom);
+		}
+		deleteFromTable(atom);
+		atoms[atom] = null;
+		numberOfAtoms--;
+		if (numberOfReleasedAtomIds == releasedAtomIds.length) {
+			releasedAtomIds = Arrays.copyOf(releasedAtomIds, Math.max(16, arrayGrowthSize(releasedAtomIds.length)));
+		}
+		releasedAtomIds[numberOfReleasedAtomIds++] = atom;
+		atomCounter.remove(releasedAtom);
+	}
+
+	/**
+	 * @return the number of atoms currently stored.
+	 */
+	public int getNumberOfAtoms() {
+		return numberOfAtoms;
+	}
+
+	@Override
+	public String atomToString(int atom) {
+		return get(atom).toString();
+	}
+
+	@Override
+	public boolean isAtomChoicePoint(int atom) {
+		return get(atom) instanceof RuleAtom;
+	}
+
+	@Override
+	public int getMaxAtomId() {
+		return maxAtomId;
+	}
+
+	@Override
+	public Atom get(int atom) {
+		if (atom < 0 || atom > maxAtomId) {
+			throw oops("Unknown atom ID encountered: " + atom);
+		}
+		return atoms[atom];
+	}
+
+	@Override
+	public int get(Atom atom) {
+		int id = findId(atom, keyHash(atom));
+		if (id == 0) {
+			throw oops("Unknown atom encountered: " + atom);
+		}
+		return id;
+	}
+
+	@Override
+	public AtomCounter getAtomCounter() {
+		return atomCounter;
+	}
+}
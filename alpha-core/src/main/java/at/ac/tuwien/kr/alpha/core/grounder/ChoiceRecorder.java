@@ -30,6 +30,7 @@
 import at.ac.tuwien.kr.alpha.commons.util.IntIdGenerator;
 import at.ac.tuwien.kr.alpha.core.common.AtomStore;
 import at.ac.tuwien.kr.alpha.core.common.NoGood;
+import at.ac.tuwien.kr.alpha.core.common.NoGoodBuilder;
 import at.ac.tuwien.kr.alpha.core.programs.atoms.RuleAtom;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -40,7 +41,6 @@
 import static at.ac.tuwien.kr.alpha.core.programs.atoms.ChoiceAtom.off;
 import static at.ac.tuwien.kr.alpha.core.programs.atoms.ChoiceAtom.on;
 import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.*;
-import static java.util.Collections.emptyList;
 
 public class ChoiceRecorder {
 	private static final IntIdGenerator ID_GENERATOR = new IntIdGenerator();
@@ -72,7 +72,7 @@ public Map<Integer, Set<Integer>> getAndResetHeadsToBodies() {
 	}
 
 	
-	public List<NoGood> generateChoiceNoGoods(final List<Integer> posLiterals, final List<Integer> negLiterals, final int bodyRepresentingLiteral) {
+	public List<NoGood> generateChoiceNoGoods(final NoGoodBuilder body, final int bodyRepresentingLiteral) {
 		// Obtain an ID for this new choice.
 		final int choiceId = ID_GENERATOR.getNextId();
 		final int bodyRepresentingAtom = atomOf(bodyRepresentingLiteral);
@@ -82,26 +82,29 @@ public List<NoGood> generateChoiceNoGoods(final List<Integer> posLiterals, final
 		final int choiceOffAtom = atomStore.putIfAbsent(off(choiceId));
 		newChoiceAtoms.getRight().put(bodyRepresentingAtom, choiceOffAtom);
 
-		final List<NoGood> noGoods = generateNeg(choiceOffAtom, negLiterals);
-		noGoods.add(generatePos(choiceOnAtom, posLiterals));
+		final List<NoGood> noGoods = generateNeg(choiceOffAtom, body);
+		noGoods.add(generatePos(choiceOnAtom, body));
 
 		return noGoods;
 	}
 	
-	private NoGood generatePos(final int atomOn, List<Integer> posLiterals) {
+	private NoGood generatePos(final int atomOn, NoGoodBuilder body) {
 		final int literalOn = atomToLiteral(atomOn);
 
-		return NoGood.fromBodyInternal(posLiterals, emptyList(), literalOn);
+		// Only the positive body is relevant for enabling the choice.
+		final int[] literals = body.toPositiveLiterals(1);
+		literals[0] = negateLiteral(literalOn);
+		return NoGood.headFirstInternal(literals);
 	}
 
-	private List<NoGood> generateNeg(final int atomOff, List<Integer> negLiterals)  {
+	private List<NoGood> generateNeg(final int atomOff, NoGoodBuilder body)  {
 		final int negLiteralOff = negateLiteral(atomToLiteral(atomOff));
 
-		final List<NoGood> noGoods = new ArrayList<>(negLiterals.size() + 1);
-		for (Integer negLiteral : negLiterals) {
+		final List<NoGood> noGoods = new ArrayList<>(body.getNumberOfNegativeLiterals() + 1);
+		for (int i = 0; i < body.getNumberOfNegativeLiterals(); i++) {
 			// Choice is off if any of the negative atoms is assigned true,
 			// hence we add one nogood for each such atom.
-			noGoods.add(NoGood.headFirstInternal(negLiteralOff, negLiteral));
+			noGoods.add(NoGood.headFirstInternal(negLiteralOff, body.getNegativeLiteral(i)));
 		}
 		return noGoods;
 	}
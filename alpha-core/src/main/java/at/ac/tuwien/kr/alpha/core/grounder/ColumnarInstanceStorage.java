@@ -0,0 +1,837 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.grounder;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import at.ac.tuwien.kr.alpha.api.programs.Predicate;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.TermDictionary;
+import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
+
+/**
+ * An {@link InstanceStorage} that keeps instances in columns of term ids rather than as {@link Instance} objects.
+ *
+ * Every instance is a row of the storage. The terms of a row are kept as {@link TermDictionary} ids in one int column
+ * per position. Containment is checked by an open-addressing hash table of row ids, and indices map the term ids at
+ * their positions to primitive lists of row ids. Apart from the columns and the hash table, no memory is used per
+ * instance unless it is indexed, which makes this storage well suited for predicates with many facts. {@link Instance}
+ * objects are only created for the instances returned by lookups.
+ *
+ * All terms of stored instances must be encoded in the {@link TermDictionary}, i.e., they must be built from symbolic
+ * and integer constants only. Facts containing quoted strings or Java objects are not encoded, hence grounders store
+ * predicates with such facts in an {@link IndexedInstanceStorage} instead. Removed rows are only marked as such and are
+ * reclaimed by compacting the storage once they make up half of it, hence removal takes constant (amortized) time. Rows
+ * are appended in the order instances are added, which makes the recently added instances a suffix of the rows.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class ColumnarInstanceStorage implements InstanceStorage {
+	private static final int INITIAL_CAPACITY = 16;
+	private static final int MIN_REMOVED_ROWS_FOR_COMPACTION = 64;
+
+	private final Predicate predicate;
+	private final boolean positive;
+	private final int arity;
+
+	/**
+	 * For each position, the ids of the terms at that position, indexed by row id.
+	 */
+	private final int[][] columns;
+	private int rowCapacity;
+
+	/**
+	 * The number of rows in use (including removed ones), i.e., the id of the next row.
+	 */
+	private int numRows;
+	private int numRemovedRows;
+	private final BitSet removedRows = new BitSet();
+
+	/**
+	 * Hash table with linear probing holding the row id plus one of each live row; zero marks an empty slot.
+	 */
+	private int[] rowTable = new int[INITIAL_CAPACITY];
+
+	/**
+	 * For each position, the index over that position, or null if it is not built.
+	 */
+	private final PostingIndex[] indices;
+	/**
+	 * For each position, the number of lookups in the index of that position since the last check for unused indices.
+	 * Atomic, since lookups may happen concurrently.
+	 */
+	private final AtomicIntegerArray indexHits;
+	private final ArrayList<PostingIndex> compositeIndices = new ArrayList<>();
+
+	/**
+	 * The first row added since the last call of {@link #markRecentlyAddedInstancesDone()}.
+	 */
+	private int firstRecentRow;
+
+	/**
+	 * The instances of the recently added rows, created on demand; null if they need to be (re-)created.
+	 */
+	private List<Instance> recentlyAddedInstances;
+
+	public ColumnarInstanceStorage(Predicate predicate, boolean positive) {
+		this.predicate = predicate;
+		this.positive = positive;
+		this.arity = predicate.getArity();
+		this.rowCapacity = INITIAL_CAPACITY;
+		this.columns = new int[arity][INITIAL_CAPACITY];
+		this.indices = new PostingIndex[arity];
+		this.indexHits = new AtomicIntegerArray(arity);
+	}
+
+	@Override
+	public Predicate getPredicate() {
+		return predicate;
+	}
+
+	@Override
+	public void markRecentlyAddedInstancesDone() {
+		firstRecentRow = numRows;
+		recentlyAddedInstances = null;
+	}
+
+	@Override
+	public List<Instance> getRecentlyAddedInstances() {
+		if (recentlyAddedInstances == null) {
+			recentlyAddedInstances = new ArrayList<>(numRows - firstRecentRow);
+			for (int row = removedRows.nextClearBit(firstRecentRow); row < numRows; row = removedRows.nextClearBit(row + 1)) {
+				recentlyAddedInstances.add(materialize(row));
+			}
+		}
+		return recentlyAddedInstances;
+	}
+
+	/**
+	 * Writes the dictionary ids of the given terms into the given array.
+	 *
+	 * @return false if some term is not encoded in the {@link TermDictionary}.
+	 */
+	private static boolean encode(List<Term> terms, int[] ids) {
+		for (int i = 0; i < ids.length; i++) {
+			int id = TermDictionary.getIdOrNoId(terms.get(i));
+			if (id == TermDictionary.NO_ID) {
+				return false;
+			}
+			ids[i] = id;
+		}
+		return true;
+	}
+
+	private static int mix(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		hash ^= hash >>> 16;
+		return hash;
+	}
+
+	private static int hashIds(int[] ids) {
+		int hash = 1;
+		for (int id : ids) {
+			hash = 31 * hash + id;
+		}
+		return mix(hash);
+	}
+
+	private int hashRow(int row) {
+		int hash = 1;
+		for (int[] column : columns) {
+			hash = 31 * hash + column[row];
+		}
+		return mix(hash);
+	}
+
+	private boolean rowEquals(int row, int[] ids) {
+		for (int i = 0; i < arity; i++) {
+			if (columns[i][row] != ids[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the slot of the row table holding the row with the given term ids, or -1 if there is no such row.
+	 */
+	private int findSlot(int[] ids) {
+		int mask = rowTable.length - 1;
+		int slot = hashIds(ids) & mask;
+		while (rowTable[slot] != 0) {
+			if (rowEquals(rowTable[slot] - 1, ids)) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void insertIntoRowTable(int row) {
+		int mask = rowTable.length - 1;
+		int slot = hashRow(row) & mask;
+		while (rowTable[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		rowTable[slot] = row + 1;
+	}
+
+	/**
+	 * Removes the entry at the given slot from the row table, shifting back entries of the same probe sequence.
+	 */
+	private void deleteFromRowTable(int slot) {
+		int mask = rowTable.length - 1;
+		int hole = slot;
+		int next = (hole + 1) & mask;
+		while (rowTable[next] != 0) {
+			int home = hashRow(rowTable[next] - 1) & mask;
+			if (((next - home) & mask) >= ((next - hole) & mask)) {
+				rowTable[hole] = rowTable[next];
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		rowTable[hole] = 0;
+	}
+
+	private void rebuildRowTable(int capacity) {
+		rowTable = new int[capacity];
+		for (int row = 0; row < numRows; row++) {
+			if (!removedRows.get(row)) {
+				insertIntoRowTable(row);
+			}
+		}
+	}
+
+	private int numLiveRows() {
+		return numRows - numRemovedRows;
+	}
+
+	@Override
+	public boolean containsInstance(Instance instance) {
+		int[] ids = new int[arity];
+		return encode(instance.terms, ids) && findSlot(ids) != -1;
+	}
+
+	@Override
+	public void addInstance(Instance instance) {
+		if (instance.terms.size() != arity) {
+			throw new RuntimeException("Instance length does not match arity of ColumnarInstanceStorage: " +
+					"instance size: " + instance.terms.size()
+					+ " ColumnarInstanceStorage: " + this);
+		}
+		int[] ids = new int[arity];
+		if (!encode(instance.terms, ids)) {
+			throw new IllegalArgumentException("ColumnarInstanceStorage requires all terms to be encoded in the TermDictionary, given: " + instance);
+		}
+		if (findSlot(ids) != -1) {
+			return;
+		}
+		if (numRows == rowCapacity) {
+			rowCapacity += rowCapacity >> 1;
+			for (int i = 0; i < arity; i++) {
+				columns[i] = Arrays.copyOf(columns[i], rowCapacity);
+			}
+		}
+		int row = numRows++;
+		for (int i = 0; i < arity; i++) {
+			columns[i][row] = ids[i];
+		}
+		// Keep the load factor of the row table at most 3/4.
+		if (4 * (long) numLiveRows() > 3 * (long) rowTable.length) {
+			rebuildRowTable(rowTable.length << 1);
+		} else {
+			insertIntoRowTable(row);
+		}
+		for (PostingIndex index : indices) {
+			if (index != null) {
+				index.add(row);
+			}
+		}
+		for (PostingIndex compositeIndex : compositeIndices) {
+			if (compositeIndex.isBuilt()) {
+				compositeIndex.add(row);
+			}
+		}
+		if (recentlyAddedInstances != null) {
+			recentlyAddedInstances.add(instance);
+		}
+	}
+
+	@Override
+	public void removeInstance(Instance instance) {
+		int[] ids = new int[arity];
+		if (!encode(instance.terms, ids)) {
+			return;
+		}
+		int slot = findSlot(ids);
+		if (slot == -1) {
+			return;
+		}
+		int row = rowTable[slot] - 1;
+		deleteFromRowTable(slot);
+		// Postings of removed rows are skipped on lookup and dropped on compaction.
+		removedRows.set(row);
+		numRemovedRows++;
+		if (row >= firstRecentRow) {
+			recentlyAddedInstances = null;
+		}
+		if (numRemovedRows >= MIN_REMOVED_ROWS_FOR_COMPACTION && 2 * numRemovedRows > numRows) {
+			compact();
+		}
+	}
+
+	/**
+	 * Reclaims the rows of removed instances by moving all live rows to the front of the columns. This changes row ids,
+	 * hence the row table and all indices are rebuilt.
+	 */
+	private void compact() {
+		int liveRows = 0;
+		int liveRowsBeforeRecent = 0;
+		for (int row = 0; row < numRows; row++) {
+			if (row == firstRecentRow) {
+				liveRowsBeforeRecent = liveRows;
+			}
+			if (removedRows.get(row)) {
+				continue;
+			}
+			for (int[] column : columns) {
+				column[liveRows] = column[row];
+			}
+			liveRows++;
+		}
+		if (firstRecentRow >= numRows) {
+			liveRowsBeforeRecent = liveRows;
+		}
+		firstRecentRow = liveRowsBeforeRecent;
+		numRows = liveRows;
+		numRemovedRows = 0;
+		removedRows.clear();
+		rebuildRowTable(rowTable.length);
+		for (PostingIndex index : indices) {
+			if (index != null) {
+				index.build();
+			}
+		}
+		for (PostingIndex compositeIndex : compositeIndices) {
+			if (compositeIndex.isBuilt()) {
+				compositeIndex.build();
+			}
+		}
+	}
+
+	private Instance materialize(int row) {
+		Term[] terms = new Term[arity];
+		for (int i = 0; i < arity; i++) {
+			terms[i] = TermDictionary.getTerm(columns[i][row]);
+		}
+		return new Instance(terms);
+	}
+
+	/**
+	 * Returns the instances of all live rows in the posting at the given slot of the given index that have the given ids
+	 * at all positions where the given ids are not {@link TermDictionary#NO_ID}.
+	 */
+	private List<Instance> collectMatching(PostingIndex index, int slot, int[] queryIds) {
+		int postingSize = index.postingSizes[slot];
+		List<Instance> matchingInstances = new ArrayList<>(postingSize);
+		for (int i = 0; i < postingSize; i++) {
+			int row = index.rowAt(slot, i);
+			if (removedRows.get(row) || !matchesQuery(row, queryIds)) {
+				continue;
+			}
+			matchingInstances.add(materialize(row));
+		}
+		return matchingInstances;
+	}
+
+	private boolean matchesQuery(int row, int[] queryIds) {
+		for (int i = 0; i < arity; i++) {
+			if (queryIds[i] != TermDictionary.NO_ID && columns[i][row] != queryIds[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the index for the given position, builds it if it does not exist yet, and counts the lookup. Lookups may
+	 * happen concurrently (see {@link NaiveGrounder}), hence indices are built under the lock of this storage and the
+	 * (volatile) built flag is checked before a published index is used.
+	 */
+	private PostingIndex getIndexForPosition(int position) {
+		PostingIndex index = indices[position];
+		if (index == null || !index.isBuilt()) {
+			index = buildIndexForPosition(position);
+		}
+		indexHits.incrementAndGet(position);
+		return index;
+	}
+
+	private synchronized PostingIndex buildIndexForPosition(int position) {
+		if (indices[position] == null) {
+			addIndexPosition(position);
+		}
+		return indices[position];
+	}
+
+	private synchronized void buildCompositeIndex(PostingIndex compositeIndex) {
+		if (!compositeIndex.isBuilt()) {
+			compositeIndex.build();
+		}
+	}
+
+	@Override
+	public List<Instance> getInstancesMatchingAtPosition(Term term, int position) {
+		PostingIndex index = getIndexForPosition(position);
+		int id = TermDictionary.getIdOrNoId(term);
+		if (id == TermDictionary.NO_ID) {
+			return Collections.emptyList();
+		}
+		int slot = index.find(id);
+		if (slot == -1) {
+			return Collections.emptyList();
+		}
+		int[] queryIds = new int[arity];
+		Arrays.fill(queryIds, TermDictionary.NO_ID);
+		queryIds[position] = id;
+		return collectMatching(index, slot, queryIds);
+	}
+
+	@Override
+	public Collection<Instance> getInstancesFromPartiallyGroundAtom(Atom substitute) {
+		List<Term> terms = substitute.getTerms();
+		int[] queryIds = new int[arity];
+		long groundPositionMask = 0L;
+		boolean hasGroundTerm = false;
+		for (int i = 0; i < arity; i++) {
+			Term term = terms.get(i);
+			if (!term.isGround()) {
+				queryIds[i] = TermDictionary.NO_ID;
+				continue;
+			}
+			int id = TermDictionary.getIdOrNoId(term);
+			if (id == TermDictionary.NO_ID) {
+				// All stored terms are encoded, hence no instance can match a ground term that is not.
+				return Collections.emptyList();
+			}
+			queryIds[i] = id;
+			hasGroundTerm = true;
+			if (i < Long.SIZE) {
+				groundPositionMask |= 1L << i;
+			}
+		}
+		if (!hasGroundTerm) {
+			// Select all instances if no ground term was found, without copying them.
+			final int bound = numRows;
+			final int size = numLiveRows();
+			return new AbstractCollection<Instance>() {
+				@Override
+				public Iterator<Instance> iterator() {
+					return new RowIterator(bound);
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		// A composite index covering ground positions narrows down the instances the most, single-position indices are
+		// only built and queried if there is no such index.
+		PostingIndex compositeIndex = compositeIndices.isEmpty() ? null : getMostSpecificCompositeIndex(groundPositionMask);
+		if (compositeIndex != null) {
+			if (!compositeIndex.isBuilt()) {
+				buildCompositeIndex(compositeIndex);
+			}
+			compositeIndex.hits.incrementAndGet();
+			int slot = compositeIndex.find(compositeIndex.key(queryIds));
+			return slot == -1 ? Collections.emptyList() : collectMatching(compositeIndex, slot, queryIds);
+		}
+		// For selection of the instances, find ground term on which to select.
+		PostingIndex mostSelectiveIndex = null;
+		int mostSelectiveSlot = -1;
+		int mostSelectivePostingSize = Integer.MAX_VALUE;
+		for (int i = 0; i < arity; i++) {
+			if (queryIds[i] == TermDictionary.NO_ID) {
+				continue;
+			}
+			PostingIndex index = getIndexForPosition(i);
+			int slot = index.find(queryIds[i]);
+			if (slot == -1) {
+				// Ground term at i matches zero instances, it is most selective.
+				return Collections.emptyList();
+			}
+			if (index.postingSizes[slot] < mostSelectivePostingSize) {
+				mostSelectiveIndex = index;
+				mostSelectiveSlot = slot;
+				mostSelectivePostingSize = index.postingSizes[slot];
+			}
+		}
+		return collectMatching(mostSelectiveIndex, mostSelectiveSlot, queryIds);
+	}
+
+	/**
+	 * Returns the composite index covering the most of the given ground positions (and no other position), or null if
+	 * there is no such index.
+	 */
+	private PostingIndex getMostSpecificCompositeIndex(long groundPositionMask) {
+		PostingIndex mostSpecific = null;
+		for (PostingIndex compositeIndex : compositeIndices) {
+			if ((compositeIndex.positionMask & ~groundPositionMask) != 0) {
+				continue;
+			}
+			if (mostSpecific == null || compositeIndex.positions.length > mostSpecific.positions.length) {
+				mostSpecific = compositeIndex;
+			}
+		}
+		return mostSpecific;
+	}
+
+	@Override
+	public Set<Instance> getAllInstances() {
+		return new AbstractSet<Instance>() {
+			@Override
+			public Iterator<Instance> iterator() {
+				return new RowIterator(Integer.MAX_VALUE);
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return o instanceof Instance && containsInstance((Instance) o);
+			}
+
+			@Override
+			public int size() {
+				return numLiveRows();
+			}
+		};
+	}
+
+	/**
+	 * Iterates the live rows below a bound, materializing an {@link Instance} for each. Rows appended after the bound are
+	 * not visited. Compaction of the storage while iterating moves rows to lower row ids and may cause rows to be skipped.
+	 */
+	private class RowIterator implements Iterator<Instance> {
+		private final int bound;
+		private int row;
+
+		RowIterator(int bound) {
+			this.bound = bound;
+			this.row = removedRows.nextClearBit(0);
+		}
+
+		@Override
+		public boolean hasNext() {
+			row = removedRows.nextClearBit(row);
+			return row < Math.min(bound, numRows);
+		}
+
+		@Override
+		public Instance next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return materialize(row++);
+		}
+	}
+
+	@Override
+	public synchronized void addIndexPosition(int position) {
+		if (position < 0 || position > arity - 1) {
+			throw new RuntimeException("Requested to create indices for attribute out of range." +
+					"ColumnarInstanceStorage: " + this + "  requested indices position: " + position);
+		}
+		PostingIndex index = new PostingIndex(new int[] {position}, position < Long.SIZE ? 1L << position : 0L);
+		index.build();
+		indices[position] = index;
+	}
+
+	@Override
+	public void removeIndexPosition(int position) {
+		if (position < 0 || position > arity - 1) {
+			throw new RuntimeException("Requested to create indices for attribute out of range." +
+					"ColumnarInstanceStorage: " + this + "  requested indices position: " + position);
+		}
+		indices[position] = null;
+	}
+
+	@Override
+	public boolean isIndexed(int position) {
+		return indices[position] != null;
+	}
+
+	@Override
+	public int getIndexHits(int position) {
+		return indexHits.get(position);
+	}
+
+	@Override
+	public int dropUnusedIndices() {
+		int droppedIndices = 0;
+		for (int i = 0; i < arity; i++) {
+			if (indices[i] != null && indexHits.get(i) == 0) {
+				indices[i] = null;
+				droppedIndices++;
+			}
+			indexHits.set(i, 0);
+		}
+		for (PostingIndex compositeIndex : compositeIndices) {
+			if (compositeIndex.isBuilt() && compositeIndex.hits.get() == 0) {
+				compositeIndex.clear();
+				droppedIndices++;
+			}
+			compositeIndex.hits.set(0);
+		}
+		return droppedIndices;
+	}
+
+	@Override
+	public void addCompositeIndex(int... positions) {
+		long positionMask = 0L;
+		for (int position : positions) {
+			if (position < 0 || position > arity - 1) {
+				throw new IllegalArgumentException("Requested to create composite index for attribute out of range. " +
+						"ColumnarInstanceStorage: " + this + "  requested indices positions: " + Arrays.toString(positions));
+			}
+			if (position >= Long.SIZE) {
+				// Positions beyond the range of the mask are not covered by composite indices.
+				continue;
+			}
+			if ((positionMask & (1L << position)) != 0) {
+				throw new IllegalArgumentException("Composite index positions must be distinct, given: " + Arrays.toString(positions));
+			}
+			positionMask |= 1L << position;
+		}
+		if (Long.bitCount(positionMask) < 2) {
+			return;
+		}
+		for (PostingIndex compositeIndex : compositeIndices) {
+			if (compositeIndex.positionMask == positionMask) {
+				return;
+			}
+		}
+		int[] sortedPositions = new int[Long.bitCount(positionMask)];
+		for (int i = 0, position = 0; position < Long.SIZE; position++) {
+			if ((positionMask & (1L << position)) != 0) {
+				sortedPositions[i++] = position;
+			}
+		}
+		compositeIndices.add(new PostingIndex(sortedPositions, positionMask));
+	}
+
+	@Override
+	public boolean hasCompositeIndex(int... positions) {
+		long positionMask = 0L;
+		for (int position : positions) {
+			if (position < 0 || position >= Long.SIZE) {
+				return false;
+			}
+			positionMask |= 1L << position;
+		}
+		for (PostingIndex compositeIndex : compositeIndices) {
+			if (compositeIndex.positionMask == positionMask) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return (positive ? "+" : "-") + predicate;
+	}
+
+	/**
+	 * An index over a set of positions, mapping a key computed from the term ids at these positions to the list of
+	 * rows having these term ids. For a single position, the key is the term id itself. For several positions, the key
+	 * is a hash of the term ids, hence rows in a posting may differ from the looked-up ids and lookups must check the
+	 * rows they obtain (as {@link #collectMatching} does).
+	 */
+	private final class PostingIndex {
+		private final int[] positions;
+		private final long positionMask;
+		private final AtomicInteger hits = new AtomicInteger();
+
+		/**
+		 * Open-addressing hash table (linear probing) from keys to postings; a posting size of zero marks an empty
+		 * slot. The first row of a posting is kept inline, further rows in an overflow array, such that keys occurring
+		 * in a single row (e.g., at positions holding unique ids) do not need an array of their own.
+		 */
+		private int[] keys;
+		private int[] firstRows;
+		private int[][] overflowRows;
+		private int[] postingSizes;
+		private int numKeys;
+
+		/**
+		 * Set once the index is completely built, such that concurrent lookups never see a partially built index.
+		 */
+		private volatile boolean built;
+
+		PostingIndex(int[] positions, long positionMask) {
+			this.positions = positions;
+			this.positionMask = positionMask;
+		}
+
+		boolean isBuilt() {
+			return built;
+		}
+
+		void clear() {
+			built = false;
+			keys = null;
+			firstRows = null;
+			overflowRows = null;
+			postingSizes = null;
+			numKeys = 0;
+		}
+
+		void build() {
+			allocate(INITIAL_CAPACITY);
+			numKeys = 0;
+			for (int row = 0; row < numRows; row++) {
+				if (!removedRows.get(row)) {
+					add(row);
+				}
+			}
+			built = true;
+		}
+
+		int key(int[] ids) {
+			if (positions.length == 1) {
+				return ids[positions[0]];
+			}
+			int hash = 1;
+			for (int position : positions) {
+				hash = 31 * hash + ids[position];
+			}
+			return hash;
+		}
+
+		private int rowKey(int row) {
+			if (positions.length == 1) {
+				return columns[positions[0]][row];
+			}
+			int hash = 1;
+			for (int position : positions) {
+				hash = 31 * hash + columns[position][row];
+			}
+			return hash;
+		}
+
+		int rowAt(int slot, int i) {
+			return i == 0 ? firstRows[slot] : overflowRows[slot][i - 1];
+		}
+
+		int find(int key) {
+			int mask = keys.length - 1;
+			int slot = mix(key) & mask;
+			while (postingSizes[slot] != 0) {
+				if (keys[slot] == key) {
+					return slot;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return -1;
+		}
+
+		void add(int row) {
+			int key = rowKey(row);
+			int mask = keys.length - 1;
+			int slot = mix(key) & mask;
+			while (postingSizes[slot] != 0 && keys[slot] != key) {
+				slot = (slot + 1) & mask;
+			}
+			int size = postingSizes[slot];
+			if (size == 0) {
+				if (4 * (numKeys + 1) > 3 * keys.length) {
+					grow();
+					add(row);
+					return;
+				}
+				keys[slot] = key;
+				firstRows[slot] = row;
+				numKeys++;
+			} else {
+				int[] overflow = overflowRows[slot];
+				if (overflow == null) {
+					overflow = new int[2];
+				} else if (size - 1 == overflow.length) {
+					overflow = Arrays.copyOf(overflow, overflow.length << 1);
+				}
+				overflow[size - 1] = row;
+				overflowRows[slot] = overflow;
+			}
+			postingSizes[slot] = size + 1;
+		}
+
+		private void allocate(int capacity) {
+			keys = new int[capacity];
+			firstRows = new int[capacity];
+			overflowRows = new int[capacity][];
+			postingSizes = new int[capacity];
+		}
+
+		private void grow() {
+			int[] oldKeys = keys;
+			int[] oldFirstRows = firstRows;
+			int[][] oldOverflowRows = overflowRows;
+			int[] oldPostingSizes = postingSizes;
+			allocate(oldKeys.length << 1);
+			int mask = keys.length - 1;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldPostingSizes[i] == 0) {
+					continue;
+				}
+				int slot = mix(oldKeys[i]) & mask;
+				while (postingSizes[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				firstRows[slot] = oldFirstRows[i];
+				overflowRows[slot] = oldOverflowRows[i];
+				postingSizes[slot] = oldPostingSizes[i];
+			}
+		}
+	}
+}
@@ -74,6 +74,13 @@ public interface Grounder {
 
 	void forgetAssignment(int[] atomIds);
 
+	/**
+	 * Returns the number of bytes the grounder uses to recognize NoGoods it already produced.
+	 */
+	default long getNoGoodRegistryMemoryUsage() {
+		return 0;
+	}
+
 	/**
 	 * Registers the given NoGood and returns the identifier of it.
 	 * @param noGood
@@ -27,14 +27,23 @@
  */
 package at.ac.tuwien.kr.alpha.core.grounder;
 
+import java.util.AbstractList;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import at.ac.tuwien.kr.alpha.api.programs.Predicate;
 import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
@@ -44,22 +53,72 @@
 /**
  * A storage for instances with a certain arity, where each position of the instance can be indexed.
  * This aids in matching and joining instances. An index can be added or removed at any time for a desired position of
- * all instances.
+ * all instances. Additionally, composite indices over sets of positions can be added; these are keyed by the tuple of
+ * terms at the indexed positions and hence return exactly the instances matching on all of these positions.
+ *
+ * Indices are built lazily the first time they are queried. Every lookup is counted per index and
+ * {@link #dropUnusedIndices()} frees all indices that have not been queried since its last invocation; such indices
+ * are built again once they are queried anew.
+ *
+ * Every instance carries back-pointers to its offsets in the index buckets (and the list of recently added instances)
+ * it is contained in. Removing an instance moves the last instance of each bucket into its place, hence removal takes
+ * constant time regardless of the size of the buckets. In turn, removal does not preserve the order of instances: a
+ * bucket (as well as the list of all and the list of recently added instances) holds its instances in the order they
+ * were added only until the first instance is removed from it. Grounding does not depend on that order.
+ *
+ * Lookups of partially ground atoms return a view of all instances (if they cannot select on any ground term) or of
+ * the selected index bucket that is bounded by the number of instances at the time of the lookup, instead of a copy.
  * Copyright (c) 2016-2020, the Alpha Team.
  */
-public class IndexedInstanceStorage {
+public class IndexedInstanceStorage implements InstanceStorage {
 	private final Predicate predicate;
 	private final boolean positive;
 
 	/**
-	 * A collection of all instances currently stored in this storage.
+	 * All instances currently stored in this storage, each mapped to its back-pointers: for each position, the offset
+	 * of the instance in the bucket of the index of that position; followed by its offset in the list of recently added
+	 * instances; followed by its offset in the list of all instances; followed by the offsets in the buckets of the
+	 * composite indices. Offsets for indices that are not built are meaningless, as is the offset in the list of recently
+	 * added instances unless that list holds the instance at this offset.
+	 */
+	private final HashMap<Instance, int[]> instances = new HashMap<>();
+
+	/**
+	 * All instances currently stored in this storage, in the order they were added (up to removals, which move the last
+	 * instance into the place of the removed one).
 	 */
-	private final LinkedHashSet<Instance> instances = new LinkedHashSet<>();
+	private final ArrayList<Instance> instanceList = new ArrayList<>();
 
 	/**
 	 * For each position, a mapping of termIds to list of instances with this termId at the corresponding position
 	 */
-	private final ArrayList<HashMap<Term, ArrayList<Instance>>> indices = new ArrayList<>();
+	private final AtomicReferenceArray<HashMap<Term, ArrayList<Instance>>> indices;
+
+	/**
+	 * For each position, the number of lookups in the index of that position since the last check for unused indices.
+	 * Atomic, since lookups may happen concurrently.
+	 */
+	private final AtomicIntegerArray indexHits;
+
+	/**
+	 * Offset of the back-pointer to the list of recently added instances.
+	 */
+	private final int recentSlot;
+
+	/**
+	 * Offset of the back-pointer to the list of all instances.
+	 */
+	private final int allSlot;
+
+	/**
+	 * Offset of the back-pointer to the first composite index.
+	 */
+	private final int firstCompositeSlot;
+
+	/**
+	 * Composite indices, each over a set of at least two positions.
+	 */
+	private final ArrayList<CompositeIndex> compositeIndices = new ArrayList<>();
 
 	private final ArrayList<Instance> recentlyAddedInstances = new ArrayList<>();
 
@@ -68,35 +127,38 @@ public IndexedInstanceStorage(Predicate predicate, boolean positive) {
 		this.positive = positive;
 
 		// Create list of mappings, initialize to null.
-		while (indices.size() < predicate.getArity()) {
-			indices.add(null);
-		}
+		this.indices = new AtomicReferenceArray<>(predicate.getArity());
+		this.indexHits = new AtomicIntegerArray(predicate.getArity());
+		this.recentSlot = predicate.getArity();
+		this.allSlot = recentSlot + 1;
+		this.firstCompositeSlot = allSlot + 1;
 	}
 
+	@Override
 	public Predicate getPredicate() {
 		return predicate;
 	}
 
+	@Override
 	public void markRecentlyAddedInstancesDone() {
 		recentlyAddedInstances.clear();
 	}
 
-	public void addIndexPosition(int position) {
+	@Override
+	public synchronized void addIndexPosition(int position) {
 		if (position < 0 || position > predicate.getArity() - 1) {
 			throw new RuntimeException("Requested to create indices for attribute out of range." +
 					"IndexedInstanceStorage: " + this + "  requested indices position: " + position);
 		}
-		// Add index
-		indices.set(position, new LinkedHashMap<>());
-
-		// Initialize index with all instances currently used.
-		for (Instance instance : instances) {
-			indices.get(position).putIfAbsent(instance.terms.get(position), new ArrayList<>());
-			ArrayList<Instance> instancesAtPosition = indices.get(position).get(instance.terms.get(position));
-			instancesAtPosition.add(instance);
+		// Initialize index with all instances currently used, it is published only once complete.
+		HashMap<Term, ArrayList<Instance>> index = new LinkedHashMap<>();
+		for (Instance instance : instanceList) {
+			addToBucket(index, instance.terms.get(position), instance, instances.get(instance), position);
 		}
+		indices.set(position, index);
 	}
 
+	@Override
 	public void removeIndexPosition(int position) {
 		if (position < 0 || position > predicate.getArity() - 1) {
 			throw new RuntimeException("Requested to create indices for attribute out of range." +
@@ -105,78 +167,246 @@ public void removeIndexPosition(int position) {
 		indices.set(position, null);
 	}
 
+	@Override
+	public boolean isIndexed(int position) {
+		return indices.get(position) != null;
+	}
+
+	/**
+	 * Returns the number of lookups in the index of the given position since the last call of
+	 * {@link #dropUnusedIndices()}.
+	 */
+	@Override
+	public int getIndexHits(int position) {
+		return indexHits.get(position);
+	}
+
+	/**
+	 * Frees all (single-position and composite) indices that have not been queried since the last call of this method
+	 * and resets the hit statistics of all indices. Dropped indices are rebuilt if they are queried again later on.
+	 *
+	 * @return the number of dropped indices.
+	 */
+	@Override
+	public int dropUnusedIndices() {
+		int droppedIndices = 0;
+		for (int i = 0; i < indices.length(); i++) {
+			if (indices.get(i) != null && indexHits.get(i) == 0) {
+				indices.set(i, null);
+				droppedIndices++;
+			}
+			indexHits.set(i, 0);
+		}
+		for (CompositeIndex compositeIndex : compositeIndices) {
+			if (compositeIndex.index != null && compositeIndex.hits.get() == 0) {
+				compositeIndex.index = null;
+				droppedIndices++;
+			}
+			compositeIndex.hits.set(0);
+		}
+		return droppedIndices;
+	}
+
+	/**
+	 * Returns the index for the given position, builds it if it does not exist yet, and counts the lookup. Lookups may
+	 * happen concurrently (see {@link NaiveGrounder}), hence the index is built under the lock of this storage.
+	 */
+	private HashMap<Term, ArrayList<Instance>> getIndexForPosition(int position) {
+		HashMap<Term, ArrayList<Instance>> index = indices.get(position);
+		if (index == null) {
+			synchronized (this) {
+				if (indices.get(position) == null) {
+					addIndexPosition(position);
+				}
+			}
+			index = indices.get(position);
+		}
+		indexHits.incrementAndGet(position);
+		return index;
+	}
+
+	/**
+	 * Adds a composite index over the given positions. The index maps the tuple of terms at these positions to the list
+	 * of instances having exactly these terms there. The index is built on its first lookup. Adding an index over
+	 * positions that are already covered by a composite index has no effect, as has adding an index over less than two
+	 * positions. Only the first 64 positions can be covered by a composite index, positions beyond are ignored.
+	 *
+	 * @param positions the (distinct) positions to index.
+	 */
+	@Override
+	public void addCompositeIndex(int... positions) {
+		long positionMask = 0L;
+		for (int position : positions) {
+			if (position < 0 || position > predicate.getArity() - 1) {
+				throw new IllegalArgumentException("Requested to create composite index for attribute out of range. " +
+						"IndexedInstanceStorage: " + this + "  requested indices positions: " + Arrays.toString(positions));
+			}
+			if (position >= Long.SIZE) {
+				// Positions beyond the range of the mask are not covered by composite indices.
+				continue;
+			}
+			if ((positionMask & (1L << position)) != 0) {
+				throw new IllegalArgumentException("Composite index positions must be distinct, given: " + Arrays.toString(positions));
+			}
+			positionMask |= 1L << position;
+		}
+		if (Long.bitCount(positionMask) < 2) {
+			return;
+		}
+		for (CompositeIndex compositeIndex : compositeIndices) {
+			if (compositeIndex.positionMask == positionMask) {
+				return;
+			}
+		}
+		int[] sortedPositions = new int[Long.bitCount(positionMask)];
+		for (int i = 0, position = 0; position < Long.SIZE; position++) {
+			if ((positionMask & (1L << position)) != 0) {
+				sortedPositions[i++] = position;
+			}
+		}
+		compositeIndices.add(new CompositeIndex(sortedPositions, positionMask, firstCompositeSlot + compositeIndices.size()));
+	}
+
+	@Override
+	public boolean hasCompositeIndex(int... positions) {
+		long positionMask = 0L;
+		for (int position : positions) {
+			if (position < 0 || position >= Long.SIZE) {
+				return false;
+			}
+			positionMask |= 1L << position;
+		}
+		for (CompositeIndex compositeIndex : compositeIndices) {
+			if (compositeIndex.positionMask == positionMask) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Returns whether an instance is already contained in the storage.
 	 * 
 	 * @param instance the instance to check for containment.
 	 * @return true if the instance is already contained in the storage.
 	 */
+	@Override
 	public boolean containsInstance(Instance instance) {
-		return instances.contains(instance);
+		return instances.containsKey(instance);
 	}
 
+	/**
+	 * Adds the instance to the bucket of the given key and records its offset in the bucket at the given slot of its
+	 * back-pointers.
+	 */
+	private static <K> void addToBucket(HashMap<K, ArrayList<Instance>> index, K key, Instance instance, int[] backPointers, int slot) {
+		ArrayList<Instance> bucket = index.computeIfAbsent(key, k -> new ArrayList<>());
+		backPointers[slot] = bucket.size();
+		bucket.add(instance);
+	}
+
+	/**
+	 * Removes the instance with the given back-pointers from the bucket of the given key by moving the last instance
+	 * of the bucket into its place.
+	 */
+	private <K> void removeFromBucket(HashMap<K, ArrayList<Instance>> index, K key, int[] backPointers, int slot) {
+		ArrayList<Instance> bucket = index.get(key);
+		removeAtOffset(bucket, backPointers[slot], slot);
+		// If there are no more instances having the key, remove the entry from the hash.
+		if (bucket.isEmpty()) {
+			index.remove(key);
+		}
+	}
+
+	private void removeAtOffset(ArrayList<Instance> list, int offset, int slot) {
+		Instance last = list.remove(list.size() - 1);
+		if (offset < list.size()) {
+			list.set(offset, last);
+			instances.get(last)[slot] = offset;
+		}
+	}
+
+	@Override
 	public void addInstance(Instance instance) {
 		if (instance.terms.size() != predicate.getArity()) {
 			throw new RuntimeException("Instance length does not match arity of IndexedInstanceStorage: " +
 					"instance size: " + instance.terms.size()
 					+ " IndexedInstanceStorage: " + this);
 		}
-		instances.add(instance);
+		if (instances.containsKey(instance)) {
+			return;
+		}
+		int[] backPointers = new int[firstCompositeSlot + compositeIndices.size()];
+		instances.put(instance, backPointers);
+		backPointers[allSlot] = instanceList.size();
+		instanceList.add(instance);
+		backPointers[recentSlot] = recentlyAddedInstances.size();
 		recentlyAddedInstances.add(instance);
 		// Add instance to all indices.
-		for (int i = 0; i < indices.size(); i++) {
+		for (int i = 0; i < indices.length(); i++) {
 			HashMap<Term, ArrayList<Instance>> posIndex = indices.get(i);
 			if (posIndex == null) {
 				continue;
 			}
-			posIndex.putIfAbsent(instance.terms.get(i), new ArrayList<>());
-			ArrayList<Instance> matchingInstancesAtPos = posIndex.get(instance.terms.get(i));
-			matchingInstancesAtPos.add(instance); // Add instance
+			addToBucket(posIndex, instance.terms.get(i), instance, backPointers, i);
+		}
+		for (CompositeIndex compositeIndex : compositeIndices) {
+			if (compositeIndex.index != null) {
+				addToBucket(compositeIndex.index, compositeIndex.key(instance.terms), instance, backPointers, compositeIndex.slot);
+			}
 		}
 	}
 
+	@Override
 	public void removeInstance(Instance instance) {
-		if (recentlyAddedInstances.size() != 0) {
-			// Hint: exception may be replaced by removing the instance also from the list of recentlyAddedInstances.
-			throw new RuntimeException("Instance is removed while there are unprocessed new instances; Result dubious.");
+		int[] backPointers = instances.get(instance);
+		if (backPointers == null) {
+			return;
 		}
 		// Remove from all indices
-		for (int i = 0; i < indices.size(); i++) {
+		for (int i = 0; i < indices.length(); i++) {
 			HashMap<Term, ArrayList<Instance>> posIndex = indices.get(i);
 			if (posIndex == null) {
 				continue;
 			}
-			ArrayList<Instance> matchingInstancesAtPos = posIndex.get(instance.terms.get(i));
-			matchingInstancesAtPos.remove(instance); // Remove instance
-
-			// If there are no more instances having the term at the current position,
-			// remove the entry from the hash.
-			if (matchingInstancesAtPos.size() == 0) {
-				posIndex.remove(instance.terms.get(i));
+			removeFromBucket(posIndex, instance.terms.get(i), backPointers, i);
+		}
+		for (CompositeIndex compositeIndex : compositeIndices) {
+			if (compositeIndex.index != null) {
+				removeFromBucket(compositeIndex.index, compositeIndex.key(instance.terms), backPointers, compositeIndex.slot);
 			}
 		}
+		// The instance may still be pending in the list of recently added instances. Since back-pointers are not reset
+		// when that list is cleared, check whether the list actually holds the instance at the recorded offset.
+		int recentOffset = backPointers[recentSlot];
+		if (recentOffset < recentlyAddedInstances.size() && recentlyAddedInstances.get(recentOffset).equals(instance)) {
+			removeAtOffset(recentlyAddedInstances, recentOffset, recentSlot);
+		}
+		removeAtOffset(instanceList, backPointers[allSlot], allSlot);
 		instances.remove(instance);
 	}
 
+	@Override
 	public List<Instance> getRecentlyAddedInstances() {
 		return recentlyAddedInstances;
 	}
 
 	/**
-	 * Returns a list of all instances having the given term at the given position. Returns null if no such
-	 * instances exist.
+	 * Returns a list of all instances having the given term at the given position. Returns an empty list if no such
+	 * instances exist. The index for the position is built if it does not exist yet. The instances are in the order they
+	 * were added, except that removing an instance moves the last instance of the list into its place. Like the result of
+	 * {@link #getInstancesFromPartiallyGroundAtom(Atom)}, the list is a view of the index bucket bounded by its size at
+	 * the time of this call.
 	 * 
 	 * @param term
 	 * @param position
 	 * @return
 	 */
+	@Override
 	public List<Instance> getInstancesMatchingAtPosition(Term term, int position) {
-		Map<Term, ArrayList<Instance>> indexForPosition = indices.get(position);
-		if (indexForPosition == null) {
-			throw new RuntimeException("IndexedInstanceStorage queried for position " + position + " which is not indexed.");
-		}
+		Map<Term, ArrayList<Instance>> indexForPosition = getIndexForPosition(position);
 		ArrayList<Instance> matchingInstances = indexForPosition.get(term);
-		return matchingInstances == null ? Collections.emptyList() : matchingInstances;
+		return matchingInstances == null ? Collections.emptyList() : new BoundedInstanceListView(matchingInstances, matchingInstances.size());
 	}
 
 	private int getMostSelectiveGroundTermPosition(Atom atom) {
@@ -185,7 +415,7 @@ private int getMostSelectiveGroundTermPosition(Atom atom) {
 		for (int i = 0; i < atom.getTerms().size(); i++) {
 			Term testTerm = atom.getTerms().get(i);
 			if (testTerm.isGround()) {
-				ArrayList<Instance> instancesMatchingTest = indices.get(i).get(testTerm);
+				ArrayList<Instance> instancesMatchingTest = getIndexForPosition(i).get(testTerm);
 				if (instancesMatchingTest == null) {
 					// Ground term at i matches zero instances, it is most selective.
 					return i;
@@ -200,24 +430,193 @@ private int getMostSelectiveGroundTermPosition(Atom atom) {
 		return mostSelectiveTermPosition;
 	}
 
-	public List<Instance> getInstancesFromPartiallyGroundAtom(Atom substitute) {
+	/**
+	 * Returns the composite index covering the most of the given ground positions (and no other position), or null if
+	 * there is no such index.
+	 */
+	private CompositeIndex getMostSpecificCompositeIndex(long groundPositionMask) {
+		CompositeIndex mostSpecific = null;
+		for (CompositeIndex compositeIndex : compositeIndices) {
+			if ((compositeIndex.positionMask & ~groundPositionMask) != 0) {
+				continue;
+			}
+			if (mostSpecific == null || compositeIndex.positions.length > mostSpecific.positions.length) {
+				mostSpecific = compositeIndex;
+			}
+		}
+		return mostSpecific;
+	}
+
+	private static long getGroundPositionMask(Atom atom) {
+		long groundPositionMask = 0L;
+		List<Term> terms = atom.getTerms();
+		for (int i = 0; i < terms.size() && i < Long.SIZE; i++) {
+			if (terms.get(i).isGround()) {
+				groundPositionMask |= 1L << i;
+			}
+		}
+		return groundPositionMask;
+	}
+
+	/**
+	 * Returns the instances that may match the given (partially ground) atom. The result is a view of the list of all
+	 * instances or of an index bucket, bounded by the size of that list at the time of this call, see
+	 * {@link InstanceStorage#getInstancesFromPartiallyGroundAtom(Atom)}.
+	 */
+	@Override
+	public Collection<Instance> getInstancesFromPartiallyGroundAtom(Atom substitute) {
+		// A composite index covering ground positions narrows down the instances the most, single-position indices are
+		// only built and queried if there is no such index.
+		CompositeIndex compositeIndex = compositeIndices.isEmpty() ? null : getMostSpecificCompositeIndex(getGroundPositionMask(substitute));
+		if (compositeIndex != null) {
+			if (compositeIndex.index == null) {
+				buildCompositeIndex(compositeIndex);
+			}
+			compositeIndex.hits.incrementAndGet();
+			ArrayList<Instance> matching = compositeIndex.get(substitute.getTerms());
+			return matching == null ? Collections.emptyList() : new BoundedInstanceListView(matching, matching.size());
+		}
 		// For selection of the instances, find ground term on which to select.
 		int firstGroundTermPosition = getMostSelectiveGroundTermPosition(substitute);
-		// Select matching instances, select all if no ground term was found.
-		if (firstGroundTermPosition != -1) {
-			Term firstGroundTerm = substitute.getTerms().get(firstGroundTermPosition);
-			return getInstancesMatchingAtPosition(firstGroundTerm, firstGroundTermPosition);
-		} else {
-			return new ArrayList<>(getAllInstances());
+		// Select all instances if no ground term was found.
+		if (firstGroundTermPosition == -1) {
+			return new BoundedInstanceListView(instanceList, instanceList.size());
+		}
+		Term firstGroundTerm = substitute.getTerms().get(firstGroundTermPosition);
+		// Note: the index was built (and its lookup counted) when determining the most selective position.
+		ArrayList<Instance> matching = indices.get(firstGroundTermPosition).get(firstGroundTerm);
+		return matching == null ? Collections.emptyList() : new BoundedInstanceListView(matching, matching.size());
+	}
+
+	private synchronized void buildCompositeIndex(CompositeIndex compositeIndex) {
+		if (compositeIndex.index != null) {
+			// Built by a concurrent lookup meanwhile.
+			return;
 		}
+		HashMap<Instance, ArrayList<Instance>> index = new LinkedHashMap<>();
+		for (Instance instance : instanceList) {
+			int[] backPointers = instances.get(instance);
+			if (backPointers.length <= compositeIndex.slot) {
+				// The instance was added before the composite index was.
+				backPointers = Arrays.copyOf(backPointers, firstCompositeSlot + compositeIndices.size());
+				instances.put(instance, backPointers);
+			}
+			addToBucket(index, compositeIndex.key(instance.terms), instance, backPointers, compositeIndex.slot);
+		}
+		compositeIndex.index = index;
 	}
 
+	@Override
 	public Set<Instance> getAllInstances() {
-		return instances;
+		return new AbstractSet<Instance>() {
+			@Override
+			public Iterator<Instance> iterator() {
+				return Collections.unmodifiableList(instanceList).iterator();
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return instances.containsKey(o);
+			}
+
+			@Override
+			public int size() {
+				return instanceList.size();
+			}
+		};
 	}
 
 	@Override
 	public String toString() {
 		return (positive ? "+" : "-") + predicate;
 	}
+
+	/**
+	 * A view of the first instances of a list that never exceeds its bound, hence instances appended to the list after
+	 * the view was created are not part of it. Iterating the view never fails due to modifications of the list; but since
+	 * removing an instance moves the last instance into its place, instances removed while iterating may cause other
+	 * instances to be skipped.
+	 */
+	private static final class BoundedInstanceListView extends AbstractList<Instance> implements RandomAccess {
+		private final ArrayList<Instance> list;
+		private final int bound;
+
+		BoundedInstanceListView(ArrayList<Instance> list, int bound) {
+			this.list = list;
+			this.bound = bound;
+		}
+
+		@Override
+		public Instance get(int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+			}
+			return list.get(index);
+		}
+
+		@Override
+		public int size() {
+			return Math.min(bound, list.size());
+		}
+
+		@Override
+		public Iterator<Instance> iterator() {
+			return new Iterator<Instance>() {
+				private int cursor;
+
+				@Override
+				public boolean hasNext() {
+					return cursor < size();
+				}
+
+				@Override
+				public Instance next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return list.get(cursor++);
+				}
+			};
+		}
+	}
+
+	/**
+	 * An index over a fixed set of positions, mapping the tuple of terms at these positions to all instances having
+	 * these terms at the respective positions.
+	 */
+	private static class CompositeIndex {
+		private final int[] positions;
+		private final long positionMask;
+		/**
+		 * The index itself, null if it has not been built yet or was dropped. Volatile as it is built lazily on lookups,
+		 * which may happen concurrently.
+		 */
+		private volatile HashMap<Instance, ArrayList<Instance>> index;
+		private final AtomicInteger hits = new AtomicInteger();
+		/**
+		 * Offset of the back-pointer to this index.
+		 */
+		private final int slot;
+
+		CompositeIndex(int[] positions, long positionMask, int slot) {
+			this.positions = positions;
+			this.positionMask = positionMask;
+			this.slot = slot;
+		}
+
+		private Instance key(List<Term> terms) {
+			Term[] keyTerms = new Term[positions.length];
+			for (int i = 0; i < positions.length; i++) {
+				keyTerms[i] = terms.get(positions[i]);
+			}
+			return new Instance(keyTerms);
+		}
+
+		/**
+		 * Returns the bucket of instances having the given terms at the indexed positions, or null if there are none.
+		 */
+		ArrayList<Instance> get(List<Term> terms) {
+			return index.get(key(terms));
+		}
+	}
 }
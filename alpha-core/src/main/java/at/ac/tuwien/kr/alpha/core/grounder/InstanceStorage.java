@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.grounder;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import at.ac.tuwien.kr.alpha.api.programs.Predicate;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
+import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
+
+/**
+ * A storage for the instances of one predicate in the {@link WorkingMemory} of a grounder.
+ *
+ * Instances can be looked up by the terms at any of their positions as well as by tuples of terms at sets of
+ * positions (composite indices). Implementations build indices lazily and may drop indices that are not used.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public interface InstanceStorage {
+
+	Predicate getPredicate();
+
+	/**
+	 * Returns whether an instance is already contained in the storage.
+	 *
+	 * @param instance the instance to check for containment.
+	 * @return true if the instance is already contained in the storage.
+	 */
+	boolean containsInstance(Instance instance);
+
+	void addInstance(Instance instance);
+
+	void removeInstance(Instance instance);
+
+	/**
+	 * @return the instances added since the last call of {@link #markRecentlyAddedInstancesDone()}.
+	 */
+	List<Instance> getRecentlyAddedInstances();
+
+	void markRecentlyAddedInstancesDone();
+
+	Set<Instance> getAllInstances();
+
+	/**
+	 * Returns the instances that may match the given (partially ground) atom, i.e., a superset of all instances
+	 * having the same terms as the atom at all of its ground positions.
+	 *
+	 * The result may be backed by the storage instead of being a copy. In any case, instances added to the storage after
+	 * this call are not part of the result, hence the storage may be extended while the result is iterated. Removing
+	 * instances while the result is iterated does not fail either, but may cause other instances to be skipped.
+	 *
+	 * @param substitute the partially ground atom.
+	 * @return the candidate instances.
+	 */
+	Collection<Instance> getInstancesFromPartiallyGroundAtom(Atom substitute);
+
+	/**
+	 * Returns a list of all instances having the given term at the given position.
+	 *
+	 * @param term     the term to look for.
+	 * @param position the position of the term.
+	 * @return the list of matching instances, an empty list if there are none.
+	 */
+	List<Instance> getInstancesMatchingAtPosition(Term term, int position);
+
+	void addIndexPosition(int position);
+
+	void removeIndexPosition(int position);
+
+	boolean isIndexed(int position);
+
+	/**
+	 * Returns the number of lookups in the index of the given position since the last call of
+	 * {@link #dropUnusedIndices()}.
+	 */
+	int getIndexHits(int position);
+
+	/**
+	 * Adds a composite index over the given positions, which is built on its first lookup.
+	 *
+	 * @param positions the (distinct) positions to index.
+	 */
+	void addCompositeIndex(int... positions);
+
+	boolean hasCompositeIndex(int... positions);
+
+	/**
+	 * Frees all indices that have not been queried since the last call of this method and resets the hit statistics
+	 * of all indices. Dropped indices are rebuilt if they are queried again later on.
+	 *
+	 * @return the number of dropped indices.
+	 */
+	int dropUnusedIndices();
+
+}
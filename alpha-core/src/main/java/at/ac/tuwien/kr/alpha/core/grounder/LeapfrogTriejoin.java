@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.grounder;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * A worst-case optimal join of relations of int tuples by the leapfrog triejoin algorithm (Veldhuizen, 2014).
+ *
+ * Every relation is given by its tuples together with the (global) variables at the positions of its tuples, which
+ * must be distinct and ascending in the variable order. The relations are kept as lexicographically sorted arrays that
+ * serve as tries, in which each level is a range of tuples sharing a prefix. The join binds one variable after the
+ * other: for each variable, the relations containing it are intersected by leapfrogging, i.e., by repeatedly seeking
+ * each relation to the largest value found in the others, until all agree on a value. Hence no intermediate results
+ * are materialized, which avoids the blow-up of binding one relation after the other for cyclic joins such as triangle
+ * or clique queries.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class LeapfrogTriejoin {
+
+	private static final Comparator<int[]> LEXICOGRAPHIC_ORDER = (tuple1, tuple2) -> {
+		for (int i = 0; i < tuple1.length; i++) {
+			int cmp = Integer.compare(tuple1[i], tuple2[i]);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return 0;
+	};
+
+	private final int numVariables;
+	private final TrieIterator[][] iteratorsByVariable;
+
+	/**
+	 * Creates a join of the given relations.
+	 *
+	 * @param numVariables the number of variables, each variable must occur in some relation.
+	 * @param relations    the relations to join.
+	 */
+	public LeapfrogTriejoin(int numVariables, List<Relation> relations) {
+		this.numVariables = numVariables;
+		int[] numIteratorsByVariable = new int[numVariables];
+		for (Relation relation : relations) {
+			for (int variable : relation.variables) {
+				numIteratorsByVariable[variable]++;
+			}
+		}
+		this.iteratorsByVariable = new TrieIterator[numVariables][];
+		for (int variable = 0; variable < numVariables; variable++) {
+			if (numIteratorsByVariable[variable] == 0) {
+				throw new IllegalArgumentException("Variable " + variable + " does not occur in any relation.");
+			}
+			iteratorsByVariable[variable] = new TrieIterator[numIteratorsByVariable[variable]];
+			numIteratorsByVariable[variable] = 0;
+		}
+		for (Relation relation : relations) {
+			TrieIterator iterator = new TrieIterator(relation);
+			for (int variable : relation.variables) {
+				iteratorsByVariable[variable][numIteratorsByVariable[variable]++] = iterator;
+			}
+		}
+	}
+
+	/**
+	 * Computes the join and passes every resulting binding of the variables (indexed by variable) to the given consumer.
+	 * The binding array is reused, consumers must copy it if they need to keep it.
+	 */
+	public void join(Consumer<int[]> consumer) {
+		join(0, new int[numVariables], consumer);
+	}
+
+	private void join(int variable, int[] binding, Consumer<int[]> consumer) {
+		if (variable == numVariables) {
+			consumer.accept(binding);
+			return;
+		}
+		TrieIterator[] iterators = iteratorsByVariable[variable];
+		boolean anyAtEnd = false;
+		for (TrieIterator iterator : iterators) {
+			iterator.open();
+			anyAtEnd |= iterator.atEnd();
+		}
+		if (!anyAtEnd) {
+			leapfrog(variable, iterators, binding, consumer);
+		}
+		for (TrieIterator iterator : iterators) {
+			iterator.up();
+		}
+	}
+
+	private void leapfrog(int variable, TrieIterator[] iterators, int[] binding, Consumer<int[]> consumer) {
+		// Arrange the iterators by their current key, such that the predecessor of each iterator (cyclically) holds the
+		// largest key seen so far.
+		for (int i = 1; i < iterators.length; i++) {
+			TrieIterator iterator = iterators[i];
+			int j = i - 1;
+			while (j >= 0 && iterators[j].key() > iterator.key()) {
+				iterators[j + 1] = iterators[j];
+				j--;
+			}
+			iterators[j + 1] = iterator;
+		}
+		int maxKey = iterators[iterators.length - 1].key();
+		int current = 0;
+		while (true) {
+			TrieIterator iterator = iterators[current];
+			if (iterator.key() == maxKey) {
+				// All iterators agree on the key.
+				binding[variable] = maxKey;
+				join(variable + 1, binding, consumer);
+				iterator.next();
+			} else {
+				iterator.seek(maxKey);
+			}
+			if (iterator.atEnd()) {
+				return;
+			}
+			maxKey = iterator.key();
+			current = current + 1 == iterators.length ? 0 : current + 1;
+		}
+	}
+
+	/**
+	 * A relation of int tuples, sorted lexicographically and free of duplicates.
+	 */
+	public static class Relation {
+		private final int[] variables;
+		private final int[][] tuples;
+
+		/**
+		 * Creates a relation from the given tuples. The tuples are sorted in place.
+		 *
+		 * @param variables the ascending variables bound by the positions of the tuples.
+		 * @param tuples    the tuples, each having one entry per variable.
+		 */
+		public Relation(int[] variables, int[][] tuples) {
+			for (int i = 1; i < variables.length; i++) {
+				if (variables[i - 1] >= variables[i]) {
+					throw new IllegalArgumentException("Variables of a relation must be ascending, given: " + Arrays.toString(variables));
+				}
+			}
+			Arrays.sort(tuples, LEXICOGRAPHIC_ORDER);
+			int numDistinct = 0;
+			for (int[] tuple : tuples) {
+				if (numDistinct == 0 || LEXICOGRAPHIC_ORDER.compare(tuples[numDistinct - 1], tuple) != 0) {
+					tuples[numDistinct++] = tuple;
+				}
+			}
+			this.variables = variables;
+			this.tuples = numDistinct == tuples.length ? tuples : Arrays.copyOf(tuples, numDistinct);
+		}
+
+		public int size() {
+			return tuples.length;
+		}
+	}
+
+	/**
+	 * An iterator over a relation viewed as a trie, where the children of a node are the distinct values at the next
+	 * position of the tuples sharing the prefix of the node.
+	 */
+	private static class TrieIterator {
+		private final int[][] tuples;
+		private int depth = -1;
+
+		/**
+		 * For each opened depth, the range of tuples sharing the prefix of the current node and the current tuple.
+		 */
+		private final int[] from;
+		private final int[] to;
+		private final int[] position;
+
+		TrieIterator(Relation relation) {
+			this.tuples = relation.tuples;
+			int numLevels = relation.variables.length;
+			this.from = new int[numLevels];
+			this.to = new int[numLevels];
+			this.position = new int[numLevels];
+		}
+
+		/**
+		 * Descends to the first child of the current node.
+		 */
+		void open() {
+			depth++;
+			if (depth == 0) {
+				from[0] = 0;
+				to[0] = tuples.length;
+			} else {
+				int parentPosition = position[depth - 1];
+				from[depth] = parentPosition;
+				to[depth] = upperBound(depth - 1, parentPosition, to[depth - 1], tuples[parentPosition][depth - 1]);
+			}
+			position[depth] = from[depth];
+		}
+
+		void up() {
+			depth--;
+		}
+
+		boolean atEnd() {
+			return position[depth] >= to[depth];
+		}
+
+		int key() {
+			return tuples[position[depth]][depth];
+		}
+
+		/**
+		 * Moves to the next distinct key at the current depth.
+		 */
+		void next() {
+			position[depth] = upperBound(depth, position[depth], to[depth], key());
+		}
+
+		/**
+		 * Moves to the least key at the current depth that is not smaller than the given one.
+		 */
+		void seek(int key) {
+			position[depth] = lowerBound(depth, position[depth], to[depth], key);
+		}
+
+		/**
+		 * Returns the first tuple in the given range whose value at the given depth is greater than the given key.
+		 */
+		private int upperBound(int depth, int from, int to, int key) {
+			return key == Integer.MAX_VALUE ? to : lowerBound(depth, from, to, key + 1);
+		}
+
+		/**
+		 * Returns the first tuple in the given range whose value at the given depth is not smaller than the given key,
+		 * searching exponentially from the start of the range first since keys are mostly found close to it.
+		 */
+		private int lowerBound(int depth, int from, int to, int key) {
+			int step = 1;
+			int low = from;
+			while (low + step < to && tuples[low + step][depth] < key) {
+				low += step;
+				step <<= 1;
+			}
+			if (low < to && tuples[low][depth] >= key) {
+				return low;
+			}
+			int high = Math.min(low + step, to);
+			// Invariant: tuples[low] < key, and tuples[high] >= key or high == to.
+			while (high - low > 1) {
+				int mid = (low + high) >>> 1;
+				if (tuples[mid][depth] < key) {
+					low = mid;
+				} else {
+					high = mid;
+				}
+			}
+			return high;
+		}
+	}
+
+}
@@ -42,6 +42,8 @@
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -53,12 +55,16 @@
 import at.ac.tuwien.kr.alpha.api.grounder.Substitution;
 import at.ac.tuwien.kr.alpha.api.programs.Predicate;
 import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.api.programs.literals.ExternalLiteral;
 import at.ac.tuwien.kr.alpha.api.programs.literals.Literal;
+import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
 import at.ac.tuwien.kr.alpha.api.programs.terms.VariableTerm;
 import at.ac.tuwien.kr.alpha.commons.AnswerSets;
 import at.ac.tuwien.kr.alpha.commons.programs.atoms.Atoms;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.TermDictionary;
 import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
 import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
+import at.ac.tuwien.kr.alpha.commons.substitutions.SlotSubstitution;
 import at.ac.tuwien.kr.alpha.commons.util.Util;
 import at.ac.tuwien.kr.alpha.core.common.Assignment;
 import at.ac.tuwien.kr.alpha.core.common.AtomStore;
@@ -74,17 +80,34 @@
 import at.ac.tuwien.kr.alpha.core.grounder.structure.AnalyzeUnjustified;
 import at.ac.tuwien.kr.alpha.core.programs.CompiledProgram;
 import at.ac.tuwien.kr.alpha.core.programs.atoms.ChoiceAtom;
+import at.ac.tuwien.kr.alpha.core.programs.atoms.EnumerationLiteral;
 import at.ac.tuwien.kr.alpha.core.programs.atoms.RuleAtom;
 import at.ac.tuwien.kr.alpha.core.programs.rules.CompiledRule;
 
 /**
  * A semi-naive grounder.
  *
+ * If parallel instantiation is enabled (see {@link GrounderHeuristicsConfiguration#isParallelInstantiation()}), a rule
+ * is instantiated from many newly added starting instances on a shared {@link ForkJoinPool}, see
+ * {@link #groundInParallel(FirstBindingAtom, List, Assignment, Map)}.
+ *
  * Copyright (c) 2016-2020, the Alpha Team.
  */
 public class NaiveGrounder extends BridgedGrounder implements ProgramAnalyzingGrounder {
 	private static final Logger LOGGER = LoggerFactory.getLogger(NaiveGrounder.class);
 
+	/**
+	 * The minimal number of starting instances a task grounds a rule from in parallel instantiation. Rules with less than
+	 * twice as many new starting instances are grounded sequentially.
+	 */
+	static final int MIN_INSTANCES_PER_TASK = 64;
+
+	/**
+	 * The pool grounding rules from many starting instances in parallel, shared by all grounders. Its worker threads are
+	 * daemon threads that terminate when idle, hence the pool is never shut down.
+	 */
+	private static final ForkJoinPool INSTANTIATION_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
 	private final WorkingMemory workingMemory = new WorkingMemory();
 	private final AtomStore atomStore;
 	private final NogoodRegistry registry = new NogoodRegistry();
@@ -94,7 +117,7 @@ public class NaiveGrounder extends BridgedGrounder implements ProgramAnalyzingGr
 	private final AnalyzeUnjustified analyzeUnjustified;
 
 	private final Map<Predicate, LinkedHashSet<Instance>> factsFromProgram;
-	private final Map<IndexedInstanceStorage, ArrayList<FirstBindingAtom>> rulesUsingPredicateWorkingMemory = new HashMap<>();
+	private final Map<InstanceStorage, ArrayList<FirstBindingAtom>> rulesUsingPredicateWorkingMemory = new HashMap<>();
 	private final Map<Integer, CompiledRule> knownNonGroundRules;
 
 	private ArrayList<CompiledRule> fixedRules = new ArrayList<>();
@@ -148,12 +171,25 @@ private NaiveGrounder(CompiledProgram program, AtomStore atomStore, GrounderHeur
 	}
 
 	private void initializeFactsAndRules() {
+		// The columnar storage only holds terms encoded in the term dictionary, hence predicates with some fact that is not
+		// encoded (e.g., one containing a string or a Java object) use the default storage.
+		Set<Predicate> predicatesWithUnencodedFacts = new HashSet<>();
+		if (heuristicsConfiguration.isColumnarFactStorage()) {
+			for (Atom fact : program.getFacts()) {
+				if (!isEncoded(fact)) {
+					predicatesWithUnencodedFacts.add(fact.getPredicate());
+				}
+			}
+		}
+
 		// Initialize all facts.
 		for (Atom fact : program.getFacts()) {
 			final Predicate predicate = fact.getPredicate();
 
-			// Record predicate
-			workingMemory.initialize(predicate);
+			// Record predicate, predicates not defined by any rule may use the compact columnar storage.
+			boolean columnar = heuristicsConfiguration.isColumnarFactStorage() && !program.getPredicateDefiningRules().containsKey(predicate)
+					&& !predicatesWithUnencodedFacts.contains(predicate);
+			workingMemory.initialize(predicate, columnar);
 		}
 
 		// Register internal atoms.
@@ -168,6 +204,7 @@ private void initializeFactsAndRules() {
 				// FIXME: this also contains interval/builtin predicates that are not needed.
 				workingMemory.initialize(predicate);
 			}
+			workingMemory.addIndicesFor(nonGroundRule.getGroundingInfo());
 
 			// If the rule has fixed ground instantiations, it is not registered but grounded once like facts.
 			if (nonGroundRule.getGroundingInfo().hasFixedInstantiation()) {
@@ -182,6 +219,18 @@ private void initializeFactsAndRules() {
 		}
 	}
 
+	/**
+	 * @return true iff all terms of the given ground atom are encoded in the {@link TermDictionary}.
+	 */
+	private static boolean isEncoded(Atom fact) {
+		for (Term term : fact.getTerms()) {
+			if (!TermDictionary.isEncoded(term)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private Set<CompiledRule> getRulesWithUniqueHead() {
 		// FIXME: below optimisation (adding support nogoods if there is only one rule instantiation per unique atom over the interpretation) could
 		// be done as a transformation (adding a non-ground constraint corresponding to the nogood that is generated by the grounder).
@@ -228,7 +277,7 @@ private void registerLiteralAtWorkingMemory(Literal literal, CompiledRule nonGro
 		if (literal.isNegated()) {
 			throw new RuntimeException("Literal to register is negated. Should not happen.");
 		}
-		IndexedInstanceStorage workingMemory = this.workingMemory.get(literal.getPredicate(), true);
+		InstanceStorage workingMemory = this.workingMemory.get(literal.getPredicate(), true);
 		rulesUsingPredicateWorkingMemory.putIfAbsent(workingMemory, new ArrayList<>());
 		rulesUsingPredicateWorkingMemory.get(workingMemory).add(new FirstBindingAtom(nonGroundRule, literal));
 	}
@@ -305,7 +354,8 @@ protected HashMap<Integer, NoGood> bootstrap() {
 		for (CompiledRule nonGroundRule : fixedRules) {
 			// Generate NoGoods for all rules that have a fixed grounding.
 			RuleGroundingOrder groundingOrder = nonGroundRule.getGroundingInfo().getFixedGroundingOrder();
-			BindingResult bindingResult = getGroundInstantiations(nonGroundRule, groundingOrder, new BasicSubstitution(), null);
+			SlotSubstitution emptySubstitution = new SlotSubstitution(nonGroundRule.getVariableNumbering());
+			BindingResult bindingResult = getGroundInstantiations(nonGroundRule, groundingOrder, emptySubstitution, null);
 			groundAndRegister(nonGroundRule, bindingResult.getGeneratedSubstitutions(), groundNogoods);
 		}
 
@@ -320,7 +370,7 @@ public Map<Integer, NoGood> getNoGoods(Assignment currentAssignment) {
 		final Map<Integer, NoGood> newNoGoods = fixedRules != null ? bootstrap() : new LinkedHashMap<>();
 
 		// Compute new ground rule (evaluate joins with newly changed atoms)
-		for (IndexedInstanceStorage modifiedWorkingMemory : workingMemory.modified()) {
+		for (InstanceStorage modifiedWorkingMemory : workingMemory.modified()) {
 			// Skip predicates solely used in the solver which do not occur in rules.
 			Predicate workingMemoryPredicate = modifiedWorkingMemory.getPredicate();
 			if (workingMemoryPredicate.isSolverInternal()) {
@@ -338,15 +388,22 @@ public Map<Integer, NoGood> getNoGoods(Assignment currentAssignment) {
 			for (FirstBindingAtom firstBindingAtom : firstBindingAtoms) {
 				// Use the recently added instances from the modified working memory to construct an initial substitution
 				CompiledRule nonGroundRule = firstBindingAtom.rule;
+				// Adapt the grounding orders to the observed selectivities before grounding the rule.
+				if (nonGroundRule.getGroundingInfo().updateGroundingOrders()) {
+					workingMemory.addIndicesFor(nonGroundRule.getGroundingInfo());
+				}
+				final List<Instance> recentlyAddedInstances = modifiedWorkingMemory.getRecentlyAddedInstances();
+				if (isInstantiatedInParallel(nonGroundRule, recentlyAddedInstances.size())) {
+					groundInParallel(firstBindingAtom, recentlyAddedInstances, currentAssignment, newNoGoods);
+					continue;
+				}
+				// The starting substitution is reused for all instances and reset after grounding from each of them.
+				final SlotSubstitution unifier = new SlotSubstitution(nonGroundRule.getVariableNumbering());
 
 				// Generate substitutions from each recent instance.
-				for (Instance instance : modifiedWorkingMemory.getRecentlyAddedInstances()) {
+				for (Instance instance : recentlyAddedInstances) {
 					// Check instance if it matches with the atom.
-
-					final Substitution unifier = BasicSubstitution.specializeSubstitution(firstBindingAtom.startingLiteral, instance,
-							BasicSubstitution.EMPTY_SUBSTITUTION);
-
-					if (unifier == null) {
+					if (!unifier.specialize(firstBindingAtom.startingLiteral.getAtom(), instance)) {
 						continue;
 					}
 
@@ -357,6 +414,7 @@ public Map<Integer, NoGood> getNoGoods(Assignment currentAssignment) {
 							currentAssignment);
 
 					groundAndRegister(nonGroundRule, bindingResult.getGeneratedSubstitutions(), newNoGoods);
+					unifier.undo(0);
 				}
 			}
 
@@ -366,7 +424,7 @@ public Map<Integer, NoGood> getNoGoods(Assignment currentAssignment) {
 
 		workingMemory.reset();
 		for (Atom removeAtom : removeAfterObtainingNewNoGoods) {
-			final IndexedInstanceStorage storage = workingMemory.get(removeAtom, true);
+			final InstanceStorage storage = workingMemory.get(removeAtom, true);
 			Instance instance = new Instance(removeAtom.getTerms());
 			if (storage.containsInstance(instance)) {
 				// permissive grounder heuristics may attempt to remove instances that are not yet in the working memory
@@ -392,6 +450,83 @@ public Map<Integer, NoGood> getNoGoods(Assignment currentAssignment) {
 		return newNoGoods;
 	}
 
+	/**
+	 * Checks whether the given rule is instantiated from the given number of starting instances in parallel. Rules with
+	 * external or enumeration atoms are grounded sequentially, since evaluating these atoms may have side effects.
+	 */
+	private boolean isInstantiatedInParallel(CompiledRule nonGroundRule, int numStartingInstances) {
+		if (!heuristicsConfiguration.isParallelInstantiation() || numStartingInstances < 2 * MIN_INSTANCES_PER_TASK) {
+			return false;
+		}
+		for (Literal literal : nonGroundRule.getBody()) {
+			if (literal instanceof ExternalLiteral || literal instanceof EnumerationLiteral) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Grounds the rule of the given {@link FirstBindingAtom} from the given starting instances in parallel. The starting
+	 * instances are split into consecutive chunks, which are joined by separate tasks, each with an instantiation strategy
+	 * of its own. Tasks only read the working memory, the atom store and the assignment. Since the atom store does not
+	 * support concurrent insertion, nogoods are generated and registered by the calling thread once all tasks are done,
+	 * chunk after chunk. Hence ground rules are registered in the same order as in sequential grounding and atoms and
+	 * nogoods obtain the same ids.
+	 */
+	private void groundInParallel(FirstBindingAtom firstBindingAtom, List<Instance> startingInstances, Assignment currentAssignment,
+			Map<Integer, NoGood> newNoGoods) {
+		if (currentAssignment != null) {
+			// Tasks must not grow the assignment, see DefaultLazyGroundingInstantiationStrategy#getAssignmentStatusForAtom.
+			currentAssignment.growForMaxAtomId();
+		}
+		final RuleGroundingOrder groundingOrder = firstBindingAtom.rule.getGroundingInfo().orderStartingFrom(firstBindingAtom.startingLiteral);
+		final int numChunks = Math.min(startingInstances.size() / MIN_INSTANCES_PER_TASK, 4 * INSTANTIATION_POOL.getParallelism());
+		final int chunkSize = (startingInstances.size() + numChunks - 1) / numChunks;
+		List<ForkJoinTask<InstantiationChunk>> tasks = new ArrayList<>(numChunks);
+		for (int from = 0; from < startingInstances.size(); from += chunkSize) {
+			List<Instance> chunk = startingInstances.subList(from, Math.min(from + chunkSize, startingInstances.size()));
+			tasks.add(INSTANTIATION_POOL.submit(() -> instantiateChunk(firstBindingAtom, groundingOrder, chunk, currentAssignment)));
+		}
+		// All tasks must be done before nogoods are generated, as the latter inserts into the atom store.
+		List<InstantiationChunk> results = new ArrayList<>(tasks.size());
+		for (ForkJoinTask<InstantiationChunk> task : tasks) {
+			results.add(task.join());
+		}
+		for (InstantiationChunk result : results) {
+			groundAndRegister(firstBindingAtom.rule, result.substitutions, newNoGoods);
+			removeAfterObtainingNewNoGoods.addAll(result.staleWorkingMemoryEntries);
+		}
+	}
+
+	/**
+	 * Computes the ground substitutions of the rule of the given {@link FirstBindingAtom} for the given chunk of starting
+	 * instances. Runs concurrently to other chunks of the same rule.
+	 */
+	private InstantiationChunk instantiateChunk(FirstBindingAtom firstBindingAtom, RuleGroundingOrder groundingOrder, List<Instance> startingInstances,
+			Assignment currentAssignment) {
+		CompiledRule nonGroundRule = firstBindingAtom.rule;
+		// Binding modifies the grounding order (see RuleGroundingOrder#considerUntilCurrentEnd), hence every task uses a
+		// copy of its own.
+		RuleGroundingOrder chunkGroundingOrder = groundingOrder.copy();
+		InstantiationChunk result = new InstantiationChunk();
+		DefaultLazyGroundingInstantiationStrategy chunkInstantiationStrategy = new DefaultLazyGroundingInstantiationStrategy(this.workingMemory,
+				this.atomStore, this.factsFromProgram, this.heuristicsConfiguration.isAccumulatorEnabled());
+		chunkInstantiationStrategy.setStaleWorkingMemoryEntries(result.staleWorkingMemoryEntries);
+		LiteralInstantiator chunkInstantiator = new LiteralInstantiator(chunkInstantiationStrategy);
+		final SlotSubstitution unifier = new SlotSubstitution(nonGroundRule.getVariableNumbering());
+		for (Instance instance : startingInstances) {
+			if (!unifier.specialize(firstBindingAtom.startingLiteral.getAtom(), instance)) {
+				continue;
+			}
+			BindingResult bindingResult = getGroundInstantiations(nonGroundRule, chunkGroundingOrder, unifier, currentAssignment, chunkInstantiationStrategy,
+					chunkInstantiator);
+			result.substitutions.addAll(bindingResult.getGeneratedSubstitutions());
+			unifier.undo(0);
+		}
+		return result;
+	}
+
 	/**
 	 * Grounds the given {@code nonGroundRule} by applying the given {@code substitutions} and registers the nogoods generated during that
 	 * process.
@@ -412,9 +547,19 @@ public int register(NoGood noGood) {
 		return registry.register(noGood);
 	}
 
+	@Override
+	public long getNoGoodRegistryMemoryUsage() {
+		return registry.getMemoryUsage();
+	}
+
 	// Ideally, this method should be private. It's only visible because NaiveGrounderTest needs to access it.
 	BindingResult getGroundInstantiations(CompiledRule rule, RuleGroundingOrder groundingOrder, Substitution partialSubstitution,
 			Assignment currentAssignment) {
+		return getGroundInstantiations(rule, groundingOrder, partialSubstitution, currentAssignment, instantiationStrategy, ruleInstantiator);
+	}
+
+	private BindingResult getGroundInstantiations(CompiledRule rule, RuleGroundingOrder groundingOrder, Substitution partialSubstitution,
+			Assignment currentAssignment, DefaultLazyGroundingInstantiationStrategy instantiationStrategy, LiteralInstantiator instantiator) {
 		int tolerance = heuristicsConfiguration.getTolerance(rule.isConstraint());
 		if (tolerance < 0) {
 			tolerance = Integer.MAX_VALUE;
@@ -424,7 +569,16 @@ BindingResult getGroundInstantiations(CompiledRule rule, RuleGroundingOrder grou
 		// Note: Actually the assignment could be an instance variable of the grounder (shared with solver),
 		// but this would have a larger impact on grounder/solver communication design as a whole.
 		instantiationStrategy.setCurrentAssignment(currentAssignment);
-		BindingResult bindingResult = bindNextAtomInRule(groundingOrder, 0, tolerance, tolerance, partialSubstitution);
+		BindingResult bindingResult = bindNextAtomInRule(instantiator, rule.getGroundingInfo(), groundingOrder, 0, tolerance, tolerance, partialSubstitution);
+		if (partialSubstitution instanceof SlotSubstitution) {
+			// The caller may reset the partial substitution afterwards, hence generated substitutions must not share it.
+			List<Substitution> generatedSubstitutions = bindingResult.getGeneratedSubstitutions();
+			for (int i = 0; i < generatedSubstitutions.size(); i++) {
+				if (generatedSubstitutions.get(i) == partialSubstitution) {
+					generatedSubstitutions.set(i, ((SlotSubstitution) partialSubstitution).copy());
+				}
+			}
+		}
 		if (LOGGER.isDebugEnabled()) {
 			for (int i = 0; i < bindingResult.size(); i++) {
 				Integer numberOfUnassignedPositiveBodyAtoms = bindingResult.getNumbersOfUnassignedPositiveBodyAtoms().get(i);
@@ -438,13 +592,16 @@ BindingResult getGroundInstantiations(CompiledRule rule, RuleGroundingOrder grou
 	}
 
 	/**
-	 * Helper method used by {@link NaiveGrounder#bindNextAtomInRule(RuleGroundingOrderImpl, int, int, int, BasicSubstitution)}.
+	 * Helper method used by
+	 * {@link NaiveGrounder#bindNextAtomInRule(LiteralInstantiator, RuleGroundingInfo, RuleGroundingOrder, int, int, int, Substitution)}.
 	 *
 	 * Takes an <code>ImmutablePair</code> of a {@link BasicSubstitution} and an accompanying {@link AssignmentStatus} and calls
 	 * <code>bindNextAtomInRule</code> for the next literal in the grounding order.
 	 * If the assignment status for the last bound literal was {@link AssignmentStatus#UNASSIGNED}, the <code>remainingTolerance</code>
 	 * parameter is decreased by 1. If the remaining tolerance drops below zero, this method returns an empty {@link BindingResult}.
 	 *
+	 * @param instantiator
+	 * @param groundingInfo
 	 * @param groundingOrder
 	 * @param orderPosition
 	 * @param originalTolerance
@@ -453,19 +610,19 @@ BindingResult getGroundInstantiations(CompiledRule rule, RuleGroundingOrder grou
 	 * @return the result of calling bindNextAtomInRule on the next literal in the grounding order, or an empty binding result if remaining
 	 *         tolerance is less than zero.
 	 */
-	private BindingResult continueBinding(RuleGroundingOrder groundingOrder, int orderPosition, int originalTolerance, int remainingTolerance,
-			ImmutablePair<Substitution, AssignmentStatus> lastLiteralBindingResult) {
+	private BindingResult continueBinding(LiteralInstantiator instantiator, RuleGroundingInfo groundingInfo, RuleGroundingOrder groundingOrder, int orderPosition, int originalTolerance,
+			int remainingTolerance, ImmutablePair<Substitution, AssignmentStatus> lastLiteralBindingResult) {
 		Substitution substitution = lastLiteralBindingResult.left;
 		AssignmentStatus lastBoundLiteralAssignmentStatus = lastLiteralBindingResult.right;
 		switch (lastBoundLiteralAssignmentStatus) {
 			case TRUE:
-				return advanceAndBindNextAtomInRule(groundingOrder, orderPosition, originalTolerance, remainingTolerance, substitution);
+				return advanceAndBindNextAtomInRule(instantiator, groundingInfo, groundingOrder, orderPosition, originalTolerance, remainingTolerance, substitution);
 			case UNASSIGNED:
 				// The last literal bound to obtain the current substitution has not been assigned a truth value by the solver yet.
 				// If we still have enough tolerance, we can continue grounding nevertheless.
 				int toleranceForNextRun = remainingTolerance - 1;
 				if (toleranceForNextRun >= 0) {
-					return advanceAndBindNextAtomInRule(groundingOrder, orderPosition, originalTolerance, toleranceForNextRun, substitution);
+					return advanceAndBindNextAtomInRule(instantiator, groundingInfo, groundingOrder, orderPosition, originalTolerance, toleranceForNextRun, substitution);
 				} else {
 					return BindingResult.empty();
 				}
@@ -477,19 +634,19 @@ private BindingResult continueBinding(RuleGroundingOrder groundingOrder, int ord
 		}
 	}
 
-	private BindingResult advanceAndBindNextAtomInRule(RuleGroundingOrder groundingOrder, int orderPosition, int originalTolerance, int remainingTolerance,
-			Substitution partialSubstitution) {
+	private BindingResult advanceAndBindNextAtomInRule(LiteralInstantiator instantiator, RuleGroundingInfo groundingInfo, RuleGroundingOrder groundingOrder, int orderPosition, int originalTolerance,
+			int remainingTolerance, Substitution partialSubstitution) {
 		groundingOrder.considerUntilCurrentEnd();
-		return bindNextAtomInRule(groundingOrder, orderPosition + 1, originalTolerance, remainingTolerance, partialSubstitution);
+		return bindNextAtomInRule(instantiator, groundingInfo, groundingOrder, orderPosition + 1, originalTolerance, remainingTolerance, partialSubstitution);
 	}
 
-	private BindingResult pushBackAndBindNextAtomInRule(RuleGroundingOrder groundingOrder, int orderPosition, int originalTolerance, int remainingTolerance,
-			Substitution partialSubstitution) {
+	private BindingResult pushBackAndBindNextAtomInRule(LiteralInstantiator instantiator, RuleGroundingInfo groundingInfo, RuleGroundingOrder groundingOrder, int orderPosition, int originalTolerance,
+			int remainingTolerance, Substitution partialSubstitution) {
 		RuleGroundingOrder modifiedGroundingOrder = groundingOrder.pushBack(orderPosition);
 		if (modifiedGroundingOrder == null) {
 			return BindingResult.empty();
 		}
-		return bindNextAtomInRule(modifiedGroundingOrder, orderPosition + 1, originalTolerance, remainingTolerance, partialSubstitution);
+		return bindNextAtomInRule(instantiator, groundingInfo, modifiedGroundingOrder, orderPosition + 1, originalTolerance, remainingTolerance, partialSubstitution);
 	}
 
 	//@formatter:off
@@ -497,8 +654,10 @@ private BindingResult pushBackAndBindNextAtomInRule(RuleGroundingOrder grounding
 	 * Computes ground substitutions for a literal based on a {@link RuleGroundingOrderImpl} and a {@link BasicSubstitution}.
 	 *
 	 * Computes ground substitutions for the literal at position <code>orderPosition</code> of <code>groundingOrder</code>
-	 * Actual substitutions are computed by this grounder's {@link LiteralInstantiator}. 
+	 * Actual substitutions are computed by the given {@link LiteralInstantiator}.
 	 *
+	 * @param instantiator the literal instantiator computing the substitutions
+	 * @param groundingInfo the grounding information of the rule, which records the selectivity of the literal
 	 * @param groundingOrder a {@link RuleGroundingOrderImpl} representing the body literals of a rule in the 
 	 * 						 sequence in which the should be bound during grounding.
 	 * @param orderPosition the current position within <code>groundingOrder</code>, indicates which literal should be bound
@@ -508,8 +667,8 @@ private BindingResult pushBackAndBindNextAtomInRule(RuleGroundingOrder grounding
 	 * @return a {@link BindingResult} representing applicable ground substitutions for all literals after orderPosition in groundingOrder
 	 */
 	//@formatter:on
-	private BindingResult bindNextAtomInRule(RuleGroundingOrder groundingOrder, int orderPosition, int originalTolerance, int remainingTolerance,
-			Substitution partialSubstitution) {
+	private BindingResult bindNextAtomInRule(LiteralInstantiator instantiator, RuleGroundingInfo groundingInfo, RuleGroundingOrder groundingOrder, int orderPosition, int originalTolerance,
+			int remainingTolerance, Substitution partialSubstitution) {
 		Literal currentLiteral = groundingOrder.getLiteralAtOrderPosition(orderPosition);
 		if (currentLiteral == null) {
 			LOGGER.trace("No more literals found in grounding order, therefore stopping binding!");
@@ -517,7 +676,7 @@ private BindingResult bindNextAtomInRule(RuleGroundingOrder groundingOrder, int
 		}
 		LOGGER.trace("Binding current literal {} with remaining tolerance {} and partial substitution {}.", currentLiteral,
 				remainingTolerance, partialSubstitution);
-		LiteralInstantiationResult instantiationResult = ruleInstantiator.instantiateLiteral(currentLiteral, partialSubstitution);
+		LiteralInstantiationResult instantiationResult = instantiator.instantiateLiteral(currentLiteral, partialSubstitution);
 		switch (instantiationResult.getType()) {
 			case CONTINUE:
 				/*
@@ -528,9 +687,10 @@ private BindingResult bindNextAtomInRule(RuleGroundingOrder groundingOrder, int
 				 */
 				List<ImmutablePair<Substitution, AssignmentStatus>> substitutionInfos = instantiationResult.getSubstitutions();
 				LOGGER.trace("Literal instantiator yielded {} substitutions for literal {}.", substitutionInfos.size(), currentLiteral);
+				groundingInfo.updateLiteralSelectivity(currentLiteral, 1, substitutionInfos.size());
 				BindingResult retVal = new BindingResult();
 				for (ImmutablePair<Substitution, AssignmentStatus> substitutionInfo : substitutionInfos) {
-					retVal.add(this.continueBinding(groundingOrder, orderPosition, originalTolerance, remainingTolerance,
+					retVal.add(this.continueBinding(instantiator, groundingInfo, groundingOrder, orderPosition, originalTolerance, remainingTolerance,
 							substitutionInfo));
 				}
 				return retVal;
@@ -540,25 +700,27 @@ private BindingResult bindNextAtomInRule(RuleGroundingOrder groundingOrder, int
 				 * Pushes the current literal to the end of the grounding order and calls bindNextAtomInRule with the modified grounding oder.
 				 */
 				LOGGER.trace("Pushing back literal {} in grounding order.", currentLiteral);
-				return pushBackAndBindNextAtomInRule(groundingOrder, orderPosition, originalTolerance, remainingTolerance, partialSubstitution);
+				return pushBackAndBindNextAtomInRule(instantiator, groundingInfo, groundingOrder, orderPosition, originalTolerance, remainingTolerance, partialSubstitution);
 			case MAYBE_PUSH_BACK:
 				/*
 				 * Indicates that the rule instantiator could not find any substitutions for the current literal. If a permissive grounder heuristic is in
 				 * use, push the current literal to the end of the grounding order and proceed with the next one, otherwise return an empty BindingResult.
 				 */
+				groundingInfo.updateLiteralSelectivity(currentLiteral, 1, 0);
 				if (originalTolerance > 0) {
 					LOGGER.trace(
 							"No substitutions yielded by literal instantiator for literal {}, but using permissive heuristic, therefore pushing the literal back.",
 							currentLiteral);
 					// This occurs when the grounder heuristic in use is a "permissive" one,
 					// i.e. it is deemed acceptable to have ground rules where a number of body atoms are not yet assigned a truth value by the solver.
-					return pushBackAndBindNextAtomInRule(groundingOrder, orderPosition, originalTolerance, remainingTolerance, partialSubstitution);
+					return pushBackAndBindNextAtomInRule(instantiator, groundingInfo, groundingOrder, orderPosition, originalTolerance, remainingTolerance, partialSubstitution);
 				} else {
 					LOGGER.trace("No substitutions found for literal {}", currentLiteral);
 					return BindingResult.empty();
 				}
 			case STOP_BINDING:
 				LOGGER.trace("No substitutions found for literal {}", currentLiteral);
+				groundingInfo.updateLiteralSelectivity(currentLiteral, 1, 0);
 				return BindingResult.empty();
 			default:
 				throw Util.oops("Unhandled literal instantiation result type: " + instantiationResult.getType());
@@ -578,7 +740,13 @@ public Map<Integer, Set<Integer>> getHeadsToBodies() {
 	@Override
 	public void updateAssignment(IntIterator it) {
 		while (it.hasNext()) {
-			workingMemory.addInstance(atomStore.get(it.next()), true);
+			Atom atom = atomStore.get(it.next());
+			Predicate predicate = atom.getPredicate();
+			// Rule atoms never occur in rule bodies, and atoms over predicates not occurring in the program (e.g., assumed by
+			// the solver) cannot instantiate any rule either.
+			if (!RuleAtom.PREDICATE.equals(predicate) && workingMemory.contains(predicate)) {
+				workingMemory.addInstance(atom, true);
+			}
 		}
 	}
 
@@ -627,7 +795,8 @@ public Set<Literal> justifyAtom(int atomToJustify, Assignment currentAssignment)
 	private void checkTypesOfNoGoods(Collection<NoGood> newNoGoods) {
 		for (NoGood noGood : newNoGoods) {
 			if (noGood.getType() != NoGoodInterface.Type.INTERNAL) {
-				for (int literal : noGood) {
+				for (int i = 0; i < noGood.size(); i++) {
+					int literal = noGood.getLiteral(i);
 					Atom atom = atomStore.get(atomOf(literal));
 					if (atom.getPredicate().isSolverInternal() && !(atom instanceof RuleAtom)) {
 						throw oops("NoGood containing atom of internal predicate " + atom + " is " + noGood.getType() + " instead of INTERNAL");
@@ -637,6 +806,15 @@ private void checkTypesOfNoGoods(Collection<NoGood> newNoGoods) {
 		}
 	}
 
+	/**
+	 * The ground substitutions and stale working memory entries obtained from one chunk of starting instances in parallel
+	 * instantiation.
+	 */
+	private static class InstantiationChunk {
+		final List<Substitution> substitutions = new ArrayList<>();
+		final LinkedHashSet<Atom> staleWorkingMemoryEntries = new LinkedHashSet<>();
+	}
+
 	private static class FirstBindingAtom {
 		final CompiledRule rule;
 		final Literal startingLiteral;
@@ -48,6 +48,7 @@
 import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
 import at.ac.tuwien.kr.alpha.core.common.AtomStore;
 import at.ac.tuwien.kr.alpha.core.common.NoGood;
+import at.ac.tuwien.kr.alpha.core.common.NoGoodBuilder;
 import at.ac.tuwien.kr.alpha.core.programs.CompiledProgram;
 import at.ac.tuwien.kr.alpha.core.programs.atoms.EnumerationAtom;
 import at.ac.tuwien.kr.alpha.core.programs.atoms.RuleAtom;
@@ -63,6 +64,7 @@ public class NoGoodGenerator {
 	private final Map<Predicate, LinkedHashSet<Instance>> factsFromProgram;
 	private final CompiledProgram programAnalysis;
 	private final Set<CompiledRule> uniqueGroundRulePerGroundHead;
+	private final NoGoodBuilder body = new NoGoodBuilder();
 
 	NoGoodGenerator(AtomStore atomStore, ChoiceRecorder recorder, Map<Predicate, LinkedHashSet<Instance>> factsFromProgram, CompiledProgram programAnalysis, Set<CompiledRule> uniqueGroundRulePerGroundHead) {
 		this.atomStore = atomStore;
@@ -83,16 +85,14 @@ public class NoGoodGenerator {
 	 * @return a list of the NoGoods corresponding to the ground rule.
 	 */
 	List<NoGood> generateNoGoodsFromGroundSubstitution(final CompiledRule nonGroundRule, final Substitution substitution) {
-		final List<Integer> posLiterals = collectPosLiterals(nonGroundRule, substitution);
-		final List<Integer> negLiterals = collectNegLiterals(nonGroundRule, substitution);
-
-		if (posLiterals == null || negLiterals == null) {
+		body.reset();
+		if (!collectPosLiterals(nonGroundRule, substitution, body) || !collectNegLiterals(nonGroundRule, substitution, body)) {
 			return emptyList();
 		}
 
 		// A constraint is represented by exactly one nogood.
 		if (nonGroundRule.isConstraint()) {
-			return singletonList(NoGood.fromConstraint(posLiterals, negLiterals));
+			return singletonList(NoGood.fromConstraint(body));
 		}
 
 		final List<NoGood> result = new ArrayList<>();
@@ -119,7 +119,7 @@ List<NoGood> generateNoGoodsFromGroundSubstitution(final CompiledRule nonGroundR
 		// Create a nogood for the head.
 		result.add(NoGood.headFirst(negateLiteral(headLiteral), bodyRepresentingLiteral));
 
-		final NoGood ruleBody = NoGood.fromBody(posLiterals, negLiterals, bodyRepresentingLiteral);
+		final NoGood ruleBody = NoGood.fromBody(body, bodyRepresentingLiteral);
 		result.add(ruleBody);
 
 		// Nogoods such that the atom representing the body is true iff the body is true.
@@ -133,15 +133,19 @@ List<NoGood> generateNoGoodsFromGroundSubstitution(final CompiledRule nonGroundR
 		}
 
 		// If the body of the rule contains negation, add choices.
-		if (!negLiterals.isEmpty()) {
-			result.addAll(choiceRecorder.generateChoiceNoGoods(posLiterals, negLiterals, bodyRepresentingLiteral));
+		if (body.getNumberOfNegativeLiterals() > 0) {
+			result.addAll(choiceRecorder.generateChoiceNoGoods(body, bodyRepresentingLiteral));
 		}
 
 		return result;
 	}
 
-	List<Integer> collectNegLiterals(final CompiledRule nonGroundRule, final Substitution substitution) {
-		final List<Integer> bodyLiteralsNegative = new ArrayList<>();
+	/**
+	 * Adds the literals of the atoms occurring negatively in the ground rule to the given builder.
+	 *
+	 * @return false iff the ground rule can never fire, i.e., one of its negative atoms is a fact.
+	 */
+	boolean collectNegLiterals(final CompiledRule nonGroundRule, final Substitution substitution, final NoGoodBuilder body) {
 		for (Literal lit : nonGroundRule.getNegativeBody()) {
 			Atom groundAtom = lit.getAtom().substitute(substitution);
 			
@@ -149,7 +153,7 @@ List<Integer> collectNegLiterals(final CompiledRule nonGroundRule, final Substit
 
 			if (factInstances != null && factInstances.contains(new Instance(groundAtom.getTerms()))) {
 				// Negative atom that is always true encountered, skip whole rule as it will never fire.
-				return null;
+				return false;
 			}
 
 			if (!existsRuleWithPredicateInHead(groundAtom.getPredicate())) {
@@ -157,13 +161,12 @@ List<Integer> collectNegLiterals(final CompiledRule nonGroundRule, final Substit
 				continue;
 			}
 
-			bodyLiteralsNegative.add(atomToLiteral(atomStore.putIfAbsent(groundAtom)));
+			body.addNegative(atomToLiteral(atomStore.putIfAbsent(groundAtom)));
 		}
-		return bodyLiteralsNegative;
+		return true;
 	}
 
-	private List<Integer> collectPosLiterals(final CompiledRule nonGroundRule, final Substitution substitution) {
-		final List<Integer> bodyLiteralsPositive = new ArrayList<>();
+	private boolean collectPosLiterals(final CompiledRule nonGroundRule, final Substitution substitution, final NoGoodBuilder body) {
 		for (Literal lit  : nonGroundRule.getPositiveBody()) {
 			if (lit instanceof FixedInterpretationLiteral) {
 				// TODO: conversion of atom to literal is ugly. NonGroundRule could manage atoms instead of literals, cf. FIXME there
@@ -190,12 +193,12 @@ private List<Integer> collectPosLiterals(final CompiledRule nonGroundRule, final
 
 			if (!existsRuleWithPredicateInHead(groundAtom.getPredicate())) {
 				// Atom is no fact and no rule defines it, it cannot be derived (i.e., is always false), skip whole rule as it will never fire.
-				return null;
+				return false;
 			}
 
-			bodyLiteralsPositive.add(atomToLiteral(atomStore.putIfAbsent(groundAtom)));
+			body.addPositive(atomToLiteral(atomStore.putIfAbsent(groundAtom)));
 		}
-		return bodyLiteralsPositive;
+		return true;
 	}
 
 	private boolean existsRuleWithPredicateInHead(final Predicate predicate) {
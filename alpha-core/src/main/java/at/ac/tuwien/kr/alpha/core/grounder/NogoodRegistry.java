@@ -1,45 +1,155 @@
 package at.ac.tuwien.kr.alpha.core.grounder;
 
-import java.util.LinkedHashMap;
+import java.util.Arrays;
 import java.util.Map;
 
 import at.ac.tuwien.kr.alpha.commons.util.IntIdGenerator;
 import at.ac.tuwien.kr.alpha.core.common.NoGood;
 
+/**
+ * Assigns ids to NoGoods and recognizes NoGoods the grounder already produced.
+ *
+ * Instead of the NoGoods themselves, only a 128-bit fingerprint of each (sorted, duplicate-free) literal array and
+ * head flag is kept, in an open-addressing hash table of primitive arrays. The NoGoods are held by the NoGood store
+ * of the solver already, the registry only needs to tell whether it has seen a NoGood before.
+ *
+ * Ids are unique per registry, i.e., per grounder.
+ */
 public class NogoodRegistry {
-	private static final IntIdGenerator ID_GENERATOR = new IntIdGenerator();
+	private static final int INITIAL_CAPACITY = 1 << 10;
+	private static final int EMPTY = -1;
 
-	private Map<NoGood, Integer> registeredIdentifiers = new LinkedHashMap<>();
+	private final IntIdGenerator idGenerator = new IntIdGenerator();
+
+	/**
+	 * The low and high 64 bits of the fingerprints, slot i occupies positions 2i and 2i+1.
+	 */
+	private long[] fingerprints = new long[2 * INITIAL_CAPACITY];
+
+	/**
+	 * The ids of the registered NoGoods by slot, {@link #EMPTY} marks an empty slot.
+	 */
+	private int[] ids = newIdTable(INITIAL_CAPACITY);
+	private int size;
+	private long totalLiterals;
+
+	private static int[] newIdTable(int capacity) {
+		int[] table = new int[capacity];
+		Arrays.fill(table, EMPTY);
+		return table;
+	}
+
+	private static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	private static long fingerprint(NoGood noGood, long seed, long multiplier) {
+		// Size and head flag go into the upper half, where they cannot cancel out with the first literal.
+		long hash = seed ^ ((long) noGood.size() << 33) ^ (noGood.hasHead() ? 1L << 32 : 0);
+		for (int i = 0; i < noGood.size(); i++) {
+			hash = mix(hash + (noGood.getLiteral(i) & 0xffffffffL) * multiplier);
+		}
+		return hash;
+	}
+
+	private static long lowFingerprint(NoGood noGood) {
+		return fingerprint(noGood, 0x243f6a8885a308d3L, 0x9e3779b97f4a7c15L);
+	}
+
+	private static long highFingerprint(NoGood noGood) {
+		return fingerprint(noGood, 0x13198a2e03707344L, 0xc6a4a7935bd1e995L);
+	}
+
+	/**
+	 * @return the slot holding the given fingerprint, or the empty slot where it would be inserted.
+	 */
+	private int findSlot(long low, long high) {
+		int mask = ids.length - 1;
+		int slot = (int) low & mask;
+		while (ids[slot] != EMPTY && (fingerprints[2 * slot] != low || fingerprints[2 * slot + 1] != high)) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void insert(int slot, long low, long high, int noGoodId) {
+		fingerprints[2 * slot] = low;
+		fingerprints[2 * slot + 1] = high;
+		ids[slot] = noGoodId;
+		if (4 * ++size > 3 * ids.length) {
+			rehash(2 * ids.length);
+		}
+	}
+
+	private void rehash(int capacity) {
+		long[] oldFingerprints = fingerprints;
+		int[] oldIds = ids;
+		fingerprints = new long[2 * capacity];
+		ids = newIdTable(capacity);
+		for (int i = 0; i < oldIds.length; i++) {
+			if (oldIds[i] != EMPTY) {
+				int slot = findSlot(oldFingerprints[2 * i], oldFingerprints[2 * i + 1]);
+				fingerprints[2 * slot] = oldFingerprints[2 * i];
+				fingerprints[2 * slot + 1] = oldFingerprints[2 * i + 1];
+				ids[slot] = oldIds[i];
+			}
+		}
+	}
 
 	/**
 	 * Helper methods to analyze average nogood length.
 	 * @return
 	 */
 	public float computeAverageNoGoodLength() {
-		int totalSizes = 0;
-		for (Map.Entry<NoGood, Integer> noGoodEntry : registeredIdentifiers.entrySet()) {
-			totalSizes += noGoodEntry.getKey().size();
-		}
-		return ((float) totalSizes) / registeredIdentifiers.size();
+		return ((float) totalLiterals) / size;
 	}
 
+	/**
+	 * @return the number of NoGoods remembered by this registry.
+	 */
+	public int getNumberOfRegisteredNoGoods() {
+		return size;
+	}
+
+	/**
+	 * @return the number of bytes occupied by the fingerprint table.
+	 */
+	public long getMemoryUsage() {
+		return 8L * fingerprints.length + 4L * ids.length;
+	}
+
+	/**
+	 * Registers all given NoGoods not seen before and adds them with their new ids to the given map.
+	 */
 	void register(Iterable<NoGood> noGoods, Map<Integer, NoGood> difference) {
 		for (NoGood noGood : noGoods) {
+			long low = lowFingerprint(noGood);
+			long high = highFingerprint(noGood);
+			int slot = findSlot(low, high);
 			// Check if noGood was already derived earlier, add if it is new
-			if (!registeredIdentifiers.containsKey(noGood)) {
-				int noGoodId = ID_GENERATOR.getNextId();
-				registeredIdentifiers.put(noGood, noGoodId);
+			if (ids[slot] == EMPTY) {
+				int noGoodId = idGenerator.getNextId();
+				insert(slot, low, high, noGoodId);
+				totalLiterals += noGood.size();
 				difference.put(noGoodId, noGood);
 			}
 		}
 	}
 
+	/**
+	 * Returns the id of the given NoGood if the grounder produced it already, or a fresh id otherwise. NoGoods
+	 * registered by this method (i.e., by the solver) are not remembered, as the solver may delete them again.
+	 */
 	int register(NoGood noGood) {
-		if (!registeredIdentifiers.containsKey(noGood)) {
-			int noGoodId = ID_GENERATOR.getNextId();
-			registeredIdentifiers.put(noGood, noGoodId);
-			return noGoodId;
+		int slot = findSlot(lowFingerprint(noGood), highFingerprint(noGood));
+		if (ids[slot] != EMPTY) {
+			return ids[slot];
 		}
-		return registeredIdentifiers.get(noGood);
+		return idGenerator.getNextId();
 	}
 }
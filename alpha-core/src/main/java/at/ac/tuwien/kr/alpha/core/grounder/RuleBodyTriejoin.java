@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.grounder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import at.ac.tuwien.kr.alpha.api.programs.atoms.BasicAtom;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.ExternalAtom;
+import at.ac.tuwien.kr.alpha.api.programs.literals.Literal;
+import at.ac.tuwien.kr.alpha.api.grounder.Substitution;
+import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
+import at.ac.tuwien.kr.alpha.api.programs.terms.VariableTerm;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.TermDictionary;
+import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
+import at.ac.tuwien.kr.alpha.commons.substitutions.SlotSubstitution;
+import at.ac.tuwien.kr.alpha.core.programs.rules.CompiledRule;
+
+/**
+ * Computes the substitutions satisfying the positive body of a purely relational rule by a {@link LeapfrogTriejoin} over
+ * the instances in a {@link WorkingMemory}.
+ *
+ * A rule is purely relational if its positive body consists of basic atoms whose terms are variables or constants only,
+ * and all its other body literals (e.g., negated atoms or comparisons) are no external atoms and only use variables
+ * occurring in the positive body. The latter literals are not joined but have to be checked for each resulting
+ * substitution, see {@link #getFilterLiterals()}.
+ *
+ * Like the grounding from starting literals, the join is incremental: one literal of the positive body is restricted to
+ * given (recently derived) instances while all other literals range over all instances in the working memory. Sorted
+ * relations built from the working memory are kept and only rebuilt once the respective instance storage grew, which
+ * requires that instances are never removed from it, as is the case during stratified evaluation.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class RuleBodyTriejoin {
+
+	private final CompiledRule rule;
+	private final VariableTerm[] variables;
+	private final List<JoinedLiteral> joinedLiterals = new ArrayList<>();
+	private final List<Literal> groundLiterals = new ArrayList<>();
+	private final List<Literal> filterLiterals = new ArrayList<>();
+
+	/**
+	 * The relations built from the working memory, by literal (which are compared by identity).
+	 */
+	private final IdentityHashMap<Literal, CachedRelation> cachedRelations = new IdentityHashMap<>();
+
+	private RuleBodyTriejoin(CompiledRule rule, List<Literal> positiveLiterals, List<Literal> otherLiterals) {
+		this.rule = rule;
+		// Order the variables by the number of literals they occur in, such that the most constrained ones are bound first.
+		Map<VariableTerm, Integer> numOccurrences = new LinkedHashMap<>();
+		for (Literal literal : positiveLiterals) {
+			for (VariableTerm variable : literal.getOccurringVariables()) {
+				numOccurrences.merge(variable, 1, Integer::sum);
+			}
+		}
+		List<VariableTerm> variableOrder = new ArrayList<>(numOccurrences.keySet());
+		variableOrder.sort((variable1, variable2) -> Integer.compare(numOccurrences.get(variable2), numOccurrences.get(variable1)));
+		this.variables = variableOrder.toArray(new VariableTerm[0]);
+		for (Literal literal : positiveLiterals) {
+			if (literal.getOccurringVariables().isEmpty()) {
+				groundLiterals.add(literal);
+			} else {
+				joinedLiterals.add(new JoinedLiteral(literal, variableOrder));
+			}
+		}
+		filterLiterals.addAll(otherLiterals);
+	}
+
+	/**
+	 * Returns the triejoin for the body of the given rule, or null if the rule is not purely relational or its positive
+	 * body does not contain at least two literals to join.
+	 */
+	public static RuleBodyTriejoin forRule(CompiledRule rule) {
+		if (rule.getGroundingInfo().hasFixedInstantiation()) {
+			return null;
+		}
+		List<Literal> positiveLiterals = new ArrayList<>();
+		List<Literal> otherLiterals = new ArrayList<>();
+		Set<VariableTerm> positiveVariables = new LinkedHashSet<>();
+		for (Literal literal : rule.getBody()) {
+			if (literal.getAtom() instanceof ExternalAtom) {
+				return null;
+			}
+			if (literal.isNegated() || !(literal.getAtom() instanceof BasicAtom)) {
+				otherLiterals.add(literal);
+				continue;
+			}
+			for (Term term : literal.getAtom().getTerms()) {
+				if (!(term instanceof VariableTerm) && !(term.isGround() && TermDictionary.isEncoded(term))) {
+					return null;
+				}
+			}
+			positiveLiterals.add(literal);
+			positiveVariables.addAll(literal.getOccurringVariables());
+		}
+		for (Literal literal : otherLiterals) {
+			if (!positiveVariables.containsAll(literal.getOccurringVariables())) {
+				return null;
+			}
+		}
+		if (positiveLiterals.size() < 2) {
+			return null;
+		}
+		return new RuleBodyTriejoin(rule, positiveLiterals, otherLiterals);
+	}
+
+	/**
+	 * @return the body literals that are not joined and have to be checked for each substitution resulting from the join.
+	 */
+	public List<Literal> getFilterLiterals() {
+		return Collections.unmodifiableList(filterLiterals);
+	}
+
+	/**
+	 * Joins the positive body of the rule, where the given literal only ranges over the given instances and all other
+	 * literals over the positive instances in the given working memory.
+	 *
+	 * @param restrictedLiteral   a positive literal of the body.
+	 * @param restrictedInstances the instances the literal ranges over.
+	 * @param workingMemory       the working memory holding the instances of all other literals.
+	 * @return the substitutions of all variables of the positive body, or null if some instance contains a term that is
+	 *         not encoded in the {@link TermDictionary}.
+	 */
+	public List<Substitution> join(Literal restrictedLiteral, Collection<Instance> restrictedInstances, WorkingMemory workingMemory) {
+		for (Literal groundLiteral : groundLiterals) {
+			Instance instance = new Instance(groundLiteral.getAtom().getTerms());
+			boolean contained = groundLiteral == restrictedLiteral ? restrictedInstances.contains(instance)
+					: workingMemory.get(groundLiteral.getAtom(), true).containsInstance(instance);
+			if (!contained) {
+				return Collections.emptyList();
+			}
+		}
+		List<LeapfrogTriejoin.Relation> relations = new ArrayList<>(joinedLiterals.size());
+		for (JoinedLiteral joinedLiteral : joinedLiterals) {
+			LeapfrogTriejoin.Relation relation;
+			if (joinedLiteral.literal == restrictedLiteral) {
+				relation = joinedLiteral.toRelation(restrictedInstances);
+			} else {
+				relation = getRelationFromWorkingMemory(joinedLiteral, workingMemory);
+			}
+			if (relation == null) {
+				return null;
+			}
+			if (relation.size() == 0) {
+				return Collections.emptyList();
+			}
+			relations.add(relation);
+		}
+		List<Substitution> substitutions = new ArrayList<>();
+		new LeapfrogTriejoin(variables.length, relations).join(binding -> {
+			SlotSubstitution substitution = new SlotSubstitution(rule.getVariableNumbering());
+			for (int i = 0; i < variables.length; i++) {
+				substitution.put(variables[i], TermDictionary.getTerm(binding[i]));
+			}
+			substitutions.add(substitution);
+		});
+		return substitutions;
+	}
+
+	private LeapfrogTriejoin.Relation getRelationFromWorkingMemory(JoinedLiteral joinedLiteral, WorkingMemory workingMemory) {
+		InstanceStorage storage = workingMemory.get(joinedLiteral.literal.getAtom(), true);
+		Set<Instance> instances = storage.getAllInstances();
+		CachedRelation cached = cachedRelations.get(joinedLiteral.literal);
+		if (cached != null && cached.numInstances == instances.size()) {
+			return cached.relation;
+		}
+		LeapfrogTriejoin.Relation relation = joinedLiteral.toRelation(instances);
+		if (relation != null) {
+			cachedRelations.put(joinedLiteral.literal, new CachedRelation(relation, instances.size()));
+		}
+		return relation;
+	}
+
+	/**
+	 * A positive body literal together with the mapping of its positions to the variables of the join.
+	 */
+	private static class JoinedLiteral {
+		private final Literal literal;
+		/**
+		 * The (ascending) join variables of the literal.
+		 */
+		private final int[] variables;
+		/**
+		 * For each position of the literal, the index of its variable in {@link #variables}, or -1 if it holds a constant.
+		 */
+		private final int[] variableIndexByPosition;
+		/**
+		 * For each position of the literal holding a constant, the dictionary id of the constant.
+		 */
+		private final int[] constantIds;
+
+		JoinedLiteral(Literal literal, List<VariableTerm> variableOrder) {
+			this.literal = literal;
+			List<Term> terms = literal.getAtom().getTerms();
+			this.variables = literal.getOccurringVariables().stream().mapToInt(variableOrder::indexOf).sorted().toArray();
+			this.variableIndexByPosition = new int[terms.size()];
+			this.constantIds = new int[terms.size()];
+			for (int i = 0; i < terms.size(); i++) {
+				Term term = terms.get(i);
+				if (term instanceof VariableTerm) {
+					int variable = variableOrder.indexOf(term);
+					int index = 0;
+					while (variables[index] != variable) {
+						index++;
+					}
+					variableIndexByPosition[i] = index;
+					constantIds[i] = TermDictionary.NO_ID;
+				} else {
+					variableIndexByPosition[i] = -1;
+					constantIds[i] = TermDictionary.getId(term);
+				}
+			}
+		}
+
+		/**
+		 * Projects the instances matching the constants and repeated variables of the literal to its variables.
+		 *
+		 * @return the relation, or null if some instance contains a term that is not encoded.
+		 */
+		LeapfrogTriejoin.Relation toRelation(Collection<Instance> instances) {
+			int[][] tuples = new int[instances.size()][];
+			int numTuples = 0;
+			for (Instance instance : instances) {
+				int[] tuple = new int[variables.length];
+				Arrays.fill(tuple, TermDictionary.NO_ID);
+				boolean matches = true;
+				for (int i = 0; i < variableIndexByPosition.length; i++) {
+					int id = TermDictionary.getIdOrNoId(instance.terms.get(i));
+					if (id == TermDictionary.NO_ID) {
+						return null;
+					}
+					int index = variableIndexByPosition[i];
+					if (index == -1) {
+						matches &= id == constantIds[i];
+					} else if (tuple[index] == TermDictionary.NO_ID) {
+						tuple[index] = id;
+					} else {
+						// The variable occurs repeatedly in the literal.
+						matches &= id == tuple[index];
+					}
+				}
+				if (matches) {
+					tuples[numTuples++] = tuple;
+				}
+			}
+			return new LeapfrogTriejoin.Relation(variables, numTuples == tuples.length ? tuples : Arrays.copyOf(tuples, numTuples));
+		}
+	}
+
+	private static class CachedRelation {
+		private final LeapfrogTriejoin.Relation relation;
+		private final int numInstances;
+
+		CachedRelation(LeapfrogTriejoin.Relation relation, int numInstances) {
+			this.relation = relation;
+			this.numInstances = numInstances;
+		}
+	}
+
+}
@@ -1,7 +1,10 @@
 package at.ac.tuwien.kr.alpha.core.grounder;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import at.ac.tuwien.kr.alpha.api.programs.Predicate;
 import at.ac.tuwien.kr.alpha.api.programs.literals.Literal;
 
 public interface RuleGroundingInfo {
@@ -17,4 +20,29 @@ public interface RuleGroundingInfo {
 	
 	void computeGroundingOrders();
 
+	/**
+	 * Records that instantiating the given body literal extended the given number of partial substitutions to the given
+	 * number of substitutions. May be called concurrently while grounding the rule.
+	 *
+	 * @param literal           the instantiated body literal.
+	 * @param numGivenTuples    the number of partial substitutions the literal was instantiated with.
+	 * @param numObtainedTuples the number of substitutions obtained.
+	 */
+	void updateLiteralSelectivity(Literal literal, int numGivenTuples, int numObtainedTuples);
+
+	/**
+	 * Recomputes the grounding orders based on the recorded selectivities if enough tuples were recorded since the last
+	 * recomputation. Must not be called while grounding the rule.
+	 *
+	 * @return true iff some grounding order changed.
+	 */
+	boolean updateGroundingOrders();
+
+	/**
+	 * Returns, for each predicate of a positive ordinary body literal, the sets of positions that are ground whenever the
+	 * literal is looked up in the working memory while following one of the computed grounding orders. Only patterns
+	 * with at least two positions are reported, single positions are always indexed.
+	 */
+	Map<Predicate, Set<List<Integer>>> getBoundPositionPatterns();
+
 }
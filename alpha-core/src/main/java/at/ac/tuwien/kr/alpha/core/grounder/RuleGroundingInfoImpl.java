@@ -32,13 +32,21 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import at.ac.tuwien.kr.alpha.api.programs.Predicate;
 import at.ac.tuwien.kr.alpha.api.programs.atoms.BasicAtom;
 import at.ac.tuwien.kr.alpha.api.programs.literals.Literal;
+import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
 import at.ac.tuwien.kr.alpha.api.programs.terms.VariableTerm;
 import at.ac.tuwien.kr.alpha.core.programs.rules.CompiledRule;
 
@@ -46,8 +54,13 @@
  * Provides the grounder with information on the order to ground the literals in the body of a rule.
  * Grounding starts with some starting literal (i.e., one that does not require any variables to be bound already) and
  * then may join this with any other literal that requires no other variables to be bound other than those already bound
- * by the first literal. This class is prepared to take join-selectivities into account for finding a good grounding
- * order.
+ * by the first literal. Among the literals that can be joined next, the one with the lowest selectivity is chosen.
+ *
+ * The selectivity of a literal is estimated at runtime as the ratio of the number of substitutions obtained by
+ * instantiating the literal to the number of partial substitutions given to it. Grounders report these numbers via
+ * {@link #updateLiteralSelectivity(Literal, int, int)} and call {@link #updateGroundingOrders()} whenever grounding
+ * orders may be exchanged; once enough tuples have been observed, the estimates are updated (decaying older ones) and
+ * the grounding orders are recomputed.
  *
  * Since the grounder must yield all ground instantiations of rules whose positive body is true in the current assignment,
  * a starting literals is a positive BasicAtom and the grounder can wait until after some instance in the working memory
@@ -61,10 +74,30 @@
  * literal (whose interpretation is not fixed) is a starting literal, at least for the current grounding procedure.
  */
 public class RuleGroundingInfoImpl implements RuleGroundingInfo {
+	private static final Logger LOGGER = LoggerFactory.getLogger(RuleGroundingInfoImpl.class);
+
+	/**
+	 * The weight of the previous selectivity estimate of a literal when combining it with a newly observed selectivity.
+	 */
+	private static final float SELECTIVITY_DECAY = 0.5f;
+
+	/**
+	 * The number of partial substitutions given to the literals of a rule after which its grounding orders are recomputed.
+	 */
+	private static final long GIVEN_TUPLES_BEFORE_REORDERING = 1024;
+
 	private final CompiledRule internalRule;
 	HashMap<Literal, RuleGroundingOrderImpl> groundingOrders;
 	private HashMap<Literal, Float> literalSelectivity;
+
+	/**
+	 * For each body literal, the numbers of given and obtained tuples observed since the last recomputation of grounding
+	 * orders. Grounders report body literals as they occur in grounding orders, hence lookups by identity suffice.
+	 */
+	private final IdentityHashMap<Literal, long[]> observedTuples = new IdentityHashMap<>();
+	private long givenTuplesSinceReordering;
 	private List<Literal> startingLiterals;
+	private final Map<Predicate, Set<List<Integer>>> boundPositionPatterns = new LinkedHashMap<>();
 
 	private final boolean fixedGroundingInstantiation;
 	private RuleGroundingOrderImpl fixedGroundingOrder;
@@ -81,6 +114,7 @@ private void resetLiteralSelectivity() {
 		// Set selectivity of all literals to 1.0f.
 		for (Literal literal : internalRule.getBody()) {
 			literalSelectivity.put(literal, 1.0f);
+			observedTuples.put(literal, new long[2]);
 		}
 	}
 
@@ -132,8 +166,48 @@ public List<Literal> getStartingLiterals() {
 		return Collections.unmodifiableList(startingLiterals);
 	}
 
-	public void updateLiteralSelectivity(Literal literal, int numGivenTuples, int numObtainedTuples) {
-		// TODO: add old selectivity (with a decay factor) and new selectivity.
+	/**
+	 * Synchronized, since the grounder may instantiate a rule from several starting instances in parallel.
+	 */
+	@Override
+	public synchronized void updateLiteralSelectivity(Literal literal, int numGivenTuples, int numObtainedTuples) {
+		long[] observed = observedTuples.get(literal);
+		if (observed == null) {
+			return;
+		}
+		observed[0] += numGivenTuples;
+		observed[1] += numObtainedTuples;
+		givenTuplesSinceReordering += numGivenTuples;
+	}
+
+	@Override
+	public boolean updateGroundingOrders() {
+		if (fixedGroundingInstantiation || givenTuplesSinceReordering < GIVEN_TUPLES_BEFORE_REORDERING) {
+			return false;
+		}
+		givenTuplesSinceReordering = 0;
+		for (Map.Entry<Literal, long[]> entry : observedTuples.entrySet()) {
+			long[] observed = entry.getValue();
+			if (observed[0] == 0) {
+				continue;
+			}
+			float observedSelectivity = (float) observed[1] / observed[0];
+			float previousSelectivity = literalSelectivity.get(entry.getKey());
+			literalSelectivity.put(entry.getKey(), SELECTIVITY_DECAY * previousSelectivity + (1 - SELECTIVITY_DECAY) * observedSelectivity);
+			observed[0] = 0;
+			observed[1] = 0;
+		}
+		Map<Literal, RuleGroundingOrderImpl> previousGroundingOrders = new HashMap<>(groundingOrders);
+		computeGroundingOrders();
+		boolean changed = false;
+		for (Literal startingLiteral : startingLiterals) {
+			RuleGroundingOrderImpl groundingOrder = groundingOrders.get(startingLiteral);
+			if (!groundingOrder.hasSameOrder(previousGroundingOrders.get(startingLiteral))) {
+				changed = true;
+				LOGGER.debug("Reordered grounding of rule {} by selectivities {}, now grounding: {}", internalRule, literalSelectivity, groundingOrder);
+			}
+		}
+		return changed;
 	}
 
 	@Override
@@ -192,6 +266,7 @@ private void computeGroundingOrder(Literal startingLiteral) {
 						"Could not find a grounding order for rule " + internalRule + " with starting literal: " + startingLiteral + ". Rule is not safe.");
 			}
 			remainingLiterals.remove(nextGroundingLiteral);
+			recordBoundPositions(nextGroundingLiteral, boundVariables);
 			boolean boundNewVars = boundVariables.addAll(nextGroundingLiteral.getBindingVariables());
 			if (boundNewVars) {
 				positionLastVarBound = position;
@@ -205,6 +280,32 @@ private void computeGroundingOrder(Literal startingLiteral) {
 		groundingOrders.put(startingLiteral, new RuleGroundingOrderImpl(startingLiteral, literalsOrder, positionLastVarBound, internalRule.isGround()));
 	}
 
+	/**
+	 * Records the positions of the given literal that are ground once all given variables are bound, such that the
+	 * working memory can provide a composite index for looking up instances at exactly these positions.
+	 */
+	private void recordBoundPositions(Literal literal, Set<VariableTerm> boundVariables) {
+		if (!(literal.getAtom() instanceof BasicAtom) || literal.isNegated()) {
+			return;
+		}
+		List<Term> terms = literal.getAtom().getTerms();
+		List<Integer> boundPositions = new ArrayList<>();
+		for (int i = 0; i < terms.size(); i++) {
+			if (boundVariables.containsAll(terms.get(i).getOccurringVariables())) {
+				boundPositions.add(i);
+			}
+		}
+		if (boundPositions.size() < 2) {
+			return;
+		}
+		boundPositionPatterns.computeIfAbsent(literal.getPredicate(), k -> new LinkedHashSet<>()).add(Collections.unmodifiableList(boundPositions));
+	}
+
+	@Override
+	public Map<Predicate, Set<List<Integer>>> getBoundPositionPatterns() {
+		return Collections.unmodifiableMap(boundPositionPatterns);
+	}
+
 	private Literal selectNextGroundingLiteral(LinkedHashSet<Literal> remainingLiterals, Set<VariableTerm> boundVariables) {
 		Float bestSelectivity = Float.MAX_VALUE;
 		Literal bestLiteral = null;
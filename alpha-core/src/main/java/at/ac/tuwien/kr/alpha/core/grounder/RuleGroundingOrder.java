@@ -15,4 +15,9 @@ public interface RuleGroundingOrder {
 	
 	int getPositionFromWhichAllVarsAreBound();
 
+	/**
+	 * @return a copy of this grounding order that can be modified independently of it.
+	 */
+	RuleGroundingOrder copy();
+
 }
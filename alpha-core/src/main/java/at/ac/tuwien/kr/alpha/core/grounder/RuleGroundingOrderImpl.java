@@ -124,11 +124,23 @@ public RuleGroundingOrderImpl pushBack(int orderPosition) {
 		return reorderedGroundingOrder;
 	}
 	
+	@Override
+	public RuleGroundingOrderImpl copy() {
+		return new RuleGroundingOrderImpl(this);
+	}
+
 	@Override
 	public void considerUntilCurrentEnd() {
 		this.stopBindingAtOrderPosition = this.otherLiterals.size();
 	}
 
+	/**
+	 * @return true iff the given grounding order joins the same literals in the same order as this one.
+	 */
+	boolean hasSameOrder(RuleGroundingOrderImpl other) {
+		return other != null && positionLastVarBound == other.positionLastVarBound && otherLiterals.equals(other.otherLiterals);
+	}
+
 	@Override
 	public Literal getStartingLiteral() {
 		return this.startingLiteral;
@@ -36,6 +36,7 @@
 import at.ac.tuwien.kr.alpha.api.programs.terms.FunctionTerm;
 import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
 import at.ac.tuwien.kr.alpha.api.programs.terms.VariableTerm;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.TermDictionary;
 import at.ac.tuwien.kr.alpha.commons.substitutions.Unifier;
 
 /**
@@ -105,7 +106,11 @@ private static boolean unifyTerms(Term left, Term right, Unifier currentSubstitu
 		if (leftSubs instanceof FunctionTerm && rightSubs instanceof FunctionTerm) {
 			final FunctionTerm leftFunction = (FunctionTerm) leftSubs;
 			final FunctionTerm rightFunction = (FunctionTerm) rightSubs;
-			if (!leftFunction.getSymbol().equals(rightFunction.getSymbol())
+			if (TermDictionary.isEncoded(leftFunction) && TermDictionary.isEncoded(rightFunction)) {
+				// Distinct encoded terms are never equal.
+				return false;
+			}
+			if (TermDictionary.getSymbolId(leftFunction) != TermDictionary.getSymbolId(rightFunction)
 				|| leftFunction.getTerms().size() != rightFunction.getTerms().size()) {
 				return false;
 			}
@@ -30,9 +30,13 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import at.ac.tuwien.kr.alpha.api.programs.Predicate;
 import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
@@ -40,39 +44,69 @@
 import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
 
 public class WorkingMemory {
-	protected HashMap<Predicate, ImmutablePair<IndexedInstanceStorage, IndexedInstanceStorage>> workingMemory = new HashMap<>();
-	private HashSet<IndexedInstanceStorage> modifiedWorkingMemories = new LinkedHashSet<>();
+	private static final Logger LOGGER = LoggerFactory.getLogger(WorkingMemory.class);
+
+	/**
+	 * Number of calls to {@link #reset()} after which indices that have not been queried in the meantime are dropped.
+	 */
+	static final int UNUSED_INDEX_CHECK_INTERVAL = 64;
+
+	protected HashMap<Predicate, ImmutablePair<InstanceStorage, InstanceStorage>> workingMemory = new HashMap<>();
+	private HashSet<InstanceStorage> modifiedWorkingMemories = new LinkedHashSet<>();
+	private int resetsSinceIndexCheck;
 
 	public boolean contains(Predicate predicate) {
 		return workingMemory.containsKey(predicate);
 	}
 
 	public void initialize(Predicate predicate) {
+		initialize(predicate, false);
+	}
+
+	/**
+	 * Creates the storages for the given predicate, unless they exist already.
+	 *
+	 * @param predicate the predicate.
+	 * @param columnar  whether to use a {@link ColumnarInstanceStorage}, which saves memory for predicates with many
+	 *                  instances, rather than an {@link IndexedInstanceStorage}.
+	 */
+	public void initialize(Predicate predicate, boolean columnar) {
 		if (workingMemory.containsKey(predicate)) {
 			return;
 		}
 
-		IndexedInstanceStorage pos = new IndexedInstanceStorage(predicate, true);
-		IndexedInstanceStorage neg = new IndexedInstanceStorage(predicate, false);
-		// Index all positions of the storage (may impair efficiency)
-		for (int i = 0; i < predicate.getArity(); i++) {
-			pos.addIndexPosition(i);
-			neg.addIndexPosition(i);
-		}
+		InstanceStorage pos = columnar ? new ColumnarInstanceStorage(predicate, true) : new IndexedInstanceStorage(predicate, true);
+		InstanceStorage neg = columnar ? new ColumnarInstanceStorage(predicate, false) : new IndexedInstanceStorage(predicate, false);
+		// Note: positions are indexed lazily, i.e., only once they are actually queried.
 
 		workingMemory.put(predicate, new ImmutablePair<>(pos, neg));
 	}
 
-	public IndexedInstanceStorage get(Literal literal) {
+	/**
+	 * Adds composite indices to the positive instance storages for all bound-position patterns the grounding orders of a
+	 * rule produce. Predicates must have been initialized before.
+	 *
+	 * @param groundingInfo the grounding information of the rule.
+	 */
+	public void addIndicesFor(RuleGroundingInfo groundingInfo) {
+		for (Map.Entry<Predicate, Set<List<Integer>>> patterns : groundingInfo.getBoundPositionPatterns().entrySet()) {
+			InstanceStorage storage = get(patterns.getKey(), true);
+			for (List<Integer> positions : patterns.getValue()) {
+				storage.addCompositeIndex(positions.stream().mapToInt(Integer::intValue).toArray());
+			}
+		}
+	}
+
+	public InstanceStorage get(Literal literal) {
 		return get(literal.getAtom(), !literal.isNegated());
 	}
 
-	public IndexedInstanceStorage get(Atom atom, boolean value) {
+	public InstanceStorage get(Atom atom, boolean value) {
 		return get(atom.getPredicate(), value);
 	}
 
-	public IndexedInstanceStorage get(Predicate predicate, boolean value) {
-		ImmutablePair<IndexedInstanceStorage, IndexedInstanceStorage> pair = workingMemory.get(predicate);
+	public InstanceStorage get(Predicate predicate, boolean value) {
+		ImmutablePair<InstanceStorage, InstanceStorage> pair = workingMemory.get(predicate);
 		if (value) {
 			return pair.getLeft();
 		} else {
@@ -85,7 +119,7 @@ public void addInstance(Atom atom, boolean value) {
 	}
 
 	public void addInstance(Predicate predicate, boolean value, Instance instance) {
-		IndexedInstanceStorage storage = get(predicate, value);
+		InstanceStorage storage = get(predicate, value);
 
 		if (!storage.containsInstance(instance)) {
 			storage.addInstance(instance);
@@ -94,7 +128,7 @@ public void addInstance(Predicate predicate, boolean value, Instance instance) {
 	}
 
 	public void addInstances(Predicate predicate, boolean value, Iterable<Instance> instances) {
-		IndexedInstanceStorage storage = get(predicate, value);
+		InstanceStorage storage = get(predicate, value);
 
 		for (Instance instance : instances) {
 			if (!storage.containsInstance(instance)) {
@@ -104,11 +138,31 @@ public void addInstances(Predicate predicate, boolean value, Iterable<Instance>
 		}
 	}
 
+	/**
+	 * Clears the set of modified storages, i.e., marks the end of a grounding round. Every
+	 * {@link #UNUSED_INDEX_CHECK_INTERVAL} rounds, indices not queried since the last check are dropped.
+	 */
 	public void reset() {
 		modifiedWorkingMemories = new LinkedHashSet<>();
+		if (++resetsSinceIndexCheck >= UNUSED_INDEX_CHECK_INTERVAL) {
+			resetsSinceIndexCheck = 0;
+			dropUnusedIndices();
+		}
+	}
+
+	/**
+	 * Drops all indices of all storages that have not been queried since the last check.
+	 */
+	public void dropUnusedIndices() {
+		int droppedIndices = 0;
+		for (ImmutablePair<InstanceStorage, InstanceStorage> storages : workingMemory.values()) {
+			droppedIndices += storages.getLeft().dropUnusedIndices();
+			droppedIndices += storages.getRight().dropUnusedIndices();
+		}
+		LOGGER.debug("Dropped {} unused indices from working memory.", droppedIndices);
 	}
 
-	public Set<IndexedInstanceStorage> modified() {
+	public Set<InstanceStorage> modified() {
 		return modifiedWorkingMemories;
 	}
 }
@@ -36,6 +36,7 @@
 import at.ac.tuwien.kr.alpha.commons.programs.atoms.Atoms;
 import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
 import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
+import at.ac.tuwien.kr.alpha.commons.substitutions.SlotSubstitution;
 
 /**
  * Abstract base implementation of {@link LiteralInstantiationStrategy} that outlines a basic workflow for
@@ -102,6 +103,9 @@ public final List<ImmutablePair<Substitution, AssignmentStatus>> getAcceptedSubs
 	 */
 	protected final List<ImmutablePair<Substitution, AssignmentStatus>> buildSubstitutionsFromInstances(Atom atomToSubstitute,
 			Iterable<Instance> candidateInstances, Substitution partialSubstitution) {
+		if (partialSubstitution instanceof SlotSubstitution) {
+			return buildSubstitutionsFromInstancesInPlace(atomToSubstitute, candidateInstances, (SlotSubstitution) partialSubstitution);
+		}
 		List<ImmutablePair<Substitution, AssignmentStatus>> retVal = new ArrayList<>();
 		// Filter for only instances unifying with partialSubsitution, i.e. "where all joins work out".
 		Substitution currentInstanceSubstitution;
@@ -126,6 +130,31 @@ protected final List<ImmutablePair<Substitution, AssignmentStatus>> buildSubstit
 		return retVal;
 	}
 
+	/**
+	 * Variant of {@link AbstractLiteralInstantiationStrategy#buildSubstitutionsFromInstances(Atom, Iterable, Substitution)} that extends the
+	 * given partial substitution in place for each candidate instance and undoes the extension afterwards. Only substitutions that are
+	 * accepted are copied, hence candidates not unifying with the partial substitution cause no allocation. The partial substitution is
+	 * unchanged when this method returns.
+	 */
+	private List<ImmutablePair<Substitution, AssignmentStatus>> buildSubstitutionsFromInstancesInPlace(Atom atomToSubstitute,
+			Iterable<Instance> candidateInstances, SlotSubstitution partialSubstitution) {
+		List<ImmutablePair<Substitution, AssignmentStatus>> retVal = new ArrayList<>();
+		int mark = partialSubstitution.mark();
+		for (Instance instance : candidateInstances) {
+			if (!partialSubstitution.specialize(atomToSubstitute, instance)) {
+				continue;
+			}
+			Atom atomForCurrentInstance = Atoms.newBasicAtom(atomToSubstitute.getPredicate(), atomToSubstitute.getTerms())
+					.substitute(partialSubstitution);
+			AssignmentStatus assignmentStatus = this.getAssignmentStatusForAtom(atomForCurrentInstance);
+			if (this.assignmentStatusAccepted(assignmentStatus)) {
+				retVal.add(new ImmutablePair<>(partialSubstitution.copy(), assignmentStatus));
+			}
+			partialSubstitution.undo(mark);
+		}
+		return retVal;
+	}
+
 	protected abstract AssignmentStatus getAssignmentStatusForAtom(Atom atom);
 
 	protected abstract AssignmentStatus getAssignmentStatusForNegatedGroundLiteral(Literal negatedGroundLiteral);
@@ -36,7 +36,7 @@
 import at.ac.tuwien.kr.alpha.commons.util.Util;
 import at.ac.tuwien.kr.alpha.core.common.Assignment;
 import at.ac.tuwien.kr.alpha.core.common.AtomStore;
-import at.ac.tuwien.kr.alpha.core.grounder.IndexedInstanceStorage;
+import at.ac.tuwien.kr.alpha.core.grounder.InstanceStorage;
 import at.ac.tuwien.kr.alpha.core.grounder.NaiveGrounder;
 import at.ac.tuwien.kr.alpha.core.grounder.WorkingMemory;
 import at.ac.tuwien.kr.alpha.core.solver.ThriceTruth;
@@ -84,7 +84,7 @@ public DefaultLazyGroundingInstantiationStrategy(WorkingMemory workingMemory, At
 
 	@Override
 	protected Iterable<Instance> computeCandidateInstances(Atom partiallyGroundAtom) {
-		IndexedInstanceStorage instanceStorage = this.workingMemory.get(partiallyGroundAtom, true);
+		InstanceStorage instanceStorage = this.workingMemory.get(partiallyGroundAtom, true);
 		return instanceStorage.getInstancesFromPartiallyGroundAtom(partiallyGroundAtom);
 	}
 
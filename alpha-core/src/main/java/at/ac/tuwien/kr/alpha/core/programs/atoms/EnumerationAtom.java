@@ -14,7 +14,7 @@
 import at.ac.tuwien.kr.alpha.commons.Predicates;
 import at.ac.tuwien.kr.alpha.commons.programs.atoms.AbstractAtom;
 import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
-import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
+import at.ac.tuwien.kr.alpha.commons.substitutions.Substitutions;
 import at.ac.tuwien.kr.alpha.commons.util.Util;
 
 /**
@@ -42,11 +42,11 @@ public EnumerationAtom(Term enumIdTerm, Term valueTerm, VariableTerm indexTerm)
 		this.indexTerm = indexTerm;
 	}
 	
-	public static void resetEnumerations() {
+	public static synchronized void resetEnumerations() {
 		ENUMERATIONS.clear();
 	}
 
-	private Integer getEnumerationIndex(Term identifier, Term enumerationTerm) {
+	private static synchronized Integer getEnumerationIndex(Term identifier, Term enumerationTerm) {
 		ENUMERATIONS.putIfAbsent(identifier, new HashMap<>());
 		HashMap<Term, Integer> enumeratedTerms = ENUMERATIONS.get(identifier);
 		Integer assignedInteger = enumeratedTerms.get(enumerationTerm);
@@ -75,7 +75,7 @@ public Substitution addEnumerationIndexToSubstitution(Substitution substitution)
 			throw new RuntimeException("Enumeration term is not ground after substitution. Should not happen.");
 		}
 		Integer enumerationIndex = getEnumerationIndex(idTerm, enumerationTerm);
-		BasicSubstitution retVal = new BasicSubstitution(substitution);
+		Substitution retVal = Substitutions.copyOf(substitution);
 		retVal.put((VariableTerm) getTerms().get(2), Terms.newConstant(enumerationIndex));
 		return retVal;
 	}
@@ -42,7 +42,7 @@
 import at.ac.tuwien.kr.alpha.api.programs.terms.VariableTerm;
 import at.ac.tuwien.kr.alpha.commons.programs.literals.AbstractLiteral;
 import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
-import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
+import at.ac.tuwien.kr.alpha.commons.substitutions.Substitutions;
 import at.ac.tuwien.kr.alpha.commons.util.Util;
 
 /**
@@ -83,7 +83,7 @@ private List<Substitution> getIntervalSubstitutions(Substitution partialSubstitu
 		if (intervalRepresentingVariable instanceof VariableTerm) {
 			// Still a variable, generate all elements in the interval.
 			for (int i = intervalLowerBound; i <= intervalUpperBound; i++) {
-				Substitution ith = new BasicSubstitution(partialSubstitution);
+				Substitution ith = Substitutions.copyOf(partialSubstitution);
 				ith.put((VariableTerm) intervalRepresentingVariable, Terms.newConstant(i));
 				substitutions.add(ith);
 			}
@@ -31,60 +31,104 @@
 import at.ac.tuwien.kr.alpha.api.programs.Predicate;
 import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
 import at.ac.tuwien.kr.alpha.api.programs.literals.Literal;
-import at.ac.tuwien.kr.alpha.api.programs.terms.ConstantTerm;
 import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
 import at.ac.tuwien.kr.alpha.api.programs.terms.VariableTerm;
 import at.ac.tuwien.kr.alpha.commons.Predicates;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.TermDictionary;
 import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
+import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
+import at.ac.tuwien.kr.alpha.commons.substitutions.VariableNumbering;
 import at.ac.tuwien.kr.alpha.core.programs.rules.CompiledRule;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
-import static at.ac.tuwien.kr.alpha.commons.util.Util.oops;
-
 /**
  * Atoms corresponding to rule bodies use this predicate, its only term is a Java object linking to the non-ground rule and grounding substitution.
+ *
+ * The grounding substitution is not kept itself, but encoded as the term dictionary ids of the terms bound to the
+ * variables of the rule, in the order given by the rule's {@link VariableNumbering}. The {@link Substitution} is
+ * reconstructed on demand only, e.g., for justification analysis or for printing.
  */
 public class RuleAtom implements Atom {
 	public static final Predicate PREDICATE = Predicates.getPredicate("_R_", 1, true, true);
 
-	private final List<ConstantTerm<RuleAtomData>> terms;
+	private final RuleAtomData data;
 
 	public static class RuleAtomData implements Comparable<RuleAtomData> {
+		/**
+		 * Marks a variable of the rule that is not bound by the substitution.
+		 */
+		private static final int UNBOUND = -2;
+
 		private final CompiledRule nonGroundRule;
-		private final Substitution substitution;
-		private final int substitutionHash;
+
+		/**
+		 * The dictionary id of the term bound to each variable of the rule, {@link #UNBOUND} for unbound variables and
+		 * {@link TermDictionary#NO_ID} for bound terms that are not encoded in the dictionary.
+		 */
+		private final int[] termIds;
+
+		/**
+		 * The terms not encoded in the dictionary by variable, null if all bound terms are encoded (the common case).
+		 */
+		private final Term[] unencodedTerms;
+		private final int hash;
 
 		RuleAtomData(CompiledRule nonGroundRule, Substitution substitution) {
 			this.nonGroundRule = nonGroundRule;
-			this.substitution = substitution;
-			this.substitutionHash = substitution.hashCode();
+			VariableNumbering numbering = nonGroundRule.getVariableNumbering();
+			this.termIds = new int[numbering.size()];
+			Term[] unencoded = null;
+			int hash = nonGroundRule.getRuleId();
+			for (int i = 0; i < termIds.length; i++) {
+				Term term = substitution.eval(numbering.getVariable(i));
+				int termId = term == null ? UNBOUND : TermDictionary.getIdOrNoId(term);
+				if (termId == TermDictionary.NO_ID) {
+					if (unencoded == null) {
+						unencoded = new Term[termIds.length];
+					}
+					unencoded[i] = term;
+				}
+				termIds[i] = termId;
+				hash = 31 * hash + (termId == TermDictionary.NO_ID ? term.hashCode() : termId);
+			}
+			this.unencodedTerms = unencoded;
+			this.hash = hash;
+		}
+
+		private Term getTerm(int index) {
+			int termId = termIds[index];
+			if (termId == UNBOUND) {
+				return null;
+			}
+			return termId == TermDictionary.NO_ID ? unencodedTerms[index] : TermDictionary.getTerm(termId);
 		}
 
+		/**
+		 * Compares the ground instances of the same rule variable by variable, unbound variables ordered first. This
+		 * is the same order as comparing the grounding substitutions.
+		 */
 		@Override
 		public int compareTo(RuleAtomData other) {
 			if (nonGroundRule.getRuleId() != other.nonGroundRule.getRuleId()) {
 				return Integer.compare(nonGroundRule.getRuleId(), other.nonGroundRule.getRuleId());
 			}
-			if (substitution.getSubstitution().size() != other.getSubstitution().getSubstitution().size()) {
-				throw oops("RuleAtoms over the same rule have different-sized substitutions.");
-			}
-			// Note: Since Substitutions are backed by TreeMaps, their variables can be iterated in the same order.
-			Iterator<Map.Entry<VariableTerm, Term>> iteratorThis = substitution.getSubstitution().entrySet().iterator();
-			Iterator<Map.Entry<VariableTerm, Term>> iteratorOther = other.getSubstitution().getSubstitution().entrySet().iterator();
-			while (iteratorThis.hasNext()) {
-				Map.Entry<VariableTerm, Term> thisNextEntry = iteratorThis.next();
-				Map.Entry<VariableTerm, Term> otherNextEntry = iteratorOther.next();
-				VariableTerm thisVariable = thisNextEntry.getKey();
-				VariableTerm otherVariable = otherNextEntry.getKey();
-				if (thisVariable != otherVariable) {
-					throw oops("Comparing substitutions for the same non-ground rule whose variables differ: " + thisVariable + " != " + otherVariable);
+			for (int i = 0; i < termIds.length; i++) {
+				if (termIds[i] == other.termIds[i] && termIds[i] != TermDictionary.NO_ID) {
+					continue;
+				}
+				Term thisTerm = getTerm(i);
+				Term otherTerm = other.getTerm(i);
+				if (thisTerm == null || otherTerm == null) {
+					if (thisTerm != otherTerm) {
+						return thisTerm == null ? -1 : 1;
+					}
+					continue;
 				}
-				int compare = thisNextEntry.getValue().compareTo(otherNextEntry.getValue());
+				int compare = thisTerm.compareTo(otherTerm);
 				if (compare != 0) {
 					return compare;
 				}
@@ -96,7 +140,18 @@ public CompiledRule getNonGroundRule() {
 			return nonGroundRule;
 		}
 
+		/**
+		 * Reconstructs the grounding substitution of the rule.
+		 */
 		public Substitution getSubstitution() {
+			VariableNumbering numbering = nonGroundRule.getVariableNumbering();
+			Substitution substitution = new BasicSubstitution();
+			for (int i = 0; i < termIds.length; i++) {
+				Term term = getTerm(i);
+				if (term != null) {
+					substitution.put(numbering.getVariable(i), term);
+				}
+			}
 			return substitution;
 		}
 
@@ -110,25 +165,29 @@ public boolean equals(Object o) {
 			}
 
 			RuleAtomData that = (RuleAtomData) o;
-			if (!nonGroundRule.equals(that.nonGroundRule) || substitutionHash != that.substitutionHash) {
+			if (hash != that.hash || !nonGroundRule.equals(that.nonGroundRule) || !Arrays.equals(termIds, that.termIds)) {
 				return false;
 			}
-			return getSubstitution().equals(that.getSubstitution());
+			return unencodedTerms == null || Arrays.equals(unencodedTerms, that.unencodedTerms);
 		}
 
 		@Override
 		public int hashCode() {
-			return 31 * getNonGroundRule().hashCode() + substitutionHash;
+			return hash;
 		}
 
 		@Override
 		public String toString() {
-			return "ruleId=" + nonGroundRule.getRuleId() + ":substitution=" + substitution.toString();
+			return "ruleId=" + nonGroundRule.getRuleId() + ":substitution=" + getSubstitution().toString();
 		}
 	}
 
 	public RuleAtom(CompiledRule nonGroundRule, Substitution substitution) {
-		this.terms = Collections.singletonList(Terms.newConstant(new RuleAtomData(nonGroundRule, substitution)));
+		this.data = new RuleAtomData(nonGroundRule, substitution);
+	}
+
+	public RuleAtomData getRuleAtomData() {
+		return data;
 	}
 
 	@Override
@@ -136,9 +195,13 @@ public Predicate getPredicate() {
 		return PREDICATE;
 	}
 
+	/**
+	 * Returns the single constant term wrapping the {@link RuleAtomData} of this atom. The constant is built on every
+	 * call, hence this is meant for output only; use {@link #getRuleAtomData()} otherwise.
+	 */
 	@Override
 	public List<Term> getTerms() {
-		return Collections.singletonList(terms.get(0));
+		return Collections.singletonList(Terms.newConstant(data));
 	}
 
 	@Override
@@ -168,17 +231,25 @@ public boolean equals(Object o) {
 
 		RuleAtom that = (RuleAtom) o;
 
-		return terms.equals(that.terms);
+		return data.equals(that.data);
 	}
 
 	@Override
 	public int hashCode() {
-		return 31 * PREDICATE.hashCode() + terms.hashCode();
+		return 31 * PREDICATE.hashCode() + data.hashCode();
+	}
+
+	@Override
+	public int compareTo(Atom o) {
+		if (o instanceof RuleAtom) {
+			return data.compareTo(((RuleAtom) o).data);
+		}
+		return Atom.super.compareTo(o);
 	}
 
 	@Override
 	public String toString() {
-		return PREDICATE.getName() + "(" + terms.get(0) + ')';
+		return PREDICATE.getName() + "(" + data + ')';
 	}
 
 	@Override
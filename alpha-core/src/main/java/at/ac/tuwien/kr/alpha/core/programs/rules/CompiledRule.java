@@ -4,6 +4,8 @@
 
 import at.ac.tuwien.kr.alpha.api.programs.Predicate;
 import at.ac.tuwien.kr.alpha.api.programs.rules.NormalRule;
+import at.ac.tuwien.kr.alpha.commons.substitutions.SlotSubstitution;
+import at.ac.tuwien.kr.alpha.commons.substitutions.VariableNumbering;
 import at.ac.tuwien.kr.alpha.core.grounder.RuleGroundingInfo;
 
 public interface CompiledRule extends NormalRule {
@@ -13,6 +15,12 @@ public interface CompiledRule extends NormalRule {
 	List<Predicate> getOccurringPredicates();
 	
 	RuleGroundingInfo getGroundingInfo();
+
+	/**
+	 * Returns the numbering of all variables occurring in this rule, used to represent substitutions for this rule as
+	 * {@link SlotSubstitution}s.
+	 */
+	VariableNumbering getVariableNumbering();
 	
 	CompiledRule renameVariables(String str);
 
@@ -38,12 +38,15 @@
 import at.ac.tuwien.kr.alpha.commons.programs.rules.heads.Heads;
 import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
 import at.ac.tuwien.kr.alpha.commons.substitutions.Unifier;
+import at.ac.tuwien.kr.alpha.commons.substitutions.VariableNumbering;
 import at.ac.tuwien.kr.alpha.commons.util.IntIdGenerator;
 import at.ac.tuwien.kr.alpha.core.grounder.RuleGroundingInfoImpl;
 import com.google.common.annotations.VisibleForTesting;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Represents a normal rule or a constraint for the semi-naive grounder.
@@ -61,6 +64,8 @@ public class InternalRule extends AbstractRule<NormalHead> implements CompiledRu
 
 	private final RuleGroundingInfoImpl groundingOrders;
 
+	private final VariableNumbering variableNumbering;
+
 	/**
 	 * Creates a new {@link InternalRule} with the given head plus body and a fresh identifier.
 	 * Note that no check is done whether head and body already occur in another {@link InternalRule}.
@@ -76,8 +81,10 @@ public InternalRule(NormalHead head, List<Literal> body) {
 		this.ruleId = InternalRule.ID_GENERATOR.getNextId();
 
 		this.occurringPredicates = new ArrayList<>();
+		Set<VariableTerm> occurringVariables = new HashSet<>();
 		if (!isConstraint()) {
 			this.occurringPredicates.add(this.getHeadAtom().getPredicate());
+			occurringVariables.addAll(this.getHeadAtom().getOccurringVariables());
 		}
 
 		for (Literal literal : body) {
@@ -85,7 +92,9 @@ public InternalRule(NormalHead head, List<Literal> body) {
 				throw new IllegalArgumentException("AggregateLiterals aren't supported in InternalRules! (lit: " + literal.toString() + ")");
 			}
 			this.occurringPredicates.add(literal.getPredicate());
+			occurringVariables.addAll(literal.getOccurringVariables());
 		}
+		this.variableNumbering = new VariableNumbering(occurringVariables);
 
 		// not needed, done in AbstractRule! Leaving it commented out for future reference since this might actually be the
 		// proper place to put it
@@ -146,6 +155,11 @@ public RuleGroundingInfoImpl getGroundingInfo() {
 		return this.groundingOrders;
 	}
 
+	@Override
+	public VariableNumbering getVariableNumbering() {
+		return this.variableNumbering;
+	}
+
 	@Override
 	public int getRuleId() {
 		return this.ruleId;
@@ -10,6 +10,10 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.collections4.SetUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -21,12 +25,14 @@
 import at.ac.tuwien.kr.alpha.api.programs.analysis.ComponentGraph;
 import at.ac.tuwien.kr.alpha.api.programs.analysis.DependencyGraph;
 import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.api.programs.literals.ExternalLiteral;
 import at.ac.tuwien.kr.alpha.api.programs.literals.Literal;
 import at.ac.tuwien.kr.alpha.commons.programs.atoms.Atoms;
-import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
 import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
+import at.ac.tuwien.kr.alpha.commons.substitutions.SlotSubstitution;
 import at.ac.tuwien.kr.alpha.core.depgraph.StratificationAlgorithm;
-import at.ac.tuwien.kr.alpha.core.grounder.IndexedInstanceStorage;
+import at.ac.tuwien.kr.alpha.core.grounder.InstanceStorage;
+import at.ac.tuwien.kr.alpha.core.grounder.RuleBodyTriejoin;
 import at.ac.tuwien.kr.alpha.core.grounder.RuleGroundingInfo;
 import at.ac.tuwien.kr.alpha.core.grounder.RuleGroundingOrder;
 import at.ac.tuwien.kr.alpha.core.grounder.WorkingMemory;
@@ -36,10 +42,15 @@
 import at.ac.tuwien.kr.alpha.core.grounder.instantiation.WorkingMemoryBasedInstantiationStrategy;
 import at.ac.tuwien.kr.alpha.core.programs.AnalyzedProgram;
 import at.ac.tuwien.kr.alpha.core.programs.InternalProgram;
+import at.ac.tuwien.kr.alpha.core.programs.atoms.EnumerationLiteral;
 import at.ac.tuwien.kr.alpha.core.programs.rules.CompiledRule;
 
 /**
  * Evaluates the stratifiable part of a given (analyzed) ASP program.
+ *
+ * Optionally, the bodies of purely relational rules are joined by a worst-case optimal {@link RuleBodyTriejoin} instead
+ * of binding one literal after the other, and components that do not depend on each other are evaluated in parallel,
+ * see {@link #StratifiedEvaluation(boolean, boolean)}.
  * 
  * Copyright (c) 2019-2020, the Alpha Team.
  */
@@ -47,6 +58,12 @@ public class StratifiedEvaluation extends ProgramTransformation<AnalyzedProgram,
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(StratifiedEvaluation.class);
 
+	/**
+	 * The pool evaluating independent components, shared by all evaluations unless given another pool. Its worker threads
+	 * are daemon threads that terminate when idle, hence the pool is never shut down.
+	 */
+	private static final ForkJoinPool EVALUATION_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
 	private WorkingMemory workingMemory = new WorkingMemory();
 	private Map<Predicate, LinkedHashSet<CompiledRule>> predicateDefiningRules;
 
@@ -57,6 +74,43 @@ public class StratifiedEvaluation extends ProgramTransformation<AnalyzedProgram,
 
 	private LiteralInstantiator literalInstantiator;
 
+	private final boolean triejoinEnabled;
+	private final Map<CompiledRule, RuleBodyTriejoin> triejoins = new HashMap<>(); // Null for rules that cannot be triejoined.
+
+	private final boolean parallel;
+	private final ForkJoinPool evaluationPool;
+
+	public StratifiedEvaluation() {
+		this(false, false);
+	}
+
+	public StratifiedEvaluation(boolean triejoinEnabled) {
+		this(triejoinEnabled, false);
+	}
+
+	/**
+	 * @param triejoinEnabled whether purely relational rule bodies are joined by a leapfrog triejoin.
+	 * @param parallel        whether independent components are evaluated in parallel, see
+	 *                        {@link #evaluateComponentsInParallel(List)}.
+	 */
+	public StratifiedEvaluation(boolean triejoinEnabled, boolean parallel) {
+		this(triejoinEnabled, parallel, EVALUATION_POOL);
+	}
+
+	/**
+	 * Evaluates independent components in parallel in the given pool instead of the shared one, e.g., to fix the
+	 * parallelism regardless of the number of available processors.
+	 */
+	StratifiedEvaluation(boolean triejoinEnabled, ForkJoinPool evaluationPool) {
+		this(triejoinEnabled, true, evaluationPool);
+	}
+
+	private StratifiedEvaluation(boolean triejoinEnabled, boolean parallel, ForkJoinPool evaluationPool) {
+		this.triejoinEnabled = triejoinEnabled;
+		this.parallel = parallel;
+		this.evaluationPool = evaluationPool;
+	}
+
 	@Override
 	// Note: ideally this returns a "PartiallyEvaluatedProgram" such that the grounder can directly use the working
 	// memories created here rather than re-initialize everything.
@@ -78,6 +132,7 @@ public InternalProgram apply(AnalyzedProgram inputProgram) {
 			for (Predicate predicate : nonGroundRule.getOccurringPredicates()) {
 				workingMemory.initialize(predicate);
 			}
+			workingMemory.addIndicesFor(nonGroundRule.getGroundingInfo());
 		}
 
 		workingMemory.reset();
@@ -86,8 +141,12 @@ public InternalProgram apply(AnalyzedProgram inputProgram) {
 		literalInstantiator = new LiteralInstantiator(new WorkingMemoryBasedInstantiationStrategy(workingMemory));
 
 		// Evaluate the program part covered by the calculated stratification.
-		for (ComponentGraph.SCComponent currComponent : strata) {
-			evaluateComponent(currComponent);
+		if (parallel && evaluationPool.getParallelism() > 1 && hasIndependentComponents(strata)) {
+			evaluateComponentsInParallel(strata);
+		} else {
+			for (ComponentGraph.SCComponent currComponent : strata) {
+				evaluateComponent(currComponent, getRulesToEvaluate(currComponent));
+			}
 		}
 
 		// Build the program resulting from evaluating the stratified part.
@@ -100,9 +159,112 @@ public InternalProgram apply(AnalyzedProgram inputProgram) {
 		return new InternalProgram(outputRules, additionalFacts);
 	}
 
-	private void evaluateComponent(ComponentGraph.SCComponent comp) {
+	/**
+	 * Checks whether some components of the given stratification do not depend on each other and hence may be evaluated
+	 * concurrently. Since the strata are in topological order, this is the case iff some component does not depend on its
+	 * immediate predecessor.
+	 */
+	private static boolean hasIndependentComponents(List<ComponentGraph.SCComponent> strata) {
+		for (int i = 1; i < strata.size(); i++) {
+			if (!strata.get(i).getDependencyIds().containsKey(strata.get(i - 1).getId())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Evaluates the given components on a shared {@link ForkJoinPool} with one thread per available processor, each one
+	 * as soon as all components it depends on are done. Every component is evaluated by a separate {@link StratifiedEvaluation}
+	 * with a working memory of its own, see
+	 * {@link #evaluateComponentSeparately(ComponentGraph.SCComponent, ComponentEvaluationInfo, Map)}. The derived facts are
+	 * merged in the order of the stratification, hence the result is the same as that of the sequential evaluation.
+	 *
+	 * Components whose rules contain external or enumeration atoms may have side effects, they are evaluated one after
+	 * the other in the order of the stratification.
+	 */
+	private void evaluateComponentsInParallel(List<ComponentGraph.SCComponent> strata) {
+		Map<Predicate, List<Instance>> evaluatedInstances = new ConcurrentHashMap<>();
+		Map<Integer, CompletableFuture<ComponentEvaluationResult>> componentEvaluations = new HashMap<>();
+		List<CompletableFuture<ComponentEvaluationResult>> evaluationsInOrder = new ArrayList<>();
+		CompletableFuture<ComponentEvaluationResult> lastEvaluationWithSideEffects = null;
+		try {
+			for (ComponentGraph.SCComponent comp : strata) {
+				ComponentEvaluationInfo evaluationInfo = getRulesToEvaluate(comp);
+				List<CompletableFuture<ComponentEvaluationResult>> predecessors = new ArrayList<>();
+				for (Integer dependencyId : comp.getDependencyIds().keySet()) {
+					// Since strata are in topological order, all components the current one depends on are scheduled already.
+					CompletableFuture<ComponentEvaluationResult> predecessor = componentEvaluations.get(dependencyId);
+					if (predecessor != null) {
+						predecessors.add(predecessor);
+					}
+				}
+				boolean hasSideEffects = evaluationInfo.hasSideEffects();
+				if (hasSideEffects && lastEvaluationWithSideEffects != null) {
+					predecessors.add(lastEvaluationWithSideEffects);
+				}
+				CompletableFuture<ComponentEvaluationResult> evaluation = CompletableFuture.allOf(predecessors.toArray(new CompletableFuture<?>[0]))
+						.thenApplyAsync((done) -> evaluateComponentSeparately(comp, evaluationInfo, evaluatedInstances), evaluationPool);
+				if (hasSideEffects) {
+					lastEvaluationWithSideEffects = evaluation;
+				}
+				componentEvaluations.put(comp.getId(), evaluation);
+				evaluationsInOrder.add(evaluation);
+			}
+			for (CompletableFuture<ComponentEvaluationResult> evaluation : evaluationsInOrder) {
+				ComponentEvaluationResult result = evaluation.join();
+				additionalFacts.addAll(result.derivedFacts);
+				solvedRuleIds.addAll(result.solvedRuleIds);
+			}
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Evaluates a single component by a new {@link StratifiedEvaluation}. Its working memory is initialized with the
+	 * instances of all predicates occurring in the rules of the component, taken from the components evaluated before or
+	 * from the facts of the program. Published instances are never modified, so they can be read by any number of
+	 * components concurrently.
+	 *
+	 * @param evaluatedInstances the instances of the head predicates of all components evaluated so far, the instances of
+	 *                           the head predicates of the given component are added to it.
+	 * @return the facts derived and the rules solved by evaluating the component.
+	 */
+	private ComponentEvaluationResult evaluateComponentSeparately(ComponentGraph.SCComponent comp, ComponentEvaluationInfo evaluationInfo,
+			Map<Predicate, List<Instance>> evaluatedInstances) {
+		StratifiedEvaluation componentEvaluation = new StratifiedEvaluation(triejoinEnabled, false);
+		WorkingMemory componentWorkingMemory = componentEvaluation.workingMemory;
+		for (CompiledRule rule : SetUtils.union(evaluationInfo.nonRecursiveRules, evaluationInfo.recursiveRules)) {
+			for (Predicate predicate : rule.getOccurringPredicates()) {
+				if (componentWorkingMemory.contains(predicate)) {
+					continue;
+				}
+				componentWorkingMemory.initialize(predicate);
+				List<Instance> knownInstances = evaluatedInstances.get(predicate);
+				componentWorkingMemory.addInstances(predicate, true,
+						knownInstances != null ? knownInstances : workingMemory.get(predicate, true).getAllInstances());
+			}
+			componentWorkingMemory.addIndicesFor(rule.getGroundingInfo());
+		}
+		componentWorkingMemory.reset();
+		componentEvaluation.literalInstantiator = new LiteralInstantiator(new WorkingMemoryBasedInstantiationStrategy(componentWorkingMemory));
+		componentEvaluation.evaluateComponent(comp, evaluationInfo);
+		// Publish plain copies of the instances, such that the working memory and its indices can be freed.
+		for (DependencyGraph.Node node : comp.getNodes()) {
+			Predicate headPredicate = node.getPredicate();
+			if (componentWorkingMemory.contains(headPredicate)) {
+				evaluatedInstances.put(headPredicate, new ArrayList<>(componentWorkingMemory.get(headPredicate, true).getAllInstances()));
+			}
+		}
+		return new ComponentEvaluationResult(componentEvaluation.additionalFacts, componentEvaluation.solvedRuleIds);
+	}
+
+	private void evaluateComponent(ComponentGraph.SCComponent comp, ComponentEvaluationInfo evaluationInfo) {
 		LOGGER.debug("Evaluating component {}", comp);
-		ComponentEvaluationInfo evaluationInfo = getRulesToEvaluate(comp);
 		if (evaluationInfo.isEmpty()) {
 			LOGGER.debug("No rules to evaluate for component {}", comp);
 			return;
@@ -112,7 +274,7 @@ private void evaluateComponent(ComponentGraph.SCComponent comp) {
 		if (!evaluationInfo.nonRecursiveRules.isEmpty()) {
 			prepareInitialEvaluation(evaluationInfo.nonRecursiveRules);
 			evaluateRules(evaluationInfo.nonRecursiveRules, true);
-			for (IndexedInstanceStorage instanceStorage : workingMemory.modified()) {
+			for (InstanceStorage instanceStorage : workingMemory.modified()) {
 				// Directly record all newly derived instances as additional facts.
 				for (Instance recentlyAddedInstance : instanceStorage.getRecentlyAddedInstances()) {
 					additionalFacts.add(Atoms.newBasicAtom(instanceStorage.getPredicate(), recentlyAddedInstance.terms));
@@ -132,7 +294,7 @@ private void evaluateComponent(ComponentGraph.SCComponent comp) {
 				isInitialRun = false;
 				modifiedInLastEvaluationRun = new HashMap<>();
 				// Since we are stratified we never have to backtrack, therefore just collect the added instances.
-				for (IndexedInstanceStorage instanceStorage : workingMemory.modified()) {
+				for (InstanceStorage instanceStorage : workingMemory.modified()) {
 					// Directly record all newly derived instances as additional facts.
 					for (Instance recentlyAddedInstance : instanceStorage.getRecentlyAddedInstances()) {
 						additionalFacts.add(Atoms.newBasicAtom(instanceStorage.getPredicate(), recentlyAddedInstance.terms));
@@ -167,7 +329,7 @@ private void prepareInitialEvaluation(Set<CompiledRule> rulesToEvaluate) {
 		for (CompiledRule rule : rulesToEvaluate) {
 			// Register rule head instances.
 			Predicate headPredicate = rule.getHeadAtom().getPredicate();
-			IndexedInstanceStorage headInstances = workingMemory.get(headPredicate, true);
+			InstanceStorage headInstances = workingMemory.get(headPredicate, true);
 			modifiedInLastEvaluationRun.putIfAbsent(headPredicate, new LinkedHashSet<>());
 			if (headInstances != null) {
 				modifiedInLastEvaluationRun.get(headPredicate).addAll(headInstances.getAllInstances());
@@ -175,7 +337,7 @@ private void prepareInitialEvaluation(Set<CompiledRule> rulesToEvaluate) {
 			// Register positive body literal instances.
 			for (Literal lit : rule.getPositiveBody()) {
 				Predicate bodyPredicate = lit.getPredicate();
-				IndexedInstanceStorage bodyInstances = workingMemory.get(bodyPredicate, true);
+				InstanceStorage bodyInstances = workingMemory.get(bodyPredicate, true);
 				modifiedInLastEvaluationRun.putIfAbsent(bodyPredicate, new LinkedHashSet<>());
 				if (bodyInstances != null) {
 					modifiedInLastEvaluationRun.get(bodyPredicate).addAll(bodyInstances.getAllInstances());
@@ -195,27 +357,44 @@ private void evaluateRule(CompiledRule rule, boolean checkAllStartingLiterals) {
 	private List<Substitution> calculateSatisfyingSubstitutionsForRule(CompiledRule rule, boolean checkAllStartingLiterals) {
 		LOGGER.debug("Grounding rule {}", rule);
 		RuleGroundingInfo groundingOrders = rule.getGroundingInfo();
+		// Adapt the grounding orders to the observed selectivities before grounding the rule.
+		if (groundingOrders.updateGroundingOrders()) {
+			workingMemory.addIndicesFor(groundingOrders);
+		}
 
 		// Treat rules with fixed instantiation first.
 		LOGGER.debug("Is fixed rule? {}", rule.getGroundingInfo().hasFixedInstantiation());
 		if (groundingOrders.hasFixedInstantiation()) {
 			RuleGroundingOrder fixedGroundingOrder = groundingOrders.getFixedGroundingOrder();
-			return calcSubstitutionsWithGroundingOrder(fixedGroundingOrder, Collections.singletonList(new BasicSubstitution()));
+			return calcSubstitutionsWithGroundingOrder(groundingOrders, fixedGroundingOrder,
+					Collections.singletonList(new SlotSubstitution(rule.getVariableNumbering())));
 		}
 
 		List<Literal> startingLiterals = groundingOrders.getStartingLiterals();
+		if (triejoinEnabled) {
+			RuleBodyTriejoin triejoin = triejoins.computeIfAbsent(rule, RuleBodyTriejoin::forRule);
+			if (triejoin != null) {
+				List<Substitution> substitutions = calcSubstitutionsWithTriejoin(triejoin,
+						checkAllStartingLiterals ? startingLiterals : startingLiterals.subList(0, 1));
+				if (substitutions != null) {
+					return substitutions;
+				}
+				LOGGER.debug("Could not triejoin rule {}, falling back to grounding orders.", rule);
+			}
+		}
+
 		// Check only one starting literal if indicated by the parameter.
 		if (!checkAllStartingLiterals) {
 			// If this is the first evaluation run, it suffices to start from the first starting literal only.
 			Literal lit = startingLiterals.get(0);
-			return calcSubstitutionsWithGroundingOrder(groundingOrders.orderStartingFrom(lit), substituteFromRecentlyAddedInstances(lit));
+			return calcSubstitutionsWithGroundingOrder(groundingOrders, groundingOrders.orderStartingFrom(lit), substituteFromRecentlyAddedInstances(rule, lit));
 		}
 
 		// Ground from all starting literals.
 		List<Substitution> groundSubstitutions = new ArrayList<>(); // Collection of full ground substitutions for the given rule.
 		for (Literal lit : startingLiterals) {
-			List<Substitution> substitutionsForStartingLiteral = calcSubstitutionsWithGroundingOrder(groundingOrders.orderStartingFrom(lit),
-					substituteFromRecentlyAddedInstances(lit));
+			List<Substitution> substitutionsForStartingLiteral = calcSubstitutionsWithGroundingOrder(groundingOrders, groundingOrders.orderStartingFrom(lit),
+					substituteFromRecentlyAddedInstances(rule, lit));
 			groundSubstitutions.addAll(substitutionsForStartingLiteral);
 		}
 		return groundSubstitutions;
@@ -226,26 +405,66 @@ private List<Substitution> calculateSatisfyingSubstitutionsForRule(CompiledRule
 	 * In order to avoid finding the same ground instantiations of rules again, only look at
 	 * <code>modifiedInLastEvaluationRun</code> to obtain instances.
 	 * 
+	 * @param rule the rule containing the literal.
 	 * @param lit the literal to substitute.
 	 * @return valid ground substitutions for the literal based on the recently added instances (i.e. instances derived in
 	 *         the last evaluation run).
 	 */
-	private List<Substitution> substituteFromRecentlyAddedInstances(Literal lit) {
+	private List<Substitution> substituteFromRecentlyAddedInstances(CompiledRule rule, Literal lit) {
 		List<Substitution> retVal = new ArrayList<>();
 		Set<Instance> instances = modifiedInLastEvaluationRun.get(lit.getPredicate());
 		if (instances == null) {
 			return Collections.emptyList();
 		}
+		SlotSubstitution unifyingSubstitution = new SlotSubstitution(rule.getVariableNumbering());
 		for (Instance instance : instances) {
-			Substitution unifyingSubstitution = BasicSubstitution.specializeSubstitution(lit, instance, BasicSubstitution.EMPTY_SUBSTITUTION);
-			if (unifyingSubstitution != null) {
-				retVal.add(unifyingSubstitution);
+			if (unifyingSubstitution.specialize(lit.getAtom(), instance)) {
+				retVal.add(unifyingSubstitution.copy());
+				unifyingSubstitution.undo(0);
 			}
 		}
 		return retVal;
 	}
 
-	private List<Substitution> calcSubstitutionsWithGroundingOrder(RuleGroundingOrder groundingOrder, List<Substitution> startingSubstitutions) {
+	/**
+	 * Joins the body of a rule by a triejoin for each of the given starting literals, restricting the starting literal to
+	 * the instances derived in the last evaluation run (like {@link #substituteFromRecentlyAddedInstances(CompiledRule, Literal)}),
+	 * and keeps the substitutions satisfying all body literals that are not joined.
+	 *
+	 * @return the satisfying substitutions, or null if the triejoin is not applicable to the current instances.
+	 */
+	private List<Substitution> calcSubstitutionsWithTriejoin(RuleBodyTriejoin triejoin, List<Literal> startingLiterals) {
+		List<Substitution> groundSubstitutions = new ArrayList<>();
+		for (Literal lit : startingLiterals) {
+			Set<Instance> instances = modifiedInLastEvaluationRun.get(lit.getPredicate());
+			if (instances == null) {
+				continue;
+			}
+			List<Substitution> joinedSubstitutions = triejoin.join(lit, instances, workingMemory);
+			if (joinedSubstitutions == null) {
+				return null;
+			}
+			for (Substitution substitution : joinedSubstitutions) {
+				if (satisfiesAll(triejoin.getFilterLiterals(), substitution)) {
+					groundSubstitutions.add(substitution);
+				}
+			}
+		}
+		return groundSubstitutions;
+	}
+
+	private boolean satisfiesAll(List<Literal> literals, Substitution substitution) {
+		for (Literal literal : literals) {
+			LiteralInstantiationResult result = literalInstantiator.instantiateLiteral(literal, substitution);
+			if (result.getType() != LiteralInstantiationResult.Type.CONTINUE || result.getSubstitutions().isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private List<Substitution> calcSubstitutionsWithGroundingOrder(RuleGroundingInfo groundingInfo, RuleGroundingOrder groundingOrder,
+			List<Substitution> startingSubstitutions) {
 		// Iterate through the grounding order and whenever instantiation of a Literal with a given substitution
 		// causes a result with a type other than CONTINUE, discard that substitution.
 
@@ -282,6 +501,8 @@ private List<Substitution> calcSubstitutionsWithGroundingOrder(RuleGroundingOrde
 			Substitution currentSubstitution = currentSubstitutions.remove(currentSubstitutions.size() - 1); // Work on last element (removing last element is
 																												// O(1) for ArrayList).
 			LiteralInstantiationResult currentLiteralResult = literalInstantiator.instantiateLiteral(currentLiteral, currentSubstitution);
+			groundingInfo.updateLiteralSelectivity(currentLiteral, 1, currentLiteralResult.getType() == LiteralInstantiationResult.Type.CONTINUE
+					? currentLiteralResult.getSubstitutions().size() : 0);
 			if (currentLiteralResult.getType() == LiteralInstantiationResult.Type.CONTINUE) {
 				// The currentSubstitution could be extended, push the extensions on the stack and continue working on them.
 				ArrayList<Substitution> furtheredSubstitutions = new ArrayList<>();
@@ -364,6 +585,35 @@ boolean isEmpty() {
 			return nonRecursiveRules.isEmpty() && recursiveRules.isEmpty();
 		}
 
+		/**
+		 * @return true if some rule contains an external or enumeration atom, whose evaluation may have side effects.
+		 */
+		boolean hasSideEffects() {
+			for (CompiledRule rule : SetUtils.union(nonRecursiveRules, recursiveRules)) {
+				for (Literal literal : rule.getBody()) {
+					if (literal instanceof ExternalLiteral || literal instanceof EnumerationLiteral) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+	}
+
+	/**
+	 * Internal helper class holding the facts derived and the ids of the rules solved by evaluating a component separately,
+	 * see {@link StratifiedEvaluation#evaluateComponentSeparately(ComponentGraph.SCComponent, ComponentEvaluationInfo, Map)}.
+	 */
+	private static class ComponentEvaluationResult {
+		final List<Atom> derivedFacts;
+		final Set<Integer> solvedRuleIds;
+
+		ComponentEvaluationResult(List<Atom> derivedFacts, Set<Integer> solvedRuleIds) {
+			this.derivedFacts = derivedFacts;
+			this.solvedRuleIds = solvedRuleIds;
+		}
+
 	}
 
 }
@@ -0,0 +1,799 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.solver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import at.ac.tuwien.kr.alpha.api.config.BinaryNoGoodPropagationEstimationStrategy;
+import at.ac.tuwien.kr.alpha.core.common.Assignment;
+import at.ac.tuwien.kr.alpha.core.common.NoGood;
+import at.ac.tuwien.kr.alpha.core.common.NoGoodInterface;
+
+import java.util.Arrays;
+
+import static at.ac.tuwien.kr.alpha.commons.util.Util.arrayGrowthSize;
+import static at.ac.tuwien.kr.alpha.commons.util.Util.oops;
+import static at.ac.tuwien.kr.alpha.core.common.NoGood.HEAD;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomOf;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomToLiteral;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.isNegated;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.isPositive;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.literalToString;
+import static at.ac.tuwien.kr.alpha.core.solver.ThriceTruth.FALSE;
+import static at.ac.tuwien.kr.alpha.core.solver.ThriceTruth.MBT;
+import static at.ac.tuwien.kr.alpha.core.solver.ThriceTruth.TRUE;
+
+/**
+ * Common part of the NoGoodStores using two ordinary watches and an alpha watch for each NoGood (see
+ * {@link NoGoodStoreAlphaRoaming} for the watch invariant). This class handles unary and binary NoGoods, computes the
+ * initial watches of all other NoGoods, and drives propagation. Subclasses decide how NoGoods with three or more
+ * literals are stored and watched.
+ */
+abstract class AbstractNoGoodStoreAlphaRoaming implements NoGoodStore, BinaryNoGoodPropagationEstimation, Checkable {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AbstractNoGoodStoreAlphaRoaming.class);
+	protected static final int UNASSIGNED = Integer.MAX_VALUE;
+
+	protected final WritableAssignment assignment;
+	protected BinaryWatchList[] binaryWatches = new BinaryWatchList[0];
+	protected int maxAtomId;
+
+	protected boolean checksEnabled;
+	protected boolean didPropagate;
+
+	protected final NoGoodCounter counter = new NoGoodCounter();
+
+	protected AbstractNoGoodStoreAlphaRoaming(WritableAssignment assignment, boolean checksEnabled) {
+		this.assignment = assignment;
+		this.checksEnabled = checksEnabled;
+	}
+
+	void clear() {
+		assignment.clear();
+		binaryWatches = new BinaryWatchList[0];
+		maxAtomId = 0;
+	}
+
+	@Override
+	public void backtrack() {
+		didPropagate = false;
+		assignment.backtrack();
+		if (checksEnabled) {
+			if (assignment.getAssignmentsToProcess().isEmpty()) {
+				doWatchesCheck();
+			} else {
+				LOGGER.trace("Skipping watches check since there are assignments to process first.");
+			}
+		}
+	}
+
+	@Override
+	public void growForMaxAtomId(int maxAtomId) {
+		int requiredMaxSize = 2 * (maxAtomId + 2);
+		if (requiredMaxSize < binaryWatches.length) {
+			return;
+		}
+		int newCapacity = arrayGrowthSize(binaryWatches.length);
+		if (newCapacity < requiredMaxSize) {
+			newCapacity = requiredMaxSize;
+		}
+		int oldlength = binaryWatches.length;
+		binaryWatches = Arrays.copyOf(binaryWatches, newCapacity);
+		for (int i = oldlength; i < binaryWatches.length; i++) {
+			binaryWatches[i] = new BinaryWatchList(i);
+		}
+		growWatches(oldlength, newCapacity);
+		this.maxAtomId = maxAtomId;
+	}
+
+	/**
+	 * Grows the watch lists of NoGoods with three or more literals such that they can hold newCapacity literals.
+	 */
+	protected abstract void growWatches(int oldCapacity, int newCapacity);
+
+	@Override
+	public void markReferencedAtoms(boolean[] referencedAtoms) {
+		for (BinaryWatchList binaryWatchList : binaryWatches) {
+			if (binaryWatchList.size() > 0) {
+				referencedAtoms[atomOf(binaryWatchList.forLiteral)] = true;
+				binaryWatchList.markReferencedAtoms(referencedAtoms);
+			}
+		}
+	}
+
+	@Override
+	public NoGoodCounter getNoGoodCounter() {
+		return counter;
+	}
+
+	@Override
+	public ConflictCause add(int id, NoGood noGood, int lbd) {
+		LOGGER.trace("Adding {}", noGood);
+
+		final ConflictCause conflictCause;
+		if (noGood.isUnary()) {
+			conflictCause = addUnary(noGood);
+		} else if (noGood.isBinary()) {
+			conflictCause = addAndWatchBinary(noGood);
+		} else {
+			conflictCause = addAndWatch(id, noGood, lbd);
+		}
+
+		if (conflictCause == null) {
+			counter.add(noGood);
+		}
+		return conflictCause;
+	}
+
+	@Override
+	public ConflictCause add(int id, NoGood noGood) {
+		return add(id, noGood, -1);
+	}
+
+	/**
+	 * Takes a noGood containing only a single literal and translates it into an assignment (because it
+	 * is trivially unit). Still, a check for conflict is performed.
+	 */
+	private ConflictCause addUnary(final NoGood noGood) {
+		if (noGood.hasHead()) {
+			return assignStrongComplement(noGood, 0);
+		} else {
+			return assignWeakComplement(0, noGood, 0);
+		}
+	}
+
+	private static boolean isComplementaryAssigned(int literal, ThriceTruth literalTruth) {
+		return literalTruth != null && literalTruth.toBoolean() != isPositive(literal);
+	}
+
+	protected int strongDecisionLevel(int atom) {
+		int strongDecisionLevel = assignment.getStrongDecisionLevel(atom);
+		return strongDecisionLevel == -1 ? UNASSIGNED : strongDecisionLevel;
+	}
+
+	/**
+	 * Checks whether the given NoGood contains some atom both positively and negatively, i.e., whether it can never
+	 * be violated. The literals of a NoGood are sorted (except for the head), hence complementary literals in the
+	 * body are adjacent and only the head needs to be compared with all other literals.
+	 */
+	private static boolean containsComplementaryLiterals(NoGood noGood) {
+		final int headAtom = noGood.hasHead() ? atomOf(noGood.getHead()) : -1;
+		final int firstBodyLiteral = noGood.hasHead() ? 1 : 0;
+		for (int i = firstBodyLiteral; i < noGood.size(); i++) {
+			final int literal = noGood.getLiteral(i);
+			if (atomOf(literal) == headAtom && literal != noGood.getHead()) {
+				return true;
+			}
+			final int previousLiteral = i > firstBodyLiteral ? noGood.getLiteral(i - 1) : -1;
+			if (previousLiteral != -1 && previousLiteral != literal && atomOf(previousLiteral) == atomOf(literal)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Computes the watches of a NoGood with at least three literals, propagates if the NoGood is (weakly or
+	 * strongly) unit, and hands the NoGood to {@link #watch(int, NoGood, int, int, int, int)} unless it is violated.
+	 */
+	private ConflictCause addAndWatch(final int id, final NoGood noGood, int lbd) {
+		if (containsComplementaryLiterals(noGood)) {
+			// NoGood cannot be violated or propagate, ignore it.
+			LOGGER.debug("Added NoGood can never propagate or be violated, ignoring it. NoGood is: {}", noGood);
+			return null;
+		}
+
+		// Collect potential watch candidates.
+		int posWeakUnassigned1 = -1;
+		int posWeakUnassigned2 = -1;
+		int posSatisfiedLiteral1 = -1;
+		int posSatisfiedLiteral2 = -1;
+		int posWeakHighestAssigned = -1;
+		int weakDecisionLevelHighestAssigned = -1;
+		int posStrongHighestAssigned = -1;
+		int strongDecisionLevelHighestAssigned = -1;
+		int posPotentialAlphaWatch = -1;
+		int satisfiedLiteralWeakDecisionLevel = -1;
+
+		// Iterate noGood and record satisfying/unassigned/etc positions.
+		int headAtom = atomOf(noGood.getHead());
+		final ThriceTruth headTruth = noGood.hasHead() ? assignment.getTruth(headAtom) : null;
+		final boolean isHeadTrue = headTruth == TRUE;
+		for (int i = 0; i < noGood.size(); i++) {
+			final int literal = noGood.getLiteral(i);
+			final int atom = atomOf(literal);
+			final ThriceTruth atomTruthValue = assignment.getTruth(atom);
+			final int atomWeakDecisionLevel = assignment.getWeakDecisionLevel(atom);
+			final int atomStrongDecisionLevel = assignment.getStrongDecisionLevel(atom);
+
+			// Check weak unassigned.
+			if (atomTruthValue == null) {
+				if (posWeakUnassigned1 == -1) {
+					posWeakUnassigned1 = i;
+				} else {
+					posWeakUnassigned2 = i;
+				}
+			}
+			// Alpha watch:
+			if (posPotentialAlphaWatch == -1 && noGood.hasHead() && i != HEAD) {
+				// Current literal is potential alpha watch if:
+				// 1) the head of the nogood is true and the literal is assigned at a higher-or-equal decision level.
+				// 2) the literal is complementary assigned and thus satisfies the nogood, or
+				// 3) the literal is unassigned or assigned must-be-true.
+				if (isHeadTrue && strongDecisionLevel(atom) >= strongDecisionLevel(headAtom)
+					|| isComplementaryAssigned(literal, atomTruthValue)
+					|| strongDecisionLevel(atom) == Integer.MAX_VALUE) {
+					posPotentialAlphaWatch = i;
+				}
+			}
+			// Check satisfaction
+			if (atomTruthValue != null && atomTruthValue.toBoolean() != isPositive(literal)) {
+				if (posSatisfiedLiteral1 == -1) {
+					posSatisfiedLiteral1 = i;
+					satisfiedLiteralWeakDecisionLevel = atomWeakDecisionLevel;
+				} else {
+					posSatisfiedLiteral2 = i;
+				}
+			}
+			// Check violation.
+			if (atomTruthValue != null && atomTruthValue.toBoolean() == isPositive(literal)) {
+				if (atomWeakDecisionLevel > weakDecisionLevelHighestAssigned) {
+					weakDecisionLevelHighestAssigned = atomWeakDecisionLevel;
+					posWeakHighestAssigned = i;
+				}
+				if (!atomTruthValue.isMBT() && noGood.hasHead()	// Ensure strong violation.
+					&& atomStrongDecisionLevel > strongDecisionLevelHighestAssigned) {
+					strongDecisionLevelHighestAssigned = atomStrongDecisionLevel;
+					posStrongHighestAssigned = i;
+				}
+			}
+		}
+
+		// Set ordinary and alpha watches now.
+		// Compute ordinary watches:
+		final int watch1;
+		final int watch2;
+
+		if (posWeakUnassigned1 != -1 && posWeakUnassigned2 != -1) {
+			// NoGood has two unassigned literals.
+			watch1 = posWeakUnassigned1;
+			watch2 = posWeakUnassigned2;
+		} else if (posSatisfiedLiteral1 != -1) {
+			// NoGood is satisfied.
+			int bestSecondPointer = posSatisfiedLiteral2 != -1 ? posSatisfiedLiteral2
+						: posWeakUnassigned1 != -1 ? posWeakUnassigned1
+						: posWeakHighestAssigned;
+			if (posSatisfiedLiteral2 == -1 && posWeakUnassigned1 == -1) {
+				// The NoGood has only one satisfied literal and is unit without it.
+				// If it is unit on lower decision level than it is satisfied, it propagates the satisfying literal on lower decision level.
+				if (satisfiedLiteralWeakDecisionLevel > weakDecisionLevelHighestAssigned) {
+					ConflictCause conflictCause = assignWeakComplement(posSatisfiedLiteral1, noGood, weakDecisionLevelHighestAssigned);
+					if (conflictCause != null) {
+						return conflictCause;
+					}
+				}
+			}
+			watch1 = posSatisfiedLiteral1;
+			watch2 = bestSecondPointer;
+		} else if (posWeakUnassigned1 != -1) {
+			// NoGood is weakly unit; propagate.
+			ConflictCause conflictCause = assignWeakComplement(posWeakUnassigned1, noGood, weakDecisionLevelHighestAssigned);
+			if (conflictCause != null) {
+				return conflictCause;
+			}
+			watch1 = posWeakUnassigned1;
+			watch2 = posWeakHighestAssigned;
+		} else {
+			// NoGood is violated.
+			return new ConflictCause(noGood.asAntecedent());
+		}
+
+		// Compute alpha watch:
+		int watchAlpha = -1;
+		if (noGood.hasHead()) {
+			if (posPotentialAlphaWatch != -1) {
+				// Found potential alpha watch.
+				watchAlpha = posPotentialAlphaWatch;
+			} else {
+				// No potential alpha watch found: noGood must be strongly unit.
+				ConflictCause conflictCause = assignStrongComplement(noGood, strongDecisionLevelHighestAssigned);
+				if (conflictCause != null) {
+					return conflictCause;
+				}
+				watchAlpha = posStrongHighestAssigned;
+			}
+			if (watchAlpha == -1) {
+				throw oops("Did not set alpha watch for nogood with head.");
+			}
+		}
+		watch(id, noGood, watch1, watch2, watchAlpha, lbd);
+		return null;
+	}
+
+	/**
+	 * Stores a NoGood with at least three literals and registers its watches.
+	 * @param id the id of the NoGood.
+	 * @param noGood the NoGood.
+	 * @param watch1 the position of the literal to watch by the first ordinary watch.
+	 * @param watch2 the position of the literal to watch by the second ordinary watch.
+	 * @param watchAlpha the position of the literal to watch by the alpha watch, or -1 if the NoGood has no head.
+	 * @param lbd the LBD (literal blocks distance) value of the NoGood.
+	 */
+	protected abstract void watch(int id, NoGood noGood, int watch1, int watch2, int watchAlpha, int lbd);
+
+	private ConflictCause addAndWatchBinary(final NoGood noGood) {
+		// Shorthands for viewing the nogood as { a, b }.
+		final int a = noGood.getLiteral(0);
+		final int b = noGood.getLiteral(1);
+		final int atomA = atomOf(a);
+		final int atomB = atomOf(b);
+
+		// Ignore NoGoods of the form { -a, a }.
+		if (a != b && atomA == atomB) {
+			return null;
+		}
+
+		// Note: it might be faster to not check explicitly for violation but wait for conflict from assign.
+		final ThriceTruth atomATruthValue = assignment.getTruth(atomA);
+		final ThriceTruth atomBTruthValue = assignment.getTruth(atomB);
+
+		final boolean isViolatedA = atomATruthValue != null && isPositive(a) == atomATruthValue.toBoolean();
+		final boolean isViolatedB = atomBTruthValue != null && isPositive(b) == atomBTruthValue.toBoolean();
+
+		// Check for violation.
+		if (isViolatedA && isViolatedB) {
+			return new ConflictCause(noGood.asAntecedent());
+		}
+
+		// The above violation check guarantees that adding (and propagation on other literal) results in no conflict.
+		binaryWatches[a].add(noGood);
+		binaryWatches[b].add(noGood);
+		return null;
+	}
+
+	protected ConflictCause assignWeakComplement(final int literalIndex, final NoGoodInterface impliedBy, int decisionLevel) {
+		final int literal = impliedBy.getLiteral(literalIndex);
+		ThriceTruth truth = isNegated(literal) ? MBT : FALSE;
+		return assignTruth(atomOf(literal), truth, impliedBy.asAntecedent(), decisionLevel);
+	}
+
+	protected ConflictCause assignStrongComplement(final NoGoodInterface impliedBy, int decisionLevel) {
+		return assignTruth(atomOf(impliedBy.getHead()), TRUE, impliedBy.asAntecedent(), decisionLevel);
+	}
+
+	protected ConflictCause assignTruth(int atom, ThriceTruth truth, Antecedent impliedBy, int decisionLevel) {
+		ConflictCause cause = assignment.assign(atom, truth, impliedBy, decisionLevel);
+		if (cause == null) {
+			didPropagate = true;
+		}
+		return cause;
+	}
+
+	/**
+	 * Propagates from Unassigned to MBT/FALSE.
+	 * @param literal the literal that triggers the propagation.
+	 */
+	private ConflictCause propagateWeakly(int literal, int currentDecisionLevel, boolean restrictToBinaryNoGoods) {
+		// Propagate binary watches.
+		ConflictCause conflictCause = binaryWatches[literal].propagateWeakly();
+		if (conflictCause != null || restrictToBinaryNoGoods) {
+			return conflictCause;
+		}
+		return propagateWatchedWeakly(literal, currentDecisionLevel);
+	}
+
+	/**
+	 * Propagates weakly on all NoGoods with three or more literals that watch the given literal by an ordinary watch.
+	 */
+	protected abstract ConflictCause propagateWatchedWeakly(int literal, int currentDecisionLevel);
+
+	private ConflictCause propagateStrongly(int literal, int currentDecisionLevel, boolean restrictToBinaryNoGoods) {
+		// Propagate binary watches.
+		ConflictCause conflictCause = binaryWatches[literal].propagateStrongly();
+		if (conflictCause != null || restrictToBinaryNoGoods) {
+			return conflictCause;
+		}
+		return propagateWatchedStrongly(literal, currentDecisionLevel);
+	}
+
+	/**
+	 * Propagates strongly on all NoGoods with three or more literals that watch the given literal by an alpha watch.
+	 */
+	protected abstract ConflictCause propagateWatchedStrongly(int literal, int currentDecisionLevel);
+
+	@Override
+	public ConflictCause propagate() {
+		ConflictCause conflictCause = propagate(false);
+		if (conflictCause != null) {
+			increaseConflictCounter();
+		}
+		return conflictCause;
+	}
+
+	/**
+	 * Records that propagation resulted in a conflict, used to schedule the deletion of learned NoGoods.
+	 */
+	protected abstract void increaseConflictCounter();
+
+	private ConflictCause propagateOnlyBinaryNoGoods() {
+		return propagate(true);
+	}
+
+	private ConflictCause propagate(boolean restrictToBinaryNoGoods) {
+		didPropagate = false;
+
+		Assignment.Pollable assignmentsToProcess = assignment.getAssignmentsToProcess();
+		int currentDecisionLevel = assignment.getDecisionLevel();
+		while (!assignmentsToProcess.isEmpty()) {
+			final int atom = assignmentsToProcess.peek();
+			final ThriceTruth currentTruth = assignment.getTruth(atom);
+			final int literal = atomToLiteral(atom, currentTruth.toBoolean());
+			if (LOGGER.isTraceEnabled()) {
+				LOGGER.trace("Propagation processing atom: {}={}", atom, currentTruth);
+			}
+
+			// Propagate weakly, except if there is an earlier MBT, where propagation already took place.
+			if (currentTruth != TRUE || assignment.getWeakDecisionLevel(atom) == currentDecisionLevel) {
+				ConflictCause conflictCause = propagateWeakly(literal, currentDecisionLevel, restrictToBinaryNoGoods);
+				if (conflictCause != null) {
+					LOGGER.trace("Halting propagation due to conflict. Current assignment: {}.", assignment);
+					return conflictCause;
+				}
+			}
+
+			// Propagate strongly only for TRUE/FALSE assignments.
+			if (currentTruth != MBT) {
+				ConflictCause conflictCause = propagateStrongly(literal, currentDecisionLevel, restrictToBinaryNoGoods);
+				if (conflictCause != null) {
+					LOGGER.trace("Halting propagation due to conflict. Current assignment: {}.", assignment);
+					return conflictCause;
+				}
+			}
+			assignmentsToProcess.remove();
+		}
+		if (checksEnabled && !restrictToBinaryNoGoods) {
+			doWatchesCheck();
+		}
+		return null;
+	}
+
+	@Override
+	public boolean didPropagate() {
+		return didPropagate;
+	}
+
+	@Override
+	public void setChecksEnabled(boolean checksEnabled) {
+		this.checksEnabled = checksEnabled;
+	}
+
+	class BinaryWatchList implements ShallowAntecedent {
+		private int[] noGoodsWithoutHead = new int[10];
+		private int noGoodsWithoutHeadSize;
+		private int[] noGoodsWithHead = new int[10];
+		private int noGoodsWithHeadSize;
+		private final int forLiteral;
+
+		private BinaryWatchList(int forLiteral) {
+			this.forLiteral = forLiteral;
+		}
+
+		ConflictCause add(NoGood noGood) {
+			if (!noGood.isBinary()) {
+				throw oops("Received noGood is not binary.");
+			}
+			if (noGood.hasHead() && noGood.getHead() != forLiteral) {
+				return addHeadedNoGood(noGood);
+			} else {
+				return addOrdinaryNoGood(noGood);
+			}
+		}
+
+		private ConflictCause addHeadedNoGood(NoGood noGood) {
+			if (noGoodsWithHeadSize + 1 > noGoodsWithHead.length) {
+				noGoodsWithHead = Arrays.copyOf(noGoodsWithHead, arrayGrowthSize(noGoodsWithHeadSize));
+			}
+			int otherLiteral = noGood.getLiteral(0) == forLiteral ? noGood.getLiteral(1) : noGood.getLiteral(0);
+			if (isPositive(otherLiteral)) {
+				throw oops("NoGood has wrong head.");
+			}
+			noGoodsWithHead[noGoodsWithHeadSize++] = otherLiteral;
+			// Assign (weakly) otherLiteral if the newly added NoGood is unit.
+			ThriceTruth literalTruth = assignment.getTruth(atomOf(forLiteral));
+			if (literalTruth != null && literalTruth.toBoolean() == isPositive(forLiteral)) {
+				int weakDecisionLevel = assignment.getWeakDecisionLevel(atomOf(forLiteral));
+				ConflictCause conflictCause = assignment.assign(atomOf(otherLiteral), isPositive(otherLiteral) ? FALSE : MBT, this, weakDecisionLevel);
+				if (conflictCause != null) {
+					return conflictCause;
+				}
+			}
+			// Assign head (strongly) if the newly added NoGood is unit.
+			int strongDecisionLevel = assignment.getStrongDecisionLevel(atomOf(forLiteral));
+			if (strongDecisionLevel != -1 && assignment.getTruth(atomOf(forLiteral)).toBoolean() == isPositive(forLiteral)) {
+				return assignment.assign(atomOf(otherLiteral), TRUE, this, strongDecisionLevel);
+			}
+			return null;
+		}
+
+		private ConflictCause addOrdinaryNoGood(NoGood noGood) {
+			if (noGoodsWithoutHeadSize + 1 > noGoodsWithoutHead.length) {
+				noGoodsWithoutHead = Arrays.copyOf(noGoodsWithoutHead, arrayGrowthSize(noGoodsWithoutHeadSize));
+			}
+			int otherLiteral = noGood.getLiteral(0) == forLiteral ? noGood.getLiteral(1) : noGood.getLiteral(0);
+			noGoodsWithoutHead[noGoodsWithoutHeadSize++] = otherLiteral;
+			// Assign otherLiteral if the newly added NoGood is unit.
+			ThriceTruth literalTruth = assignment.getTruth(atomOf(forLiteral));
+			if (literalTruth != null && literalTruth.toBoolean() == isPositive(forLiteral)) {
+				int weakDecisionLevel = assignment.getWeakDecisionLevel(atomOf(forLiteral));
+				return assignment.assign(atomOf(otherLiteral), isPositive(otherLiteral) ? FALSE : MBT, this, weakDecisionLevel);
+			}
+			return null;
+		}
+
+		ConflictCause propagateWeakly() {
+			didPropagate |= noGoodsWithHeadSize > 0 || noGoodsWithoutHeadSize > 0;
+			for (int i = 0; i < noGoodsWithoutHeadSize; i++) {
+				final int otherLiteral = noGoodsWithoutHead[i];
+				ConflictCause conflictCause = assignment.assign(atomOf(otherLiteral), isPositive(otherLiteral) ? FALSE : MBT, this);
+				if (conflictCause != null) {
+					return conflictCause;
+				}
+			}
+			for (int i = 0; i < noGoodsWithHeadSize; i++) {
+				final int otherLiteral = noGoodsWithHead[i];
+				ConflictCause conflictCause = assignment.assign(atomOf(otherLiteral), isPositive(otherLiteral) ? FALSE : MBT, this);
+				if (conflictCause != null) {
+					return conflictCause;
+				}
+			}
+			return null;
+		}
+
+		ConflictCause propagateStrongly() {
+			didPropagate |= noGoodsWithHeadSize > 0;
+			for (int i = 0; i < noGoodsWithHeadSize; i++) {
+				final int headLiteral = noGoodsWithHead[i];
+				ConflictCause conflictCause = assignment.assign(atomOf(headLiteral), TRUE, this);
+				if (conflictCause != null) {
+					return conflictCause;
+				}
+			}
+			return null;
+		}
+		
+		public int size() {
+			return noGoodsWithHeadSize + noGoodsWithoutHeadSize;
+		}
+
+		private void markReferencedAtoms(boolean[] referencedAtoms) {
+			for (int i = 0; i < noGoodsWithoutHeadSize; i++) {
+				referencedAtoms[atomOf(noGoodsWithoutHead[i])] = true;
+			}
+			for (int i = 0; i < noGoodsWithHeadSize; i++) {
+				referencedAtoms[atomOf(noGoodsWithHead[i])] = true;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "BinaryWatchList(" + literalToString(forLiteral) + ")";
+		}
+
+		@Override
+		public Antecedent instantiateAntecedent(int impliedLiteral) {
+			return new BinaryAntecedent(impliedLiteral, forLiteral);
+		}
+
+		private class BinaryAntecedent implements Antecedent {
+			private final int[] literals = new int[2];
+
+			BinaryAntecedent(int lit1, int lit2) {
+				literals[0] = lit1;
+				literals[1] = lit2;
+			}
+
+			@Override
+			public int[] getReasonLiterals() {
+				return literals;
+			}
+
+			@Override
+			public void bumpActivity() {
+			}
+
+			@Override
+			public void decreaseActivity() {
+			}
+
+			@Override
+			public String toString() {
+				return "{" + literalToString(literals[0]) + ", " + literalToString(literals[1]) + "}";
+			}
+		}
+	}
+
+	@Override
+	public int estimate(int atom, boolean truth, BinaryNoGoodPropagationEstimationStrategy strategy) {
+		if (BinaryNoGoodPropagationEstimationStrategy.BinaryNoGoodPropagation.equals(strategy)) {
+			return estimateEffectsOfBinaryNoGoodPropagation(atom, truth) - 1;
+		}
+		return getNumberOfBinaryWatches(atom, truth);
+	}
+
+	private int getNumberOfBinaryWatches(int atom, boolean truth) {
+		return binaryWatches[atomToLiteral(atom, truth)].size();
+	}
+
+	private int estimateEffectsOfBinaryNoGoodPropagation(int atom, boolean truth) {
+		assignment.choose(atom, truth);
+		propagateOnlyBinaryNoGoods();
+		int assignedNewly = assignment.getNumberOfAtomsAssignedSinceLastDecision();
+		assignment.backtrack();
+		return assignedNewly;
+	}
+
+	// The following methods detect NoGoods that are not properly watched by this NoGoodStore.
+	// They should be used only during debugging since checking is costly.
+
+	void doWatchesCheck() {
+		LOGGER.debug("Checking watch invariant.");
+		// Check all watched NoGoods, if their pointers adhere to the watch-pointer invariant.
+		for (int literal = 0; literal < binaryWatches.length; literal++) {
+			if (isNegated(literal)) {
+				// We treat positive and negative ones at the iteration of the positive literal.
+				continue;
+			}
+			final int atom = atomOf(literal);
+			if (atom > maxAtomId) {
+				break;
+			}
+			checkOrdinaryWatchesInvariant(atom, true);
+			checkOrdinaryWatchesInvariant(atom, false);
+			checkAlphaWatchesInvariant(atom, true);
+			checkAlphaWatchesInvariant(atom, false);
+		}
+		LOGGER.debug("Checking watch invariant: all good.");
+	}
+
+	protected int weakDecisionLevel(Assignment.Entry entry) {
+		return entry == null ? UNASSIGNED : entry.hasPreviousMBT() ? entry.getMBTDecisionLevel() : entry.getDecisionLevel();
+	}
+
+	protected int weakReplayLevel(int atom) {
+		if (assignment instanceof TrailAssignment) {
+			return ((TrailAssignment) assignment).getOutOfOrderDecisionLevel(atom);
+		}
+		return UNASSIGNED;
+	}
+
+	private int trailAwareStrongDecisionLevel(int atom) {
+		int trailStrongDecisionLevel = UNASSIGNED;
+		if (assignment instanceof TrailAssignment) {
+			trailStrongDecisionLevel = ((TrailAssignment) assignment).getOutOfOrderStrongDecisionLevel(atom);
+		}
+		int atomStrongDecisionLevel = strongDecisionLevel(atom);
+		return Math.min(trailStrongDecisionLevel, atomStrongDecisionLevel);
+	}
+
+	private void checkAlphaWatchesInvariant(int atom, boolean truth) {
+		Assignment.Entry atomEntry = assignment.get(atom);
+		int atomLiteral = atomToLiteral(atom, truth);
+		boolean atomSatisfies = atomEntry != null && isPositive(atomLiteral) != atomEntry.getTruth().toBoolean();
+		int atomDecisionLevel = strongDecisionLevel(atom);
+		BinaryWatchList binaryWatchList = binaryWatches[atomLiteral];
+		for (int i = 0; i < binaryWatchList.noGoodsWithHeadSize; i++) {
+			checkAlphaWatch(atomLiteral, atomSatisfies, atomDecisionLevel, binaryWatchList.noGoodsWithHead[i]);
+		}
+		checkAlphaWatches(atomLiteral, atomSatisfies, atomDecisionLevel);
+	}
+
+	/**
+	 * Checks the alpha watches on the given literal of all NoGoods with three or more literals, using
+	 * {@link #checkAlphaWatch(int, boolean, int, int)} for each of them.
+	 */
+	protected abstract void checkAlphaWatches(int atomLiteral, boolean atomSatisfies, int atomDecisionLevel);
+
+	protected void checkAlphaWatch(int atomLiteral, boolean atomSatisfies, int atomDecisionLevel, int headLiteral) {
+		if (headLiteral == atomLiteral) {
+			throw oops("Watch invariant violated: alpha watch points at head.");
+		}
+		Assignment.Entry headEntry = assignment.get(atomOf(headLiteral));
+		boolean headViolates = headEntry != null && isPositive(headLiteral) == headEntry.getTruth().toBoolean();
+		int headDecisionLevel = trailAwareStrongDecisionLevel(atomOf(headLiteral));
+		if (watchInvariant(atomSatisfies, atomDecisionLevel, headLiteral, headDecisionLevel, headEntry)
+			|| headViolates) {	// Head "pointer" is never moved and violation is checked by weak propagation, hence a violated head is okay.
+			return;
+		}
+		throw oops("Watch invariant (alpha) violated");
+	}
+
+	private void checkOrdinaryWatchesInvariant(int atom, boolean truth) {
+		Assignment.Entry atomEntry = assignment.get(atom);
+		int atomLiteral = atomToLiteral(atom, truth);
+		boolean atomSatisfies = atomEntry != null && isPositive(atomLiteral) != atomEntry.getTruth().toBoolean();
+		int atomDecisionLevel = weakDecisionLevel(atomEntry);
+		int atomReplayLevel = weakReplayLevel(atom);
+		BinaryWatchList binaryWatchList = binaryWatches[atomLiteral];
+		for (int i = 0; i < binaryWatchList.noGoodsWithoutHeadSize; i++) {
+			int otherLiteral = binaryWatchList.noGoodsWithoutHead[i];
+			if (!isOrdinaryWatchInvariantSatisfied(atomSatisfies, atomDecisionLevel, atomReplayLevel, otherLiteral)) {
+				throw oops("Watch invariant violated");
+			}
+		}
+		for (int i = 0; i < binaryWatchList.noGoodsWithHeadSize; i++) {
+			int otherLiteral = binaryWatchList.noGoodsWithHead[i];
+			if (!isOrdinaryWatchInvariantSatisfied(atomSatisfies, atomDecisionLevel, atomReplayLevel, otherLiteral)) {
+				throw oops("Watch invariant violated");
+			}
+		}
+		checkOrdinaryWatches(atom, atomLiteral, atomSatisfies, atomDecisionLevel, atomReplayLevel);
+	}
+
+	/**
+	 * Checks the ordinary watches on the given literal of all NoGoods with three or more literals, using
+	 * {@link #isOrdinaryWatchInvariantSatisfied(boolean, int, int, int)} for each of them.
+	 */
+	protected abstract void checkOrdinaryWatches(int atom, int atomLiteral, boolean atomSatisfies, int atomDecisionLevel, int atomReplayLevel);
+
+	/**
+	 * Checks the watch invariant for a watch on some atom where the other watch of the NoGood points at otherLiteral.
+	 */
+	protected boolean isOrdinaryWatchInvariantSatisfied(boolean atomSatisfies, int atomDecisionLevel, int atomReplayLevel, int otherLiteral) {
+		int otherAtom = atomOf(otherLiteral);
+		Assignment.Entry otherEntry = assignment.get(otherAtom);
+		boolean otherSatisfies = otherEntry != null && isPositive(otherLiteral) != otherEntry.getTruth().toBoolean();
+		int otherDecisionLevel = weakDecisionLevel(otherEntry);
+		int otherReplayLevel = weakReplayLevel(otherAtom);
+		return watchInvariant(atomSatisfies, otherSatisfies, atomDecisionLevel, atomReplayLevel, otherDecisionLevel, otherReplayLevel);
+	}
+
+	private boolean watchInvariant(boolean atomSatisfies, boolean otherAtomSatisfies, int atomDecisionLevel, int atomReplayLevel, int otherAtomDecisionLevel, int otherAtomReplayLevel) {
+		if (atomDecisionLevel == UNASSIGNED && otherAtomDecisionLevel == UNASSIGNED) {
+			// Both watches are unassigned.
+			return true;
+		}
+		if ((atomSatisfies && (otherAtomDecisionLevel >= atomDecisionLevel || otherAtomDecisionLevel >= atomReplayLevel))
+			|| (otherAtomSatisfies && (atomDecisionLevel >= otherAtomDecisionLevel || atomDecisionLevel >= otherAtomReplayLevel))) {
+			// One watch satisfies the nogood and the other is assigned at higher decision level (or higher than the replay level of the satisfying one).
+			return true;
+		}
+		return false;
+	}
+
+	private boolean watchInvariant(boolean atomSatisfies, int atomDecisionLevel, int otherLiteral, int otherDecisionLevel, Assignment.Entry otherEntry) {
+		boolean otherSatisfies = otherEntry != null && isPositive(otherLiteral) != otherEntry.getTruth().toBoolean();
+		if (atomDecisionLevel == Integer.MAX_VALUE && otherDecisionLevel == Integer.MAX_VALUE) {
+			// Both watches are unassigned.
+			return true;
+		}
+		if ((atomSatisfies && otherDecisionLevel >= atomDecisionLevel)
+			|| (otherSatisfies && atomDecisionLevel >= otherDecisionLevel)) {
+			// One watch satisfies the nogood and the other is assigned at higher decision level.
+			return true;
+		}
+		return false;
+	}
+}
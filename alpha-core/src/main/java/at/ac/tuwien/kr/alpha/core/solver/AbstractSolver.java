@@ -1,11 +1,15 @@
 package at.ac.tuwien.kr.alpha.core.solver;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import at.ac.tuwien.kr.alpha.api.AnswerSet;
 import at.ac.tuwien.kr.alpha.api.Solver;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
 import at.ac.tuwien.kr.alpha.core.common.AtomStore;
 import at.ac.tuwien.kr.alpha.core.grounder.Grounder;
 
@@ -15,6 +19,8 @@
 abstract class AbstractSolver implements Solver {
 	protected final Grounder grounder;
 	protected final AtomStore atomStore;
+	private final Map<Atom, Boolean> guidingPath = new LinkedHashMap<>();
+	private Supplier<Solver> splitSolverFactory;
 
 	protected AbstractSolver(AtomStore atomStore, Grounder grounder) {
 		this.atomStore = atomStore;
@@ -27,13 +33,118 @@ protected AnswerSet translate(Iterable<Integer> assignment) {
 
 	protected abstract boolean tryAdvance(Consumer<? super AnswerSet> action);
 
+	/**
+	 * Allows the spliterator of this solver to split its search space: each split creates a new solver using the
+	 * given factory and assigns it the complementary half of the search space.
+	 * @param solverFactory creates a new, independent solver (with its own grounder and atom store) for the same
+	 *                      program as this solver.
+	 */
+	void enableSplitting(Supplier<Solver> solverFactory) {
+		this.splitSolverFactory = solverFactory;
+	}
+
+	/**
+	 * Returns the guiding path of this solver, i.e., the truth values of ground atoms that all answer sets found by
+	 * this solver must agree with.
+	 */
+	protected Map<Atom, Boolean> getGuidingPath() {
+		return Collections.unmodifiableMap(guidingPath);
+	}
+
+	/**
+	 * Restricts this solver to answer sets in which the given ground atom has the given truth value. Subclasses
+	 * supporting splitting must enforce the guiding path; this is only called before the first answer set is computed.
+	 */
+	protected void addToGuidingPath(Atom atom, boolean truthValue) {
+		guidingPath.put(atom, truthValue);
+	}
+
+	/**
+	 * Chooses a ground atom whose truth value is still open, such that the search space can be split into the answer
+	 * sets where it is true and the ones where it is false. Atoms must mean the same in every solver for the program,
+	 * i.e., they must not be solver-internal.
+	 * @return the atom to split on, or null if the search space cannot be split (which is the default).
+	 */
+	protected Atom chooseSplittingAtom() {
+		return null;
+	}
+
+	/**
+	 * Splits off the half of the remaining search space where the splitting atom is false into a new solver, this
+	 * solver keeps the half where it is true. Both inherit the guiding path of this solver, hence the answer sets
+	 * of both solvers are disjoint and together are exactly the answer sets of this solver.
+	 * @return the new solver, or null if no split is possible.
+	 */
+	private AbstractSolver split() {
+		if (splitSolverFactory == null) {
+			return null;
+		}
+		Atom splittingAtom = chooseSplittingAtom();
+		if (splittingAtom == null) {
+			return null;
+		}
+		Solver solver = splitSolverFactory.get();
+		if (!(solver instanceof AbstractSolver)) {
+			return null;
+		}
+		AbstractSolver sibling = (AbstractSolver) solver;
+		sibling.enableSplitting(splitSolverFactory);
+		for (Map.Entry<Atom, Boolean> guidingLiteral : guidingPath.entrySet()) {
+			sibling.addToGuidingPath(guidingLiteral.getKey(), guidingLiteral.getValue());
+		}
+		sibling.addToGuidingPath(splittingAtom, false);
+		addToGuidingPath(splittingAtom, true);
+		return sibling;
+	}
+
 	@Override
 	public Spliterator<AnswerSet> spliterator() {
-		return new Spliterators.AbstractSpliterator<AnswerSet>(Long.MAX_VALUE, 0) {
-			@Override
-			public boolean tryAdvance(Consumer<? super AnswerSet> action) {
-				return AbstractSolver.this.tryAdvance(action);
+		return new AnswerSetSpliterator(this, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Enumerates the answer sets of a solver. Splitting is possible only before the first answer set is requested:
+	 * this is when parallel streams split, and afterwards the answer sets already found would have to be excluded
+	 * from the new solver.
+	 */
+	private static class AnswerSetSpliterator implements Spliterator<AnswerSet> {
+		private final AbstractSolver solver;
+		private long estimatedSize;
+		private boolean hasAdvanced;
+
+		AnswerSetSpliterator(AbstractSolver solver, long estimatedSize) {
+			this.solver = solver;
+			this.estimatedSize = estimatedSize;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super AnswerSet> action) {
+			hasAdvanced = true;
+			return solver.tryAdvance(action);
+		}
+
+		@Override
+		public Spliterator<AnswerSet> trySplit() {
+			if (hasAdvanced) {
+				return null;
+			}
+			AbstractSolver sibling = solver.split();
+			if (sibling == null) {
+				return null;
 			}
-		};
+			// The size is unknown, halving the estimate lets parallel streams stop splitting after a few rounds.
+			estimatedSize >>>= 1;
+			return new AnswerSetSpliterator(sibling, estimatedSize);
+		}
+
+		@Override
+		public long estimateSize() {
+			return estimatedSize;
+		}
+
+		@Override
+		public int characteristics() {
+			return 0;
+		}
 	}
 }
@@ -14,4 +14,18 @@ public interface Antecedent {
 
 	void decreaseActivity();
 
+	/**
+	 * Returns the LBD of this antecedent if it is a learned NoGood whose LBD is still tracked, otherwise
+	 * {@link NoGoodStore#LBD_NO_VALUE}.
+	 */
+	default int getLbd() {
+		return NoGoodStore.LBD_NO_VALUE;
+	}
+
+	/**
+	 * Informs this antecedent about a freshly computed LBD, which may move a learned NoGood to a better tier.
+	 */
+	default void updateLbd(int lbd) {
+	}
+
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.solver;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import at.ac.tuwien.kr.alpha.api.AnswerSet;
+import at.ac.tuwien.kr.alpha.api.programs.literals.Literal;
+
+/**
+ * The outcome of {@link DefaultSolver#solveUnderAssumptions(java.util.Collection)}: either an answer set satisfying
+ * all assumptions, or the subset of assumptions that cannot hold together. The subset is empty if the program has no
+ * answer set at all.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public final class AssumptionResult {
+	private final AnswerSet answerSet;
+	private final Set<Literal> failedAssumptions;
+
+	private AssumptionResult(AnswerSet answerSet, Set<Literal> failedAssumptions) {
+		this.answerSet = answerSet;
+		this.failedAssumptions = failedAssumptions;
+	}
+
+	static AssumptionResult satisfiable(AnswerSet answerSet) {
+		return new AssumptionResult(answerSet, Collections.emptySet());
+	}
+
+	static AssumptionResult unsatisfiable(Set<Literal> failedAssumptions) {
+		return new AssumptionResult(null, Collections.unmodifiableSet(new LinkedHashSet<>(failedAssumptions)));
+	}
+
+	public boolean isSatisfiable() {
+		return answerSet != null;
+	}
+
+	/**
+	 * Returns an answer set in which all assumptions hold, or null if there is none.
+	 */
+	public AnswerSet getAnswerSet() {
+		return answerSet;
+	}
+
+	/**
+	 * Returns a subset of the assumptions that no answer set satisfies, or the empty set if the program is
+	 * unsatisfiable (or an answer set was found).
+	 */
+	public Set<Literal> getFailedAssumptions() {
+		return failedAssumptions;
+	}
+
+	@Override
+	public String toString() {
+		return isSatisfiable() ? "SAT " + answerSet : "UNSAT " + failedAssumptions;
+	}
+}
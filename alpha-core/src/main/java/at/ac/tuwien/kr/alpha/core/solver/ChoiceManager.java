@@ -28,7 +28,11 @@
 package at.ac.tuwien.kr.alpha.core.solver;
 
 import static at.ac.tuwien.kr.alpha.commons.util.Util.oops;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomOf;
 import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomToLiteral;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.isPositive;
+import static at.ac.tuwien.kr.alpha.core.solver.ThriceTruth.FALSE;
+import static at.ac.tuwien.kr.alpha.core.solver.ThriceTruth.MBT;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -170,6 +174,19 @@ public void choose(Choice choice) {
 		choiceStack.push(choice);
 	}
 
+	/**
+	 * Decides an assumption at a new decision level. The atom of a positive assumption is assigned must-be-true (and
+	 * not true), since it still has to be justified by some rule. Assumptions do not count as choices.
+	 * @param literal the literal that is assumed to hold.
+	 */
+	public void chooseAssumption(int literal) {
+		if (assignment.choose(atomOf(literal), isPositive(literal) ? MBT : FALSE) != null) {
+			throw oops("Assumption is incompatible with current assignment");
+		}
+		LOGGER.debug("Assumption {} is {}@{}", literal, isPositive(literal) ? MBT : FALSE, assignment.getDecisionLevel());
+		choiceStack.push(new Choice(literal, false));
+	}
+
 	public void backjump(int target) {
 		if (target < 0) {
 			throw oops("Backjumping to decision level less than 0");
@@ -31,19 +31,26 @@
 import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomOf;
 import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomToLiteral;
 import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomToNegatedLiteral;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.isPositive;
 import static at.ac.tuwien.kr.alpha.core.solver.NoGoodStore.LBD_NO_VALUE;
 import static at.ac.tuwien.kr.alpha.core.solver.heuristics.BranchingHeuristic.DEFAULT_CHOICE_LITERAL;
 import static at.ac.tuwien.kr.alpha.core.solver.learning.GroundConflictNoGoodLearner.ConflictAnalysisResult.UNSAT;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -51,13 +58,13 @@
 
 import at.ac.tuwien.kr.alpha.api.AnswerSet;
 import at.ac.tuwien.kr.alpha.api.StatisticsReportingSolver;
+import at.ac.tuwien.kr.alpha.api.config.PhaseStrategy;
 import at.ac.tuwien.kr.alpha.api.config.SystemConfig;
 import at.ac.tuwien.kr.alpha.api.grounder.Substitution;
 import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
 import at.ac.tuwien.kr.alpha.api.programs.atoms.BasicAtom;
 import at.ac.tuwien.kr.alpha.api.programs.atoms.ComparisonAtom;
 import at.ac.tuwien.kr.alpha.api.programs.literals.Literal;
-import at.ac.tuwien.kr.alpha.api.programs.terms.ConstantTerm;
 import at.ac.tuwien.kr.alpha.core.common.AtomStore;
 import at.ac.tuwien.kr.alpha.core.common.NoGood;
 import at.ac.tuwien.kr.alpha.core.grounder.Grounder;
@@ -70,6 +77,8 @@
 import at.ac.tuwien.kr.alpha.core.solver.heuristics.HeuristicsConfiguration;
 import at.ac.tuwien.kr.alpha.core.solver.heuristics.NaiveHeuristic;
 import at.ac.tuwien.kr.alpha.core.solver.learning.GroundConflictNoGoodLearner;
+import at.ac.tuwien.kr.alpha.core.solver.restarts.RestartPolicy;
+import at.ac.tuwien.kr.alpha.core.solver.restarts.RestartPolicyFactory;
 
 /**
  * The new default solver employed in Alpha.
@@ -90,8 +99,21 @@ public class DefaultSolver extends AbstractSolver implements StatisticsReporting
 	private final boolean disableJustifications;
 	private boolean disableJustificationAfterClosing = true;	// Keep disabled for now, case not fully worked out yet.
 	private final boolean disableNoGoodDeletion;
+	private final RestartPolicy restartPolicy;
+	private int restarts;
+	private List<Literal> assumptions;
+	private int[] assumptionLiterals;
+	private Set<Literal> failedAssumptions;
+	private LearnedNoGoodExchange noGoodExchange;
+	private int noGoodExchangeIndex;
+	private int importedNoGoods;
+	private int deletedNoGoodsAtLastAtomRelease = -1;	// The first restart always releases atoms.
 	private static class SearchState {
 		boolean hasBeenInitialized;
+		/**
+		 * True if at least one answer set has been provided, i.e., an enumeration NoGood must be added before searching on.
+		 */
+		boolean hasProvidedAnswerSet;
 		boolean isSearchSpaceCompletelyExplored;
 		/**
 		 * True if search reached fixpoint and all remaining unassigned atoms have been set to false.
@@ -106,6 +128,7 @@ public DefaultSolver(AtomStore atomStore, Grounder grounder, NoGoodStore store,
 		super(atomStore, grounder);
 
 		this.assignment = assignment;
+		this.assignment.setTrackTargetPhases(config.getPhaseStrategy() == PhaseStrategy.TARGET);
 		this.store = store;
 		this.choiceManager = new ChoiceManager(assignment, store);
 		this.choiceManager.setChecksEnabled(config.isDebugInternalChecks());
@@ -113,6 +136,7 @@ public DefaultSolver(AtomStore atomStore, Grounder grounder, NoGoodStore store,
 		this.branchingHeuristic = chainFallbackHeuristic(grounder, assignment, random, heuristicsConfiguration);
 		this.disableJustifications = config.isDisableJustificationSearch();
 		this.disableNoGoodDeletion = config.isDisableNoGoodDeletion();
+		this.restartPolicy = RestartPolicyFactory.getInstance(config.getRestartStrategy(), config.getRestartInterval());
 		this.performanceLog = new PerformanceLog(choiceManager, (TrailAssignment) assignment, 1000);
 	}
 
@@ -127,21 +151,101 @@ private BranchingHeuristic chainFallbackHeuristic(Grounder grounder, WritableAss
 		return ChainedBranchingHeuristics.chainOf(branchingHeuristic, new NaiveHeuristic(choiceManager));
 	}
 
+	/**
+	 * Lets this solver export its short learned nogoods to, and import those of other solvers from, the given
+	 * exchange. Imports happen only at decision level 0, i.e., initially and after restarts.
+	 * @param exchange the exchange shared by the solvers of a portfolio.
+	 * @param index the index of this solver in the exchange.
+	 */
+	void joinNoGoodExchange(LearnedNoGoodExchange exchange, int index) {
+		this.noGoodExchange = exchange;
+		this.noGoodExchangeIndex = index;
+	}
+
 	@Override
 	protected boolean tryAdvance(Consumer<? super AnswerSet> action) {
 		if (!searchState.hasBeenInitialized) {
 			initializeSearch();
-		} else {
+		} else if (searchState.hasProvidedAnswerSet) {
 			prepareForSubsequentAnswerSet();
 		}
+		if (search(action)) {
+			searchState.hasProvidedAnswerSet = true;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Searches for an answer set in which all given assumptions hold, i.e., all atoms of positive literals are true
+	 * and all atoms of negative literals are false. Assumptions are decided (in the given order) before any choice of
+	 * the branching heuristic, atoms of positive assumptions are assigned must-be-true such that they still have to be
+	 * justified. Learned NoGoods, grounded NoGoods, and the state of the branching heuristic are kept between calls,
+	 * hence subsequent calls with different assumptions profit from previous ones.
+	 *
+	 * Solving under assumptions cannot be mixed with enumerating answer sets via {@link #stream()}, because the
+	 * enumeration NoGoods added there exclude answer sets for good.
+	 *
+	 * @param assumptions ground literals that must hold in the answer set.
+	 * @return an answer set satisfying all assumptions, or the subset of assumptions that cannot hold together.
+	 */
+	public AssumptionResult solveUnderAssumptions(Collection<Literal> assumptions) {
+		if (searchState.hasProvidedAnswerSet) {
+			throw new IllegalStateException("Cannot solve under assumptions after answer sets have been enumerated.");
+		}
+		if (!searchState.hasBeenInitialized) {
+			initializeSearch();
+		}
+		this.assumptions = new ArrayList<>(assumptions);
+		this.assumptionLiterals = new int[this.assumptions.size()];
+		for (int i = 0; i < assumptionLiterals.length; i++) {
+			Literal assumption = this.assumptions.get(i);
+			if (!assumption.getAtom().isGround()) {
+				throw new IllegalArgumentException("Assumptions must be ground, but got: " + assumption);
+			}
+			assumptionLiterals[i] = atomToLiteral(atomStore.putIfAbsent(assumption.getAtom()), !assumption.isNegated());
+		}
+		growForMaxAtomId();
+		try {
+			AnswerSet[] answerSet = new AnswerSet[1];
+			if (search(as -> answerSet[0] = as)) {
+				return AssumptionResult.satisfiable(answerSet[0]);
+			}
+			// If no assumption failed, the program itself is unsatisfiable.
+			return AssumptionResult.unsatisfiable(failedAssumptions != null ? failedAssumptions : Collections.emptySet());
+		} finally {
+			this.assumptions = null;
+			this.assumptionLiterals = null;
+			this.failedAssumptions = null;
+			searchState.afterAllAtomsAssigned = false;
+			if (!searchState.isSearchSpaceCompletelyExplored && assignment.getDecisionLevel() > 0) {
+				choiceManager.backjump(0);
+			}
+		}
+	}
+
+	private boolean search(Consumer<? super AnswerSet> action) {
 		// Try all assignments until grounder reports no more NoGoods and all of them are satisfied
 		while (true) {
 			performanceLog.writeIfTimeForLogging(LOGGER);
+			if (Thread.currentThread().isInterrupted()) {
+				// E.g., another solver of a portfolio was faster.
+				throw new CancellationException("Solving was interrupted.");
+			}
 			if (searchState.isSearchSpaceCompletelyExplored) {
 				LOGGER.debug("Search space has been fully explored, there are no more answer-sets.");
 				logStats();
 				return false;
 			}
+			if (failedAssumptions != null) {
+				LOGGER.debug("Assumptions {} cannot hold together.", failedAssumptions);
+				logStats();
+				return false;
+			}
+			if (noGoodExchange != null && assignment.getDecisionLevel() == 0 && !searchState.afterAllAtomsAssigned && !importSharedNoGoods()) {
+				searchState.isSearchSpaceCompletelyExplored = true;
+				continue;
+			}
 			ConflictCause conflictCause = propagate();
 			if (conflictCause != null) {
 				LOGGER.debug("Conflict encountered, analyzing conflict.");
@@ -150,6 +254,8 @@ protected boolean tryAdvance(Consumer<? super AnswerSet> action) {
 				LOGGER.debug("Updating grounder with new assignments and (potentially) obtaining new NoGoods.");
 				grounder.updateAssignment(assignment.getNewPositiveAssignmentsIterator());
 				getNoGoodsFromGrounderAndIngest();
+			} else if (assumptions != null && decideAssumption()) {
+				LOGGER.debug("Handled assumption.");
 			} else if (choose()) {
 				LOGGER.debug("Did choice.");
 			} else if (close()) {
@@ -163,13 +269,180 @@ protected boolean tryAdvance(Consumer<? super AnswerSet> action) {
 		}
 	}
 
+	/**
+	 * Decides the first assumption whose atom is unassigned. If an assumption is violated already, the assumptions
+	 * responsible for it are recorded as failed.
+	 * @return true iff an assumption was decided or found to be violated.
+	 */
+	private boolean decideAssumption() {
+		for (int i = 0; i < assumptionLiterals.length; i++) {
+			int literal = assumptionLiterals[i];
+			ThriceTruth truth = assignment.getTruth(atomOf(literal));
+			if (truth == null) {
+				LOGGER.debug("Deciding assumption {}.", assumptions.get(i));
+				choiceManager.chooseAssumption(literal);
+				return true;
+			}
+			if (truth.toBoolean() != isPositive(literal)) {
+				failedAssumptions = computeFailedAssumptions(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Follows the implication graph from the atom of the violated assumption back to the decisions it depends on.
+	 * Since assumptions are decided before any other choice, all these decisions are assumptions.
+	 */
+	private Set<Literal> computeFailedAssumptions(int violatedAssumption) {
+		Set<Literal> failed = new LinkedHashSet<>();
+		failed.add(assumptions.get(violatedAssumption));
+		Set<Integer> visited = new HashSet<>();
+		ArrayDeque<Integer> toVisit = new ArrayDeque<>();
+		toVisit.push(atomOf(assumptionLiterals[violatedAssumption]));
+		while (!toVisit.isEmpty()) {
+			int atom = toVisit.pop();
+			if (!visited.add(atom) || assignment.getWeakDecisionLevel(atom) == 0) {
+				continue;
+			}
+			Antecedent impliedBy = assignment.getImpliedBy(atom);
+			if (impliedBy == null && isAssumptionAtom(atom)) {
+				addHoldingAssumptionsOverAtom(failed, atom);
+			} else if (impliedBy == null) {
+				throw oops("Assumption violated by a decision other than an assumption");
+			} else if (impliedBy == TrailAssignment.CLOSING_INDICATOR_ANTECEDENT) {
+				// Closing depends on everything assigned before, so all assumptions so far are responsible.
+				addHoldingAssumptionsUpToDecisionLevel(failed, assignment.getWeakDecisionLevel(atom));
+			} else {
+				for (int reasonLiteral : impliedBy.getReasonLiterals()) {
+					toVisit.push(atomOf(reasonLiteral));
+				}
+			}
+		}
+		return failed;
+	}
+
+	/**
+	 * Adds all assumptions over the given atom that hold currently.
+	 */
+	private void addHoldingAssumptionsOverAtom(Set<Literal> failed, int atom) {
+		for (int i = 0; i < assumptionLiterals.length; i++) {
+			int literal = assumptionLiterals[i];
+			if (atomOf(literal) == atom && isAssumptionHolding(literal)) {
+				failed.add(assumptions.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Adds all assumptions that hold and are assigned at the given decision level or below.
+	 */
+	private void addHoldingAssumptionsUpToDecisionLevel(Set<Literal> failed, int decisionLevel) {
+		for (int i = 0; i < assumptionLiterals.length; i++) {
+			int literal = assumptionLiterals[i];
+			if (isAssumptionHolding(literal) && assignment.getWeakDecisionLevel(atomOf(literal)) <= decisionLevel) {
+				failed.add(assumptions.get(i));
+			}
+		}
+	}
+
+	private boolean isAssumptionHolding(int assumptionLiteral) {
+		ThriceTruth truth = assignment.getTruth(atomOf(assumptionLiteral));
+		return truth != null && truth.toBoolean() == isPositive(assumptionLiteral);
+	}
+
+	private int indexOfAssumption(Choice choice) {
+		for (int i = 0; i < assumptionLiterals.length; i++) {
+			if (assumptionLiterals[i] == atomToLiteral(choice.getAtom(), choice.getTruthValue())) {
+				return i;
+			}
+		}
+		throw oops("Choice is no assumption: " + choice);
+	}
+
+	private boolean isAssumptionAtom(int atom) {
+		if (assumptionLiterals == null) {
+			return false;
+		}
+		for (int literal : assumptionLiterals) {
+			if (atomOf(literal) == atom) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private void initializeSearch() {
 		// Initially, get NoGoods from grounder.
 		performanceLog.initialize();
 		getNoGoodsFromGrounderAndIngest();
+		for (Map.Entry<Atom, Boolean> guidingLiteral : getGuidingPath().entrySet()) {
+			if (searchState.isSearchSpaceCompletelyExplored) {
+				break;
+			}
+			if (!enforceGuidingLiteral(guidingLiteral.getKey(), guidingLiteral.getValue())) {
+				searchState.isSearchSpaceCompletelyExplored = true;
+			}
+		}
 		searchState.hasBeenInitialized = true;
 	}
 
+	@Override
+	protected void addToGuidingPath(Atom atom, boolean truthValue) {
+		super.addToGuidingPath(atom, truthValue);
+		if (searchState.hasBeenInitialized && !searchState.isSearchSpaceCompletelyExplored && !enforceGuidingLiteral(atom, truthValue)) {
+			searchState.isSearchSpaceCompletelyExplored = true;
+		}
+	}
+
+	/**
+	 * Adds a unary NoGood forbidding the given atom to have the opposite truth value. Must only be called at decision level 0.
+	 * @return false iff the program has no answer sets agreeing with the guiding literal.
+	 */
+	private boolean enforceGuidingLiteral(Atom atom, boolean truthValue) {
+		NoGood noGood = new NoGood(atomToLiteral(atomStore.putIfAbsent(atom), !truthValue));
+		LOGGER.debug("Enforcing guiding literal by adding: {}", atomStore.noGoodToString(noGood));
+		return addExternalNoGood(noGood, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Propagates and grounds at decision level 0 until a fixpoint is reached, then chooses the first atom that is still
+	 * unassigned and not solver-internal.
+	 */
+	@Override
+	protected Atom chooseSplittingAtom() {
+		if (!searchState.hasBeenInitialized) {
+			initializeSearch();
+		}
+		if (assignment.getDecisionLevel() != 0) {
+			throw oops("Splitting is only possible at decision level 0");
+		}
+		while (!searchState.isSearchSpaceCompletelyExplored) {
+			ConflictCause conflictCause = propagate();
+			if (conflictCause != null) {
+				// A conflict at decision level 0 shows unsatisfiability.
+				learnFromConflict(conflictCause);
+			} else if (assignment.didChange()) {
+				grounder.updateAssignment(assignment.getNewPositiveAssignmentsIterator());
+				getNoGoodsFromGrounderAndIngest();
+			} else {
+				break;
+			}
+		}
+		if (searchState.isSearchSpaceCompletelyExplored) {
+			return null;
+		}
+		for (int atomId = 1; atomId <= atomStore.getMaxAtomId(); atomId++) {
+			Atom atom = atomStore.get(atomId);
+			if (atom != null && !assignment.isAssigned(atomId) && !atom.getPredicate().isSolverInternal()) {
+				LOGGER.debug("Splitting search space on {}.", atom);
+				return atom;
+			}
+		}
+		return null;
+	}
+
 	private void prepareForSubsequentAnswerSet() {
 		// We already found one Answer-Set and are requested to find another one.
 		searchState.afterAllAtomsAssigned = false;
@@ -191,6 +464,8 @@ private void prepareForSubsequentAnswerSet() {
 		}
 		// Backjump instead of backtrackSlow, enumerationNoGood will invert last choice.
 		choiceManager.backjump(backjumpLevel - 1);
+		// Steering search towards the previous Answer-Set is useless, hence start recording target phases anew.
+		assignment.resetTargetPhases();
 		LOGGER.debug("Adding enumeration nogood: {}", enumerationNoGood);
 		if (!addAndBackjumpIfNecessary(grounder.register(enumerationNoGood), enumerationNoGood, Integer.MAX_VALUE)) {
 			searchState.isSearchSpaceCompletelyExplored = true;
@@ -220,8 +495,63 @@ private void learnFromConflict(ConflictCause conflictCause) {
 		} else {
 			if (!learnBackjumpAddFromConflict(conflictCause)) {
 				searchState.isSearchSpaceCompletelyExplored = true;
+			} else if (restartPolicy.shouldRestart()) {
+				restart();
+			}
+		}
+	}
+
+	/**
+	 * Restarts search by backjumping to decision level 0. All learned NoGoods (including enumeration NoGoods) and the
+	 * state of the branching heuristic are kept, hence no answer set is lost or found twice.
+	 */
+	private void restart() {
+		restarts++;
+		restartPolicy.restarted();
+		if (assignment.getDecisionLevel() > 0) {
+			LOGGER.debug("Restarting search.");
+			choiceManager.backjump(0);
+		}
+		releaseUnreferencedAtoms();
+		// Rephase: forget the target assignment such that search is steered towards new ones after the restart.
+		assignment.resetTargetPhases();
+	}
+
+	/**
+	 * Releases the ids of all atoms that are neither assigned nor occur in some NoGood, assumption or the guiding path, if
+	 * the atom store supports it and this is the first call or learned NoGoods were deleted since the last time. Must only
+	 * be called at decision level 0.
+	 */
+	private void releaseUnreferencedAtoms() {
+		int deletedNoGoods = getNumberOfDeletedNoGoods();
+		if (!atomStore.canReleaseAtomIds() || deletedNoGoods == deletedNoGoodsAtLastAtomRelease) {
+			return;
+		}
+		deletedNoGoodsAtLastAtomRelease = deletedNoGoods;
+		int maxAtomId = atomStore.getMaxAtomId();
+		boolean[] referencedAtoms = new boolean[maxAtomId + 1];
+		store.markReferencedAtoms(referencedAtoms);
+		if (assumptionLiterals != null) {
+			for (int literal : assumptionLiterals) {
+				referencedAtoms[atomOf(literal)] = true;
+			}
+		}
+		for (Atom guidingAtom : getGuidingPath().keySet()) {
+			if (atomStore.contains(guidingAtom)) {
+				referencedAtoms[atomStore.get(guidingAtom)] = true;
 			}
 		}
+		int numberOfReleasedAtoms = 0;
+		for (int atom = 1; atom <= maxAtomId; atom++) {
+			if (referencedAtoms[atom] || assignment.isAssigned(atom) || atomStore.get(atom) == null) {
+				continue;
+			}
+			assignment.forgetAtom(atom);
+			branchingHeuristic.forgetAtom(atom);
+			atomStore.releaseAtomId(atom);
+			numberOfReleasedAtoms++;
+		}
+		LOGGER.debug("Released {} unreferenced atoms.", numberOfReleasedAtoms);
 	}
 
 	private ConflictCause propagate() {
@@ -287,6 +617,7 @@ private boolean learnBackjumpAddFromConflict(ConflictCause conflictCause) {
 		}
 
 		branchingHeuristic.analyzedConflict(analysisResult);
+		restartPolicy.conflict(analysisResult.lbd);
 
 		if (analysisResult.learnedNoGood == null) {
 			throw oops("Did not learn new NoGood from conflict.");
@@ -295,9 +626,44 @@ private boolean learnBackjumpAddFromConflict(ConflictCause conflictCause) {
 		choiceManager.backjump(analysisResult.backjumpLevel);
 		final NoGood learnedNoGood = analysisResult.learnedNoGood;
 		int noGoodId = grounder.register(learnedNoGood);
+		if (noGoodExchange != null && !searchState.hasProvidedAnswerSet) {
+			// Once an answer set was found, learned NoGoods may depend on enumeration NoGoods, which are specific to this solver.
+			noGoodExchange.export(noGoodExchangeIndex, learnedNoGood, analysisResult.lbd, atomStore);
+		}
 		return addAndBackjumpIfNecessary(noGoodId, learnedNoGood, analysisResult.lbd);
 	}
 
+	/**
+	 * Adds all nogoods other solvers exported to the exchange since the last import. Atoms of imported nogoods that
+	 * are not yet known to this solver are created on the fly. Must only be called at decision level 0.
+	 *
+	 * @return false iff an imported nogood shows that the program is unsatisfiable.
+	 */
+	private boolean importSharedNoGoods() {
+		LearnedNoGoodExchange.SharedNoGood sharedNoGood = noGoodExchange.poll(noGoodExchangeIndex);
+		while (sharedNoGood != null) {
+			NoGood noGood = sharedNoGood.toNoGood(atomStore);
+			importedNoGoods++;
+			LOGGER.trace("Importing shared nogood: {}", atomStore.noGoodToString(noGood));
+			if (!addExternalNoGood(noGood, sharedNoGood.getLbd())) {
+				return false;
+			}
+			sharedNoGood = noGoodExchange.poll(noGoodExchangeIndex);
+		}
+		return true;
+	}
+
+	/**
+	 * Adds a NoGood that did not come from the grounder or conflict analysis of this solver, and whose atoms may just
+	 * have been created in the atom store.
+	 * @return false iff the NoGood shows that the program is unsatisfiable.
+	 */
+	private boolean addExternalNoGood(NoGood noGood, int lbd) {
+		growForMaxAtomId();
+		branchingHeuristic.newNoGood(noGood);
+		return addAndBackjumpIfNecessary(grounder.register(noGood), noGood, lbd);
+	}
+
 	private boolean justifyMbtAndBacktrack() {
 		mbtAtFixpoint++;
 		// Run justification only if enabled and possible.
@@ -377,8 +743,8 @@ private boolean treatConflictAfterClosing(Antecedent violatedNoGood) {
 				continue;
 			}
 			// For RuleAtoms in toJustify the corresponding ground body contains BasicAtoms that have been assigned FALSE in the closing.
-			// First, get NonGroundRule + Substitution, stored in the RuleAtom's single term.
-			RuleAtom.RuleAtomData ruleAtomData = (RuleAtom.RuleAtomData) ((ConstantTerm<?>)(atom.getTerms().get(0))).getObject();
+			// First, get NonGroundRule + Substitution, encoded in the RuleAtom.
+			RuleAtom.RuleAtomData ruleAtomData = ((RuleAtom) atom).getRuleAtomData();
 			Substitution groundingSubstitution = ruleAtomData.getSubstitution();
 			CompiledRule nonGroundRule = ruleAtomData.getNonGroundRule();
 			// Find ground literals in the body that have been assigned false and justify those.
@@ -438,6 +804,13 @@ private boolean backtrack() {
 				LOGGER.trace("Backtracked choice atom is {}={}@{}.", backtrackedChoice.getAtom(),
 					backtrackedChoice.getTruthValue() ? ThriceTruth.TRUE : ThriceTruth.FALSE, previousDecisionLevel);
 			}
+			if (isAssumptionAtom(backtrackedChoice.getAtom())) {
+				// The search space below an assumption is exhausted, assumptions must not be inverted.
+				failedAssumptions = new LinkedHashSet<>();
+				failedAssumptions.add(assumptions.get(indexOfAssumption(backtrackedChoice)));
+				addHoldingAssumptionsUpToDecisionLevel(failedAssumptions, previousDecisionLevel - 1);
+				return true;
+			}
 
 			// Construct inverse choice, if choice can be inverted.
 			final Choice invertedChoice = Choice.getInverted(backtrackedChoice);
@@ -457,12 +830,16 @@ private boolean backtrack() {
 		return assignment.getDecisionLevel() != 0;
 	}
 
-	private boolean ingest(Map<Integer, NoGood> obtained) {
+	private void growForMaxAtomId() {
 		assignment.growForMaxAtomId();
 		int maxAtomId = atomStore.getMaxAtomId();
 		store.growForMaxAtomId(maxAtomId);
 		choiceManager.growForMaxAtomId(maxAtomId);
 		branchingHeuristic.growForMaxAtomId(maxAtomId);
+	}
+
+	private boolean ingest(Map<Integer, NoGood> obtained) {
+		growForMaxAtomId();
 		branchingHeuristic.newNoGoods(obtained.values());
 
 		LinkedList<Map.Entry<Integer, NoGood>> noGoodsToAdd = new LinkedList<>(obtained.entrySet());
@@ -557,10 +934,62 @@ public int getNumberOfConflictsAfterClosing() {
 
 	@Override
 	public int getNumberOfDeletedNoGoods() {
-		if (!(store instanceof NoGoodStoreAlphaRoaming)) {
-			return 0;
+		if (store instanceof NoGoodStoreAlphaRoaming) {
+			return ((NoGoodStoreAlphaRoaming)store).getLearnedNoGoodDeletion().getNumberOfDeletedNoGoods();
+		}
+		if (store instanceof NoGoodStoreAlphaRoamingArena) {
+			return ((NoGoodStoreAlphaRoamingArena)store).getNumberOfDeletedNoGoods();
+		}
+		return 0;
+	}
+
+	@Override
+	public int getNumberOfLearnedNoGoodsInCoreTier() {
+		if (store instanceof NoGoodStoreAlphaRoaming) {
+			return ((NoGoodStoreAlphaRoaming)store).getLearnedNoGoodDeletion().getCoreTierSize();
 		}
-		return ((NoGoodStoreAlphaRoaming)store).getLearnedNoGoodDeletion().getNumberOfDeletedNoGoods();
+		return 0;
+	}
+
+	@Override
+	public int getNumberOfLearnedNoGoodsInMidTier() {
+		if (store instanceof NoGoodStoreAlphaRoaming) {
+			return ((NoGoodStoreAlphaRoaming)store).getLearnedNoGoodDeletion().getMidTierSize();
+		}
+		return 0;
+	}
+
+	@Override
+	public int getNumberOfLearnedNoGoodsInLocalTier() {
+		if (store instanceof NoGoodStoreAlphaRoaming) {
+			return ((NoGoodStoreAlphaRoaming)store).getLearnedNoGoodDeletion().getLocalTierSize();
+		}
+		return 0;
+	}
+
+	@Override
+	public int getNumberOfLearnedNoGoodPromotions() {
+		if (store instanceof NoGoodStoreAlphaRoaming) {
+			return ((NoGoodStoreAlphaRoaming)store).getLearnedNoGoodDeletion().getNumberOfPromotions();
+		}
+		return 0;
+	}
+
+	@Override
+	public String getLearnedNoGoodStatisticsString() {
+		if (store instanceof NoGoodStoreAlphaRoaming) {
+			return StatisticsReportingSolver.super.getLearnedNoGoodStatisticsString();
+		}
+		return "ng_tiers=n/a (learned nogoods of " + store.getClass().getSimpleName() + " are not tiered)";
+	}
+
+	@Override
+	public long getNoGoodRegistryMemoryUsage() {
+		return grounder.getNoGoodRegistryMemoryUsage();
+	}
+
+	public int getNumberOfRestarts() {
+		return restarts;
 	}
 
 	public NoGoodCounter getNoGoodCounter() {
@@ -570,6 +999,12 @@ public NoGoodCounter getNoGoodCounter() {
 	private void logStats() {
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug(getStatisticsString());
+			LOGGER.debug(getLearnedNoGoodStatisticsString());
+			LOGGER.debug(getMemoryStatisticsString());
+			LOGGER.debug("Number of restarts: {}", restarts);
+			if (noGoodExchange != null) {
+				LOGGER.debug("Number of imported shared nogoods: {}", importedNoGoods);
+			}
 			if (branchingHeuristic instanceof ChainedBranchingHeuristics) {
 				LOGGER.debug("Decisions made by each heuristic:");
 				for (Entry<BranchingHeuristic, Integer> heuristicToDecisionCounter : ((ChainedBranchingHeuristics)branchingHeuristic).getNumberOfDecisions().entrySet()) {
@@ -5,15 +5,23 @@
 
 import at.ac.tuwien.kr.alpha.core.common.Assignment;
 
+import static at.ac.tuwien.kr.alpha.commons.util.Util.oops;
 import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomOf;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
 /**
- * Realizes a learned NoGood deletion strategy based on LBD and activity of NoGoods.
+ * Realizes a tiered database of learned NoGoods based on LBD and activity of NoGoods.
+ *
+ * Learned NoGoods are kept in one of three tiers: NoGoods in the core tier (LBD of at most {@link #CORE_TIER_MAX_LBD})
+ * are never deleted, NoGoods in the mid tier (LBD of at most {@link #MID_TIER_MAX_LBD}) are kept as long as they take
+ * part in conflict analysis between two deletion runs, and all others are in the local tier, which is halved by
+ * activity on each run. Whenever conflict analysis recomputes a smaller LBD for a NoGood, it may be promoted to a
+ * better tier.
  *
  * Copyright (c) 2019, the Alpha Team.
  */
@@ -22,12 +30,33 @@ class LearnedNoGoodDeletion {
 	public static final int RESET_SEQUENCE_AFTER = 20;
 	public static final int RUN_AFTER_AT_LEAST = 2000;
 	public static final int GROWTH_FACTOR = 100;
-	private final ArrayList<WatchedNoGood> learnedNoGoods = new ArrayList<>();	// List of learned NoGoods that can be removed again. Note: should only contain NoGoods of size > 2.
+	public static final int CORE_TIER_MAX_LBD = 2;
+	public static final int MID_TIER_MAX_LBD = 6;
+
+	enum Tier {
+		CORE,
+		MID,
+		LOCAL;
+
+		static Tier forLbd(int lbd) {
+			if (lbd <= CORE_TIER_MAX_LBD) {
+				return CORE;
+			}
+			return lbd <= MID_TIER_MAX_LBD ? MID : LOCAL;
+		}
+	}
+
+	// Lists of learned NoGoods that can be moved or removed again. Note: should only contain NoGoods of size > 2.
+	// NoGoods in the core tier are never removed, hence they are only counted.
+	private final ArrayList<WatchedNoGood> midTier = new ArrayList<>();
+	private final ArrayList<WatchedNoGood> localTier = new ArrayList<>();
 	private final NoGoodStoreAlphaRoaming store;
 	private final Assignment assignment;
 	private int conflictCounter;
 	private int cleanupCounter;
 	private int numberOfDeletedNoGoods;
+	private int coreTierSize;
+	private int numberOfPromotions;
 
 	LearnedNoGoodDeletion(NoGoodStoreAlphaRoaming store, Assignment assignment) {
 		this.store = store;
@@ -35,23 +64,42 @@ class LearnedNoGoodDeletion {
 	}
 
 	void reset() {
-		learnedNoGoods.clear();
+		midTier.clear();
+		localTier.clear();
 		conflictCounter = 0;
 		cleanupCounter = 0;
 		numberOfDeletedNoGoods = 0;
+		coreTierSize = 0;
+		numberOfPromotions = 0;
 	}
 
 	/**
-	 * Returns WatchedNoGoods known to {@link LearnedNoGoodDeletion}.
+	 * Returns WatchedNoGoods known to {@link LearnedNoGoodDeletion} that may be deleted, i.e., those of the mid and
+	 * the local tier.
 	 * Note: this is likely just a subset of all learned nogoods.
 	 * @return an unmodifiable list of {@link WatchedNoGood}s.
 	 */
 	public List<WatchedNoGood> inspectLearnedNoGoods() {
+		List<WatchedNoGood> learnedNoGoods = new ArrayList<>(midTier.size() + localTier.size());
+		learnedNoGoods.addAll(midTier);
+		learnedNoGoods.addAll(localTier);
 		return Collections.unmodifiableList(learnedNoGoods);
 	}
 
 	void recordLearnedNoGood(WatchedNoGood learnedWatchedNoGood) {
-		learnedNoGoods.add(learnedWatchedNoGood);
+		switch (learnedWatchedNoGood.getTier()) {
+			case CORE:
+				coreTierSize++;
+				break;
+			case MID:
+				midTier.add(learnedWatchedNoGood);
+				break;
+			case LOCAL:
+				localTier.add(learnedWatchedNoGood);
+				break;
+			default:
+				throw oops("Unknown tier of learned NoGood: " + learnedWatchedNoGood.getTier());
+		}
 	}
 
 	void increaseConflictCounter() {
@@ -69,27 +117,68 @@ void runNoGoodDeletion() {
 		if (cleanupCounter > RESET_SEQUENCE_AFTER) {
 			cleanupCounter = 0;
 		}
-		int deletedNoGoods = 0;
-		int originalSize = learnedNoGoods.size();
-		if (originalSize == 0) {
-			return;
+		reorganizeTiers();
+		int deletedNoGoods = reduceLocalTier();
+		LOGGER.debug("Removed {} NoGoods from store. Tier sizes (core/mid/local): {}/{}/{}.", deletedNoGoods, coreTierSize, midTier.size(), localTier.size());
+		this.numberOfDeletedNoGoods += deletedNoGoods;
+	}
+
+	/**
+	 * Moves NoGoods whose LBD improved since the last run to their new tier and demotes NoGoods of the mid tier that
+	 * did not take part in any conflict since the last run to the local tier.
+	 */
+	private void reorganizeTiers() {
+		int keptMidTier = 0;
+		for (int i = 0; i < midTier.size(); i++) {
+			WatchedNoGood noGood = midTier.get(i);
+			if (noGood.getTier() == Tier.CORE) {
+				coreTierSize++;
+				numberOfPromotions++;
+			} else if (!noGood.isUsedSinceLastDeletion()) {
+				noGood.demoteToLocalTier();
+				localTier.add(noGood);
+			} else {
+				noGood.resetUsedSinceLastDeletion();
+				midTier.set(keptMidTier++, noGood);
+			}
 		}
-		int toDeleteMax = originalSize / 2;
-		long activitySum = 0;
-		for (WatchedNoGood learnedNoGood : learnedNoGoods) {
-			activitySum += learnedNoGood.getActivity();
+		truncate(midTier, keptMidTier);
+		int keptLocalTier = 0;
+		for (int i = 0; i < localTier.size(); i++) {
+			WatchedNoGood noGood = localTier.get(i);
+			noGood.resetUsedSinceLastDeletion();
+			if (noGood.getTier() != Tier.LOCAL) {
+				numberOfPromotions++;
+				if (noGood.getTier() == Tier.CORE) {
+					coreTierSize++;
+				} else {
+					midTier.add(noGood);
+				}
+				continue;
+			}
+			localTier.set(keptLocalTier++, noGood);
+		}
+		truncate(localTier, keptLocalTier);
+	}
+
+	/**
+	 * Deletes up to half of the local tier, starting with the least active NoGoods that are not locked.
+	 * @return the number of deleted NoGoods.
+	 */
+	private int reduceLocalTier() {
+		int originalSize = localTier.size();
+		if (originalSize == 0) {
+			return 0;
 		}
-		double avgActivity = (double) activitySum / originalSize;
-		double scoreThreshold = avgActivity * 1.5;
-		for (Iterator<WatchedNoGood> iterator = learnedNoGoods.iterator(); iterator.hasNext();) {
+		int toDeleteMax = (originalSize + 1) / 2;
+		int deletedNoGoods = 0;
+		localTier.sort(Comparator.comparingInt(WatchedNoGood::getActivity));
+		for (Iterator<WatchedNoGood> iterator = localTier.iterator(); iterator.hasNext();) {
 			WatchedNoGood learnedNoGood = iterator.next();
 			if (deletedNoGoods >= toDeleteMax) {
 				break;
 			}
-			boolean keepNoGood = isLocked(learnedNoGood, assignment)
-				|| learnedNoGood.getActivity() > scoreThreshold
-				|| learnedNoGood.isLbdLessOrEqual2();
-			if (!keepNoGood) {
+			if (!isLocked(learnedNoGood, assignment)) {
 				iterator.remove();
 				store.removeFromWatches(learnedNoGood);
 				learnedNoGood.decreaseActivity();
@@ -97,8 +186,11 @@ void runNoGoodDeletion() {
 				LOGGER.trace("Removed from store the NoGood: {}", learnedNoGood);
 			}
 		}
-		LOGGER.debug("Removed {} NoGoods from store.", deletedNoGoods);
-		this.numberOfDeletedNoGoods += deletedNoGoods;
+		return deletedNoGoods;
+	}
+
+	private static void truncate(ArrayList<WatchedNoGood> list, int newSize) {
+		list.subList(newSize, list.size()).clear();
 	}
 
 	private boolean isLocked(WatchedNoGood noGood, Assignment assignment) {
@@ -114,4 +206,20 @@ private boolean isLocked(WatchedNoGood noGood, Assignment assignment) {
 	public int getNumberOfDeletedNoGoods() {
 		return numberOfDeletedNoGoods;
 	}
+
+	public int getCoreTierSize() {
+		return coreTierSize;
+	}
+
+	public int getMidTierSize() {
+		return midTier.size();
+	}
+
+	public int getLocalTierSize() {
+		return localTier.size();
+	}
+
+	public int getNumberOfPromotions() {
+		return numberOfPromotions;
+	}
 }
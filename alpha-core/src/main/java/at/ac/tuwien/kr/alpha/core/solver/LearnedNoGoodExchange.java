@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.solver;
+
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomOf;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomToLiteral;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.isPositive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.core.common.AtomStore;
+import at.ac.tuwien.kr.alpha.core.common.NoGood;
+
+/**
+ * Exchanges learned nogoods between the solvers of a portfolio. Atom ids are local to the {@link AtomStore} of each
+ * solver, hence nogoods are exported as ground atoms and translated back into the atom ids of each importing solver.
+ * Every solver has its own {@link LockFreeBoundedQueue} of incoming nogoods; if it is full, further nogoods are
+ * dropped (sharing is best-effort and never blocks the exporting solver).
+ *
+ * Only nogoods that are short and have a low LBD are shared, and only if all their atoms mean the same in every
+ * solver: atoms over solver-internal predicates (rule and choice atoms) carry ids of rules and choice points that are
+ * generated anew by each solver, they are never shared.
+ *
+ * Solvers import shared nogoods only at decision level 0, i.e., initially and after restarts. Hence
+ * {@link SolverFactory#getPortfolioInstance} lets every solver of a sharing portfolio restart periodically.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public final class LearnedNoGoodExchange {
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	private final List<LockFreeBoundedQueue<SharedNoGood>> incoming;
+	private final int maxSize;
+	private final int maxLbd;
+	private final AtomicLong numberOfExported = new AtomicLong();
+	private final AtomicLong numberOfDropped = new AtomicLong();
+
+	/**
+	 * @param numberOfSolvers the number of solvers taking part in the exchange.
+	 * @param queueCapacity the maximum number of nogoods waiting to be imported by one solver.
+	 * @param maxSize nogoods with more literals are not shared.
+	 * @param maxLbd nogoods with a higher LBD are not shared.
+	 */
+	public LearnedNoGoodExchange(int numberOfSolvers, int queueCapacity, int maxSize, int maxLbd) {
+		this.incoming = new ArrayList<>(numberOfSolvers);
+		for (int i = 0; i < numberOfSolvers; i++) {
+			incoming.add(new LockFreeBoundedQueue<>(queueCapacity));
+		}
+		this.maxSize = maxSize;
+		this.maxLbd = maxLbd;
+	}
+
+	/**
+	 * Returns true iff a learned nogood of the given size and LBD passes the filter of this exchange.
+	 */
+	boolean isShareable(int size, int lbd) {
+		return size <= maxSize && lbd != NoGoodStore.LBD_NO_VALUE && lbd <= maxLbd;
+	}
+
+	/**
+	 * Offers the given learned nogood of solver {@code fromSolver} to all other solvers, if it passes the size and
+	 * LBD filter and contains no solver-specific atoms.
+	 * @return true iff the nogood was exported.
+	 */
+	boolean export(int fromSolver, NoGood noGood, int lbd, AtomStore atomStore) {
+		if (!isShareable(noGood.size(), lbd)) {
+			return false;
+		}
+		SharedNoGood sharedNoGood = SharedNoGood.fromNoGood(noGood, lbd, atomStore);
+		if (sharedNoGood == null) {
+			return false;
+		}
+		numberOfExported.incrementAndGet();
+		for (int i = 0; i < incoming.size(); i++) {
+			if (i != fromSolver && !incoming.get(i).offer(sharedNoGood)) {
+				numberOfDropped.incrementAndGet();
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the next nogood exported by another solver for solver {@code toSolver}, or null if there is none.
+	 */
+	SharedNoGood poll(int toSolver) {
+		return incoming.get(toSolver).poll();
+	}
+
+	public long getNumberOfExportedNoGoods() {
+		return numberOfExported.get();
+	}
+
+	/**
+	 * Returns how often a nogood could not be delivered to a solver because its queue was full.
+	 */
+	public long getNumberOfDroppedNoGoods() {
+		return numberOfDropped.get();
+	}
+
+	/**
+	 * A nogood over ground atoms, independent of the atom ids of any particular solver.
+	 */
+	static final class SharedNoGood {
+		private final Atom[] atoms;
+		private final boolean[] positive;
+		private final int lbd;
+
+		private SharedNoGood(Atom[] atoms, boolean[] positive, int lbd) {
+			this.atoms = atoms;
+			this.positive = positive;
+			this.lbd = lbd;
+		}
+
+		/**
+		 * Translates the given nogood into ground atoms, or returns null if it contains an atom over a
+		 * solver-internal predicate.
+		 */
+		static SharedNoGood fromNoGood(NoGood noGood, int lbd, AtomStore atomStore) {
+			Atom[] atoms = new Atom[noGood.size()];
+			boolean[] positive = new boolean[noGood.size()];
+			for (int i = 0; i < noGood.size(); i++) {
+				int literal = noGood.getLiteral(i);
+				Atom atom = atomStore.get(atomOf(literal));
+				if (atom.getPredicate().isSolverInternal()) {
+					return null;
+				}
+				atoms[i] = atom;
+				positive[i] = isPositive(literal);
+			}
+			return new SharedNoGood(atoms, positive, lbd);
+		}
+
+		/**
+		 * Translates this nogood into the atom ids of the given {@link AtomStore}, creating atoms unknown to it.
+		 */
+		NoGood toNoGood(AtomStore atomStore) {
+			int[] literals = new int[atoms.length];
+			for (int i = 0; i < atoms.length; i++) {
+				literals[i] = atomToLiteral(atomStore.putIfAbsent(atoms[i]), positive[i]);
+			}
+			return NoGood.learnt(literals);
+		}
+
+		int getLbd() {
+			return lbd;
+		}
+
+		int size() {
+			return atoms.length;
+		}
+	}
+}
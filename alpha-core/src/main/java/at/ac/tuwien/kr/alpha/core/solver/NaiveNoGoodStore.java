@@ -134,6 +134,15 @@ public void backtrack() {
 	public void growForMaxAtomId(int maxAtomId) {
 	}
 
+	@Override
+	public void markReferencedAtoms(boolean[] referencedAtoms) {
+		for (NoGood noGood : delegate.values()) {
+			for (int i = 0; i < noGood.size(); i++) {
+				referencedAtoms[atomOf(noGood.getLiteral(i))] = true;
+			}
+		}
+	}
+
 	@Override
 	public NoGoodCounter getNoGoodCounter() {
 		return counter;
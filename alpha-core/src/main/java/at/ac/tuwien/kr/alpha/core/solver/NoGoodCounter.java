@@ -62,6 +62,16 @@ void remove(NoGoodInterface noGood) {
 		countByCardinality[getAbstractCardinality(noGood)]--;
 	}
 
+	/**
+	 * Decreases counters for a NoGood of the given type and size
+	 * @param type
+	 * @param size
+	 */
+	void remove(Type type, int size) {
+		countByType[type.ordinal()]--;
+		countByCardinality[getAbstractCardinality(size)]--;
+	}
+
 	private int getAbstractCardinality(NoGoodInterface noGood) {
 		if (noGood.isUnary()) {
 			return CARD_UNARY;
@@ -71,6 +81,16 @@ private int getAbstractCardinality(NoGoodInterface noGood) {
 		}
 		return CARD_NARY;
 	}
+
+	private int getAbstractCardinality(int size) {
+		if (size == 1) {
+			return CARD_UNARY;
+		}
+		if (size == 2) {
+			return CARD_BINARY;
+		}
+		return CARD_NARY;
+	}
 	
 	/**
 	 * @param type
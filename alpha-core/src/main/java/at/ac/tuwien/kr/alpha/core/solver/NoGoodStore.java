@@ -54,5 +54,12 @@ public interface NoGoodStore {
 	 */
 	void cleanupLearnedNoGoods();
 
+	/**
+	 * Marks the atoms of all literals occurring in some NoGood of this store.
+	 * @param referencedAtoms an array indexed by atom, large enough for the current maximum atom id, in which
+	 *                        every referenced atom is set to {@code true}.
+	 */
+	void markReferencedAtoms(boolean[] referencedAtoms);
+
 	NoGoodCounter getNoGoodCounter();
 }
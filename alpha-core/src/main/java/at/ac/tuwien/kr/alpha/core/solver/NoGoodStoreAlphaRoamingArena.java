@@ -0,0 +1,730 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.solver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import at.ac.tuwien.kr.alpha.core.common.Assignment;
+import at.ac.tuwien.kr.alpha.core.common.NoGood;
+import at.ac.tuwien.kr.alpha.core.common.NoGoodInterface.Type;
+
+import java.util.Arrays;
+
+import static at.ac.tuwien.kr.alpha.commons.util.Util.arrayGrowthSize;
+import static at.ac.tuwien.kr.alpha.commons.util.Util.oops;
+import static at.ac.tuwien.kr.alpha.core.common.NoGood.HEAD;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomOf;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.isNegated;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.isPositive;
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.literalToString;
+import static at.ac.tuwien.kr.alpha.core.solver.LearnedNoGoodDeletion.GROWTH_FACTOR;
+import static at.ac.tuwien.kr.alpha.core.solver.LearnedNoGoodDeletion.RESET_SEQUENCE_AFTER;
+import static at.ac.tuwien.kr.alpha.core.solver.LearnedNoGoodDeletion.RUN_AFTER_AT_LEAST;
+import static at.ac.tuwien.kr.alpha.core.solver.ThriceTruth.FALSE;
+import static at.ac.tuwien.kr.alpha.core.solver.ThriceTruth.MBT;
+import static at.ac.tuwien.kr.alpha.core.solver.ThriceTruth.TRUE;
+
+/**
+ * NoGoodStore using the same watch scheme as {@link NoGoodStoreAlphaRoaming}, i.e., two ordinary watches and an
+ * alpha watch for each NoGood, but storing all NoGoods with three or more literals in one contiguous and growable
+ * int array (the arena) instead of one {@link WatchedNoGood} object per NoGood. A NoGood is addressed by its offset
+ * in the arena and watch lists are plain int arrays holding such offsets.
+ *
+ * Each NoGood in the arena is stored as a header followed by its literals:
+ * [ size | flags | alpha pointer | head pointer | activity | LBD | id | literal_0 | ... | literal_size-1 ]
+ * The literals at positions 0 and 1 are the ordinary watches, moving a watch therefore swaps literals. The id is the
+ * one the NoGood was added with; it stays the same when the arena is compacted after learned-NoGood deletion, hence
+ * antecedents refer to NoGoods by their id instead of their offset.
+ *
+ * Unary and binary NoGoods, the computation of initial watches, and the watch invariant (Inv) are shared with
+ * {@link NoGoodStoreAlphaRoaming}.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class NoGoodStoreAlphaRoamingArena extends AbstractNoGoodStoreAlphaRoaming {
+	private static final Logger LOGGER = LoggerFactory.getLogger(NoGoodStoreAlphaRoamingArena.class);
+
+	// Positions of the header fields of a NoGood, relative to its offset in the arena.
+	private static final int SIZE = 0;
+	private static final int FLAGS = 1;
+	private static final int ALPHA_POINTER = 2;
+	private static final int HEAD_POINTER = 3;
+	private static final int ACTIVITY = 4;
+	private static final int LBD = 5;
+	private static final int ID = 6;
+	private static final int HEADER_SIZE = 7;
+
+	// Bits of the flags field, the remaining bits encode the ordinal of the NoGood's type.
+	private static final int FLAG_DELETED = 1;
+	private static final int TYPE_SHIFT = 1;
+
+	private static final int NOT_IN_ARENA = -1;
+	private static final int INITIAL_ARENA_CAPACITY = 1024;
+	private static final int INITIAL_WATCH_LIST_CAPACITY = 4;
+
+	private int[] arena = new int[INITIAL_ARENA_CAPACITY];
+	private int arenaSize;
+	private int deletedArenaSize;
+	private int[] offsetsById = new int[0];
+	private int[] reasonIdsByAtom = new int[0];
+
+	private int[][] watches = new int[0][];
+	private int[] watchesSizes = new int[0];
+	private int[][] watchesAlpha = new int[0][];
+	private int[] watchesAlphaSizes = new int[0];
+
+	private int[] learnedNoGoodIds = new int[INITIAL_WATCH_LIST_CAPACITY];
+	private int learnedNoGoodIdsSize;
+	private int conflictCounter;
+	private int cleanupCounter;
+	private int numberOfDeletedNoGoods;
+
+	/**
+	 * The antecedent of all atoms assigned in-order by a NoGood in the arena. The id of the actual NoGood is
+	 * recorded per atom in reasonIdsByAtom and only looked up when the antecedent is instantiated.
+	 */
+	private final ShallowAntecedent arenaReason = new ShallowAntecedent() {
+		@Override
+		public Antecedent instantiateAntecedent(int impliedLiteral) {
+			return new ArenaAntecedent(reasonIdsByAtom[atomOf(impliedLiteral)]);
+		}
+
+		@Override
+		public String toString() {
+			return "ArenaReason";
+		}
+	};
+
+	public NoGoodStoreAlphaRoamingArena(WritableAssignment assignment, boolean checksEnabled) {
+		super(assignment, checksEnabled);
+	}
+
+	public NoGoodStoreAlphaRoamingArena(WritableAssignment assignment) {
+		this(assignment, false);
+	}
+
+	@Override
+	void clear() {
+		super.clear();
+		arena = new int[INITIAL_ARENA_CAPACITY];
+		arenaSize = 0;
+		deletedArenaSize = 0;
+		offsetsById = new int[0];
+		reasonIdsByAtom = new int[0];
+		watches = new int[0][];
+		watchesSizes = new int[0];
+		watchesAlpha = new int[0][];
+		watchesAlphaSizes = new int[0];
+		learnedNoGoodIdsSize = 0;
+		conflictCounter = 0;
+		cleanupCounter = 0;
+		numberOfDeletedNoGoods = 0;
+	}
+
+	@Override
+	protected void growWatches(int oldCapacity, int newCapacity) {
+		// Watch lists themselves are allocated lazily when the first watch is added.
+		watches = Arrays.copyOf(watches, newCapacity);
+		watchesSizes = Arrays.copyOf(watchesSizes, newCapacity);
+		watchesAlpha = Arrays.copyOf(watchesAlpha, newCapacity);
+		watchesAlphaSizes = Arrays.copyOf(watchesAlphaSizes, newCapacity);
+		reasonIdsByAtom = Arrays.copyOf(reasonIdsByAtom, newCapacity / 2);
+	}
+
+	@Override
+	public void markReferencedAtoms(boolean[] referencedAtoms) {
+		super.markReferencedAtoms(referencedAtoms);
+		for (int offset = 0; offset < arenaSize; offset += HEADER_SIZE + arena[offset + SIZE]) {
+			if (isDeleted(offset)) {
+				continue;
+			}
+			final int end = offset + HEADER_SIZE + arena[offset + SIZE];
+			for (int i = offset + HEADER_SIZE; i < end; i++) {
+				referencedAtoms[atomOf(arena[i])] = true;
+			}
+		}
+	}
+
+	public int getNumberOfDeletedNoGoods() {
+		return numberOfDeletedNoGoods;
+	}
+
+	/**
+	 * Returns the number of ints currently used by the arena (including space of deleted NoGoods that was not yet
+	 * reclaimed by compaction).
+	 */
+	public int getArenaSize() {
+		return arenaSize;
+	}
+
+	private static int[] addToIntList(int[] list, int size, int value) {
+		if (size == list.length) {
+			list = Arrays.copyOf(list, Math.max(INITIAL_WATCH_LIST_CAPACITY, arrayGrowthSize(size)));
+		}
+		list[size] = value;
+		return list;
+	}
+
+	private void addOrdinaryWatch(int offset, int pointer) {
+		final int literal = arena[offset + HEADER_SIZE + pointer];
+		int[] watchList = watches[literal];
+		if (watchList == null) {
+			watchList = new int[INITIAL_WATCH_LIST_CAPACITY];
+		}
+		watches[literal] = addToIntList(watchList, watchesSizes[literal]++, offset);
+	}
+
+	private void addAlphaWatch(int offset) {
+		final int literal = arena[offset + HEADER_SIZE + arena[offset + ALPHA_POINTER]];
+		int[] watchList = watchesAlpha[literal];
+		if (watchList == null) {
+			watchList = new int[INITIAL_WATCH_LIST_CAPACITY];
+		}
+		watchesAlpha[literal] = addToIntList(watchList, watchesAlphaSizes[literal]++, offset);
+	}
+
+	@Override
+	protected void watch(int id, NoGood noGood, int watch1, int watch2, int watchAlpha, int lbd) {
+		if (id < offsetsById.length && offsetsById[id] != NOT_IN_ARENA) {
+			// Ids of NoGoods are unique, hence the NoGood is in the arena already.
+			LOGGER.debug("NoGood with id {} is stored already, ignoring it.", id);
+			return;
+		}
+		growOffsetsById(id);
+		final int offset = allocate(id, noGood, watch1, watch2, watchAlpha, lbd);
+		if (LOGGER.isTraceEnabled()) {
+			LOGGER.trace("NoGood in arena is {}.", noGoodToString(offset));
+		}
+
+		// Record for eventual removal if this NoGood is learned.
+		if (noGood.getType() == Type.LEARNT) {
+			learnedNoGoodIds = addToIntList(learnedNoGoodIds, learnedNoGoodIdsSize++, arena[offset + ID]);
+		}
+
+		// Register alpha watch if present.
+		if (watchAlpha != -1) {
+			addAlphaWatch(offset);
+		}
+		// Set ordinary watches.
+		addOrdinaryWatch(offset, 0);
+		addOrdinaryWatch(offset, 1);
+	}
+
+	private void growOffsetsById(int id) {
+		if (id < offsetsById.length) {
+			return;
+		}
+		final int oldLength = offsetsById.length;
+		offsetsById = Arrays.copyOf(offsetsById, Math.max(id + 1, arrayGrowthSize(oldLength)));
+		Arrays.fill(offsetsById, oldLength, offsetsById.length, NOT_IN_ARENA);
+	}
+
+	/**
+	 * Copies the given NoGood into the arena such that the literals at positions a and b end up at positions 0 and 1.
+	 * @return the offset of the NoGood in the arena.
+	 */
+	private int allocate(int id, NoGood noGood, int a, int b, int alpha, int lbd) {
+		if (a == b) {
+			throw new IllegalArgumentException("First two pointers must not point at the same literal.");
+		}
+		final int size = noGood.size();
+		final int requiredArenaSize = arenaSize + HEADER_SIZE + size;
+		if (requiredArenaSize > arena.length) {
+			arena = Arrays.copyOf(arena, Math.max(requiredArenaSize, arrayGrowthSize(arena.length)));
+		}
+		final int offset = arenaSize;
+		offsetsById[id] = offset;
+		arena[offset + SIZE] = size;
+		arena[offset + FLAGS] = noGood.getType().ordinal() << TYPE_SHIFT;
+		arena[offset + ALPHA_POINTER] = alpha;
+		arena[offset + HEAD_POINTER] = noGood.hasHead() ? HEAD : -1;
+		arena[offset + ACTIVITY] = 0;
+		arena[offset + LBD] = lbd;
+		arena[offset + ID] = id;
+		for (int i = 0; i < size; i++) {
+			arena[offset + HEADER_SIZE + i] = noGood.getLiteral(i);
+		}
+		arenaSize = requiredArenaSize;
+		if (b == 0) {
+			swap(offset, 1, a);
+		} else {
+			swap(offset, 0, a);
+			swap(offset, 1, b);
+		}
+		return offset;
+	}
+
+	/**
+	 * Swaps the literals at the given positions of the NoGood at the given offset, head and alpha pointer follow the swap.
+	 */
+	private void swap(int offset, int a, int b) {
+		final int literals = offset + HEADER_SIZE;
+		final int tmp = arena[literals + a];
+		arena[literals + a] = arena[literals + b];
+		arena[literals + b] = tmp;
+		final int head = arena[offset + HEAD_POINTER];
+		if (head != -1) {
+			// If the NoGood has a head, ensure the head pointer and alpha watch follow the swap.
+			if (head == a) {
+				arena[offset + HEAD_POINTER] = b;
+			} else if (head == b) {
+				arena[offset + HEAD_POINTER] = a;
+			}
+			final int alpha = arena[offset + ALPHA_POINTER];
+			if (alpha == a) {
+				arena[offset + ALPHA_POINTER] = b;
+			} else if (alpha == b) {
+				arena[offset + ALPHA_POINTER] = a;
+			}
+		}
+	}
+
+	private ConflictCause assignWeakComplement(final int offset, final int literalIndex, int decisionLevel) {
+		final int literal = arena[offset + HEADER_SIZE + literalIndex];
+		ThriceTruth truth = isNegated(literal) ? MBT : FALSE;
+		return assignTruth(atomOf(literal), truth, offset, decisionLevel);
+	}
+
+	private ConflictCause assignStrongComplement(final int offset, int decisionLevel) {
+		final int head = arena[offset + HEADER_SIZE + arena[offset + HEAD_POINTER]];
+		return assignTruth(atomOf(head), TRUE, offset, decisionLevel);
+	}
+
+	/**
+	 * Assigns the given atom with the NoGood at the given offset as antecedent. For assignments at the current
+	 * decision level only the id of the NoGood is recorded, assignments at lower decision levels may be replayed
+	 * after backjumping (possibly after the NoGood was deleted) and therefore get a full copy of the antecedent.
+	 */
+	private ConflictCause assignTruth(int atom, ThriceTruth truth, int offset, int decisionLevel) {
+		final int id = arena[offset + ID];
+		if (decisionLevel < assignment.getDecisionLevel()) {
+			return assignTruth(atom, truth, new ArenaAntecedent(id), decisionLevel);
+		}
+		final int previousReasonId = reasonIdsByAtom[atom];
+		final boolean wasAssigned = assignment.isAssigned(atom);
+		reasonIdsByAtom[atom] = id;
+		ConflictCause cause = assignTruth(atom, truth, arenaReason, decisionLevel);
+		if (cause != null || wasAssigned) {
+			// The assignment did not record the arena as antecedent of the atom, keep the previous reason.
+			reasonIdsByAtom[atom] = previousReasonId;
+		}
+		return cause;
+	}
+
+	@Override
+	protected ConflictCause propagateWatchedWeakly(int literal, int currentDecisionLevel) {
+		// Check all watched multi-ary NoGoods. Processing a NoGood re-adds it at most once to the watch list of this
+		// literal, hence the watch list can be rebuilt in place.
+		final int[] watchList = watches[literal];
+		final int watchListSize = watchesSizes[literal];
+		watchesSizes[literal] = 0;
+		for (int i = 0; i < watchListSize; i++) {
+			ConflictCause conflictCause = processWeaklyWatchedNoGood(literal, watchList[i], currentDecisionLevel);
+			if (conflictCause != null) {
+				// Copy over all non-treated NoGoods, so that they can be treated after backtracking.
+				int size = watchesSizes[literal];
+				for (int j = i; j < watchListSize; j++) {
+					watchList[size++] = watchList[j];
+				}
+				watchesSizes[literal] = size;
+				return conflictCause;
+			}
+		}
+		return null;
+	}
+
+	private ConflictCause processWeaklyWatchedNoGood(int assignedLiteral, int offset, int currentDecisionLevel) {
+		final int literals = offset + HEADER_SIZE;
+		final int assignedWatch = arena[literals] == assignedLiteral ? 0 : 1;
+		final int otherWatch = 1 - assignedWatch;
+
+		final int otherLiteral = arena[literals + otherWatch];
+		final ThriceTruth otherAtomTruth = assignment.getTruth(atomOf(otherLiteral));
+
+		// Find new literal to watch.
+
+		// Check if the other watch already satisfies the noGood.
+		if (otherAtomTruth != null && otherAtomTruth.toBoolean() != isPositive(otherLiteral)) {
+			// Keep this watch and return early.
+			addOrdinaryWatch(offset, assignedWatch);
+			return null;
+		} else {
+			final int size = arena[offset + SIZE];
+			for (int i = 2; i < size; i++) {
+				final int currentLiteral = arena[literals + i];
+				final ThriceTruth currentTruth = assignment.getTruth(atomOf(currentLiteral));
+
+				// Break if: 1) current literal is unassigned, or 2) satisfies the nogood.
+				if (currentTruth == null || currentTruth.toBoolean() != isPositive(currentLiteral)) {
+					// Move pointer to new literal.
+					swap(offset, assignedWatch, i);
+					addOrdinaryWatch(offset, assignedWatch);
+					if (LOGGER.isTraceEnabled()) {
+						LOGGER.trace("Moved watch pointers of nogood:");
+						logNoGoodAndAssignment(offset);
+					}
+					return null;
+				}
+			}
+		}
+
+		// NoGood is unit, propagate the other watched literal.
+		// Note: Violation is detected by Assignment.
+		if (LOGGER.isTraceEnabled()) {
+			LOGGER.trace("Nogood is unit:");
+			logNoGoodAndAssignment(offset);
+		}
+		ConflictCause conflictCause = assignWeakComplement(offset, otherWatch, currentDecisionLevel);
+		// Return conflict if noGood is violated.
+		if (conflictCause != null) {
+			return conflictCause;
+		}
+		// Watch same literal again.
+		addOrdinaryWatch(offset, assignedWatch);
+		return null;
+	}
+
+	private void logNoGoodAndAssignment(int offset) {
+		if (!LOGGER.isTraceEnabled()) {
+			return;
+		}
+		StringBuilder sb = new StringBuilder("Watched NoGood is: " + noGoodToString(offset) + "\t\t Assigned: ");
+		for (int i = 0; i < arena[offset + SIZE]; i++) {
+			int atom = atomOf(arena[offset + HEADER_SIZE + i]);
+			sb.append(atom);
+			sb.append("=");
+			sb.append(assignment.get(atom));
+			sb.append(", ");
+		}
+		LOGGER.trace(sb.toString());
+	}
+
+	@Override
+	protected ConflictCause propagateWatchedStrongly(int literal, int currentDecisionLevel) {
+		// Check all watched multi-ary NoGoods.
+		final int[] watchList = watchesAlpha[literal];
+		final int watchListSize = watchesAlphaSizes[literal];
+		watchesAlphaSizes[literal] = 0;
+		for (int i = 0; i < watchListSize; i++) {
+			final int offset = watchList[i];
+			if (arena[offset + HEAD_POINTER] == -1) {
+				throw oops("Strong propagation encountered NoGood without head");
+			}
+			ConflictCause conflictCause = processStronglyWatchedNoGood(offset, currentDecisionLevel);
+			if (conflictCause != null) {
+				// Copy over all non-treated NoGoods, so that they can be treated after backtracking.
+				int size = watchesAlphaSizes[literal];
+				for (int j = i; j < watchListSize; j++) {
+					watchList[size++] = watchList[j];
+				}
+				watchesAlphaSizes[literal] = size;
+				return conflictCause;
+			}
+		}
+		return null;
+	}
+
+	private ConflictCause processStronglyWatchedNoGood(int offset, int currentDecisionLevel) {
+		final int literals = offset + HEADER_SIZE;
+		final int headIndex = arena[offset + HEAD_POINTER];
+		final int headAtom = atomOf(arena[literals + headIndex]);
+		final ThriceTruth headAtomTruth = assignment.getTruth(headAtom);
+		// Check if the other watch, i.e., the head, already satisfies the noGood.
+		if (headAtomTruth != null && TRUE == headAtomTruth) {
+			// Keep this watch and return early.
+			addAlphaWatch(offset);
+			return null;
+		}
+
+		final int assignedIndex = arena[offset + ALPHA_POINTER];
+
+		// Find new literal to watch.
+		final int size = arena[offset + SIZE];
+		for (int i = 0; i < size; i++) {
+			if (i == assignedIndex || i == headIndex) {
+				continue;
+			}
+			int currentLiteral = arena[literals + i];
+			ThriceTruth currentAtomTruth = assignment.getTruth(atomOf(currentLiteral));
+
+			// Break if: 1) current literal is unassigned (or MBT), or 2) satisfies the nogood.
+			if (currentAtomTruth == null || currentAtomTruth.isMBT() || currentAtomTruth.toBoolean() != isPositive(currentLiteral)) {
+				// Move pointer to new literal.
+				arena[offset + ALPHA_POINTER] = i;
+				addAlphaWatch(offset);
+				return null;
+			}
+		}
+
+		// NoGood is unit, propagate.
+		ConflictCause conflictCause = assignStrongComplement(offset, currentDecisionLevel);
+		if (conflictCause != null) {
+			return conflictCause;
+		}
+		// Watch same literal again.
+		addAlphaWatch(offset);
+		return null;
+	}
+
+	@Override
+	protected void increaseConflictCounter() {
+		conflictCounter++;
+	}
+
+	@Override
+	public void cleanupLearnedNoGoods() {
+		if (conflictCounter > RUN_AFTER_AT_LEAST + (GROWTH_FACTOR * cleanupCounter)) {
+			runNoGoodDeletion();
+		}
+	}
+
+	/**
+	 * Deletes learned NoGoods following a flat (untiered) strategy, i.e., up to half of the learned NoGoods are
+	 * deleted unless they are locked, have LBD of at most 2, or are more active than average.
+	 * Afterwards, deleted NoGoods are removed from the watch lists and the arena is compacted if at least half of
+	 * it is occupied by deleted NoGoods.
+	 */
+	void runNoGoodDeletion() {
+		conflictCounter = 0;
+		cleanupCounter++;
+		// Reset the sequence after enough growth cycles.
+		if (cleanupCounter > RESET_SEQUENCE_AFTER) {
+			cleanupCounter = 0;
+		}
+		final int originalSize = learnedNoGoodIdsSize;
+		if (originalSize == 0) {
+			return;
+		}
+		final int toDeleteMax = originalSize / 2;
+		long activitySum = 0;
+		for (int i = 0; i < originalSize; i++) {
+			activitySum += arena[offsetsById[learnedNoGoodIds[i]] + ACTIVITY];
+		}
+		final double avgActivity = (double) activitySum / originalSize;
+		final double scoreThreshold = avgActivity * 1.5;
+		int deletedNoGoods = 0;
+		int keptNoGoods = 0;
+		for (int i = 0; i < originalSize; i++) {
+			final int id = learnedNoGoodIds[i];
+			final int offset = offsetsById[id];
+			boolean keepNoGood = deletedNoGoods >= toDeleteMax
+				|| isLocked(offset)
+				|| arena[offset + ACTIVITY] > scoreThreshold
+				|| arena[offset + LBD] <= 2;
+			if (keepNoGood) {
+				learnedNoGoodIds[keptNoGoods++] = id;
+			} else {
+				markDeleted(offset);
+				deletedNoGoods++;
+			}
+		}
+		learnedNoGoodIdsSize = keptNoGoods;
+		if (deletedNoGoods > 0) {
+			removeDeletedFromWatches(watches, watchesSizes);
+			removeDeletedFromWatches(watchesAlpha, watchesAlphaSizes);
+			if (2 * deletedArenaSize >= arenaSize) {
+				compactArena();
+			}
+		}
+		LOGGER.debug("Removed {} NoGoods from store.", deletedNoGoods);
+		this.numberOfDeletedNoGoods += deletedNoGoods;
+	}
+
+	private boolean isLocked(int offset) {
+		final int id = arena[offset + ID];
+		int watchedAtom1 = atomOf(arena[offset + HEADER_SIZE]);
+		int watchedAtom2 = atomOf(arena[offset + HEADER_SIZE + 1]);
+		if (!assignment.isAssigned(watchedAtom1) || !assignment.isAssigned(watchedAtom2)) {
+			return false;
+		}
+		return isAntecedentOf(id, watchedAtom1) || isAntecedentOf(id, watchedAtom2);
+	}
+
+	private boolean isAntecedentOf(int id, int atom) {
+		Antecedent impliedBy = assignment.getImpliedBy(atom);
+		return impliedBy instanceof ArenaAntecedent && ((ArenaAntecedent) impliedBy).id == id;
+	}
+
+	private void markDeleted(int offset) {
+		if (arena[offset + HEAD_POINTER] != -1) {
+			throw oops("NoGood has a head.");	// If this occurs, we need to remove the alpha watch too.
+		}
+		LOGGER.trace("Removed from store the NoGood: {}", noGoodToString(offset));
+		final int size = arena[offset + SIZE];
+		arena[offset + FLAGS] |= FLAG_DELETED;
+		offsetsById[arena[offset + ID]] = NOT_IN_ARENA;
+		deletedArenaSize += HEADER_SIZE + size;
+		counter.remove(Type.LEARNT, size);
+	}
+
+	private boolean isDeleted(int offset) {
+		return (arena[offset + FLAGS] & FLAG_DELETED) != 0;
+	}
+
+	private void removeDeletedFromWatches(int[][] watchLists, int[] watchListsSizes) {
+		for (int literal = 0; literal < watchLists.length; literal++) {
+			final int[] watchList = watchLists[literal];
+			final int size = watchListsSizes[literal];
+			int kept = 0;
+			for (int i = 0; i < size; i++) {
+				if (!isDeleted(watchList[i])) {
+					watchList[kept++] = watchList[i];
+				}
+			}
+			watchListsSizes[literal] = kept;
+		}
+	}
+
+	/**
+	 * Moves all non-deleted NoGoods to the front of a fresh arena and updates the offsets in all watch lists.
+	 */
+	private void compactArena() {
+		final int[] oldArena = arena;
+		final int[] newArena = new int[Math.max(INITIAL_ARENA_CAPACITY, arrayGrowthSize(arenaSize - deletedArenaSize))];
+		int newArenaSize = 0;
+		for (int offset = 0; offset < arenaSize; offset += HEADER_SIZE + oldArena[offset + SIZE]) {
+			if (isDeleted(offset)) {
+				continue;
+			}
+			final int length = HEADER_SIZE + oldArena[offset + SIZE];
+			System.arraycopy(oldArena, offset, newArena, newArenaSize, length);
+			offsetsById[oldArena[offset + ID]] = newArenaSize;
+			newArenaSize += length;
+		}
+		remapWatches(oldArena, watches, watchesSizes);
+		remapWatches(oldArena, watchesAlpha, watchesAlphaSizes);
+		LOGGER.debug("Compacted arena from {} to {} ints.", arenaSize, newArenaSize);
+		arena = newArena;
+		arenaSize = newArenaSize;
+		deletedArenaSize = 0;
+	}
+
+	private void remapWatches(int[] oldArena, int[][] watchLists, int[] watchListsSizes) {
+		for (int literal = 0; literal < watchLists.length; literal++) {
+			final int[] watchList = watchLists[literal];
+			for (int i = 0; i < watchListsSizes[literal]; i++) {
+				watchList[i] = offsetsById[oldArena[watchList[i] + ID]];
+			}
+		}
+	}
+
+	private int[] copyLiterals(int offset) {
+		final int literals = offset + HEADER_SIZE;
+		return Arrays.copyOfRange(arena, literals, literals + arena[offset + SIZE]);
+	}
+
+	private String noGoodToString(int offset) {
+		StringBuilder sb = new StringBuilder();
+		final int head = arena[offset + HEAD_POINTER];
+		if (head != -1) {
+			sb.append("*");
+		}
+		sb.append("{ ");
+		for (int i = 0; i < arena[offset + SIZE]; i++) {
+			sb.append(literalToString(arena[offset + HEADER_SIZE + i]));
+			sb.append(head == i ? "h" : "");
+			sb.append(" ");
+		}
+		sb.append("}{");
+		sb.append(arena[offset + ALPHA_POINTER]);
+		sb.append("}");
+		return sb.toString();
+	}
+
+	/**
+	 * An antecedent referring to a NoGood in the arena by its id. The literals are copied upon creation, hence the
+	 * antecedent stays valid even if the NoGood gets deleted or its watches move.
+	 */
+	private class ArenaAntecedent implements Antecedent {
+		private final int id;
+		private final int[] reasonLiterals;
+
+		ArenaAntecedent(int id) {
+			this.id = id;
+			this.reasonLiterals = copyLiterals(offsetsById[id]);
+		}
+
+		@Override
+		public int[] getReasonLiterals() {
+			return reasonLiterals;
+		}
+
+		@Override
+		public void bumpActivity() {
+			final int offset = offsetsById[id];
+			if (offset != NOT_IN_ARENA) {
+				arena[offset + ACTIVITY]++;
+			}
+		}
+
+		@Override
+		public void decreaseActivity() {
+			final int offset = offsetsById[id];
+			if (offset != NOT_IN_ARENA) {
+				arena[offset + ACTIVITY] >>= 1;
+			}
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder("{ ");
+			for (int literal : reasonLiterals) {
+				sb.append(literalToString(literal));
+				sb.append(" ");
+			}
+			sb.append("}(arena id ");
+			sb.append(id);
+			sb.append(")");
+			return sb.toString();
+		}
+	}
+
+	@Override
+	protected void checkAlphaWatches(int atomLiteral, boolean atomSatisfies, int atomDecisionLevel) {
+		for (int i = 0; i < watchesAlphaSizes[atomLiteral]; i++) {
+			final int offset = watchesAlpha[atomLiteral][i];
+			checkAlphaWatch(atomLiteral, atomSatisfies, atomDecisionLevel, arena[offset + HEADER_SIZE + arena[offset + HEAD_POINTER]]);
+		}
+	}
+
+	@Override
+	protected void checkOrdinaryWatches(int atom, int atomLiteral, boolean atomSatisfies, int atomDecisionLevel, int atomReplayLevel) {
+		for (int i = 0; i < watchesSizes[atomLiteral]; i++) {
+			final int literals = watches[atomLiteral][i] + HEADER_SIZE;
+			// Ensure both watches are either unassigned, or one satisfies NoGood, or both are on highest decision level.
+			int otherPointer = atom == atomOf(arena[literals + 1]) ? 0 : 1;
+			int otherLiteral = arena[literals + otherPointer];
+			int thisAtom = atomOf(arena[literals + 1 - otherPointer]);
+			if (thisAtom != atom) {
+				throw oops("Watched atom is not at first/second position in literals array.");
+			}
+			if (!isOrdinaryWatchInvariantSatisfied(atomSatisfies, atomDecisionLevel, atomReplayLevel, otherLiteral)) {
+				throw oops("Watch invariant violated");
+			}
+		}
+	}
+}
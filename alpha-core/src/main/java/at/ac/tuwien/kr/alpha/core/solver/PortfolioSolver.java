@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import at.ac.tuwien.kr.alpha.api.AnswerSet;
+import at.ac.tuwien.kr.alpha.api.Solver;
+import at.ac.tuwien.kr.alpha.api.StatisticsReportingSolver;
+
+/**
+ * A portfolio of independent solvers, each with its own grounder and atom store, that race for the first answer set.
+ * The first solver to find an answer set or to prove that there is none wins: all other solvers are cancelled and
+ * subsequent answer sets are obtained from the winning solver alone (on the calling thread).
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class PortfolioSolver implements Solver, StatisticsReportingSolver {
+	private static final Logger LOGGER = LoggerFactory.getLogger(PortfolioSolver.class);
+
+	private final List<Solver> workers;
+	private Solver winningSolver;
+	private Spliterator<AnswerSet> winningSpliterator;
+
+	public PortfolioSolver(List<Solver> workers) {
+		if (workers.isEmpty()) {
+			throw new IllegalArgumentException("A portfolio needs at least one solver.");
+		}
+		this.workers = Collections.unmodifiableList(new ArrayList<>(workers));
+	}
+
+	@Override
+	public Spliterator<AnswerSet> spliterator() {
+		return new Spliterators.AbstractSpliterator<AnswerSet>(Long.MAX_VALUE, 0) {
+			@Override
+			public boolean tryAdvance(Consumer<? super AnswerSet> action) {
+				return PortfolioSolver.this.tryAdvance(action);
+			}
+		};
+	}
+
+	private boolean tryAdvance(Consumer<? super AnswerSet> action) {
+		if (winningSpliterator != null) {
+			return winningSpliterator.tryAdvance(action);
+		}
+		WorkerResult result = race();
+		winningSolver = workers.get(result.workerIndex);
+		winningSpliterator = result.spliterator;
+		LOGGER.debug("Portfolio solver {} finished first.", result.workerIndex);
+		if (result.answerSet == null) {
+			return false;
+		}
+		action.accept(result.answerSet);
+		return true;
+	}
+
+	/**
+	 * Runs all solvers in parallel until the first one finds an answer set or runs out of answer sets, then cancels
+	 * the others. Solvers failing with an exception drop out of the race; if all of them fail, the first failure is
+	 * rethrown.
+	 */
+	private WorkerResult race() {
+		ExecutorService executor = Executors.newFixedThreadPool(workers.size(), new WorkerThreadFactory());
+		try {
+			CompletionService<WorkerResult> completionService = new ExecutorCompletionService<>(executor);
+			for (int i = 0; i < workers.size(); i++) {
+				final int workerIndex = i;
+				final Spliterator<AnswerSet> spliterator = workers.get(i).spliterator();
+				completionService.submit(() -> {
+					AnswerSet[] answerSet = new AnswerSet[1];
+					spliterator.tryAdvance(as -> answerSet[0] = as);
+					return new WorkerResult(workerIndex, spliterator, answerSet[0]);
+				});
+			}
+			Throwable firstFailure = null;
+			for (int i = 0; i < workers.size(); i++) {
+				try {
+					return completionService.take().get();
+				} catch (ExecutionException e) {
+					LOGGER.debug("Portfolio solver failed.", e.getCause());
+					if (firstFailure == null) {
+						firstFailure = e.getCause();
+					}
+				}
+			}
+			if (firstFailure instanceof RuntimeException) {
+				throw (RuntimeException) firstFailure;
+			}
+			if (firstFailure instanceof Error) {
+				throw (Error) firstFailure;
+			}
+			throw new RuntimeException("All solvers of the portfolio failed.", firstFailure);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Interrupted while waiting for the solvers of the portfolio.");
+		} finally {
+			// Interrupts all solvers that are still running, the winner has already completed its task.
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Returns the statistics of the winning solver, or null if there is no winner yet or it does not report any.
+	 */
+	private StatisticsReportingSolver getWinnerStatistics() {
+		if (winningSolver instanceof StatisticsReportingSolver) {
+			return (StatisticsReportingSolver) winningSolver;
+		}
+		return null;
+	}
+
+	@Override
+	public int getNumberOfChoices() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNumberOfChoices();
+	}
+
+	@Override
+	public int getNumberOfBacktracks() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNumberOfBacktracks();
+	}
+
+	@Override
+	public int getNumberOfBacktracksWithinBackjumps() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNumberOfBacktracksWithinBackjumps();
+	}
+
+	@Override
+	public int getNumberOfBackjumps() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNumberOfBackjumps();
+	}
+
+	@Override
+	public int getNumberOfBacktracksDueToRemnantMBTs() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNumberOfBacktracksDueToRemnantMBTs();
+	}
+
+	@Override
+	public int getNumberOfDeletedNoGoods() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNumberOfDeletedNoGoods();
+	}
+
+	@Override
+	public long getNoGoodRegistryMemoryUsage() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNoGoodRegistryMemoryUsage();
+	}
+
+	@Override
+	public int getNumberOfConflictsAfterClosing() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNumberOfConflictsAfterClosing();
+	}
+
+	@Override
+	public int getNumberOfLearnedNoGoodsInCoreTier() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNumberOfLearnedNoGoodsInCoreTier();
+	}
+
+	@Override
+	public int getNumberOfLearnedNoGoodsInMidTier() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNumberOfLearnedNoGoodsInMidTier();
+	}
+
+	@Override
+	public int getNumberOfLearnedNoGoodsInLocalTier() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNumberOfLearnedNoGoodsInLocalTier();
+	}
+
+	@Override
+	public int getNumberOfLearnedNoGoodPromotions() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? 0 : statistics.getNumberOfLearnedNoGoodPromotions();
+	}
+
+	@Override
+	public String getLearnedNoGoodStatisticsString() {
+		StatisticsReportingSolver statistics = getWinnerStatistics();
+		return statistics == null ? StatisticsReportingSolver.super.getLearnedNoGoodStatisticsString() : statistics.getLearnedNoGoodStatisticsString();
+	}
+
+	private static class WorkerResult {
+		private final int workerIndex;
+		private final Spliterator<AnswerSet> spliterator;
+		private final AnswerSet answerSet;
+
+		WorkerResult(int workerIndex, Spliterator<AnswerSet> spliterator, AnswerSet answerSet) {
+			this.workerIndex = workerIndex;
+			this.spliterator = spliterator;
+			this.answerSet = answerSet;
+		}
+	}
+
+	/**
+	 * Creates daemon threads, such that cancelled solvers that are still busy (e.g., in grounding) do not keep the
+	 * JVM alive.
+	 */
+	private static class WorkerThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadCounter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "alpha-portfolio-" + threadCounter.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
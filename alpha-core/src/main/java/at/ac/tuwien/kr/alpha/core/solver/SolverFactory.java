@@ -28,15 +28,85 @@
 package at.ac.tuwien.kr.alpha.core.solver;
 
 import at.ac.tuwien.kr.alpha.api.Solver;
+import at.ac.tuwien.kr.alpha.api.config.GrounderHeuristicsConfiguration;
+import at.ac.tuwien.kr.alpha.api.config.Heuristic;
+import at.ac.tuwien.kr.alpha.api.config.RestartStrategy;
 import at.ac.tuwien.kr.alpha.api.config.SystemConfig;
 import at.ac.tuwien.kr.alpha.core.common.AtomStore;
 import at.ac.tuwien.kr.alpha.core.grounder.Grounder;
 import at.ac.tuwien.kr.alpha.core.solver.heuristics.HeuristicsConfiguration;
 import at.ac.tuwien.kr.alpha.core.solver.heuristics.HeuristicsConfigurationBuilder;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public final class SolverFactory {
+
+	private static final Heuristic[] PORTFOLIO_HEURISTICS = {Heuristic.VSIDS, Heuristic.BERKMIN, Heuristic.GDD_VSIDS};
+	private static final RestartStrategy[] PORTFOLIO_RESTART_STRATEGIES = {RestartStrategy.LUBY, RestartStrategy.GEOMETRIC, RestartStrategy.LBD, RestartStrategy.NONE};
+
+	/**
+	 * Creates a {@link PortfolioSolver} of {@link SystemConfig#getPortfolioSize()} solvers. The first solver uses the
+	 * given config, all others vary branching heuristic, seed, restart strategy, and grounder tolerance. Unless disabled
+	 * by {@link SystemConfig#getPortfolioShareMaxSize()}, the solvers share short learned nogoods with each other. Since
+	 * shared nogoods are only imported at decision level 0, sharing solvers that would never restart use
+	 * {@link RestartStrategy#LUBY} instead.
+	 *
+	 * @param config the base config of the portfolio.
+	 * @param solverFactory creates a solver (with its own grounder and atom store) for the config of one solver.
+	 */
+	public static Solver getPortfolioInstance(SystemConfig config, Function<SystemConfig, Solver> solverFactory) {
+		List<Solver> solvers = new ArrayList<>(config.getPortfolioSize());
+		for (int i = 0; i < config.getPortfolioSize(); i++) {
+			solvers.add(solverFactory.apply(getPortfolioConfig(config, i)));
+		}
+		if (config.getPortfolioShareMaxSize() > 0) {
+			LearnedNoGoodExchange exchange = new LearnedNoGoodExchange(solvers.size(), LearnedNoGoodExchange.DEFAULT_QUEUE_CAPACITY,
+					config.getPortfolioShareMaxSize(), config.getPortfolioShareMaxLbd());
+			for (int i = 0; i < solvers.size(); i++) {
+				if (solvers.get(i) instanceof DefaultSolver) {
+					((DefaultSolver) solvers.get(i)).joinNoGoodExchange(exchange, i);
+				}
+			}
+		}
+		return new PortfolioSolver(solvers);
+	}
+
+	/**
+	 * Allows the spliterator of the given solver (and of all solvers split off from it) to split the search space,
+	 * such that answer sets can be enumerated by parallel streams. Solvers not supporting splitting are left as is.
+	 *
+	 * @param solver the solver to enable splitting for.
+	 * @param solverFactory creates a new, independent solver (with its own grounder and atom store) for the same
+	 *                      program as the given solver.
+	 */
+	public static void enableSplitting(Solver solver, Supplier<Solver> solverFactory) {
+		if (solver instanceof AbstractSolver) {
+			((AbstractSolver) solver).enableSplitting(solverFactory);
+		}
+	}
+
+	static SystemConfig getPortfolioConfig(SystemConfig config, int index) {
+		SystemConfig portfolioConfig = new SystemConfig(config);
+		portfolioConfig.setPortfolioSize(1);
+		if (index > 0) {
+			portfolioConfig.setSeed(config.getSeed() + index);
+			portfolioConfig.setBranchingHeuristic(PORTFOLIO_HEURISTICS[(index - 1) % PORTFOLIO_HEURISTICS.length]);
+			portfolioConfig.setRestartStrategy(PORTFOLIO_RESTART_STRATEGIES[(index - 1) % PORTFOLIO_RESTART_STRATEGIES.length]);
+			if (index % 2 == 0) {
+				portfolioConfig.setGrounderToleranceConstraints(GrounderHeuristicsConfiguration.PERMISSIVE_STRING);
+				portfolioConfig.setGrounderToleranceRules(GrounderHeuristicsConfiguration.PERMISSIVE_STRING);
+			}
+		}
+		if (config.getPortfolioShareMaxSize() > 0 && portfolioConfig.getRestartStrategy() == RestartStrategy.NONE) {
+			portfolioConfig.setRestartStrategy(RestartStrategy.LUBY);
+		}
+		return portfolioConfig;
+	}
+
 	
 	public static Solver getInstance(SystemConfig config, AtomStore atomStore, Grounder grounder) {
 		final String solverName = config.getSolverName();
@@ -55,6 +125,9 @@ public static Solver getInstance(SystemConfig config, AtomStore atomStore, Groun
 			case "alpharoaming":
 				store = new NoGoodStoreAlphaRoaming(assignment, debugInternalChecks);
 				break;
+			case "alpharoamingarena":
+				store = new NoGoodStoreAlphaRoamingArena(assignment, debugInternalChecks);
+				break;
 			default:
 				throw new IllegalArgumentException("Unknown store requested.");
 		}
@@ -73,6 +146,7 @@ private static HeuristicsConfiguration buildHeuristicsConfiguration(SystemConfig
 		heuristicsConfigurationBuilder.setHeuristic(config.getBranchingHeuristic());
 		heuristicsConfigurationBuilder.setMomsStrategy(config.getMomsStrategy());
 		heuristicsConfigurationBuilder.setReplayChoices(config.getReplayChoices());
+		heuristicsConfigurationBuilder.setPhaseStrategy(config.getPhaseStrategy());
 		return heuristicsConfigurationBuilder.build();
 	}
 }
@@ -94,6 +94,20 @@ public String toString() {
 	private int[] strongDecisionLevels;
 	private Antecedent[] impliedBy;
 	private boolean[] callbackUponChange;
+
+	/**
+	 * Contains for each atom the truth value (encoded as in {@link TrailAssignment#values}) it had when it was last
+	 * unassigned by backtracking, or 0 if the atom has never been unassigned.
+	 */
+	private int[] savedPhases;
+
+	/**
+	 * Contains for each atom the truth value it had in the largest conflict-free prefix of the trail seen since the
+	 * last call to {@link #resetTargetPhases()}. Only maintained if target phases are tracked.
+	 */
+	private int[] targetPhases;
+	private int targetPhasesTrailSize;
+	private boolean trackTargetPhases;
 	private ArrayList<OutOfOrderLiteral> outOfOrderLiterals = new ArrayList<>();
 	private int highestDecisionLevelContainingOutOfOrderLiterals;
 	private int[] trail = new int[0];
@@ -114,6 +128,8 @@ public TrailAssignment(AtomStore atomStore, boolean checksEnabled) {
 		this.strongDecisionLevels = new int[0];
 		this.impliedBy = new Antecedent[0];
 		this.callbackUponChange = new boolean[0];
+		this.savedPhases = new int[0];
+		this.targetPhases = new int[0];
 		this.trailIndicesOfDecisionLevels.add(0);
 		nextPositionInTrail = 0;
 		newAssignmentsIterator = 0;
@@ -130,6 +146,8 @@ public void clear() {
 		Arrays.fill(strongDecisionLevels, -1);
 		Arrays.fill(impliedBy, null);
 		Arrays.fill(callbackUponChange, false);
+		Arrays.fill(savedPhases, 0);
+		resetTargetPhases();
 		outOfOrderLiterals = new ArrayList<>();
 		highestDecisionLevelContainingOutOfOrderLiterals = 0;
 		Arrays.fill(trail, 0);
@@ -235,6 +253,7 @@ private void removeLastDecisionLevel() {
 				if (getTruth(backtrackAtom) == MBT) {
 					mbtCount--;
 				}
+				savedPhases[backtrackAtom] = values[backtrackAtom] & 0x3;
 				values[backtrackAtom] = 0;
 			}
 			strongDecisionLevels[backtrackAtom] = -1;
@@ -283,8 +302,30 @@ private void resetTrailPointersAndReplayOutOfOrderLiterals() {
 		}
 	}
 
+	/**
+	 * Records the current trail up to the start of the current decision level as new target phases if it is larger
+	 * than the one recorded so far. The current decision level is excluded, since backjumping usually happens due to
+	 * a conflict in it.
+	 */
+	private void updateTargetPhases() {
+		if (!trackTargetPhases) {
+			return;
+		}
+		int conflictFreeTrailSize = trailIndicesOfDecisionLevels.get(getDecisionLevel());
+		if (conflictFreeTrailSize <= targetPhasesTrailSize) {
+			return;
+		}
+		Arrays.fill(targetPhases, 0);
+		for (int i = 0; i < conflictFreeTrailSize; i++) {
+			int atom = atomOf(trail[i]);
+			targetPhases[atom] = values[atom] & 0x3;
+		}
+		targetPhasesTrailSize = conflictFreeTrailSize;
+	}
+
 	@Override
 	public void backjump(int decisionLevel) {
+		updateTargetPhases();
 		// Remove everything above the target level, but keep the target level unchanged.
 		while (getDecisionLevel() > decisionLevel) {
 			removeLastDecisionLevel();
@@ -294,6 +335,7 @@ public void backjump(int decisionLevel) {
 
 	@Override
 	public void backtrack() {
+		updateTargetPhases();
 		removeLastDecisionLevel();
 		resetTrailPointersAndReplayOutOfOrderLiterals();
 	}
@@ -441,6 +483,28 @@ private int translateTruth(ThriceTruth value) {
 		throw oops("Unknown truth value.");
 	}
 
+	@Override
+	public ThriceTruth getSavedPhase(int atom) {
+		return translateTruth(savedPhases[atom]);
+	}
+
+	@Override
+	public ThriceTruth getTargetPhase(int atom) {
+		return translateTruth(targetPhases[atom]);
+	}
+
+	@Override
+	public void setTrackTargetPhases(boolean trackTargetPhases) {
+		this.trackTargetPhases = trackTargetPhases;
+		resetTargetPhases();
+	}
+
+	@Override
+	public void resetTargetPhases() {
+		Arrays.fill(targetPhases, 0);
+		targetPhasesTrailSize = 0;
+	}
+
 	@Override
 	public ThriceTruth getTruth(int atom) {
 		return translateTruth(values[atom]);
@@ -529,7 +593,8 @@ private List<Integer> getMBTAssignedAtoms() {
 	public boolean closeUnassignedAtoms() {
 		boolean didAssign = false;
 		for (int i = 1; i <= atomStore.getMaxAtomId(); i++) {
-			if (!isAssigned(i)) {
+			// Skip ids released by the atom store.
+			if (!isAssigned(i) && atomStore.get(i) != null) {
 				assign(i, FALSE, CLOSING_INDICATOR_ANTECEDENT);
 				didAssign = true;
 			}
@@ -537,6 +602,17 @@ public boolean closeUnassignedAtoms() {
 		return didAssign;
 	}
 
+	@Override
+	public void forgetAtom(int atom) {
+		if (isAssigned(atom)) {
+			throw oops("Cannot forget assigned atom: " + atom);
+		}
+		impliedBy[atom] = null;
+		callbackUponChange[atom] = false;
+		savedPhases[atom] = 0;
+		targetPhases[atom] = 0;
+	}
+
 	@Override
 	public boolean didChange() {
 		boolean oldDidChange = didChange;
@@ -562,6 +638,8 @@ public void growForMaxAtomId() {
 		Arrays.fill(strongDecisionLevels, oldLength, strongDecisionLevels.length, -1);
 		impliedBy = Arrays.copyOf(impliedBy, newCapacity);
 		callbackUponChange = Arrays.copyOf(callbackUponChange, newCapacity);
+		savedPhases = Arrays.copyOf(savedPhases, newCapacity);
+		targetPhases = Arrays.copyOf(targetPhases, newCapacity);
 		trail = Arrays.copyOf(trail, newCapacity * 2);	// Trail has at most 2 assignments (MBT+TRUE) for each atom.
 	}
 
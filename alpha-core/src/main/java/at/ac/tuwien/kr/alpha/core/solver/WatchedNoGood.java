@@ -33,6 +33,7 @@
 import at.ac.tuwien.kr.alpha.core.common.NoGoodInterface;
 
 import static at.ac.tuwien.kr.alpha.commons.util.Util.oops;
+import static at.ac.tuwien.kr.alpha.core.solver.NoGoodStore.LBD_NO_VALUE;
 import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.literalToString;
 
 public final class WatchedNoGood implements NoGoodInterface, Antecedent {
@@ -41,7 +42,9 @@ public final class WatchedNoGood implements NoGoodInterface, Antecedent {
 	private int alpha;
 	private int head;
 	private final Type type;
-	private boolean isLbdLessOrEqual2;
+	private int lbd = LBD_NO_VALUE;
+	private LearnedNoGoodDeletion.Tier tier;
+	private boolean usedSinceLastDeletion;
 
 	WatchedNoGood(NoGood noGood, int a, int b, int alpha) {
 		if (noGood.size() < 3) {
@@ -203,13 +206,50 @@ public void decreaseActivity() {
 	@Override
 	public void bumpActivity() {
 		activity++;
+		usedSinceLastDeletion = true;
+	}
+
+	/**
+	 * Returns the LBD of this learned NoGood if it may still move to a better tier, otherwise {@link NoGoodStore#LBD_NO_VALUE}.
+	 */
+	@Override
+	public int getLbd() {
+		if (tier == null || tier == LearnedNoGoodDeletion.Tier.CORE) {
+			return LBD_NO_VALUE;
+		}
+		return lbd;
+	}
+
+	@Override
+	public void updateLbd(int lbd) {
+		if (tier == null || lbd >= this.lbd) {
+			return;
+		}
+		this.lbd = lbd;
+		LearnedNoGoodDeletion.Tier newTier = LearnedNoGoodDeletion.Tier.forLbd(lbd);
+		if (newTier.compareTo(tier) < 0) {
+			tier = newTier;
+		}
 	}
 
 	void setLBD(int lbd) {
-		isLbdLessOrEqual2 = lbd <= 2;
+		this.lbd = lbd;
+		this.tier = LearnedNoGoodDeletion.Tier.forLbd(lbd);
+	}
+
+	LearnedNoGoodDeletion.Tier getTier() {
+		return tier;
+	}
+
+	void demoteToLocalTier() {
+		tier = LearnedNoGoodDeletion.Tier.LOCAL;
+	}
+
+	boolean isUsedSinceLastDeletion() {
+		return usedSinceLastDeletion;
 	}
 
-	boolean isLbdLessOrEqual2() {
-		return isLbdLessOrEqual2;
+	void resetUsedSinceLastDeletion() {
+		usedSinceLastDeletion = false;
 	}
 }
@@ -52,6 +52,16 @@ public interface WritableAssignment extends Assignment {
 	 */
 	void backjump(int decisionLevel);
 
+	/**
+	 * Enables or disables the tracking of target phases (cf. {@link Assignment#getTargetPhase(int)}).
+	 */
+	void setTrackTargetPhases(boolean trackTargetPhases);
+
+	/**
+	 * Forgets the largest conflict-free assignment recorded so far, such that target phases are recorded anew.
+	 */
+	void resetTargetPhases();
+
 	/**
 	 * Assigns an atom some value on the indicated decision level.
 	 * @param atom the atom to assign
@@ -101,6 +111,12 @@ default int minimumConflictLevel(NoGood noGood) {
 	 */
 	boolean closeUnassignedAtoms();
 
+	/**
+	 * Clears all information kept about the given (unassigned) atom, such that its id can be used for another atom.
+	 * @param atom the atom to forget.
+	 */
+	void forgetAtom(int atom);
+
 	/**
 	 * Returns whether the assignment did change since this method was last called.
 	 * @return true if the assignment changed since this method was last called.
@@ -135,14 +135,16 @@ public void analyzedConflict(ConflictAnalysisResult analysisResult) {
 	@Override
 	public void newNoGood(NoGood newNoGood) {
 		pushToStack(newNoGood);
-		for (Integer literal : newNoGood) {
+		for (int i = 0; i < newNoGood.size(); i++) {
+			int literal = newNoGood.getLiteral(i);
 			incrementSignCounter(literal);
 		}
 	}
 
 	private int numChoicePoints(NoGood noGood) {
 		int numChoicePoints = 0;
-		for (Integer literal : noGood) {
+		for (int i = 0; i < noGood.size(); i++) {
+			int literal = noGood.getLiteral(i);
 			if (choiceManager.isAtomChoice(literal)) {
 				numChoicePoints++;
 			}
@@ -74,7 +74,8 @@ private void pushToStack(Integer literal) {
 	@Override
 	protected void pushToStack(NoGood noGood) {
 		if (noGood != null) {
-			for (Integer literal : noGood) {
+			for (int i = 0; i < noGood.size(); i++) {
+				int literal = noGood.getLiteral(i);
 				pushToStack(literal);
 			}
 		}
@@ -81,4 +81,11 @@ default void newNoGoods(Collection<NoGood> newNoGoods) {
 
 	default void growForMaxAtomId(int maxAtomId) {
 	}
+
+	/**
+	 * Clears all information kept about the given atom, such that its id can be used for another atom.
+	 * @param atom the atom to forget.
+	 */
+	default void forgetAtom(int atom) {
+	}
 }
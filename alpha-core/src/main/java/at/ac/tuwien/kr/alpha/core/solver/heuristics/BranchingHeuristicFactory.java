@@ -83,10 +83,17 @@ private static BranchingHeuristic getInstanceWithoutReplay(HeuristicsConfigurati
 		case ALPHA_HEAD_MBT:
 			return new AlphaHeadMustBeTrueHeuristic(assignment, choiceManager, random);
 		case VSIDS:
-			return new VSIDS(assignment, choiceManager, heuristicsConfiguration.getMomsStrategy());
+			return withPhaseStrategy(new VSIDS(assignment, choiceManager, heuristicsConfiguration.getMomsStrategy()), heuristicsConfiguration);
 		case GDD_VSIDS:
-			return new DependencyDrivenVSIDS(assignment, choiceManager, random, heuristicsConfiguration.getMomsStrategy());
+			return withPhaseStrategy(new DependencyDrivenVSIDS(assignment, choiceManager, random, heuristicsConfiguration.getMomsStrategy()), heuristicsConfiguration);
 		}
 		throw new IllegalArgumentException("Unknown branching heuristic requested.");
 	}
+
+	private static VSIDS withPhaseStrategy(VSIDS vsids, HeuristicsConfiguration heuristicsConfiguration) {
+		if (heuristicsConfiguration.getPhaseStrategy() != null) {
+			vsids.setPhaseStrategy(heuristicsConfiguration.getPhaseStrategy());
+		}
+		return vsids;
+	}
 }
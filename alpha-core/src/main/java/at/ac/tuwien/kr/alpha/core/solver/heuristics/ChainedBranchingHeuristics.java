@@ -88,6 +88,13 @@ public void growForMaxAtomId(int maxAtomId) {
 		}
 	}
 
+	@Override
+	public void forgetAtom(int atom) {
+		for (BranchingHeuristic element : chain) {
+			element.forgetAtom(atom);
+		}
+	}
+
 	public void add(BranchingHeuristic element) {
 		if (chain.contains(element)) {
 			throw oops("Cycle detected in chain of branching heuristics");
@@ -168,7 +168,8 @@ public void analyzedConflict(ConflictAnalysisResult analysisResult) {
 	public void newNoGood(NoGood newNoGood) {
 		recordAtomRelationships(newNoGood);
 		pushToStack(newNoGood);
-		for (Integer literal : newNoGood) {
+		for (int i = 0; i < newNoGood.size(); i++) {
+			int literal = newNoGood.getLiteral(i);
 			incrementSignCounter(literal);
 		}
 	}
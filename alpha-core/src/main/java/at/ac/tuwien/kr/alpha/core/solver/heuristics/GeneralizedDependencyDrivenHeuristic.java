@@ -69,7 +69,8 @@ protected void recordAtomRelationships(NoGood noGood) {
 		// TODO: use HeapOfActiveChoicePoints.recordAtomRelationships, which does similar things
 		int body = DEFAULT_CHOICE_ATOM;
 		Set<Integer> others = new HashSet<>();
-		for (int literal : noGood) {
+		for (int i = 0; i < noGood.size(); i++) {
+			int literal = noGood.getLiteral(i);
 			int atom = atomOf(literal);
 			if (body == DEFAULT_CHOICE_ATOM && choiceManager.isAtomChoice(atom)) {
 				body = atom;
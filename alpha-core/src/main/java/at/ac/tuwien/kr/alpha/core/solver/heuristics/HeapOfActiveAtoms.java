@@ -163,7 +163,8 @@ protected void initActivity(NoGood newNoGood) {
 	 */
 	private void initActivityMOMs(NoGood newNoGood) {
 		LOGGER.debug("Initializing activity scores with MOMs");
-		for (int literal : newNoGood) {
+		for (int i = 0; i < newNoGood.size(); i++) {
+			int literal = newNoGood.getLiteral(i);
 			int atom = atomOf(literal);
 			if (!incrementedActivityScores[atom]) { // update initial value as long as not incremented yet by VSIDS
 				double score = moms.getScore(atom);
@@ -185,9 +186,21 @@ void growToCapacity(int newCapacity) {
 		incrementedActivityScores = Arrays.copyOf(incrementedActivityScores, newCapacity);
 	}
 
+	/**
+	 * Resets the activity of the given atom. The atom may still occur in the heap, but stale entries are skipped
+	 * when polled since they are no active choice points.
+	 */
+	void forgetAtom(int atom) {
+		if (activityScores.length > atom) {
+			activityScores[atom] = 0;
+			incrementedActivityScores[atom] = false;
+		}
+	}
+
 	private void initActivityNaive(NoGood newNoGood) {
 		LOGGER.debug("Initializing activity scores naively");
-		for (Integer literal : newNoGood) {
+		for (int i = 0; i < newNoGood.size(); i++) {
+			int literal = newNoGood.getLiteral(i);
 			int atom = atomOf(literal);
 			incrementActivity(atom);
 		}
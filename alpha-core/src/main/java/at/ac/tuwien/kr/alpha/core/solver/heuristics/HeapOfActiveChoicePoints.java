@@ -77,7 +77,8 @@ private void recordAtomRelationships(NoGood noGood) {
 		int body = none;
 		Set<Integer> others = new HashSet<>();
 
-		for (int literal : noGood) {
+		for (int i = 0; i < noGood.size(); i++) {
+			int literal = noGood.getLiteral(i);
 			int atom = atomOf(literal);
 			if (body == none && choiceManager.isAtomChoice(atom)) {
 				body = atom;
@@ -27,6 +27,7 @@
 
 import at.ac.tuwien.kr.alpha.api.config.BinaryNoGoodPropagationEstimationStrategy;
 import at.ac.tuwien.kr.alpha.api.config.Heuristic;
+import at.ac.tuwien.kr.alpha.api.config.PhaseStrategy;
 
 import java.util.List;
 
@@ -38,16 +39,19 @@ public class HeuristicsConfiguration {
 	private Heuristic heuristic;
 	private BinaryNoGoodPropagationEstimationStrategy momsStrategy;
 	private List<Integer> replayChoices;
+	private PhaseStrategy phaseStrategy;
 	/**
 	 * @param heuristic
 	 * @param momsStrategy
 	 * @param replayChoices
+	 * @param phaseStrategy
 	 */
-	public HeuristicsConfiguration(Heuristic heuristic, BinaryNoGoodPropagationEstimationStrategy momsStrategy, List<Integer> replayChoices) {
+	public HeuristicsConfiguration(Heuristic heuristic, BinaryNoGoodPropagationEstimationStrategy momsStrategy, List<Integer> replayChoices, PhaseStrategy phaseStrategy) {
 		super();
 		this.heuristic = heuristic;
 		this.momsStrategy = momsStrategy;
 		this.replayChoices = replayChoices;
+		this.phaseStrategy = phaseStrategy;
 	}
 
 	/**
@@ -92,6 +96,20 @@ public void setReplayChoices(List<Integer> replayChoices) {
 		this.replayChoices = replayChoices;
 	}
 
+	/**
+	 * @return the phaseStrategy
+	 */
+	public PhaseStrategy getPhaseStrategy() {
+		return phaseStrategy;
+	}
+
+	/**
+	 * @param phaseStrategy the phaseStrategy to set
+	 */
+	public void setPhaseStrategy(PhaseStrategy phaseStrategy) {
+		this.phaseStrategy = phaseStrategy;
+	}
+
 	public static HeuristicsConfigurationBuilder builder() {
 		return new HeuristicsConfigurationBuilder();
 	}
@@ -27,6 +27,7 @@
 
 import at.ac.tuwien.kr.alpha.api.config.BinaryNoGoodPropagationEstimationStrategy;
 import at.ac.tuwien.kr.alpha.api.config.Heuristic;
+import at.ac.tuwien.kr.alpha.api.config.PhaseStrategy;
 
 import java.util.List;
 
@@ -38,6 +39,7 @@ public class HeuristicsConfigurationBuilder {
 	private Heuristic heuristic;
 	private BinaryNoGoodPropagationEstimationStrategy momsStrategy;
 	private List<Integer> replayChoices;
+	private PhaseStrategy phaseStrategy = PhaseStrategy.NONE;
 
 	/**
 	 * @param heuristic the heuristic to set
@@ -63,8 +65,16 @@ public HeuristicsConfigurationBuilder setReplayChoices(List<Integer> replayChoic
 		return this;
 	}
 
+	/**
+	 * @param phaseStrategy the phaseStrategy to set
+	 */
+	public HeuristicsConfigurationBuilder setPhaseStrategy(PhaseStrategy phaseStrategy) {
+		this.phaseStrategy = phaseStrategy;
+		return this;
+	}
+
 	public HeuristicsConfiguration build() {
-		return new HeuristicsConfiguration(heuristic, momsStrategy, replayChoices);
+		return new HeuristicsConfiguration(heuristic, momsStrategy, replayChoices, phaseStrategy);
 	}
 	
 }
@@ -40,6 +40,7 @@
 import org.slf4j.LoggerFactory;
 
 import at.ac.tuwien.kr.alpha.api.config.BinaryNoGoodPropagationEstimationStrategy;
+import at.ac.tuwien.kr.alpha.api.config.PhaseStrategy;
 import at.ac.tuwien.kr.alpha.core.common.Assignment;
 import at.ac.tuwien.kr.alpha.core.common.NoGood;
 import at.ac.tuwien.kr.alpha.core.solver.ChoiceManager;
@@ -77,12 +78,14 @@ public class VSIDS implements ActivityBasedBranchingHeuristic {
 
 	protected final HeapOfActiveAtoms heapOfActiveAtoms;
 	protected int[] signBalances = new int[0];
+	private PhaseStrategy phaseStrategy = PhaseStrategy.NONE;
 
 	private final Collection<NoGood> bufferedNoGoods = new ArrayList<>();
 
 	private int nChoicesTrue;
 	private int nChoicesFalse;
 	private int nChoicesRand;
+	private int nChoicesPhase;
 
 	/**
 	 * Maps rule heads to atoms representing corresponding bodies.
@@ -104,6 +107,13 @@ public VSIDS(Assignment assignment, ChoiceManager choiceManager, BinaryNoGoodPro
 		this(assignment, choiceManager, DEFAULT_DECAY_PERIOD, DEFAULT_DECAY_FACTOR,  momsStrategy);
 	}
 
+	/**
+	 * Sets the strategy used by {@link #chooseSign(int)} to reuse truth values of atoms from earlier assignments.
+	 */
+	public void setPhaseStrategy(PhaseStrategy phaseStrategy) {
+		this.phaseStrategy = phaseStrategy;
+	}
+
 	@Override
 	public void violatedNoGood(NoGood violatedNoGood) {
 	}
@@ -170,7 +180,9 @@ protected int chooseAtom() {
 	/**
 	 * Chooses a sign (truth value) to assign to the given atom.
 	 * 
-	 * To make this decision, sign counters are maintained that reflect how often an atom
+	 * Depending on the {@link PhaseStrategy}, the truth value the atom had in the largest conflict-free assignment
+	 * (target phase) or before it was last unassigned (saved phase) is chosen, if available.
+	 * Otherwise, sign counters are maintained that reflect how often an atom
 	 * occurs positively or negatively in learnt nogoods.
 	 * If the sign balance for the given atom is positive, {@code true} will be chosen.
 	 * If it is negative, {@code false} will be chosen.
@@ -182,15 +194,21 @@ protected int chooseAtom() {
 	 * @return the truth value to assign to the given atom
 	 */
 	protected boolean chooseSign(int atom) {
-		atom = getAtomForChooseSign(atom);
+		int atomForSign = getAtomForChooseSign(atom);
 
-		if (assignment.getTruth(atom) == ThriceTruth.MBT) {
+		if (assignment.getTruth(atomForSign) == ThriceTruth.MBT) {
 			return true;
 		}
 
-		int signBalance = getSignBalance(atom);
+		ThriceTruth phase = getPhase(atom);
+		if (phase != null) {
+			nChoicesPhase++;
+			return phase.toBoolean();
+		}
+
+		int signBalance = getSignBalance(atomForSign);
 		if (LOGGER.isDebugEnabled() && (nChoicesFalse + nChoicesTrue + nChoicesRand) % 100 == 0) {
-			LOGGER.debug("chooseSign stats: f={}, t={}, r={}", nChoicesFalse, nChoicesTrue, nChoicesRand);
+			LOGGER.debug("chooseSign stats: f={}, t={}, r={}, p={}", nChoicesFalse, nChoicesTrue, nChoicesRand, nChoicesPhase);
 			LOGGER.debug("chooseSign stats: signBalance={}", signBalance);
 		}
 
@@ -203,6 +221,21 @@ protected boolean chooseSign(int atom) {
 		}
 	}
 
+	private ThriceTruth getPhase(int atom) {
+		switch (phaseStrategy) {
+			case TARGET:
+				ThriceTruth targetPhase = assignment.getTargetPhase(atom);
+				if (targetPhase != null) {
+					return targetPhase;
+				}
+				return assignment.getSavedPhase(atom);
+			case SAVED:
+				return assignment.getSavedPhase(atom);
+			default:
+				return null;
+		}
+	}
+
 	/**
 	 * This method just returns {@code atom} by default but can be overridden in subclasses.
 	 * @param atom the atom chosen by VSIDS
@@ -234,6 +267,14 @@ public void growForMaxAtomId(int maxAtomId) {
 		heapOfActiveAtoms.growToCapacity(newCapacity);
 	}
 
+	@Override
+	public void forgetAtom(int atom) {
+		if (signBalances.length > atom) {
+			signBalances[atom] = 0;
+		}
+		heapOfActiveAtoms.forgetAtom(atom);
+	}
+
 	@Override
 	public double getActivity(int literal) {
 		return heapOfActiveAtoms.getActivity(literal);
@@ -52,9 +52,29 @@
 public class GroundConflictNoGoodLearner {
 	private static final Logger LOGGER = LoggerFactory.getLogger(GroundConflictNoGoodLearner.class);
 
+	private static final int INITIAL_CAPACITY = 16;
+
+	// Markers for atoms during conflict analysis and minimization, stored as bits in the marks array.
+	private static final byte SEEN = 1;
+	private static final byte PROCESSED = 2;
+	private static final byte REMOVABLE = 4;
+	private static final byte FAILED = 8;
+	private static final byte ON_STACK = 16;
+
 	private final Assignment assignment;
 	private final AtomStore atomStore;
 
+	// Atom-indexed markers; a marker is only valid if the stamp of the atom equals the current stamp.
+	private int[] markStamps = new int[INITIAL_CAPACITY];
+	private byte[] marks = new byte[INITIAL_CAPACITY];
+	private int currentStamp;
+	private int[] lbdStamps = new int[INITIAL_CAPACITY];
+	private int currentLbdStamp;
+	private int[] resolutionLiterals = new int[INITIAL_CAPACITY];
+	private int numResolutionLiterals;
+	private int[] redundancyStackAtoms = new int[INITIAL_CAPACITY];
+	private int[] redundancyStackPositions = new int[INITIAL_CAPACITY];
+
 	/**
 	 * Given a conflicting NoGood, computes a conflict-free backjumping level such that the given NoGood is not
 	 * violated.
@@ -190,15 +210,13 @@ private ConflictAnalysisResult analyzeTrailBased(Antecedent conflictReason) {
 			LOGGER.trace("Conflict on decision level 0.");
 			return ConflictAnalysisResult.UNSAT;
 		}
+		startNewAnalysis();
 		int numLiteralsInConflictLevel = 0;
-		List<Integer> resolutionLiterals = new ArrayList<>();
 		List<Integer> resolutionAtoms = new ArrayList<>();
 		int currentDecisionLevel = assignment.getDecisionLevel();
-		Set<Integer> seenAtoms = new HashSet<>();		// NOTE: other solvers use a global array for seen atoms, this might be slightly faster (initial tests with local arrays showed no significant improvement).
-		Set<Integer> processedAtoms = new HashSet<>();	// Since trail contains 2 entries for MBT->TRUE assigned atoms, explicitly record which seen atoms have ben processed to avoid processing seen atoms twice.
 		int[] currentConflictReason = conflictReason.getReasonLiterals();
-		int backjumpLevel = -1;
 		conflictReason.bumpActivity();
+		updateLbd(conflictReason);
 		TrailAssignment.TrailBackwardsWalker trailWalker = ((TrailAssignment)assignment).getTrailBackwardsWalker();
 		if (LOGGER.isTraceEnabled()) {
 			LOGGER.trace("Current trail is: {}", trailWalker);
@@ -211,45 +229,43 @@ private ConflictAnalysisResult analyzeTrailBased(Antecedent conflictReason) {
 				LOGGER.trace("Atom {} implied by {}, resolving with that nogood", nextAtom, reasonsToString(currentConflictReason));
 			}
 			for (int literal : currentConflictReason) {
+				int atom = atomOf(literal);
 				// Seen atoms have already been dealt with.
-				if (!seenAtoms.contains(atomOf(literal))) {
-					seenAtoms.add(atomOf(literal));
-					int literalDecisionLevel = assignment.getWeakDecisionLevel(atomOf(literal));
-					if (literalDecisionLevel == currentDecisionLevel) {
+				if (!hasMark(atom, SEEN)) {
+					setMark(atom, SEEN);
+					if (assignment.getWeakDecisionLevel(atom) == currentDecisionLevel) {
 						numLiteralsInConflictLevel++;
 					} else {
-						resolutionLiterals.add(literal);
-						if (literalDecisionLevel > backjumpLevel) {
-							backjumpLevel = literalDecisionLevel;
-						}
+						addResolutionLiteral(literal);
 					}
-					resolutionAtoms.add(atomOf(literal));
+					resolutionAtoms.add(atom);
 				}
 			}
 			if (LOGGER.isTraceEnabled()) {
 				LOGGER.trace("LiteralsInConflictLevel now: {}", numLiteralsInConflictLevel);
-				LOGGER.trace("Seen atoms are {}.", seenAtoms);
-				LOGGER.trace("Intermediate learned literals: {}", reasonsToString(resolutionLiterals));
+				LOGGER.trace("Intermediate learned literals: {}", reasonsToString(Arrays.copyOf(resolutionLiterals, numResolutionLiterals)));
 			}
 			// Find next literal, i.e. first from top of trail that has been seen but is not yet processed, also skip atoms whose TRUE assignment is on current level but their MBT/weak assignment is lower.
+			// Since trail contains 2 entries for MBT->TRUE assigned atoms, processed atoms are marked explicitly to avoid processing seen atoms twice.
 			do {
 				int nextLiteral = trailWalker.getNextLowerLiteral();
 				nextAtom = atomOf(nextLiteral);
 				if (LOGGER.isTraceEnabled()) {
 					LOGGER.trace("Next literal on trail is: {}", isPositive(nextLiteral) ? "+" + nextAtom : "-" + nextAtom);
 				}
-			} while (assignment.getWeakDecisionLevel(nextAtom) != currentDecisionLevel || !seenAtoms.contains(nextAtom) || processedAtoms.contains(nextAtom));
+			} while (assignment.getWeakDecisionLevel(nextAtom) != currentDecisionLevel || !hasMark(nextAtom, SEEN) || hasMark(nextAtom, PROCESSED));
 			Antecedent impliedBy = assignment.getImpliedBy(nextAtom);
 			if (impliedBy != null) {
 				currentConflictReason = impliedBy.getReasonLiterals();
 				impliedBy.bumpActivity();
+				updateLbd(impliedBy);
 			}
-			processedAtoms.add(nextAtom);
+			setMark(nextAtom, PROCESSED);
 		} while (numLiteralsInConflictLevel-- > 1);
 		// Add the 1UIP literal.
-		resolutionLiterals.add(atomToLiteral(nextAtom, assignment.getTruth(nextAtom).toBoolean()));
+		addResolutionLiteral(atomToLiteral(nextAtom, assignment.getTruth(nextAtom).toBoolean()));
 
-		int[] learnedLiterals = minimizeLearnedLiterals(resolutionLiterals, seenAtoms);
+		int[] learnedLiterals = minimizeLearnedLiterals();
 
 		NoGood learnedNoGood = NoGood.learnt(learnedLiterals);
 		if (LOGGER.isTraceEnabled()) {
@@ -270,46 +286,170 @@ private ConflictAnalysisResult analyzeTrailBased(Antecedent conflictReason) {
 		return new ConflictAnalysisResult(learnedNoGood, backjumpingDecisionLevel, resolutionAtoms, computeLBD(learnedLiterals));
 	}
 
-	private int[] minimizeLearnedLiterals(List<Integer> resolutionLiterals, Set<Integer> seenAtoms) {
-		int[] learnedLiterals = new int[resolutionLiterals.size()];
-		int i = 0;
-		// Do local clause minimization: if an implied literal has all its antecedents seen (i.e., in the clause already), it can be removed.
-		learnedLiteralsLoop:
-		for (Integer resolutionLiteral : resolutionLiterals) {
-			if (assignment.getWeakDecisionLevel(atomOf(resolutionLiteral)) == 0) {
+	/**
+	 * Prepares the marker arrays for a new conflict analysis. Instead of clearing the arrays, the current stamp is
+	 * increased such that all markers of previous analyses become invalid.
+	 */
+	private void startNewAnalysis() {
+		int requiredCapacity = atomStore.getMaxAtomId() + 1;
+		if (markStamps.length < requiredCapacity) {
+			int newCapacity = Math.max(requiredCapacity, markStamps.length + (markStamps.length >> 1));
+			markStamps = Arrays.copyOf(markStamps, newCapacity);
+			marks = Arrays.copyOf(marks, newCapacity);
+		}
+		if (currentStamp == Integer.MAX_VALUE) {
+			Arrays.fill(markStamps, 0);
+			currentStamp = 0;
+		}
+		currentStamp++;
+		numResolutionLiterals = 0;
+	}
+
+	private boolean hasMark(int atom, int mark) {
+		return markStamps[atom] == currentStamp && (marks[atom] & mark) != 0;
+	}
+
+	private void setMark(int atom, int mark) {
+		if (markStamps[atom] != currentStamp) {
+			markStamps[atom] = currentStamp;
+			marks[atom] = 0;
+		}
+		marks[atom] |= mark;
+	}
+
+	private void clearMark(int atom, int mark) {
+		if (markStamps[atom] == currentStamp) {
+			marks[atom] &= ~mark;
+		}
+	}
+
+	private void addResolutionLiteral(int literal) {
+		if (numResolutionLiterals == resolutionLiterals.length) {
+			resolutionLiterals = Arrays.copyOf(resolutionLiterals, resolutionLiterals.length << 1);
+		}
+		resolutionLiterals[numResolutionLiterals++] = literal;
+	}
+
+	/**
+	 * Removes literals from the resolution literals that are implied by other literals of the learned NoGood
+	 * (recursive minimization): an implied literal can be removed if every literal of its antecedent either is from
+	 * decision level 0, has been seen during conflict analysis, or recursively is removable itself.
+	 */
+	private int[] minimizeLearnedLiterals() {
+		int levelsInLearnedNoGood = 0;
+		for (int i = 0; i < numResolutionLiterals; i++) {
+			levelsInLearnedNoGood |= abstractLevel(assignment.getWeakDecisionLevel(atomOf(resolutionLiterals[i])));
+		}
+		int numLearnedLiterals = 0;
+		for (int i = 0; i < numResolutionLiterals; i++) {
+			int resolutionLiteral = resolutionLiterals[i];
+			int atom = atomOf(resolutionLiteral);
+			if (assignment.getWeakDecisionLevel(atom) == 0) {
 				// Skip literals from decision level 0.
 				continue;
 			}
-			Antecedent antecedent = assignment.getImpliedBy(atomOf(resolutionLiteral));
-			if (antecedent == null) {
-				// The resolutionLiteral is a decision, keep it.
-				learnedLiterals[i++] = resolutionLiteral;
-			} else {
-				for (int antecedentReasonLiteral : antecedent.getReasonLiterals()) {
-					// Only add current resolutionLiteral if at least one of its antecedents has not been seen already.
-					if (!seenAtoms.contains(atomOf(antecedentReasonLiteral))) {
-						learnedLiterals[i++] = resolutionLiteral;
-						continue learnedLiteralsLoop;
-					}
-				}
+			// Decisions are always kept.
+			if (assignment.getImpliedBy(atom) == null || !isRedundant(atom, levelsInLearnedNoGood)) {
+				resolutionLiterals[numLearnedLiterals++] = resolutionLiteral;
+			}
+		}
+		return Arrays.copyOf(resolutionLiterals, numLearnedLiterals);
+	}
+
+	/**
+	 * Checks whether the given implied atom is implied by the seen atoms through the implication graph. The
+	 * implication graph is explored depth-first using an explicit stack, results are memoized as REMOVABLE or FAILED.
+	 */
+	private boolean isRedundant(int impliedAtom, int levelsInLearnedNoGood) {
+		int stackSize = 0;
+		stackSize = pushRedundancyCheck(impliedAtom, stackSize);
+		while (stackSize > 0) {
+			int atom = redundancyStackAtoms[stackSize - 1];
+			int[] reasonLiterals = assignment.getImpliedBy(atom).getReasonLiterals();
+			int position = redundancyStackPositions[stackSize - 1]++;
+			if (position == reasonLiterals.length) {
+				// All reasons of the atom are implied, hence the atom is implied as well.
+				clearMark(atom, ON_STACK);
+				setMark(atom, REMOVABLE);
+				stackSize--;
+				continue;
+			}
+			int reasonAtom = atomOf(reasonLiterals[position]);
+			if (reasonAtom == atom) {
+				continue;
+			}
+			if (hasMark(reasonAtom, ON_STACK)) {
+				// Cyclic dependencies are treated as not implied.
+				return failRedundancyCheck(stackSize);
+			}
+			int reasonDecisionLevel = assignment.getWeakDecisionLevel(reasonAtom);
+			if (reasonDecisionLevel == 0 || hasMark(reasonAtom, SEEN | REMOVABLE)) {
+				continue;
 			}
+			if (hasMark(reasonAtom, FAILED) || assignment.getImpliedBy(reasonAtom) == null || (abstractLevel(reasonDecisionLevel) & levelsInLearnedNoGood) == 0) {
+				// Decisions, atoms already known not to be implied, and atoms of decision levels not occurring in the learned NoGood are not implied by it.
+				return failRedundancyCheck(stackSize);
+			}
+			stackSize = pushRedundancyCheck(reasonAtom, stackSize);
 		}
-		// Shrink array if we did not copy over all literals from resolutionLiterals.
-		if (i < resolutionLiterals.size()) {
-			learnedLiterals = Arrays.copyOf(learnedLiterals, i);
+		return true;
+	}
+
+	private int pushRedundancyCheck(int atom, int stackSize) {
+		if (stackSize == redundancyStackAtoms.length) {
+			redundancyStackAtoms = Arrays.copyOf(redundancyStackAtoms, stackSize << 1);
+			redundancyStackPositions = Arrays.copyOf(redundancyStackPositions, stackSize << 1);
 		}
-		return learnedLiterals;
+		redundancyStackAtoms[stackSize] = atom;
+		redundancyStackPositions[stackSize] = 0;
+		setMark(atom, ON_STACK);
+		return stackSize + 1;
+	}
+
+	private boolean failRedundancyCheck(int stackSize) {
+		for (int i = 0; i < stackSize; i++) {
+			clearMark(redundancyStackAtoms[i], ON_STACK);
+			setMark(redundancyStackAtoms[i], FAILED);
+		}
+		return false;
+	}
+
+	private static int abstractLevel(int decisionLevel) {
+		return 1 << (decisionLevel & 31);
+	}
+
+	/**
+	 * Recomputes the LBD of a learned NoGood taking part in conflict analysis, which may promote it to a better tier
+	 * of the learned-NoGood database.
+	 */
+	private void updateLbd(Antecedent antecedent) {
+		if (antecedent.getLbd() == LBD_NO_VALUE) {
+			return;
+		}
+		antecedent.updateLbd(computeLBD(antecedent.getReasonLiterals()));
 	}
 
 	private int computeLBD(int[] literals) {
-		HashSet<Integer> occurringDecisionLevels = new HashSet<>();
+		if (lbdStamps.length <= assignment.getDecisionLevel()) {
+			lbdStamps = Arrays.copyOf(lbdStamps, Math.max(assignment.getDecisionLevel() + 1, lbdStamps.length << 1));
+		}
+		if (currentLbdStamp == Integer.MAX_VALUE) {
+			Arrays.fill(lbdStamps, 0);
+			currentLbdStamp = 0;
+		}
+		currentLbdStamp++;
+		int lbd = 0;
 		for (int literal : literals) {
 			if (!assignment.isAssigned(atomOf(literal))) {
 				throw oops("Atom is not assigned: " + atomOf(literal));
 			}
-			occurringDecisionLevels.add(assignment.getWeakDecisionLevel(atomOf(literal)));
+			int decisionLevel = assignment.getWeakDecisionLevel(atomOf(literal));
+			if (lbdStamps[decisionLevel] != currentLbdStamp) {
+				lbdStamps[decisionLevel] = currentLbdStamp;
+				lbd++;
+			}
 		}
-		return occurringDecisionLevels.size();
+		return lbd;
 	}
 
 	/**
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.solver.restarts;
+
+/**
+ * A {@link RestartPolicy} that restarts after a geometrically growing number of conflicts, starting with a given
+ * interval that is multiplied by {@link #GROWTH_FACTOR} after each restart.
+ */
+public class GeometricRestartPolicy implements RestartPolicy {
+
+	static final double GROWTH_FACTOR = 1.5;
+
+	private double currentInterval;
+	private long conflictsUntilRestart;
+
+	public GeometricRestartPolicy(int interval) {
+		if (interval <= 0) {
+			throw new IllegalArgumentException("Restart interval must be positive.");
+		}
+		this.currentInterval = interval;
+		this.conflictsUntilRestart = interval;
+	}
+
+	@Override
+	public void conflict(int lbd) {
+		conflictsUntilRestart--;
+	}
+
+	@Override
+	public boolean shouldRestart() {
+		return conflictsUntilRestart <= 0;
+	}
+
+	@Override
+	public void restarted() {
+		currentInterval *= GROWTH_FACTOR;
+		conflictsUntilRestart = (long) currentInterval;
+	}
+}
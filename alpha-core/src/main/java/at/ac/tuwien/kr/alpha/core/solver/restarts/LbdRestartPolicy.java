@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.solver.restarts;
+
+/**
+ * A dynamic {@link RestartPolicy} as used by the Glucose SAT solver: it compares the average LBD of the most recently
+ * learned nogoods with the average LBD of all learned nogoods and restarts if the recent nogoods are considerably
+ * worse, i.e., if search currently does not seem to make progress.
+ *
+ * See: Audemard, Simon: Refining Restarts Strategies for SAT and UNSAT. CP 2012.
+ */
+public class LbdRestartPolicy implements RestartPolicy {
+
+	static final int WINDOW_SIZE = 50;
+	static final double MARGIN = 0.8;
+
+	private final int[] recentLbds = new int[WINDOW_SIZE];
+	private int recentLbdsCount;
+	private int recentLbdsNextPosition;
+	private long recentLbdsSum;
+
+	private long totalConflicts;
+	private long totalLbdSum;
+
+	@Override
+	public void conflict(int lbd) {
+		totalConflicts++;
+		totalLbdSum += lbd;
+		if (recentLbdsCount == WINDOW_SIZE) {
+			recentLbdsSum -= recentLbds[recentLbdsNextPosition];
+		} else {
+			recentLbdsCount++;
+		}
+		recentLbds[recentLbdsNextPosition] = lbd;
+		recentLbdsSum += lbd;
+		recentLbdsNextPosition = (recentLbdsNextPosition + 1) % WINDOW_SIZE;
+	}
+
+	@Override
+	public boolean shouldRestart() {
+		if (recentLbdsCount < WINDOW_SIZE) {
+			return false;
+		}
+		double recentAverage = (double) recentLbdsSum / WINDOW_SIZE;
+		double totalAverage = (double) totalLbdSum / totalConflicts;
+		return recentAverage * MARGIN > totalAverage;
+	}
+
+	@Override
+	public void restarted() {
+		recentLbdsCount = 0;
+		recentLbdsNextPosition = 0;
+		recentLbdsSum = 0;
+	}
+}
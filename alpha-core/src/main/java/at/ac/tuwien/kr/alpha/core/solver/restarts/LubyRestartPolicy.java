@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.solver.restarts;
+
+/**
+ * A {@link RestartPolicy} that restarts after a number of conflicts given by the Luby sequence
+ * (1, 1, 2, 1, 1, 2, 4, 1, 1, 2, 1, 1, 2, 4, 8, ...) multiplied by a fixed interval.
+ */
+public class LubyRestartPolicy implements RestartPolicy {
+
+	private final int interval;
+	private int restarts;
+	private long conflictsUntilRestart;
+
+	public LubyRestartPolicy(int interval) {
+		if (interval <= 0) {
+			throw new IllegalArgumentException("Restart interval must be positive.");
+		}
+		this.interval = interval;
+		this.conflictsUntilRestart = interval * luby(0);
+	}
+
+	@Override
+	public void conflict(int lbd) {
+		conflictsUntilRestart--;
+	}
+
+	@Override
+	public boolean shouldRestart() {
+		return conflictsUntilRestart <= 0;
+	}
+
+	@Override
+	public void restarted() {
+		restarts++;
+		conflictsUntilRestart = interval * luby(restarts);
+	}
+
+	/**
+	 * Computes the i-th element (starting at 0) of the Luby sequence.
+	 */
+	static long luby(int i) {
+		// Find the finite subsequence that contains index i, and the size of that subsequence.
+		int size = 1;
+		int seq = 0;
+		while (size < i + 1) {
+			seq++;
+			size = 2 * size + 1;
+		}
+		// Descend into the subsequence until i is its last element.
+		while (size - 1 != i) {
+			size = (size - 1) >> 1;
+			seq--;
+			i = i % size;
+		}
+		return 1L << seq;
+	}
+}
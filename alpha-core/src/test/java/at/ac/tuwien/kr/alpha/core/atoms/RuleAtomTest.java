@@ -1,6 +1,8 @@
 package at.ac.tuwien.kr.alpha.core.atoms;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import org.junit.jupiter.api.Test;
 
@@ -15,9 +17,11 @@
 import at.ac.tuwien.kr.alpha.commons.Predicates;
 import at.ac.tuwien.kr.alpha.commons.programs.atoms.Atoms;
 import at.ac.tuwien.kr.alpha.commons.programs.rules.Rules;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.TermDictionary;
 import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
 import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
 import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
+import at.ac.tuwien.kr.alpha.commons.substitutions.SlotSubstitution;
 import at.ac.tuwien.kr.alpha.core.parser.ProgramParserImpl;
 import at.ac.tuwien.kr.alpha.core.programs.atoms.RuleAtom;
 import at.ac.tuwien.kr.alpha.core.programs.rules.CompiledRule;
@@ -67,4 +71,46 @@ public void substitutionWithFunctionTermsObtainableFromRuleAtom() {
 		RuleAtom.RuleAtomData substitutionFromRuleAtom = (RuleAtom.RuleAtomData) ((ConstantTerm<?>) ruleAtom.getTerms().get(0)).getObject();
 		assertEquals(substitution, substitutionFromRuleAtom.getSubstitution());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void ruleAtomsEqualForSameGroundInstance() {
+		Rule<Head> rule = PARSER.parse("q(X) :- p(X,Y).").getRules().get(0);
+		CompiledRule nonGroundRule = InternalRule.fromNormalRule(Rules.toNormalRule(rule));
+		BasicAtom atomForSpecialize = Atoms.newBasicAtom(Predicates.getPredicate("p", 2), X, Y);
+		Instance instanceAB = new Instance(Terms.newSymbolicConstant("a"), Terms.newSymbolicConstant("b"));
+		Substitution basicSubstitution = BasicSubstitution.specializeSubstitution(
+			atomForSpecialize, instanceAB, BasicSubstitution.EMPTY_SUBSTITUTION);
+		SlotSubstitution slotSubstitution = new SlotSubstitution(nonGroundRule.getVariableNumbering());
+		slotSubstitution.specialize(atomForSpecialize, instanceAB);
+
+		RuleAtom fromBasic = new RuleAtom(nonGroundRule, basicSubstitution);
+		RuleAtom fromSlots = new RuleAtom(nonGroundRule, slotSubstitution);
+		assertEquals(fromBasic, fromSlots);
+		assertEquals(fromBasic.hashCode(), fromSlots.hashCode());
+		assertEquals(0, fromBasic.compareTo(fromSlots));
+		assertEquals(basicSubstitution, fromSlots.getRuleAtomData().getSubstitution());
+
+		Substitution otherSubstitution = BasicSubstitution.specializeSubstitution(atomForSpecialize,
+			new Instance(Terms.newSymbolicConstant("a"), Terms.newSymbolicConstant("c")), BasicSubstitution.EMPTY_SUBSTITUTION);
+		RuleAtom other = new RuleAtom(nonGroundRule, otherSubstitution);
+		assertNotEquals(fromBasic, other);
+		assertEquals(Integer.signum(Terms.newSymbolicConstant("b").compareTo(Terms.newSymbolicConstant("c"))),
+			Integer.signum(fromBasic.compareTo(other)));
+	}
+
+	@Test
+	public void ruleAtomsDoNotGrowTermDictionary() {
+		Rule<Head> rule = PARSER.parse("q(X) :- p(X,Y).").getRules().get(0);
+		CompiledRule nonGroundRule = InternalRule.fromNormalRule(Rules.toNormalRule(rule));
+		BasicAtom atomForSpecialize = Atoms.newBasicAtom(Predicates.getPredicate("p", 2), X, Y);
+		Substitution substitution = BasicSubstitution.specializeSubstitution(atomForSpecialize,
+			new Instance(Terms.newSymbolicConstant("a"), Terms.newConstant(1)), BasicSubstitution.EMPTY_SUBSTITUTION);
+
+		int dictionarySize = TermDictionary.size();
+		for (int i = 0; i < 10; i++) {
+			RuleAtom ruleAtom = new RuleAtom(nonGroundRule, substitution);
+			assertFalse(TermDictionary.isEncoded(ruleAtom.getTerms().get(0)));
+		}
+		assertEquals(dictionarySize, TermDictionary.size());
+	}
+}
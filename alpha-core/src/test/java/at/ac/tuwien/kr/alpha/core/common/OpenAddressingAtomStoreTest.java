@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import at.ac.tuwien.kr.alpha.api.programs.Predicate;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.commons.Predicates;
+import at.ac.tuwien.kr.alpha.commons.programs.atoms.Atoms;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
+
+public class OpenAddressingAtomStoreTest {
+
+	private static final Predicate P = Predicates.getPredicate("p", 2);
+	private static final Predicate Q = Predicates.getPredicate("q", 1);
+
+	private static Atom p(int a, int b) {
+		return Atoms.newBasicAtom(P, Terms.newConstant(a), Terms.newConstant(b));
+	}
+
+	@Test
+	public void putIfAbsentAssignsStableIds() {
+		OpenAddressingAtomStore atomStore = new OpenAddressingAtomStore();
+		int id1 = atomStore.putIfAbsent(p(1, 2));
+		int id2 = atomStore.putIfAbsent(p(2, 1));
+		assertEquals(1, id1);
+		assertEquals(2, id2);
+		assertEquals(id1, atomStore.putIfAbsent(p(1, 2)));
+		assertEquals(id2, atomStore.get(p(2, 1)));
+		assertEquals(p(1, 2), atomStore.get(id1));
+		assertTrue(atomStore.contains(p(2, 1)));
+		assertFalse(atomStore.contains(p(2, 2)));
+		assertEquals(2, atomStore.getMaxAtomId());
+		assertNull(atomStore.get(0));
+	}
+
+	@Test
+	public void distinguishesPredicatesAndFunctionTerms() {
+		OpenAddressingAtomStore atomStore = new OpenAddressingAtomStore();
+		Atom nested = Atoms.newBasicAtom(Q, Terms.newFunctionTerm("f", Terms.newConstant(1), Terms.newSymbolicConstant("a")));
+		Atom otherNested = Atoms.newBasicAtom(Q, Terms.newFunctionTerm("f", Terms.newConstant(1), Terms.newSymbolicConstant("b")));
+		Atom constant = Atoms.newBasicAtom(Q, Terms.newConstant(1));
+		int nestedId = atomStore.putIfAbsent(nested);
+		int otherNestedId = atomStore.putIfAbsent(otherNested);
+		int constantId = atomStore.putIfAbsent(constant);
+		assertEquals(3, atomStore.getNumberOfAtoms());
+		assertEquals(nestedId, atomStore.putIfAbsent(
+				Atoms.newBasicAtom(Q, Terms.newFunctionTerm("f", Terms.newConstant(1), Terms.newSymbolicConstant("a")))));
+		assertSame(otherNested, atomStore.get(otherNestedId));
+		assertSame(constant, atomStore.get(constantId));
+	}
+
+	@Test
+	public void manyAtomsSurviveGrowth() {
+		OpenAddressingAtomStore atomStore = new OpenAddressingAtomStore();
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i + 1, atomStore.putIfAbsent(p(i, i % 7)));
+		}
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i + 1, atomStore.get(p(i, i % 7)));
+		}
+		assertEquals(1000, atomStore.getMaxAtomId());
+		assertEquals(1000, atomStore.getAtomCounter().getNumberOfAtoms(p(0, 0).getClass().getSimpleName()));
+	}
+
+	@Test
+	public void releasedIdsAreReused() {
+		OpenAddressingAtomStore atomStore = new OpenAddressingAtomStore();
+		for (int i = 0; i < 100; i++) {
+			atomStore.putIfAbsent(p(i, 0));
+		}
+		for (int i = 0; i < 100; i += 2) {
+			atomStore.releaseAtomId(atomStore.get(p(i, 0)));
+		}
+		assertEquals(50, atomStore.getNumberOfAtoms());
+		assertFalse(atomStore.contains(p(0, 0)));
+		assertNull(atomStore.get(1));
+		// Atoms in the same probe sequences as released ones must still be found.
+		for (int i = 1; i < 100; i += 2) {
+			assertEquals(i + 1, atomStore.get(p(i, 0)));
+		}
+		int reused = atomStore.putIfAbsent(p(0, 1));
+		assertTrue(reused <= 100);
+		assertEquals(100, atomStore.getMaxAtomId());
+		assertEquals(p(0, 1), atomStore.get(reused));
+		assertEquals(51, atomStore.getAtomCounter().getNumberOfAtoms(p(0, 0).getClass().getSimpleName()));
+	}
+
+	@Test
+	public void releasingUnknownIdFails() {
+		OpenAddressingAtomStore atomStore = new OpenAddressingAtomStore();
+		int id = atomStore.putIfAbsent(p(1, 1));
+		atomStore.releaseAtomId(id);
+		assertThrows(RuntimeException.class, () -> atomStore.releaseAtomId(id));
+	}
+
+	@Test
+	public void nonGroundAtomIsRejected() {
+		OpenAddressingAtomStore atomStore = new OpenAddressingAtomStore();
+		assertThrows(IllegalArgumentException.class, () -> atomStore.putIfAbsent(Atoms.newBasicAtom(Q, Terms.newVariable("X"))));
+	}
+
+}
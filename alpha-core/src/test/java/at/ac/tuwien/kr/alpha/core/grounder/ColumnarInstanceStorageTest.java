@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.grounder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import at.ac.tuwien.kr.alpha.api.programs.Predicate;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.api.programs.terms.ConstantTerm;
+import at.ac.tuwien.kr.alpha.api.programs.terms.Term;
+import at.ac.tuwien.kr.alpha.commons.Predicates;
+import at.ac.tuwien.kr.alpha.commons.programs.atoms.Atoms;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
+import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
+
+/**
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class ColumnarInstanceStorageTest {
+
+	private static final Predicate EDGE = Predicates.getPredicate("edge", 2);
+
+	private static Instance edge(int from, int to) {
+		return new Instance(Terms.newConstant(from), Terms.newConstant(to));
+	}
+
+	@Test
+	public void lookupsMatchIndexedInstanceStorage() {
+		InstanceStorage columnar = new ColumnarInstanceStorage(EDGE, true);
+		InstanceStorage indexed = new IndexedInstanceStorage(EDGE, true);
+		for (int i = 0; i < 500; i++) {
+			columnar.addInstance(edge(i % 17, i % 23));
+			indexed.addInstance(edge(i % 17, i % 23));
+		}
+		columnar.addCompositeIndex(0, 1);
+		assertEquals(indexed.getAllInstances(), columnar.getAllInstances());
+		for (Instance instance : indexed.getAllInstances()) {
+			assertTrue(columnar.containsInstance(instance));
+		}
+		assertFalse(columnar.containsInstance(edge(17, 0)));
+
+		for (int from = 0; from < 20; from++) {
+			ConstantTerm<Integer> fromTerm = Terms.newConstant(from);
+			assertEquals(new HashSet<>(indexed.getInstancesMatchingAtPosition(fromTerm, 0)),
+					new HashSet<>(columnar.getInstancesMatchingAtPosition(fromTerm, 0)));
+			Atom query = Atoms.newBasicAtom(EDGE, fromTerm, Terms.newVariable("Y"));
+			assertEquals(new HashSet<>(indexed.getInstancesFromPartiallyGroundAtom(query)),
+					new HashSet<>(columnar.getInstancesFromPartiallyGroundAtom(query)));
+			Atom groundQuery = Atoms.newBasicAtom(EDGE, fromTerm, Terms.newConstant(from));
+			Collection<Instance> matching = columnar.getInstancesFromPartiallyGroundAtom(groundQuery);
+			assertEquals(indexed.containsInstance(edge(from, from)) ? 1 : 0, matching.size());
+		}
+	}
+
+	@Test
+	public void removalAndCompaction() {
+		InstanceStorage storage = new ColumnarInstanceStorage(EDGE, true);
+		for (int i = 0; i < 1000; i++) {
+			storage.addInstance(edge(i, i % 10));
+		}
+		storage.markRecentlyAddedInstancesDone();
+		Term three = Terms.newConstant(3);
+		assertEquals(100, storage.getInstancesMatchingAtPosition(three, 1).size());
+
+		// Removing most instances triggers compaction, remaining instances must be unaffected.
+		for (int i = 0; i < 1000; i++) {
+			if (i % 7 != 0) {
+				storage.removeInstance(edge(i, i % 10));
+			}
+		}
+		Set<Instance> expected = new HashSet<>();
+		for (int i = 0; i < 1000; i += 7) {
+			expected.add(edge(i, i % 10));
+		}
+		assertEquals(expected, storage.getAllInstances());
+		assertEquals(expected.size(), storage.getAllInstances().size());
+		assertFalse(storage.containsInstance(edge(1, 1)));
+		for (Instance instance : storage.getInstancesMatchingAtPosition(three, 1)) {
+			assertTrue(expected.contains(instance));
+		}
+		assertEquals(14, storage.getInstancesMatchingAtPosition(three, 1).size());
+
+		storage.addInstance(edge(1, 3));
+		assertEquals(15, storage.getInstancesMatchingAtPosition(three, 1).size());
+	}
+
+	@Test
+	public void removeRecentlyAddedInstances() {
+		InstanceStorage storage = new ColumnarInstanceStorage(EDGE, true);
+		storage.addInstance(edge(1, 2));
+		storage.markRecentlyAddedInstancesDone();
+		storage.addInstance(edge(2, 3));
+		storage.addInstance(edge(3, 4));
+		storage.removeInstance(edge(2, 3));
+		storage.removeInstance(edge(1, 2));
+		assertEquals(1, storage.getRecentlyAddedInstances().size());
+		assertTrue(storage.getRecentlyAddedInstances().contains(edge(3, 4)));
+		storage.markRecentlyAddedInstancesDone();
+		assertTrue(storage.getRecentlyAddedInstances().isEmpty());
+		assertEquals(1, storage.getAllInstances().size());
+	}
+
+	@Test
+	public void nonGroundLookupIsBoundedByInstancesAtLookupTime() {
+		InstanceStorage storage = new ColumnarInstanceStorage(EDGE, true);
+		for (int i = 0; i < 10; i++) {
+			storage.addInstance(edge(i, i + 1));
+		}
+		Atom query = Atoms.newBasicAtom(EDGE, Terms.newVariable("X"), Terms.newVariable("Y"));
+		Collection<Instance> candidates = storage.getInstancesFromPartiallyGroundAtom(query);
+		assertEquals(10, candidates.size());
+
+		// Instances added while iterating are not visited.
+		Set<Instance> visited = new HashSet<>();
+		for (Instance candidate : candidates) {
+			visited.add(candidate);
+			storage.addInstance(edge(100 + visited.size(), 0));
+		}
+		assertEquals(10, visited.size());
+		assertFalse(visited.contains(edge(101, 0)));
+		assertEquals(20, storage.getInstancesFromPartiallyGroundAtom(query).size());
+	}
+
+}
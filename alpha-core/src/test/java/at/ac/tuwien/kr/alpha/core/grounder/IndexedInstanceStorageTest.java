@@ -29,15 +29,24 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import at.ac.tuwien.kr.alpha.api.programs.Predicate;
 import at.ac.tuwien.kr.alpha.api.programs.terms.ConstantTerm;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
 import at.ac.tuwien.kr.alpha.commons.Predicates;
+import at.ac.tuwien.kr.alpha.commons.programs.atoms.Atoms;
 import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
 import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
 
@@ -97,4 +106,221 @@ public void testIndexedInstanceStorage() {
 		assertEquals(matching1.size(), 0);
 	}
 
+	@Test
+	public void compositeIndexReturnsExactMatches() {
+		IndexedInstanceStorage storage = new IndexedInstanceStorage(Predicates.getPredicate("p", 3), true);
+		for (int i = 0; i < 3; i++) {
+			storage.addIndexPosition(i);
+		}
+		ConstantTerm<String> a = Terms.newConstant("a");
+		ConstantTerm<String> b = Terms.newConstant("b");
+		ConstantTerm<String> c = Terms.newConstant("c");
+		storage.addInstance(new Instance(a, a, c));
+		storage.addInstance(new Instance(a, b, c));
+		storage.addInstance(new Instance(b, a, c));
+		storage.addCompositeIndex(1, 0);
+		storage.addInstance(new Instance(a, b, a));
+		assertTrue(storage.hasCompositeIndex(0, 1));
+		assertFalse(storage.hasCompositeIndex(0, 2));
+
+		Atom query = Atoms.newBasicAtom(Predicates.getPredicate("p", 3), a, b, Terms.newVariable("X"));
+		Collection<Instance> matching = storage.getInstancesFromPartiallyGroundAtom(query);
+		assertEquals(2, matching.size());
+		assertTrue(matching.contains(new Instance(a, b, c)));
+		assertTrue(matching.contains(new Instance(a, b, a)));
+
+		storage.markRecentlyAddedInstancesDone();
+		storage.removeInstance(new Instance(a, b, c));
+		assertEquals(1, storage.getInstancesFromPartiallyGroundAtom(query).size());
+		storage.removeInstance(new Instance(a, b, a));
+		assertTrue(storage.getInstancesFromPartiallyGroundAtom(query).isEmpty());
+
+		assertThrows(IllegalArgumentException.class, () -> storage.addCompositeIndex(0, 3));
+		assertThrows(IllegalArgumentException.class, () -> storage.addCompositeIndex(1, 1));
+	}
+
+	@Test
+	public void indicesAreBuiltLazilyAndDroppedWhenUnused() {
+		IndexedInstanceStorage storage = new IndexedInstanceStorage(Predicates.getPredicate("q", 2), true);
+		ConstantTerm<String> a = Terms.newConstant("a");
+		ConstantTerm<String> b = Terms.newConstant("b");
+		storage.addInstance(new Instance(a, b));
+		storage.addInstance(new Instance(b, b));
+		assertFalse(storage.isIndexed(0));
+		assertFalse(storage.isIndexed(1));
+
+		Atom query = Atoms.newBasicAtom(Predicates.getPredicate("q", 2), Terms.newVariable("X"), b);
+		assertEquals(2, storage.getInstancesFromPartiallyGroundAtom(query).size());
+		assertFalse(storage.isIndexed(0));
+		assertTrue(storage.isIndexed(1));
+		assertEquals(1, storage.getIndexHits(1));
+
+		// Index was used since the last check, hence it is kept.
+		assertEquals(0, storage.dropUnusedIndices());
+		assertTrue(storage.isIndexed(1));
+		assertEquals(0, storage.getIndexHits(1));
+		// No lookups since the last check, hence the index is dropped.
+		assertEquals(1, storage.dropUnusedIndices());
+		assertFalse(storage.isIndexed(1));
+
+		// The index is rebuilt including instances added in the meantime.
+		storage.addInstance(new Instance(a, a));
+		assertEquals(1, storage.getInstancesMatchingAtPosition(a, 1).size());
+		assertTrue(storage.isIndexed(1));
+	}
+
+	@Test
+	public void removeInstancesFromSharedBucketWhileRecentlyAddedArePending() {
+		IndexedInstanceStorage storage = new IndexedInstanceStorage(Predicates.getPredicate("r", 2), true);
+		ConstantTerm<String> hot = Terms.newConstant("hot");
+		storage.addIndexPosition(0);
+		storage.addCompositeIndex(0, 1);
+		for (int i = 0; i < 100; i++) {
+			storage.addInstance(new Instance(hot, Terms.newConstant(i)));
+		}
+		storage.markRecentlyAddedInstancesDone();
+		for (int i = 100; i < 110; i++) {
+			storage.addInstance(new Instance(hot, Terms.newConstant(i)));
+		}
+
+		// Remove instances from the middle, the end, and the recently added ones.
+		for (int i = 0; i < 110; i += 3) {
+			storage.removeInstance(new Instance(hot, Terms.newConstant(i)));
+		}
+		List<Instance> remaining = storage.getInstancesMatchingAtPosition(hot, 0);
+		assertEquals(73, remaining.size());
+		for (int i = 0; i < 110; i++) {
+			Instance instance = new Instance(hot, Terms.newConstant(i));
+			assertEquals(i % 3 != 0, remaining.contains(instance));
+			assertEquals(i % 3 != 0, storage.containsInstance(instance));
+			Atom query = Atoms.newBasicAtom(Predicates.getPredicate("r", 2), hot, Terms.newConstant(i));
+			assertEquals(i % 3 != 0 ? 1 : 0, storage.getInstancesFromPartiallyGroundAtom(query).size());
+		}
+		assertEquals(7, storage.getRecentlyAddedInstances().size());
+		for (Instance recent : storage.getRecentlyAddedInstances()) {
+			assertTrue(storage.containsInstance(recent));
+		}
+	}
+
+	@Test
+	public void removeFromMiddleOfBucketMovesLastInstanceIntoItsPlace() {
+		IndexedInstanceStorage storage = new IndexedInstanceStorage(Predicates.getPredicate("s", 2), true);
+		ConstantTerm<String> hot = Terms.newConstant("hot");
+		storage.addIndexPosition(0);
+		storage.addCompositeIndex(0, 1);
+		Instance[] instances = new Instance[5];
+		for (int i = 0; i < instances.length; i++) {
+			instances[i] = new Instance(hot, Terms.newConstant(i));
+			storage.addInstance(instances[i]);
+		}
+
+		storage.removeInstance(instances[1]);
+		assertEquals(Arrays.asList(instances[0], instances[4], instances[2], instances[3]), storage.getInstancesMatchingAtPosition(hot, 0));
+		assertEquals(Arrays.asList(instances[0], instances[4], instances[2], instances[3]), storage.getRecentlyAddedInstances());
+
+		// The moved instance must be found at its new offset when removing it.
+		storage.removeInstance(instances[4]);
+		assertEquals(Arrays.asList(instances[0], instances[3], instances[2]), storage.getInstancesMatchingAtPosition(hot, 0));
+		storage.removeInstance(instances[3]);
+		assertEquals(Arrays.asList(instances[0], instances[2]), storage.getInstancesMatchingAtPosition(hot, 0));
+		assertEquals(Arrays.asList(instances[0], instances[2]), storage.getRecentlyAddedInstances());
+		assertEquals(new HashSet<>(Arrays.asList(instances[0], instances[2])), storage.getAllInstances());
+		for (int i = 0; i < instances.length; i++) {
+			Atom query = Atoms.newBasicAtom(Predicates.getPredicate("s", 2), hot, Terms.newConstant(i));
+			assertEquals(i == 0 || i == 2 ? Collections.singletonList(instances[i]) : Collections.emptyList(),
+					new ArrayList<>(storage.getInstancesFromPartiallyGroundAtom(query)));
+		}
+
+		storage.removeInstance(instances[0]);
+		storage.removeInstance(instances[2]);
+		assertTrue(storage.getInstancesMatchingAtPosition(hot, 0).isEmpty());
+		assertTrue(storage.getAllInstances().isEmpty());
+	}
+
+	@Test
+	public void nonGroundLookupIsBoundedByInstancesAtLookupTime() {
+		IndexedInstanceStorage storage = new IndexedInstanceStorage(Predicates.getPredicate("u", 1), true);
+		for (int i = 0; i < 10; i++) {
+			storage.addInstance(new Instance(Terms.newConstant(i)));
+		}
+		Atom query = Atoms.newBasicAtom(Predicates.getPredicate("u", 1), Terms.newVariable("X"));
+		Collection<Instance> candidates = storage.getInstancesFromPartiallyGroundAtom(query);
+		assertEquals(10, candidates.size());
+
+		// Instances added while iterating are neither visited nor change the candidates.
+		int visited = 0;
+		for (Instance candidate : candidates) {
+			storage.addInstance(new Instance(Terms.newConstant(10 + visited++)));
+			assertTrue(storage.containsInstance(candidate));
+		}
+		assertEquals(10, visited);
+		assertEquals(10, candidates.size());
+		assertFalse(candidates.contains(new Instance(Terms.newConstant(10))));
+		assertEquals(20, storage.getInstancesFromPartiallyGroundAtom(query).size());
+	}
+
+	@Test
+	public void groundLookupIsBoundedByInstancesAtLookupTime() {
+		IndexedInstanceStorage storage = new IndexedInstanceStorage(Predicates.getPredicate("v", 3), true);
+		ConstantTerm<String> a = Terms.newConstant("a");
+		storage.addCompositeIndex(0, 1);
+		for (int i = 0; i < 5; i++) {
+			storage.addInstance(new Instance(a, a, Terms.newConstant(i)));
+		}
+		Atom singlePositionQuery = Atoms.newBasicAtom(Predicates.getPredicate("v", 3), a, Terms.newVariable("X"), Terms.newVariable("Y"));
+		Atom compositeQuery = Atoms.newBasicAtom(Predicates.getPredicate("v", 3), a, a, Terms.newVariable("Y"));
+		for (Atom query : Arrays.asList(singlePositionQuery, compositeQuery)) {
+			Collection<Instance> candidates = storage.getInstancesFromPartiallyGroundAtom(query);
+			int sizeBefore = candidates.size();
+
+			// Instances added to the same bucket while iterating are neither visited nor change the candidates.
+			int visited = 0;
+			for (Instance candidate : candidates) {
+				storage.addInstance(new Instance(a, a, Terms.newConstant(100 * sizeBefore + visited++)));
+				assertTrue(storage.containsInstance(candidate));
+			}
+			assertEquals(sizeBefore, visited);
+			assertEquals(sizeBefore, candidates.size());
+			assertEquals(2 * sizeBefore, storage.getInstancesFromPartiallyGroundAtom(query).size());
+		}
+	}
+
+	@Test
+	public void positionLookupIsBoundedByInstancesAtLookupTime() {
+		IndexedInstanceStorage storage = new IndexedInstanceStorage(Predicates.getPredicate("v", 2), true);
+		ConstantTerm<String> a = Terms.newConstant("a");
+		for (int i = 0; i < 5; i++) {
+			storage.addInstance(new Instance(a, Terms.newConstant(i)));
+		}
+		List<Instance> matching = storage.getInstancesMatchingAtPosition(a, 0);
+
+		// Instances added to the same bucket while iterating are neither visited nor change the result.
+		int visited = 0;
+		for (Instance instance : matching) {
+			storage.addInstance(new Instance(a, Terms.newConstant(100 + visited++)));
+			assertTrue(storage.containsInstance(instance));
+		}
+		assertEquals(5, visited);
+		assertEquals(5, matching.size());
+		assertEquals(10, storage.getInstancesMatchingAtPosition(a, 0).size());
+	}
+
+	@Test
+	public void coveringCompositeIndexIsUsedWithoutSinglePositionIndices() {
+		Predicate w = Predicates.getPredicate("w", 3);
+		for (InstanceStorage storage : Arrays.asList(new IndexedInstanceStorage(w, true), new ColumnarInstanceStorage(w, true))) {
+			storage.addCompositeIndex(0, 1);
+			for (int i = 0; i < 10; i++) {
+				storage.addInstance(new Instance(Terms.newConstant(i % 2), Terms.newConstant(i % 5), Terms.newConstant(i)));
+			}
+			Atom query = Atoms.newBasicAtom(w, Terms.newConstant(1), Terms.newConstant(3), Terms.newVariable("X"));
+			assertEquals(Collections.singletonList(new Instance(Terms.newConstant(1), Terms.newConstant(3), Terms.newConstant(3))),
+					new ArrayList<>(storage.getInstancesFromPartiallyGroundAtom(query)));
+			for (int position = 0; position < 3; position++) {
+				assertFalse(storage.isIndexed(position));
+				assertEquals(0, storage.getIndexHits(position));
+			}
+		}
+	}
+
 }
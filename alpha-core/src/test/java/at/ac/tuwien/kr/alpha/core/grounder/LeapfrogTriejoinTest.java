@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.grounder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class LeapfrogTriejoinTest {
+
+	private static int[][] randomEdges(Random random, int numEdges, int numNodes) {
+		int[][] edges = new int[numEdges][];
+		for (int i = 0; i < numEdges; i++) {
+			edges[i] = new int[] {random.nextInt(numNodes), random.nextInt(numNodes)};
+		}
+		return edges;
+	}
+
+	private static int[][] copy(int[][] tuples) {
+		int[][] copy = new int[tuples.length][];
+		for (int i = 0; i < tuples.length; i++) {
+			copy[i] = tuples[i].clone();
+		}
+		return copy;
+	}
+
+	@Test
+	public void triangleJoinMatchesNestedLoops() {
+		int[][] edges = randomEdges(new Random(42), 400, 40);
+		Set<List<Integer>> edgeSet = new HashSet<>();
+		for (int[] edge : edges) {
+			edgeSet.add(Arrays.asList(edge[0], edge[1]));
+		}
+		Set<List<Integer>> expected = new HashSet<>();
+		for (List<Integer> xy : edgeSet) {
+			for (List<Integer> yz : edgeSet) {
+				if (xy.get(1).equals(yz.get(0)) && edgeSet.contains(Arrays.asList(yz.get(1), xy.get(0)))) {
+					expected.add(Arrays.asList(xy.get(0), xy.get(1), yz.get(1)));
+				}
+			}
+		}
+
+		// Variables X = 0, Y = 1, Z = 2 for the join of edge(X, Y), edge(Y, Z), edge(Z, X).
+		List<LeapfrogTriejoin.Relation> relations = new ArrayList<>();
+		relations.add(new LeapfrogTriejoin.Relation(new int[] {0, 1}, copy(edges)));
+		relations.add(new LeapfrogTriejoin.Relation(new int[] {1, 2}, copy(edges)));
+		int[][] reversedEdges = new int[edges.length][];
+		for (int i = 0; i < edges.length; i++) {
+			reversedEdges[i] = new int[] {edges[i][1], edges[i][0]};
+		}
+		relations.add(new LeapfrogTriejoin.Relation(new int[] {0, 2}, reversedEdges));
+
+		List<List<Integer>> actual = new ArrayList<>();
+		new LeapfrogTriejoin(3, relations).join(binding -> actual.add(Arrays.asList(binding[0], binding[1], binding[2])));
+		assertEquals(expected, new HashSet<>(actual));
+		assertEquals(expected.size(), actual.size());
+	}
+
+	@Test
+	public void emptyRelationYieldsNoBindings() {
+		List<LeapfrogTriejoin.Relation> relations = new ArrayList<>();
+		relations.add(new LeapfrogTriejoin.Relation(new int[] {0}, new int[][] {{1}, {2}}));
+		relations.add(new LeapfrogTriejoin.Relation(new int[] {0, 1}, new int[0][]));
+		List<int[]> actual = new ArrayList<>();
+		new LeapfrogTriejoin(2, relations).join(binding -> actual.add(binding.clone()));
+		assertEquals(0, actual.size());
+	}
+
+	@Test
+	public void relationsAreDeduplicated() {
+		LeapfrogTriejoin.Relation relation = new LeapfrogTriejoin.Relation(new int[] {0, 1}, new int[][] {{2, 1}, {1, 3}, {2, 1}, {1, 3}});
+		assertEquals(2, relation.size());
+		assertThrows(IllegalArgumentException.class, () -> new LeapfrogTriejoin.Relation(new int[] {1, 0}, new int[0][]));
+	}
+
+}
@@ -30,6 +30,8 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -40,13 +42,18 @@
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import at.ac.tuwien.kr.alpha.api.AnswerSet;
 import at.ac.tuwien.kr.alpha.api.config.GrounderHeuristicsConfiguration;
 import at.ac.tuwien.kr.alpha.api.config.SystemConfig;
 import at.ac.tuwien.kr.alpha.api.grounder.Substitution;
 import at.ac.tuwien.kr.alpha.api.programs.ASPCore2Program;
 import at.ac.tuwien.kr.alpha.api.programs.NormalProgram;
 import at.ac.tuwien.kr.alpha.api.programs.ProgramParser;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
 import at.ac.tuwien.kr.alpha.api.programs.literals.Literal;
+import at.ac.tuwien.kr.alpha.commons.Predicates;
+import at.ac.tuwien.kr.alpha.commons.programs.atoms.Atoms;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.TermDictionary;
 import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
 import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
 import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
@@ -54,13 +61,16 @@
 import at.ac.tuwien.kr.alpha.core.common.AtomStore;
 import at.ac.tuwien.kr.alpha.core.common.AtomStoreImpl;
 import at.ac.tuwien.kr.alpha.core.common.NoGood;
+import at.ac.tuwien.kr.alpha.core.common.NoGoodBuilder;
 import at.ac.tuwien.kr.alpha.core.grounder.instantiation.BindingResult;
 import at.ac.tuwien.kr.alpha.core.parser.ProgramParserImpl;
 import at.ac.tuwien.kr.alpha.core.parser.ProgramPartParser;
 import at.ac.tuwien.kr.alpha.core.programs.AnalyzedProgram;
 import at.ac.tuwien.kr.alpha.core.programs.CompiledProgram;
 import at.ac.tuwien.kr.alpha.core.programs.InternalProgram;
+import at.ac.tuwien.kr.alpha.core.programs.atoms.ChoiceAtom;
 import at.ac.tuwien.kr.alpha.core.programs.atoms.Literals;
+import at.ac.tuwien.kr.alpha.core.programs.atoms.RuleAtom;
 import at.ac.tuwien.kr.alpha.core.programs.rules.CompiledRule;
 import at.ac.tuwien.kr.alpha.core.programs.rules.InternalRule;
 import at.ac.tuwien.kr.alpha.core.programs.transformation.NormalizeProgramTransformation;
@@ -157,7 +167,104 @@ public void groundConstraintAlreadyGround() {
 		Grounder grounder = GrounderFactory.getInstance("naive", prog, atomStore, true);
 		Map<Integer, NoGood> noGoods = grounder.getNoGoods(new TrailAssignment(atomStore));
 		int litB = Literals.atomToLiteral(atomStore.get(PROGRAM_PART_PARSER.parseBasicAtom("b")));
-		assertTrue(noGoods.containsValue(NoGood.fromConstraint(Collections.singletonList(litB), Collections.emptyList())));
+		NoGoodBuilder constraint = new NoGoodBuilder();
+		constraint.addPositive(litB);
+		assertTrue(noGoods.containsValue(NoGood.fromConstraint(constraint)));
+	}
+
+	/**
+	 * Asserts that passing assigned rule atoms to the grounder does not register any terms in the term dictionary.
+	 */
+	@Test
+	public void assignedRuleAtomsDoNotGrowTermDictionary() {
+		ASPCore2Program program = PROGRAM_PARSER.parse("p(1). p(2). p(3). "
+				+ "q(X) :- p(X), not r(X). "
+				+ "r(X) :- p(X), not q(X).");
+		NormalProgram normal = NORMALIZE_TRANSFORM.apply(program);
+		CompiledProgram prog = new StratifiedEvaluation().apply(AnalyzedProgram.analyzeNormalProgram(normal));
+
+		AtomStore atomStore = new AtomStoreImpl();
+		NaiveGrounder grounder = (NaiveGrounder) GrounderFactory.getInstance("naive", prog, atomStore, true);
+		grounder.getNoGoods(new TrailAssignment(atomStore));
+		List<Integer> ruleAtomIds = new ArrayList<>();
+		for (int atomId = 1; atomId <= atomStore.getMaxAtomId(); atomId++) {
+			if (atomStore.get(atomId) instanceof RuleAtom) {
+				ruleAtomIds.add(atomId);
+			}
+		}
+		assertEquals(6, ruleAtomIds.size());
+
+		int dictionarySize = TermDictionary.size();
+		addAtomsToWorkingMemoryWithoutChangingTheAssignment(atomStore, grounder, ruleAtomIds.stream().mapToInt(Integer::intValue).toArray());
+		assertEquals(dictionarySize, TermDictionary.size());
+	}
+
+	/**
+	 * Asserts that facts containing terms not encoded in the {@link TermDictionary}, i.e., quoted strings and Java objects,
+	 * can be grounded with columnar fact storage enabled.
+	 */
+	@Test
+	public void columnarFactStorageAcceptsUnencodedFacts() {
+		InternalProgram parsed = InternalProgram.fromNormalProgram(NORMALIZE_TRANSFORM.apply(PROGRAM_PARSER.parse("p(\"foo\"). p(bar). r(1). "
+				+ "s(X) :- p(X), r(1).")));
+		Atom objectFact = Atoms.newBasicAtom(Predicates.getPredicate("q", 1), Terms.newConstant(new BigInteger("12345678901234567890")));
+		List<Atom> facts = new ArrayList<>(parsed.getFacts());
+		facts.add(objectFact);
+		CompiledProgram program = new InternalProgram(parsed.getRules(), facts);
+
+		GrounderHeuristicsConfiguration heuristicsConfiguration = new GrounderHeuristicsConfiguration();
+		heuristicsConfiguration.setColumnarFactStorage(true);
+		AtomStore atomStore = new AtomStoreImpl();
+		Grounder grounder = GrounderFactory.getInstance("naive", program, atomStore, p -> true, heuristicsConfiguration, true);
+		grounder.getNoGoods(new TrailAssignment(atomStore));
+
+		AnswerSet answerSet = grounder.assignmentToAnswerSet(Collections.emptyList());
+		assertTrue(answerSet.getPredicateInstances(Predicates.getPredicate("p", 1)).contains(
+				Atoms.newBasicAtom(Predicates.getPredicate("p", 1), Terms.newConstant("foo"))));
+		assertTrue(answerSet.getPredicateInstances(Predicates.getPredicate("q", 1)).contains(objectFact));
+		assertEquals(1, answerSet.getPredicateInstances(Predicates.getPredicate("r", 1)).size());
+	}
+
+	/**
+	 * Asserts that instantiating rules from many starting instances in parallel yields the same atoms and nogoods (with
+	 * the same ids) as sequential grounding.
+	 */
+	@Test
+	public void parallelInstantiationYieldsSameNoGoodsAsSequential() {
+		StringBuilder aspStr = new StringBuilder();
+		for (int i = 1; i <= 4 * NaiveGrounder.MIN_INSTANCES_PER_TASK; i++) {
+			aspStr.append("a(").append(i).append("). b(").append(i).append(",").append(i + 1).append("). ");
+		}
+		aspStr.append("c(X) :- a(X), not d(X). "
+				+ "d(X) :- a(X), not c(X). "
+				+ "e(X,Y) :- a(X), b(X,Y), not c(Y). "
+				+ "f(X) :- a(X), c(X), d(X). "
+				+ ":- a(X), b(X,Y), e(Y,X).");
+		CompiledProgram program = InternalProgram.fromNormalProgram(NORMALIZE_TRANSFORM.apply(PROGRAM_PARSER.parse(aspStr.toString())));
+
+		AtomStore sequentialAtomStore = new AtomStoreImpl();
+		Map<Integer, NoGood> sequentialNoGoods = GrounderFactory.getInstance("naive", program, sequentialAtomStore, p -> true,
+				new GrounderHeuristicsConfiguration(), true).getNoGoods(new TrailAssignment(sequentialAtomStore));
+
+		GrounderHeuristicsConfiguration parallelConfiguration = new GrounderHeuristicsConfiguration();
+		parallelConfiguration.setParallelInstantiation(true);
+		AtomStore parallelAtomStore = new AtomStoreImpl();
+		Map<Integer, NoGood> parallelNoGoods = GrounderFactory.getInstance("naive", program, parallelAtomStore, p -> true,
+				parallelConfiguration, true).getNoGoods(new TrailAssignment(parallelAtomStore));
+
+		assertTrue(sequentialNoGoods.size() > 4 * NaiveGrounder.MIN_INSTANCES_PER_TASK);
+		assertEquals(sequentialNoGoods, parallelNoGoods);
+		assertEquals(sequentialAtomStore.getMaxAtomId(), parallelAtomStore.getMaxAtomId());
+		for (int atom = 1; atom <= sequentialAtomStore.getMaxAtomId(); atom++) {
+			Atom sequentialAtom = sequentialAtomStore.get(atom);
+			Atom parallelAtom = parallelAtomStore.get(atom);
+			if (sequentialAtom instanceof ChoiceAtom) {
+				// Choice atoms are numbered across grounders.
+				assertEquals(sequentialAtom.getPredicate(), parallelAtom.getPredicate());
+			} else {
+				assertEquals(sequentialAtom, parallelAtom);
+			}
+		}
 	}
 
 	@Test
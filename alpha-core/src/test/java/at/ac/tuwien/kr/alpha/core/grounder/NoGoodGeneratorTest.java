@@ -26,8 +26,7 @@
 package at.ac.tuwien.kr.alpha.core.grounder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-
-import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -42,12 +41,12 @@
 import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
 import at.ac.tuwien.kr.alpha.core.common.AtomStore;
 import at.ac.tuwien.kr.alpha.core.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.core.common.NoGoodBuilder;
 import at.ac.tuwien.kr.alpha.core.parser.ProgramParserImpl;
 import at.ac.tuwien.kr.alpha.core.programs.CompiledProgram;
 import at.ac.tuwien.kr.alpha.core.programs.InternalProgram;
 import at.ac.tuwien.kr.alpha.core.programs.atoms.Literals;
 import at.ac.tuwien.kr.alpha.core.programs.rules.CompiledRule;
-import at.ac.tuwien.kr.alpha.core.programs.rules.InternalRule;
 import at.ac.tuwien.kr.alpha.core.programs.transformation.NormalizeProgramTransformation;
 
 /**
@@ -66,7 +65,7 @@ public class NoGoodGeneratorTest {
 	private static final VariableTerm Y = Terms.newVariable("Y");
 
 	/**
-	 * Calls {@link NoGoodGenerator#collectNegLiterals(InternalRule, Substitution)}, which puts the atom occurring
+	 * Calls {@link NoGoodGenerator#collectNegLiterals(CompiledRule, Substitution, NoGoodBuilder)}, which puts the atom occurring
 	 * negatively in a rule into the atom store. It is then checked whether the atom in the atom store is positive.
 	 */
 	@Test
@@ -84,9 +83,10 @@ public void collectNeg_ContainsOnlyPositiveLiterals() {
 		Substitution substitution = new BasicSubstitution();
 		substitution.put(X, A);
 		substitution.put(Y, B);
-		List<Integer> collectedNeg = noGoodGenerator.collectNegLiterals(rule, substitution);
-		assertEquals(1, collectedNeg.size());
-		String negAtomString = atomStore.atomToString(Literals.atomOf(collectedNeg.get(0)));
+		NoGoodBuilder collected = new NoGoodBuilder();
+		assertTrue(noGoodGenerator.collectNegLiterals(rule, substitution, collected));
+		assertEquals(1, collected.getNumberOfNegativeLiterals());
+		String negAtomString = atomStore.atomToString(Literals.atomOf(collected.getNegativeLiteral(0)));
 		assertEquals("q(a, b)", negAtomString);
 	}
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.grounder;
+
+import static at.ac.tuwien.kr.alpha.core.common.NoGoodTest.fromOldLiterals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import at.ac.tuwien.kr.alpha.core.common.NoGood;
+
+public class NogoodRegistryTest {
+
+	@Test
+	public void duplicatesAreRegisteredOnce() {
+		NogoodRegistry registry = new NogoodRegistry();
+		Map<Integer, NoGood> difference = new LinkedHashMap<>();
+		registry.register(Arrays.asList(new NoGood(fromOldLiterals(1, -2)), new NoGood(fromOldLiterals(-2, 1)), NoGood.headFirst(fromOldLiterals(-1, 2))), difference);
+		assertEquals(2, difference.size());
+		Map<Integer, NoGood> secondDifference = new LinkedHashMap<>();
+		registry.register(Arrays.asList(new NoGood(fromOldLiterals(1, -2)), new NoGood(fromOldLiterals(1, 2, 3))), secondDifference);
+		assertEquals(1, secondDifference.size());
+		assertEquals(new NoGood(fromOldLiterals(1, 2, 3)), secondDifference.values().iterator().next());
+		assertEquals(3, registry.getNumberOfRegisteredNoGoods());
+	}
+
+	@Test
+	public void headDistinguishesNoGoods() {
+		NogoodRegistry registry = new NogoodRegistry();
+		Map<Integer, NoGood> difference = new LinkedHashMap<>();
+		registry.register(Arrays.asList(NoGood.headFirst(fromOldLiterals(-3, 4)), new NoGood(fromOldLiterals(3, 4)), new NoGood(fromOldLiterals(-3, 4))), difference);
+		assertEquals(3, difference.size());
+	}
+
+	@Test
+	public void registerReturnsIdOfKnownNoGood() {
+		NogoodRegistry registry = new NogoodRegistry();
+		Map<Integer, NoGood> difference = new LinkedHashMap<>();
+		registry.register(Arrays.asList(new NoGood(fromOldLiterals(1, -2))), difference);
+		int id = difference.keySet().iterator().next();
+		assertEquals(id, registry.register(new NoGood(fromOldLiterals(-2, 1))));
+		int learnedId = registry.register(NoGood.learnt(fromOldLiterals(3, 4)));
+		assertNotEquals(id, learnedId);
+		// NoGoods registered by the solver are not remembered.
+		assertNotEquals(learnedId, registry.register(NoGood.learnt(fromOldLiterals(3, 4))));
+		assertEquals(1, registry.getNumberOfRegisteredNoGoods());
+	}
+
+	@Test
+	public void manyNoGoodsSurviveGrowth() {
+		NogoodRegistry registry = new NogoodRegistry();
+		List<NoGood> noGoods = new ArrayList<>();
+		for (int i = 1; i <= 5000; i++) {
+			noGoods.add(new NoGood(fromOldLiterals(i, -(i + 1))));
+		}
+		Map<Integer, NoGood> difference = new LinkedHashMap<>();
+		registry.register(noGoods, difference);
+		assertEquals(5000, difference.size());
+		for (Map.Entry<Integer, NoGood> entry : difference.entrySet()) {
+			assertEquals((int) entry.getKey(), registry.register(entry.getValue()));
+		}
+		assertTrue(registry.getMemoryUsage() > 0);
+	}
+
+	@Test
+	public void idsAreScopedToRegistry() {
+		NogoodRegistry first = new NogoodRegistry();
+		NogoodRegistry second = new NogoodRegistry();
+		Map<Integer, NoGood> firstDifference = new LinkedHashMap<>();
+		Map<Integer, NoGood> secondDifference = new LinkedHashMap<>();
+		first.register(Arrays.asList(new NoGood(fromOldLiterals(1, 2))), firstDifference);
+		second.register(Arrays.asList(new NoGood(fromOldLiterals(3, 4))), secondDifference);
+		assertEquals(firstDifference.keySet(), secondDifference.keySet());
+	}
+
+}
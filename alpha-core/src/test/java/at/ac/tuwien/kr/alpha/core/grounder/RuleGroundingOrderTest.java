@@ -28,10 +28,14 @@
 package at.ac.tuwien.kr.alpha.core.grounder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -39,6 +43,7 @@
 import at.ac.tuwien.kr.alpha.api.config.SystemConfig;
 import at.ac.tuwien.kr.alpha.api.programs.ProgramParser;
 import at.ac.tuwien.kr.alpha.api.programs.literals.Literal;
+import at.ac.tuwien.kr.alpha.commons.Predicates;
 import at.ac.tuwien.kr.alpha.core.parser.ProgramParserImpl;
 import at.ac.tuwien.kr.alpha.core.parser.ProgramPartParser;
 import at.ac.tuwien.kr.alpha.core.programs.CompiledProgram;
@@ -82,6 +87,17 @@ public void groundingOrder() {
 		assertTrue(rgo2.hasFixedInstantiation());
 	}
 
+	@Test
+	public void boundPositionPatterns() {
+		String aspStr = "triangle(X,Y,Z) :- e(X,Y), e(Y,Z), e(X,Z).";
+		CompiledProgram prog = PARSE_AND_PREPROCESS.apply(aspStr);
+		RuleGroundingInfo rgo0 = computeGroundingOrdersForRule(prog, 0);
+		Set<List<Integer>> patterns = rgo0.getBoundPositionPatterns().get(Predicates.getPredicate("e", 2));
+		// Whichever edge starts grounding, the last edge to be joined has both of its positions bound.
+		assertEquals(1, patterns.size());
+		assertTrue(patterns.contains(Arrays.asList(0, 1)));
+	}
+
 	@Test
 	public void groundingOrderUnsafe() {
 		assertThrows(RuntimeException.class, () -> {
@@ -157,6 +173,30 @@ public void testPositionFromWhichAllVarsAreBound_joinedNonGround() {
 		assertTrue(1 <= rgo0.orderStartingFrom(litDXZ).getPositionFromWhichAllVarsAreBound());
 	}
 
+	@Test
+	public void groundingOrderAdaptsToObservedSelectivity() {
+		String aspStr = "a(X) :- b(X), c(X), d(X), not e(X).";
+		CompiledProgram internalPrg = PARSE_AND_PREPROCESS.apply(aspStr);
+		RuleGroundingInfo rgo0 = computeGroundingOrdersForRule(internalPrg, 0);
+		final Literal litBX = PROGRAM_PART_PARSER.parseLiteral("b(X)");
+		RuleGroundingOrder order = rgo0.orderStartingFrom(litBX);
+		assertEquals("b(X) : | c(X), d(X), not e(X)", order.toString());
+		Literal litCX = order.getLiteralAtOrderPosition(0);
+		Literal litDX = order.getLiteralAtOrderPosition(1);
+
+		// Few observations do not cause a reordering.
+		rgo0.updateLiteralSelectivity(litCX, 10, 10);
+		rgo0.updateLiteralSelectivity(litDX, 10, 0);
+		assertFalse(rgo0.updateGroundingOrders());
+
+		// Once d(X) has been observed to be much more selective than c(X), it is joined first.
+		rgo0.updateLiteralSelectivity(litCX, 2000, 2000);
+		rgo0.updateLiteralSelectivity(litDX, 2000, 20);
+		assertTrue(rgo0.updateGroundingOrders());
+		assertEquals("b(X) : | d(X), c(X), not e(X)", rgo0.orderStartingFrom(litBX).toString());
+		assertFalse(rgo0.updateGroundingOrders());
+	}
+
 	private RuleGroundingInfo computeGroundingOrdersForRule(CompiledProgram program, int ruleIndex) {
 		CompiledRule rule = program.getRules().get(ruleIndex);
 		RuleGroundingInfo rgo = new RuleGroundingInfoImpl(rule);
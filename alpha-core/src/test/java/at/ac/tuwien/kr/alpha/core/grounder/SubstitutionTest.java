@@ -28,6 +28,9 @@
 package at.ac.tuwien.kr.alpha.core.grounder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 
@@ -51,6 +54,8 @@
 import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
 import at.ac.tuwien.kr.alpha.commons.substitutions.BasicSubstitution;
 import at.ac.tuwien.kr.alpha.commons.substitutions.Instance;
+import at.ac.tuwien.kr.alpha.commons.substitutions.SlotSubstitution;
+import at.ac.tuwien.kr.alpha.commons.substitutions.VariableNumbering;
 import at.ac.tuwien.kr.alpha.core.parser.ProgramParserImpl;
 import at.ac.tuwien.kr.alpha.core.programs.rules.CompiledRule;
 import at.ac.tuwien.kr.alpha.core.programs.rules.InternalRule;
@@ -163,4 +168,41 @@ private void groundLiteralToString(boolean negated) {
 		String printedString = SubstitutionTestUtil.groundLiteralToString(atom.toLiteral(!negated), substitution, true);
 		assertEquals((negated ? "not " : "") + "p(a, b)", printedString);
 	}
+
+	@Test
+	public void slotSubstitutionSpecializesInPlaceAndUndoes() {
+		VariableNumbering numbering = new VariableNumbering(Arrays.asList(Y, X));
+		BasicAtom qXY = Atoms.newBasicAtom(Predicates.getPredicate("q", 2), X, Y);
+		SlotSubstitution substitution = new SlotSubstitution(numbering);
+		substitution.put(X, A);
+
+		int mark = substitution.mark();
+		assertFalse(substitution.specialize(qXY, new Instance(B, C)));
+		assertEquals(mark, substitution.mark());
+		assertNull(substitution.eval(Y));
+
+		assertTrue(substitution.specialize(qXY, new Instance(A, C)));
+		assertEquals(C, substitution.eval(Y));
+		SlotSubstitution copy = substitution.copy();
+		substitution.undo(mark);
+		assertNull(substitution.eval(Y));
+		assertEquals(A, substitution.eval(X));
+		assertEquals(C, copy.eval(Y));
+		assertEquals("{X->a,Y->c}", copy.toString());
+	}
+
+	@Test
+	public void slotSubstitutionEqualsBasicSubstitution() {
+		SlotSubstitution slotSubstitution = new SlotSubstitution(new VariableNumbering(Arrays.asList(X, Y)));
+		slotSubstitution.put(X, A);
+		slotSubstitution.put(Y, B);
+		Substitution basicSubstitution = new BasicSubstitution();
+		basicSubstitution.put(Y, B);
+		basicSubstitution.put(X, A);
+
+		assertEquals(basicSubstitution, slotSubstitution);
+		assertEquals(slotSubstitution, basicSubstitution);
+		assertEquals(basicSubstitution.hashCode(), slotSubstitution.hashCode());
+		assertEquals(basicSubstitution.getSubstitution(), slotSubstitution.getSubstitution());
+	}
 }
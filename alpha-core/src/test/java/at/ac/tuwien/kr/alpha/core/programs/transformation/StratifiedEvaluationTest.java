@@ -32,9 +32,11 @@
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
@@ -44,6 +46,7 @@
 import at.ac.tuwien.kr.alpha.api.common.fixedinterpretations.PredicateInterpretation;
 import at.ac.tuwien.kr.alpha.api.config.SystemConfig;
 import at.ac.tuwien.kr.alpha.api.programs.ASPCore2Program;
+import at.ac.tuwien.kr.alpha.api.programs.NormalProgram;
 import at.ac.tuwien.kr.alpha.api.programs.Predicate;
 import at.ac.tuwien.kr.alpha.api.programs.ProgramParser;
 import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
@@ -255,4 +258,54 @@ public void testRecursiveRanking() {
 		assertTrue(evaluatedFacts.contains(rank3));
 	}
 
+	@Test
+	public void triejoinDerivesSameFactsAsGroundingOrders() {
+		//@formatter:off
+		String asp = "edge(1, 2). edge(2, 3). edge(3, 1). edge(3, 4). edge(4, 2). edge(4, 4). edge(2, 1). marked(3).\n"
+				+ "triangle(X, Y, Z) :- edge(X, Y), edge(Y, Z), edge(Z, X), X < Y, X < Z.\n"
+				+ "loop(X) :- edge(X, X).\n"
+				+ "reach(X, Y) :- edge(X, Y).\n"
+				+ "reach(X, Z) :- reach(X, Y), edge(Y, Z), not loop(Y).\n"
+				+ "fromMarked(Y) :- reach(3, Y), marked(3), edge(Y, _).\n"
+				+ "mutual(X, Y) :- reach(X, Y), reach(Y, X), X != Y.";
+		//@formatter:on
+		NormalProgram normalProgram = normalizer.apply(parser.parse(asp));
+		CompiledProgram evaluated = new StratifiedEvaluation().apply(AnalyzedProgram.analyzeNormalProgram(normalProgram));
+		CompiledProgram triejoinEvaluated = new StratifiedEvaluation(true).apply(AnalyzedProgram.analyzeNormalProgram(normalProgram));
+		assertEquals(new HashSet<>(evaluated.getFacts()), new HashSet<>(triejoinEvaluated.getFacts()));
+		assertEquals(2, evaluated.getFactsByPredicate().get(Predicates.getPredicate("triangle", 3)).size());
+		assertTrue(evaluated.getFacts().contains(Atoms.newBasicAtom(Predicates.getPredicate("mutual", 2), Terms.newConstant(1), Terms.newConstant(3))));
+	}
+
+	@Test
+	public void parallelEvaluationDerivesSameFactsInSameOrder() {
+		//@formatter:off
+		String asp = "edge(1, 2). edge(2, 3). edge(3, 4). edge(4, 1). edge(4, 5). node(1..5). color(red). color(green).\n"
+				+ "reach(X, Y) :- edge(X, Y).\n"
+				+ "reach(X, Z) :- reach(X, Y), edge(Y, Z).\n"
+				+ "colored(N, C) :- node(N), color(C).\n"
+				+ "sink(N) :- node(N), not hasSucc(N).\n"
+				+ "hasSucc(N) :- edge(N, _).\n"
+				+ "reachesSink(X) :- reach(X, Y), sink(Y).\n"
+				+ "pair(X, C) :- reachesSink(X), colored(X, C).\n"
+				+ "acyclic(N) :- node(N), not reach(N, N).";
+		//@formatter:on
+		NormalProgram normalProgram = normalizer.apply(parser.parse(asp));
+		CompiledProgram evaluated = new StratifiedEvaluation().apply(AnalyzedProgram.analyzeNormalProgram(normalProgram));
+		// Fix the parallelism, independent components would be evaluated sequentially on a single processor otherwise.
+		ForkJoinPool evaluationPool = new ForkJoinPool(4);
+		CompiledProgram parallelEvaluated;
+		try {
+			parallelEvaluated = new StratifiedEvaluation(false, evaluationPool).apply(AnalyzedProgram.analyzeNormalProgram(normalProgram));
+			// Independent components were evaluated in the pool.
+			assertTrue(evaluationPool.getPoolSize() > 0);
+		} finally {
+			evaluationPool.shutdown();
+		}
+		assertEquals(evaluated.getFacts(), parallelEvaluated.getFacts());
+		assertEquals(evaluated.getRules().size(), parallelEvaluated.getRules().size());
+		assertEquals(8, parallelEvaluated.getFactsByPredicate().get(Predicates.getPredicate("pair", 2)).size());
+		assertEquals(1, parallelEvaluated.getFactsByPredicate().get(Predicates.getPredicate("acyclic", 1)).size());
+	}
+
 }
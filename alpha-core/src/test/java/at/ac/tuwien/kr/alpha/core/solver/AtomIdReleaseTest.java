@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import at.ac.tuwien.kr.alpha.api.AnswerSet;
+import at.ac.tuwien.kr.alpha.api.config.RestartStrategy;
+import at.ac.tuwien.kr.alpha.api.config.SystemConfig;
+import at.ac.tuwien.kr.alpha.api.programs.Predicate;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.commons.Predicates;
+import at.ac.tuwien.kr.alpha.commons.programs.atoms.Atoms;
+import at.ac.tuwien.kr.alpha.commons.programs.terms.Terms;
+import at.ac.tuwien.kr.alpha.core.common.AtomStore;
+import at.ac.tuwien.kr.alpha.core.common.OpenAddressingAtomStore;
+import at.ac.tuwien.kr.alpha.core.grounder.GrounderFactory;
+import at.ac.tuwien.kr.alpha.core.parser.ProgramParserImpl;
+import at.ac.tuwien.kr.alpha.core.programs.CompiledProgram;
+import at.ac.tuwien.kr.alpha.core.programs.InternalProgram;
+import at.ac.tuwien.kr.alpha.core.programs.transformation.NormalizeProgramTransformation;
+
+public class AtomIdReleaseTest {
+
+	private static final String PROGRAM = "p(1..8). a(X) :- p(X), not b(X). b(X) :- p(X), not a(X). "
+			+ ":- a(X), a(Y), p(Y), Y = X + 1. :- b(X), b(Y), b(Z), p(Z), Y = X + 1, Z = Y + 1.";
+
+	private static final Predicate UNREFERENCED = Predicates.getPredicate("unreferenced", 1);
+
+	private static CompiledProgram compile(String program) {
+		return InternalProgram.fromNormalProgram(new NormalizeProgramTransformation(SystemConfig.DEFAULT_AGGREGATE_REWRITING_CONFIG)
+				.apply(new ProgramParserImpl().parse(program)));
+	}
+
+	private static DefaultSolver buildSolver(SystemConfig config, AtomStore atomStore) {
+		return (DefaultSolver) SolverFactory.getInstance(config, atomStore, GrounderFactory.getInstance("naive", compile(PROGRAM), atomStore, true));
+	}
+
+	/**
+	 * Atoms stored before grounding occur in no NoGood, hence restarting must release their ids, such that atoms stored
+	 * later on reuse them. The atom of the guiding path must keep its id.
+	 */
+	@Test
+	public void restartsReleaseAndReuseUnreferencedAtomIds() {
+		SystemConfig config = new SystemConfig();
+		config.setRestartStrategy(RestartStrategy.LUBY);
+		config.setRestartInterval(1);
+
+		AtomStore atomStore = new OpenAddressingAtomStore();
+		List<Atom> unreferencedAtoms = new ArrayList<>();
+		for (int i = 1; i <= 100; i++) {
+			Atom atom = Atoms.newBasicAtom(UNREFERENCED, Terms.newConstant(i));
+			atomStore.putIfAbsent(atom);
+			unreferencedAtoms.add(atom);
+		}
+		Atom guidingAtom = Atoms.newBasicAtom(Predicates.getPredicate("a", 1), Terms.newConstant(1));
+		int guidingAtomId = atomStore.putIfAbsent(guidingAtom);
+
+		DefaultSolver solver = buildSolver(config, atomStore);
+		solver.addToGuidingPath(guidingAtom, true);
+		Set<AnswerSet> answerSets = solver.collectSet();
+
+		Set<AnswerSet> expected = buildSolver(new SystemConfig(), new OpenAddressingAtomStore()).collectSet();
+		expected.removeIf(answerSet -> !answerSet.getPredicateInstances(guidingAtom.getPredicate()).contains(guidingAtom));
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, answerSets);
+
+		for (Atom atom : unreferencedAtoms) {
+			assertFalse(atomStore.contains(atom));
+		}
+		assertEquals(guidingAtom, atomStore.get(guidingAtomId));
+		int reusedAtomId = atomStore.putIfAbsent(Atoms.newBasicAtom(UNREFERENCED, Terms.newConstant(0)));
+		assertTrue(reusedAtomId <= unreferencedAtoms.size());
+	}
+
+}
@@ -144,6 +144,51 @@ public void testDeletionReducesNumberOfLearntNoGoods() {
 
 	}
 
+	@Test
+	public void testCoreTierNoGoodsAreNeverDeleted() {
+		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), 2));
+		assertNull(store.add(5, NoGood.learnt(fromOldLiterals(10, -13, -14)), 8));
+		assertEquals(1, learnedNoGoodDeletion.getCoreTierSize());
+		assertEquals(1, learnedNoGoodDeletion.getLocalTierSize());
+		learnedNoGoodDeletion.runNoGoodDeletion();
+		assertEquals(1, learnedNoGoodDeletion.getCoreTierSize());
+		assertEquals(0, learnedNoGoodDeletion.getLocalTierSize());
+		assertTrue(learnedNoGoodDeletion.inspectLearnedNoGoods().isEmpty());
+	}
+
+	@Test
+	public void testUnusedMidTierNoGoodIsDemoted() {
+		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), 4));
+		assertNull(store.add(5, NoGood.learnt(fromOldLiterals(10, -13, -14)), 5));
+		assertEquals(2, learnedNoGoodDeletion.getMidTierSize());
+		WatchedNoGood usedNoGood = learnedNoGoodDeletion.inspectLearnedNoGoods().get(0);
+		usedNoGood.bumpActivity();
+		learnedNoGoodDeletion.runNoGoodDeletion();
+		assertEquals(1, learnedNoGoodDeletion.getMidTierSize());
+		assertEquals(0, learnedNoGoodDeletion.getLocalTierSize());
+		assertEquals(1, learnedNoGoodDeletion.getNumberOfDeletedNoGoods());
+		assertEquals(usedNoGood, learnedNoGoodDeletion.inspectLearnedNoGoods().get(0));
+	}
+
+	@Test
+	public void testNoGoodWithImprovedLbdIsPromoted() {
+		assertNull(store.add(4, NoGood.learnt(fromOldLiterals(10, 11, 12)), 9));
+		WatchedNoGood learnedNoGood = learnedNoGoodDeletion.inspectLearnedNoGoods().get(0);
+		assertEquals(9, learnedNoGood.getLbd());
+		learnedNoGood.updateLbd(5);
+		learnedNoGood.bumpActivity();
+		learnedNoGoodDeletion.runNoGoodDeletion();
+		assertEquals(1, learnedNoGoodDeletion.getMidTierSize());
+		assertEquals(0, learnedNoGoodDeletion.getLocalTierSize());
+		assertEquals(1, learnedNoGoodDeletion.getNumberOfPromotions());
+		learnedNoGood.updateLbd(2);
+		learnedNoGoodDeletion.runNoGoodDeletion();
+		assertEquals(1, learnedNoGoodDeletion.getCoreTierSize());
+		assertEquals(0, learnedNoGoodDeletion.getMidTierSize());
+		assertEquals(2, learnedNoGoodDeletion.getNumberOfPromotions());
+		assertEquals(0, learnedNoGoodDeletion.getNumberOfDeletedNoGoods());
+	}
+
 	private Map<Type, Integer> countNoGoodsByType(NoGoodStore store) {
 		final Map<Type, Integer> counters = new HashMap<>();
 		final NoGoodCounter noGoodCounter = store.getNoGoodCounter();
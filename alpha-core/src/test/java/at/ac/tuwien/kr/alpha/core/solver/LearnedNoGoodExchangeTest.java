@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.solver;
+
+import static at.ac.tuwien.kr.alpha.core.programs.atoms.Literals.atomToLiteral;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import at.ac.tuwien.kr.alpha.api.config.RestartStrategy;
+import at.ac.tuwien.kr.alpha.api.config.SystemConfig;
+import at.ac.tuwien.kr.alpha.api.programs.atoms.Atom;
+import at.ac.tuwien.kr.alpha.core.common.AtomStore;
+import at.ac.tuwien.kr.alpha.core.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.core.common.NoGood;
+import at.ac.tuwien.kr.alpha.core.programs.atoms.ChoiceAtom;
+import at.ac.tuwien.kr.alpha.core.test.util.TestUtils;
+
+public class LearnedNoGoodExchangeTest {
+
+	private final Atom p = TestUtils.atom("p", "1");
+	private final Atom q = TestUtils.atom("q", "a", "b");
+	private final Atom r = TestUtils.atom("r", "2");
+
+	@Test
+	public void sharedNoGoodIsTranslatedIntoAtomIdsOfImportingSolver() {
+		AtomStore exportingStore = new AtomStoreImpl();
+		int pId = exportingStore.putIfAbsent(p);
+		int qId = exportingStore.putIfAbsent(q);
+		AtomStore importingStore = new AtomStoreImpl();
+		TestUtils.fillAtomStore(importingStore, 5);
+		int qImportedId = importingStore.putIfAbsent(q);
+
+		LearnedNoGoodExchange exchange = new LearnedNoGoodExchange(2, 4, 8, 3);
+		assertTrue(exchange.export(0, NoGood.learnt(atomToLiteral(pId), atomToLiteral(qId, false)), 2, exportingStore));
+		assertNull(exchange.poll(0));
+		LearnedNoGoodExchange.SharedNoGood sharedNoGood = exchange.poll(1);
+		assertNotNull(sharedNoGood);
+		assertNull(exchange.poll(1));
+
+		NoGood imported = sharedNoGood.toNoGood(importingStore);
+		assertTrue(importingStore.contains(p));
+		int pImportedId = importingStore.get(p);
+		assertEquals(NoGood.learnt(atomToLiteral(pImportedId), atomToLiteral(qImportedId, false)), imported);
+		assertEquals(2, sharedNoGood.getLbd());
+	}
+
+	@Test
+	public void noGoodsFailingSizeOrLbdFilterAreNotShared() {
+		AtomStore atomStore = new AtomStoreImpl();
+		NoGood noGood = NoGood.learnt(atomToLiteral(atomStore.putIfAbsent(p)), atomToLiteral(atomStore.putIfAbsent(q)),
+			atomToLiteral(atomStore.putIfAbsent(r)));
+		assertFalse(new LearnedNoGoodExchange(2, 4, 2, 3).export(0, noGood, 2, atomStore));
+		assertFalse(new LearnedNoGoodExchange(2, 4, 8, 1).export(0, noGood, 2, atomStore));
+		assertTrue(new LearnedNoGoodExchange(2, 4, 3, 2).export(0, noGood, 2, atomStore));
+	}
+
+	@Test
+	public void noGoodsOverSolverInternalAtomsAreNotShared() {
+		AtomStore atomStore = new AtomStoreImpl();
+		NoGood noGood = NoGood.learnt(atomToLiteral(atomStore.putIfAbsent(p)), atomToLiteral(atomStore.putIfAbsent(ChoiceAtom.on(1))));
+		LearnedNoGoodExchange exchange = new LearnedNoGoodExchange(2, 4, 8, 3);
+		assertFalse(exchange.export(0, noGood, 1, atomStore));
+		assertNull(exchange.poll(1));
+	}
+
+	@Test
+	public void noGoodsAreDroppedIfQueueIsFull() {
+		AtomStore atomStore = new AtomStoreImpl();
+		NoGood noGood = NoGood.learnt(atomToLiteral(atomStore.putIfAbsent(p)));
+		LearnedNoGoodExchange exchange = new LearnedNoGoodExchange(3, 2, 8, 3);
+		for (int i = 0; i < 3; i++) {
+			assertTrue(exchange.export(0, noGood, 1, atomStore));
+		}
+		assertEquals(3, exchange.getNumberOfExportedNoGoods());
+		assertEquals(2, exchange.getNumberOfDroppedNoGoods());
+		for (int solver = 1; solver < 3; solver++) {
+			assertNotNull(exchange.poll(solver));
+			assertNotNull(exchange.poll(solver));
+			assertNull(exchange.poll(solver));
+		}
+	}
+
+	@Test
+	public void solversOfSharingPortfolioRestart() {
+		SystemConfig config = new SystemConfig();
+		config.setPortfolioSize(5);
+		config.setPortfolioShareMaxSize(8);
+		for (int i = 0; i < config.getPortfolioSize(); i++) {
+			assertNotEquals(RestartStrategy.NONE, SolverFactory.getPortfolioConfig(config, i).getRestartStrategy());
+		}
+		config.setPortfolioShareMaxSize(0);
+		assertEquals(RestartStrategy.NONE, SolverFactory.getPortfolioConfig(config, 0).getRestartStrategy());
+		assertEquals(RestartStrategy.NONE, SolverFactory.getPortfolioConfig(config, 4).getRestartStrategy());
+	}
+}
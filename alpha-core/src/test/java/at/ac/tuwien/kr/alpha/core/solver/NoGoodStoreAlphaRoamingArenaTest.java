@@ -0,0 +1,186 @@
+package at.ac.tuwien.kr.alpha.core.solver;
+
+import static at.ac.tuwien.kr.alpha.core.common.NoGood.fact;
+import static at.ac.tuwien.kr.alpha.core.common.NoGood.headFirst;
+import static at.ac.tuwien.kr.alpha.core.common.NoGoodTest.fromOldLiterals;
+import static at.ac.tuwien.kr.alpha.core.solver.ThriceTruth.FALSE;
+import static at.ac.tuwien.kr.alpha.core.solver.ThriceTruth.MBT;
+import static at.ac.tuwien.kr.alpha.core.solver.ThriceTruth.TRUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import at.ac.tuwien.kr.alpha.core.common.AtomStore;
+import at.ac.tuwien.kr.alpha.core.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.core.common.NoGood;
+import at.ac.tuwien.kr.alpha.core.common.NoGoodInterface.Type;
+import at.ac.tuwien.kr.alpha.core.test.util.TestUtils;
+
+/**
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class NoGoodStoreAlphaRoamingArenaTest {
+
+	private final TrailAssignment assignment;
+	private final NoGoodStoreAlphaRoamingArena store;
+
+	public NoGoodStoreAlphaRoamingArenaTest() {
+		AtomStore atomStore = new AtomStoreImpl();
+		TestUtils.fillAtomStore(atomStore, 200);
+		assignment = new TrailAssignment(atomStore);
+		assignment.growForMaxAtomId();
+		store = new NoGoodStoreAlphaRoamingArena(assignment);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		store.clear();
+		store.growForMaxAtomId(fromOldLiterals(200));
+	}
+
+	@Test
+	public void singleFact() {
+		store.add(1, fact(fromOldLiterals(-1)));
+		store.propagate();
+
+		assertEquals(TRUE, assignment.getTruth(1));
+	}
+
+	@Test
+	public void propagateNaryMBT() {
+		store.add(1, new NoGood(fromOldLiterals(1, 2, -3)));
+		assignment.assign(1, MBT);
+		assignment.assign(2, MBT);
+		store.propagate();
+
+		assertEquals(MBT, assignment.getTruth(3));
+		assertTrue(assignment.getImpliedBy(3).getReasonLiterals().length == 3);
+	}
+
+	@Test
+	public void propagateNaryFactsMultiple() {
+		store.add(1, headFirst(fromOldLiterals(-1, 2, 3)));
+		store.add(2, headFirst(fromOldLiterals(-4, 2, 3)));
+		assignment.assign(2, TRUE);
+		assignment.assign(3, TRUE);
+		store.propagate();
+
+		assertEquals(TRUE, assignment.getTruth(1));
+		assertEquals(TRUE, assignment.getTruth(4));
+	}
+
+	@Test
+	public void moveThirdPointer() {
+		store.add(1, headFirst(fromOldLiterals(-1, 2, 3)));
+		assignment.assign(2, TRUE);
+		store.propagate();
+		assertNull(assignment.getTruth(1));
+
+		assignment.assign(3, TRUE);
+		store.propagate();
+		assertEquals(TRUE, assignment.getTruth(1));
+	}
+
+	@Test
+	public void naryNoGoodViolatedAfterAddition() {
+		assertNull(store.add(1, new NoGood(fromOldLiterals(1, 2, 3))));
+		assertNull(assignment.assign(1, TRUE));
+		assertNull(assignment.assign(2, TRUE));
+		assertNull(assignment.assign(3, TRUE));
+		ConflictCause conflictCause = store.propagate();
+		assertNotNull(conflictCause);
+		assertEquals(3, conflictCause.getAntecedent().getReasonLiterals().length);
+	}
+
+	@Test
+	public void addedViolatedNaryNoGoodPropagatesAfterBacktracking() {
+		NoGood noGood = new NoGood(fromOldLiterals(1, 2, 3));
+		assertNull(assignment.choose(1, MBT));
+		assertNull(assignment.choose(2, MBT));
+		assertNull(assignment.choose(3, MBT));
+		assertNotNull(store.add(1, noGood));
+		assignment.backtrack();
+		assertNull(store.add(1, noGood));
+		assertNull(store.propagate());
+		assertEquals(FALSE, assignment.getTruth(3));
+	}
+
+	@Test
+	public void alphaWatchNotIgnored() {
+		assertNull(assignment.choose(2, TRUE));
+		assertNull(store.propagate());
+		assertNull(assignment.choose(3, TRUE));
+		assertNull(store.propagate());
+		assertNull(assignment.choose(1, TRUE));
+		assertNull(store.propagate());
+
+		assertNull(store.add(1, headFirst(fromOldLiterals(-1, 2, 3))));
+
+		store.backtrack();
+		store.backtrack();
+		assertNull(assignment.choose(3, TRUE));
+		assertNull(store.propagate());
+		assertEquals(TRUE, assignment.getTruth(1));
+	}
+
+	@Test
+	public void deletionRemovesNoGoodsAndCompactsArena() {
+		assertNull(store.add(1, new NoGood(fromOldLiterals(2, -5))));
+		for (int i = 0; i < 10; i++) {
+			assertNull(store.add(2 + i, NoGood.learnt(fromOldLiterals(10 + 3 * i, 11 + 3 * i, 12 + 3 * i)), 3));
+		}
+		final int arenaSizeBeforeDeletion = store.getArenaSize();
+		final int learntBeforeDeletion = store.getNoGoodCounter().getNumberOfNoGoods(Type.LEARNT);
+		store.runNoGoodDeletion();
+
+		assertEquals(5, store.getNumberOfDeletedNoGoods());
+		assertEquals(learntBeforeDeletion - 5, store.getNoGoodCounter().getNumberOfNoGoods(Type.LEARNT));
+		assertTrue(store.getArenaSize() < arenaSizeBeforeDeletion);
+
+		// Remaining NoGoods must still propagate after compaction.
+		assignment.assign(2, TRUE);
+		assertNull(store.propagate());
+		assertEquals(MBT, assignment.getTruth(5));
+		assignment.assign(37, TRUE);
+		assignment.assign(38, TRUE);
+		assertNull(store.propagate());
+		assertEquals(FALSE, assignment.getTruth(39));
+	}
+
+	@Test
+	public void deletionKeepsLockedNoGoods() {
+		assertNull(store.add(1, NoGood.learnt(fromOldLiterals(1, 2, 3)), 3));
+		assertNull(store.add(2, NoGood.learnt(fromOldLiterals(4, 5, 6)), 3));
+		assertNull(assignment.choose(1, TRUE));
+		assertNull(store.propagate());
+		assertNull(assignment.choose(2, TRUE));
+		assertNull(store.propagate());
+		assertEquals(FALSE, assignment.getTruth(3));
+
+		store.runNoGoodDeletion();
+
+		assertEquals(1, store.getNumberOfDeletedNoGoods());
+		assertEquals(3, assignment.getImpliedBy(3).getReasonLiterals().length);
+	}
+
+	@Test
+	public void noGoodWithKnownIdIsStoredOnce() {
+		assertNull(store.add(7, new NoGood(fromOldLiterals(1, 2, 3))));
+		final int arenaSize = store.getArenaSize();
+		assertNull(store.add(7, new NoGood(fromOldLiterals(1, 2, 3))));
+
+		assertEquals(arenaSize, store.getArenaSize());
+	}
+
+	@Test
+	public void noGoodWithComplementaryLiteralsIsIgnored() {
+		assertNull(store.add(1, new NoGood(fromOldLiterals(1, -1, 2))));
+		assertNull(store.add(2, headFirst(fromOldLiterals(-3, 3, 4))));
+
+		assertEquals(0, store.getArenaSize());
+	}
+}
@@ -623,4 +623,23 @@ public void alphaWatchNotIgnored() {
 		assertNull(store.propagate());
 		assertEquals(TRUE, assignment.getTruth(1));
 	}
+
+	@Test
+	public void watchKeptByBlockerPropagatesAfterBacktracking() {
+		assertNull(store.add(1, new NoGood(fromOldLiterals(1, 2, 3))));
+		assertNull(assignment.choose(2, FALSE));
+		assertNull(store.propagate());
+		// The blocker of the watch on 1 satisfies the NoGood, hence the NoGood is not visited.
+		assertNull(assignment.choose(1, TRUE));
+		assertNull(store.propagate());
+		assertNull(assignment.getTruth(3));
+
+		store.backtrack();
+		store.backtrack();
+		assertNull(assignment.choose(1, TRUE));
+		assertNull(store.propagate());
+		assertNull(assignment.choose(3, TRUE));
+		assertNull(store.propagate());
+		assertEquals(FALSE, assignment.getTruth(2));
+	}
 }
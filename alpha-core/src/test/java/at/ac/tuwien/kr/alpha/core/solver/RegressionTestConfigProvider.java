@@ -34,7 +34,7 @@ private static List<RegressionTestConfig> buildConfigs() {
 		//@formatter:off
 		String[] solvers = ci ? new String[]{DEFAULT_SOLVER_NAME, "naive" } : new String[]{DEFAULT_SOLVER_NAME };
 		String grounder = DEFAULT_GROUNDER_NAME;
-		String[] atomStores = ci ? new String[]{DEFAULT_ATOM_STORE, "naive" } : new String[]{DEFAULT_ATOM_STORE };
+		String[] atomStores = ci ? new String[]{DEFAULT_ATOM_STORE, "alpharoamingarena", "naive" } : new String[]{DEFAULT_ATOM_STORE };
 		String[] heuristics = ci ? nonDeprecatedHeuristics() : new String[]{"NAIVE", DEFAULT_BRANCHING_HEURISTIC };
 		String[] gtcValues = new String[]{DEFAULT_GROUNDER_TOLERANCE, "permissive" };
 		String gtrValue = DEFAULT_GROUNDER_TOLERANCE;
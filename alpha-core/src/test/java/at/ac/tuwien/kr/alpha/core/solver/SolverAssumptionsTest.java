@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, the Alpha Team.
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1) Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ *
+ * 2) Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package at.ac.tuwien.kr.alpha.core.solver;
+
+import static at.ac.tuwien.kr.alpha.core.test.util.TestUtils.buildSolverForRegressionTest;
+import static at.ac.tuwien.kr.alpha.core.test.util.TestUtils.ignoreTestForNaiveSolver;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import at.ac.tuwien.kr.alpha.api.programs.literals.Literal;
+import at.ac.tuwien.kr.alpha.core.test.util.TestUtils;
+
+/**
+ * Tests {@link DefaultSolver#solveUnderAssumptions(java.util.Collection)}.
+ *
+ * Copyright (c) 2026, the Alpha Team.
+ */
+public class SolverAssumptionsTest {
+
+	private static final String PROGRAM = "{ a(1); a(2); a(3) }. :- a(1), a(2). b :- a(3).";
+
+	private static Literal pos(String predicateName, int... terms) {
+		return TestUtils.atom(predicateName, terms).toLiteral(true);
+	}
+
+	private static Literal neg(String predicateName, int... terms) {
+		return TestUtils.atom(predicateName, terms).toLiteral(false);
+	}
+
+	private static DefaultSolver buildSolver(RegressionTestConfig cfg) {
+		ignoreTestForNaiveSolver(cfg);
+		return (DefaultSolver) buildSolverForRegressionTest(PROGRAM, cfg);
+	}
+
+	@RegressionTest
+	public void satisfiableAssumptionsYieldAnswerSetRespectingThem(RegressionTestConfig cfg) {
+		DefaultSolver solver = buildSolver(cfg);
+		AssumptionResult result = solver.solveUnderAssumptions(Arrays.asList(pos("a", 3), neg("a", 1), neg("a", 2)));
+		assertTrue(result.isSatisfiable());
+		TestUtils.assertAnswerSetsEqual("a(3), b", Collections.singleton(result.getAnswerSet()));
+	}
+
+	@RegressionTest
+	public void unsatisfiableAssumptionsYieldFailedSubset(RegressionTestConfig cfg) {
+		DefaultSolver solver = buildSolver(cfg);
+		List<Literal> assumptions = Arrays.asList(pos("a", 3), pos("a", 1), pos("a", 2));
+		AssumptionResult result = solver.solveUnderAssumptions(assumptions);
+		assertFalse(result.isSatisfiable());
+		assertEquals(new HashSet<>(Arrays.asList(pos("a", 1), pos("a", 2))), result.getFailedAssumptions());
+	}
+
+	@RegressionTest
+	public void solverIsReusableAcrossAssumptionCalls(RegressionTestConfig cfg) {
+		DefaultSolver solver = buildSolver(cfg);
+		assertFalse(solver.solveUnderAssumptions(Arrays.asList(pos("b"), neg("a", 3))).isSatisfiable());
+		assertTrue(solver.solveUnderAssumptions(Collections.singletonList(pos("b"))).isSatisfiable());
+		assertEquals(6, solver.stream().count());
+		assertThrows(IllegalStateException.class, () -> solver.solveUnderAssumptions(Collections.singletonList(pos("b"))));
+	}
+
+}
@@ -262,4 +262,48 @@ public void numberOfAssignedAtoms() {
 		assignment.assign(5, TRUE);
 		assertEquals(2, assignment.getNumberOfAtomsAssignedSinceLastDecision());
 	}
+
+	@Test
+	public void savedPhasesRememberValuesOfBacktrackedAtoms() {
+		assignment.assign(1, TRUE);
+		assignment.choose(2, FALSE);
+		assignment.assign(3, MBT);
+		assignment.choose(4, TRUE);
+		assertNull(assignment.getSavedPhase(2));
+
+		assignment.backjump(0);
+
+		assertEquals(FALSE, assignment.getSavedPhase(2));
+		assertEquals(MBT, assignment.getSavedPhase(3));
+		assertEquals(TRUE, assignment.getSavedPhase(4));
+		assertNull(assignment.getSavedPhase(1));
+
+		assignment.choose(2, TRUE);
+		assignment.backtrack();
+		assertEquals(TRUE, assignment.getSavedPhase(2));
+	}
+
+	@Test
+	public void targetPhasesRecordLargestConflictFreeTrail() {
+		assignment.setTrackTargetPhases(true);
+		assignment.choose(1, TRUE);
+		assignment.assign(2, FALSE);
+		assignment.choose(3, FALSE);
+		assignment.choose(4, TRUE);
+		// Decision level 3 is considered conflicting, the remaining trail becomes the target.
+		assignment.backjump(1);
+		assertEquals(TRUE, assignment.getTargetPhase(1));
+		assertEquals(FALSE, assignment.getTargetPhase(2));
+		assertEquals(FALSE, assignment.getTargetPhase(3));
+		assertNull(assignment.getTargetPhase(4));
+
+		// A smaller conflict-free trail does not replace the target.
+		assignment.choose(3, TRUE);
+		assignment.backjump(0);
+		assertEquals(FALSE, assignment.getTargetPhase(3));
+
+		assignment.resetTargetPhases();
+		assertNull(assignment.getTargetPhase(1));
+		assignment.setTrackTargetPhases(false);
+	}
 }
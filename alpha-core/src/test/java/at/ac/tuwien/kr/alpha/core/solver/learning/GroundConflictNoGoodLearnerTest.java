@@ -79,6 +79,28 @@ public void smallConflictNonTrivial1UIP() {
 		assertEquals(backjumpingDecisionLevel, 2);
 	}
 
+	@Test
+	public void recursiveMinimizationRemovesTransitivelyImpliedLiteral() {
+		GroundConflictNoGoodLearner learner = new GroundConflictNoGoodLearner(assignment, atomStore);
+		store.add(10, new NoGood(fromOldLiterals(1, -2)));
+		store.add(11, new NoGood(fromOldLiterals(2, -3)));
+
+		assignment.choose(1, ThriceTruth.TRUE);
+		assertNull(store.propagate());
+		assertEquals(ThriceTruth.MBT, assignment.get(3).getTruth());
+		assignment.choose(4, ThriceTruth.TRUE);
+		assertNull(store.propagate());
+		assignment.choose(5, ThriceTruth.TRUE);
+		assertNull(store.propagate());
+
+		// Atom 3 is implied by atom 2, which is implied by atom 1, hence 3 is redundant in the learned nogood.
+		ConflictCause conflictCause = store.add(12, new NoGood(fromOldLiterals(1, 3, 4, 5)));
+		assertNotNull(conflictCause);
+		GroundConflictNoGoodLearner.ConflictAnalysisResult analysisResult = learner.analyzeConflictingNoGood(conflictCause.getAntecedent());
+		assertEquals(new NoGood(fromOldLiterals(1, 4, 5)), analysisResult.learnedNoGood);
+		assertEquals(2, analysisResult.backjumpLevel);
+	}
+
 	@Test
 	@Disabled("TrailAssignment no longer propagates at lower decision level.")
 	public void subCurrentDLPropagationWithChoiceCauseOfConflict() {
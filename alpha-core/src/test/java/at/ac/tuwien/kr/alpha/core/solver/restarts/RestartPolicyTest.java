@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2026, the Alpha Team.
+ */
+package at.ac.tuwien.kr.alpha.core.solver.restarts;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class RestartPolicyTest {
+
+	@Test
+	public void lubySequence() {
+		long[] expected = {1, 1, 2, 1, 1, 2, 4, 1, 1, 2, 1, 1, 2, 4, 8, 1};
+		long[] actual = new long[expected.length];
+		for (int i = 0; i < expected.length; i++) {
+			actual[i] = LubyRestartPolicy.luby(i);
+		}
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test
+	public void lubyRestartsAfterScaledConflicts() {
+		RestartPolicy policy = new LubyRestartPolicy(10);
+		assertEquals(10, conflictsUntilRestart(policy, 1));
+		assertEquals(10, conflictsUntilRestart(policy, 1));
+		assertEquals(20, conflictsUntilRestart(policy, 1));
+		assertEquals(10, conflictsUntilRestart(policy, 1));
+	}
+
+	@Test
+	public void geometricRestartsAfterGrowingNumberOfConflicts() {
+		RestartPolicy policy = new GeometricRestartPolicy(100);
+		assertEquals(100, conflictsUntilRestart(policy, 1));
+		assertEquals(150, conflictsUntilRestart(policy, 1));
+		assertEquals(225, conflictsUntilRestart(policy, 1));
+	}
+
+	@Test
+	public void lbdRestartsIfRecentNoGoodsAreWorse() {
+		RestartPolicy policy = new LbdRestartPolicy();
+		for (int i = 0; i < 10 * LbdRestartPolicy.WINDOW_SIZE; i++) {
+			policy.conflict(2);
+			assertFalse(policy.shouldRestart());
+		}
+		policy.conflict(10);
+		assertFalse(policy.shouldRestart());
+		int conflicts = 1;
+		while (!policy.shouldRestart()) {
+			policy.conflict(10);
+			conflicts++;
+		}
+		assertTrue(conflicts < LbdRestartPolicy.WINDOW_SIZE);
+		policy.restarted();
+		assertFalse(policy.shouldRestart());
+	}
+
+	@Test
+	public void noRestartPolicyNeverRestarts() {
+		RestartPolicy policy = new NoRestartPolicy();
+		for (int i = 0; i < 1000; i++) {
+			policy.conflict(i);
+			assertFalse(policy.shouldRestart());
+		}
+	}
+
+	private static int conflictsUntilRestart(RestartPolicy policy, int lbd) {
+		int conflicts = 0;
+		while (!policy.shouldRestart()) {
+			policy.conflict(lbd);
+			conflicts++;
+		}
+		policy.restarted();
+		return conflicts;
+	}
+}
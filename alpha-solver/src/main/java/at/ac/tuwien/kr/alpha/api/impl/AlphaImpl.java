@@ -51,7 +51,7 @@
 import at.ac.tuwien.kr.alpha.commons.util.IntIdGenerator;
 import at.ac.tuwien.kr.alpha.commons.util.Util;
 import at.ac.tuwien.kr.alpha.core.common.AtomStore;
-import at.ac.tuwien.kr.alpha.core.common.AtomStoreImpl;
+import at.ac.tuwien.kr.alpha.core.common.AtomStoreFactory;
 import at.ac.tuwien.kr.alpha.core.grounder.Grounder;
 import at.ac.tuwien.kr.alpha.core.grounder.GrounderFactory;
 import at.ac.tuwien.kr.alpha.core.parser.ProgramParserImpl;
@@ -76,6 +76,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -160,7 +161,7 @@ InternalProgram performProgramPreprocessing(NormalProgram program) {
 		InternalProgram retVal = InternalProgram.fromNormalProgram(program);
 		if (config.isEvaluateStratifiedPart()) {
 			AnalyzedProgram analyzed = new AnalyzedProgram(retVal.getRules(), retVal.getFacts());
-			retVal = new StratifiedEvaluation().apply(analyzed);
+			retVal = new StratifiedEvaluation(config.isStratifiedEvaluationTriejoin(), config.isStratifiedEvaluationParallel()).apply(analyzed);
 		}
 		return retVal;
 	}
@@ -195,18 +196,6 @@ public Stream<AnswerSet> solve(NormalProgram program) {
 	 */
 	@Override
 	public Stream<AnswerSet> solve(NormalProgram program, java.util.function.Predicate<Predicate> filter) {
-		CompiledProgram preprocessed = performProgramPreprocessing(program);
-		return solve(preprocessed, filter);
-	}
-
-	/**
-	 * Solves the given program and filters answer sets based on the passed predicate.
-	 * 
-	 * @param program an {@link InternalProgram} to solve
-	 * @param filter  {@link Predicate} filtering {@at.ac.tuwien.kr.alpha.common.Predicate}s in the returned answer sets
-	 * @return a Stream of answer sets representing stable models of the given program
-	 */
-	private Stream<AnswerSet> solve(CompiledProgram program, java.util.function.Predicate<Predicate> filter) {
 		Stream<AnswerSet> retVal = prepareSolverFor(program, filter).stream();
 		return config.isSortAnswerSets() ? retVal.sorted() : retVal;
 	}
@@ -221,17 +210,23 @@ private Stream<AnswerSet> solve(CompiledProgram program, java.util.function.Pred
 	 * @return a solver (and accompanying grounder) instance pre-loaded with the given program.
 	 */
 	private Solver prepareSolverFor(CompiledProgram program, java.util.function.Predicate<Predicate> filter) {
-		String grounderName = config.getGrounderName();
-		boolean doDebugChecks = config.isDebugInternalChecks();
+		return prepareSolverFor(program, filter, config);
+	}
+
+	private Solver prepareSolverFor(CompiledProgram program, java.util.function.Predicate<Predicate> filter, SystemConfig solverConfig) {
+		String grounderName = solverConfig.getGrounderName();
+		boolean doDebugChecks = solverConfig.isDebugInternalChecks();
 
 		GrounderHeuristicsConfiguration grounderHeuristicConfiguration = GrounderHeuristicsConfiguration
-				.getInstance(config.getGrounderToleranceConstraints(), config.getGrounderToleranceRules());
-		grounderHeuristicConfiguration.setAccumulatorEnabled(config.isGrounderAccumulatorEnabled());
+				.getInstance(solverConfig.getGrounderToleranceConstraints(), solverConfig.getGrounderToleranceRules());
+		grounderHeuristicConfiguration.setAccumulatorEnabled(solverConfig.isGrounderAccumulatorEnabled());
+		grounderHeuristicConfiguration.setColumnarFactStorage(solverConfig.isGrounderColumnarFactStorage());
+		grounderHeuristicConfiguration.setParallelInstantiation(solverConfig.isGrounderParallelInstantiation());
 
-		AtomStore atomStore = new AtomStoreImpl();
+		AtomStore atomStore = AtomStoreFactory.getInstance(solverConfig.getAtomStoreName());
 		Grounder grounder = GrounderFactory.getInstance(grounderName, program, atomStore, filter, grounderHeuristicConfiguration, doDebugChecks);
 
-		return SolverFactory.getInstance(config, atomStore, grounder);
+		return SolverFactory.getInstance(solverConfig, atomStore, grounder);
 	}
 
 	@Override
@@ -256,7 +251,7 @@ public DebugSolvingContext prepareDebugSolve(final NormalProgram program, java.u
 		final AnalyzedProgram analyzed = AnalyzedProgram.analyzeNormalProgram(program);
 		final NormalProgram preprocessed;
 		if (this.config.isEvaluateStratifiedPart()) {
-			preprocessed = new StratifiedEvaluation().apply(analyzed).toNormalProgram();
+			preprocessed = new StratifiedEvaluation(config.isStratifiedEvaluationTriejoin(), config.isStratifiedEvaluationParallel()).apply(analyzed).toNormalProgram();
 		} else {
 			preprocessed = program;
 		}
@@ -298,9 +293,20 @@ public Solver prepareSolverFor(ASPCore2Program program, java.util.function.Predi
 		return prepareSolverFor(normalizeProgram(program), filter);
 	}
 
+	/**
+	 * Prepares a solver for the given program. If a portfolio is configured, every solver of the portfolio gets its own
+	 * preprocessed copy of the program, since grounders keep mutable state in the compiled rules. For the same reason,
+	 * every solver split off for parallel enumeration of answer sets gets its own copy.
+	 */
 	@Override
 	public Solver prepareSolverFor(NormalProgram program, java.util.function.Predicate<Predicate> filter) {
-		return prepareSolverFor(performProgramPreprocessing(program), filter);
+		if (config.getPortfolioSize() > 1) {
+			return SolverFactory.getPortfolioInstance(config, solverConfig -> prepareSolverFor(performProgramPreprocessing(program), filter, solverConfig));
+		}
+		Supplier<Solver> solverFactory = () -> prepareSolverFor(performProgramPreprocessing(program), filter);
+		Solver solver = solverFactory.get();
+		SolverFactory.enableSplitting(solver, solverFactory);
+		return solver;
 	}
 
 	@Override
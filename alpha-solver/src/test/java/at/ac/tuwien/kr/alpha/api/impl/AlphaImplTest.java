@@ -29,8 +29,10 @@
 
 import at.ac.tuwien.kr.alpha.api.Alpha;
 import at.ac.tuwien.kr.alpha.api.AnswerSet;
+import at.ac.tuwien.kr.alpha.api.Solver;
 import at.ac.tuwien.kr.alpha.api.config.Heuristic;
 import at.ac.tuwien.kr.alpha.api.config.InputConfig;
+import at.ac.tuwien.kr.alpha.api.config.RestartStrategy;
 import at.ac.tuwien.kr.alpha.api.config.SystemConfig;
 import at.ac.tuwien.kr.alpha.api.programs.ASPCore2Program;
 import at.ac.tuwien.kr.alpha.api.programs.NormalProgram;
@@ -712,6 +714,73 @@ private void problematicRun(String program, long seed, int limit) throws IOExcep
 		assertFalse(system.solve(prog).limit(limit).collect(Collectors.toList()).isEmpty());
 	}
 
+	@Test
+	public void portfolioFindsSameAnswerSetsAsSingleSolver() {
+		String program = "p(1..4). a(X) :- p(X), not b(X). b(X) :- p(X), not a(X). :- a(X), a(Y), X < Y, p(Y), Y = X + 1.";
+		Alpha singleSystem = new AlphaImpl();
+		Set<AnswerSet> expected = singleSystem.solve(singleSystem.readProgramString(program)).collect(Collectors.toSet());
+		SystemConfig cfg = new SystemConfig();
+		cfg.setPortfolioSize(4);
+		cfg.setSeed(0);
+		Alpha portfolioSystem = new AlphaImpl(cfg);
+		List<AnswerSet> actual = portfolioSystem.solve(portfolioSystem.readProgramString(program)).collect(Collectors.toList());
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected, new HashSet<>(actual));
+	}
+
+	@Test
+	public void portfolioProvesUnsatisfiability() {
+		SystemConfig cfg = new SystemConfig();
+		cfg.setPortfolioSize(3);
+		Alpha system = new AlphaImpl(cfg);
+		ASPCore2Program program = system.readProgramString("p(1..3). a(X) :- p(X), not b(X). b(X) :- p(X), not a(X). :- a(X), p(X). :- b(X), p(X).");
+		assertFalse(system.solve(program).findAny().isPresent());
+	}
+
+	@Test
+	public void parallelStreamFindsSameAnswerSetsAsSequentialStream() {
+		Alpha system = new AlphaImpl();
+		ASPCore2Program program = system.readProgramString("p(1..5). a(X) :- p(X), not b(X). b(X) :- p(X), not a(X). :- a(X), a(Y), X < Y, p(Y), Y = X + 1.");
+		Set<AnswerSet> expected = system.solve(program).collect(Collectors.toSet());
+		Solver solver = system.prepareSolverFor(program, InputConfig.DEFAULT_FILTER);
+		Spliterator<AnswerSet> spliterator = solver.spliterator();
+		Spliterator<AnswerSet> split = spliterator.trySplit();
+		assertNotNull(split);
+		List<AnswerSet> actual = new ArrayList<>();
+		spliterator.forEachRemaining(actual::add);
+		split.forEachRemaining(actual::add);
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected, new HashSet<>(actual));
+		List<AnswerSet> parallel = system.solve(program).parallel().collect(Collectors.toList());
+		assertEquals(expected.size(), parallel.size());
+		assertEquals(expected, new HashSet<>(parallel));
+	}
+
+	@Test
+	public void splitSolversReleasingAtomIdsFindSameAnswerSetsAsSequentialStream() {
+		SystemConfig cfg = new SystemConfig();
+		cfg.setAtomStoreName("openAddressing");
+		cfg.setRestartStrategy(RestartStrategy.LUBY);
+		cfg.setRestartInterval(1);
+		Alpha system = new AlphaImpl(cfg);
+		ASPCore2Program program = system.readProgramString("p(1..8). a(X) :- p(X), not b(X). b(X) :- p(X), not a(X). "
+				+ ":- a(X), a(Y), p(Y), Y = X + 1. :- b(X), b(Y), b(Z), p(Z), Y = X + 1, Z = Y + 1.");
+		Set<AnswerSet> expected = new AlphaImpl().solve(program).collect(Collectors.toSet());
+		Solver solver = system.prepareSolverFor(program, InputConfig.DEFAULT_FILTER);
+		Spliterator<AnswerSet> spliterator = solver.spliterator();
+		Spliterator<AnswerSet> split = spliterator.trySplit();
+		assertNotNull(split);
+		Spliterator<AnswerSet> splitOfSplit = split.trySplit();
+		List<AnswerSet> actual = new ArrayList<>();
+		spliterator.forEachRemaining(actual::add);
+		split.forEachRemaining(actual::add);
+		if (splitOfSplit != null) {
+			splitOfSplit.forEachRemaining(actual::add);
+		}
+		assertEquals(expected.size(), actual.size());
+		assertEquals(expected, new HashSet<>(actual));
+	}
+
 	// Detailed reproduction test-case for github issue #239.
 	@Test
 	public void testLearnedUnaryNoGoodCausingOutOfOrderLiteralsConflict() throws IOException {